@@ -10,10 +10,11 @@ import com.visma.kalmar.api.company.GetCompanyInputPort;
 import com.visma.kalmar.api.company.GetCompanyUseCase;
 import com.visma.kalmar.api.company.UpdateCompanyInputPort;
 import com.visma.kalmar.api.company.UpdateCompanyUseCase;
-import com.visma.kalmar.api.context.ContextGateway;
 import com.visma.kalmar.api.contexttype.ContextTypeGateway;
 import com.visma.kalmar.api.country.CountryGateway;
 import com.visma.kalmar.api.customer.CustomerGateway;
+import com.visma.kalmar.api.metrics.Instrumentation;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.visma.feature.kalmar.api.company.CompanyRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,39 +23,50 @@ import org.springframework.context.annotation.Configuration;
 public class CompanyConfig {
 
     @Bean
-    public CompanyGateway companyGateway(CompanyRepository companyRepository) {
-        return new CompanyGatewayAdapter(companyRepository);
+    public CompanyGateway companyGateway(
+            CompanyRepository companyRepository, Instrumentation instrumentation) {
+        return instrumentation.gateway(CompanyGateway.class, new CompanyGatewayAdapter(companyRepository));
     }
 
     @Bean
     public CreateCompanyInputPort createCompanyInputPort(
             CompanyGateway companyGateway,
-            CustomerGateway customerGateway,
-            ContextGateway contextGateway,
             ContextTypeGateway contextTypeGateway,
-            CountryGateway countryGateway) {
-        return new CreateCompanyUseCase(companyGateway, customerGateway, contextGateway, contextTypeGateway, countryGateway);
+            CountryGateway countryGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                CreateCompanyInputPort.class,
+                new CreateCompanyUseCase(companyGateway, contextTypeGateway, countryGateway, unitOfWork));
     }
 
     @Bean
     public GetCompanyInputPort getCompanyInputPort(
             CompanyGateway companyGateway,
-            ContextGateway contextGateway) {
-        return new GetCompanyUseCase(companyGateway, contextGateway);
+            CustomerGateway customerGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                GetCompanyInputPort.class,
+                new GetCompanyUseCase(companyGateway, customerGateway, unitOfWork));
     }
 
     @Bean
     public UpdateCompanyInputPort updateCompanyInputPort(
             CompanyGateway companyGateway,
-            ContextGateway contextGateway,
-            CountryGateway countryGateway) {
-        return new UpdateCompanyUseCase(companyGateway, contextGateway, countryGateway);
+            CountryGateway countryGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                UpdateCompanyInputPort.class,
+                new UpdateCompanyUseCase(companyGateway, countryGateway, unitOfWork));
     }
 
     @Bean
     public DeleteCompanyInputPort deleteCompanyInputPort(
-            CompanyGateway companyGateway,
-            ContextGateway contextGateway) {
-        return new DeleteCompanyUseCase(companyGateway, contextGateway);
+            CompanyGateway companyGateway, UnitOfWork unitOfWork, Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                DeleteCompanyInputPort.class,
+                new DeleteCompanyUseCase(companyGateway, unitOfWork));
     }
 }
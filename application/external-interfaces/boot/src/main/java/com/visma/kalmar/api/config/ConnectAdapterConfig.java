@@ -2,7 +2,13 @@ package com.visma.kalmar.api.config;
 
 import com.visma.kalmar.api.VismaConnectConfiguration;
 import com.visma.kalmar.api.httpclient.ClientHttpConnectorFactory;
+import com.visma.kalmar.api.httpclient.ConnectHttpClientProperties;
+import com.visma.kalmar.api.profiling.ProfilingExchangeFilter;
+import com.visma.kalmar.api.profiling.RequestProfiler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
@@ -12,8 +18,10 @@ import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServletOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@EnableConfigurationProperties(ConnectHttpClientProperties.class)
 public class ConnectAdapterConfig {
 
     @Autowired
@@ -35,15 +43,39 @@ public class ConnectAdapterConfig {
         return authorizedClientManager;
     }
 
+    /**
+     * The default Reactor Netty pool rejects callers once twice its size is pending. Virtual request
+     * threads easily reach that while Connect is slow, so in that mode the pool queues them unbounded
+     * by default and lets the acquire timeout bound the wait.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectConnectionProvider(
+            ConnectHttpClientProperties connectHttpClientProperties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        var pendingAcquireMaxCount = connectHttpClientProperties.pendingAcquireMaxCount();
+        if (pendingAcquireMaxCount == null) {
+            pendingAcquireMaxCount = virtualThreads ? -1 : 2 * connectHttpClientProperties.maxConnections();
+        }
+        return ClientHttpConnectorFactory.createConnectionProvider(
+                "visma-connect", connectHttpClientProperties, pendingAcquireMaxCount);
+    }
+
     @Bean
-    public WebClient webClient(OAuth2AuthorizedClientManager authorizedClientManager) {
+    public WebClient webClient(
+            OAuth2AuthorizedClientManager authorizedClientManager,
+            ConnectionProvider connectConnectionProvider,
+            ConnectHttpClientProperties connectHttpClientProperties,
+            ObjectProvider<RequestProfiler> requestProfiler) {
         var oauth2 = new ServletOAuth2AuthorizedClientExchangeFilterFunction(authorizedClientManager);
         oauth2.setDefaultClientRegistrationId("visma-connect");
 
-        return WebClient.builder()
-                .clientConnector(ClientHttpConnectorFactory.createDebuggableClientHttpConnector())
-                .baseUrl(vismaConnectConfiguration.publicApiEndpoint())
-                .apply(oauth2.oauth2Configuration())
-                .build();
+        var builder = WebClient.builder()
+                .clientConnector(
+                        ClientHttpConnectorFactory.createClientHttpConnector(
+                                connectConnectionProvider, connectHttpClientProperties))
+                .baseUrl(vismaConnectConfiguration.publicApiEndpoint());
+        // Added first, so the recorded time includes fetching the access token.
+        requestProfiler.ifAvailable(profiler -> builder.filter(new ProfilingExchangeFilter()));
+        return builder.apply(oauth2.oauth2Configuration()).build();
     }
 }
@@ -0,0 +1,42 @@
+package com.visma.kalmar.api.config;
+
+import com.visma.kalmar.api.security.ConnectUserEmailCache;
+import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ConnectUserCacheConfig {
+
+    @Bean
+    public ConnectUserEmailCache connectUserEmailCache(
+            VismaConnectUserGateway vismaConnectUserGateway,
+            @Value("${connect.user-cache.time-to-live:PT5M}") Duration timeToLive,
+            @Value("${connect.user-cache.maximum-size:10000}") int maximumSize,
+            MeterRegistry meterRegistry) {
+        var connectUserEmailCache = new ConnectUserEmailCache(vismaConnectUserGateway, timeToLive, maximumSize);
+
+        FunctionCounter.builder("connect.user.cache.lookups", connectUserEmailCache, ConnectUserEmailCache::hitCount)
+                .tag("result", "hit")
+                .description("Connect user email lookups served from memory or from a load in flight")
+                .register(meterRegistry);
+        FunctionCounter.builder("connect.user.cache.lookups", connectUserEmailCache, ConnectUserEmailCache::missCount)
+                .tag("result", "miss")
+                .description("Connect user email lookups that called Visma Connect")
+                .register(meterRegistry);
+        FunctionCounter.builder("connect.user.cache.evictions", connectUserEmailCache, ConnectUserEmailCache::evictionCount)
+                .description("Connect user emails dropped to stay within the maximum size")
+                .register(meterRegistry);
+        Gauge.builder("connect.user.cache.size", connectUserEmailCache, ConnectUserEmailCache::size)
+                .description("Connect user emails held in memory")
+                .register(meterRegistry);
+
+        return connectUserEmailCache;
+    }
+}
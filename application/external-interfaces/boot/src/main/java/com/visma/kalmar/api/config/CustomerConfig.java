@@ -1,9 +1,12 @@
 package com.visma.kalmar.api.config;
 
 import com.visma.kalmar.api.adapters.context.ContextGatewayAdapter;
+import com.visma.kalmar.api.adapters.contexttype.CachedContextTypeGatewayAdapter;
 import com.visma.kalmar.api.adapters.contexttype.ContextTypeGatewayAdapter;
+import com.visma.kalmar.api.adapters.country.CachedCountryGatewayAdapter;
 import com.visma.kalmar.api.adapters.country.CountryGatewayAdapter;
 import com.visma.kalmar.api.adapters.customer.CustomerGatewayAdapter;
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
 import com.visma.kalmar.api.context.ContextGateway;
 import com.visma.kalmar.api.contexttype.ContextTypeGateway;
 import com.visma.kalmar.api.country.CountryGateway;
@@ -16,6 +19,8 @@ import com.visma.kalmar.api.customer.GetCustomerInputPort;
 import com.visma.kalmar.api.customer.GetCustomerUseCase;
 import com.visma.kalmar.api.customer.UpdateCustomerInputPort;
 import com.visma.kalmar.api.customer.UpdateCustomerUseCase;
+import com.visma.kalmar.api.metrics.Instrumentation;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.visma.feature.kalmar.api.context.ContextRepository;
 import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
 import com.visma.feature.kalmar.api.country.CountryRepository;
@@ -27,23 +32,37 @@ import org.springframework.context.annotation.Configuration;
 public class CustomerConfig {
 
     @Bean
-    public ContextTypeGateway contextTypeGateway(ContextTypeRepository contextTypeRepository) {
-        return new ContextTypeGatewayAdapter(contextTypeRepository);
+    public ContextTypeGateway contextTypeGateway(
+            ContextTypeRepository contextTypeRepository,
+            ReferenceDataCache referenceDataCache,
+            Instrumentation instrumentation) {
+        return instrumentation.gateway(
+                ContextTypeGateway.class,
+                new CachedContextTypeGatewayAdapter(
+                        referenceDataCache, new ContextTypeGatewayAdapter(contextTypeRepository)));
     }
 
     @Bean
-    public ContextGateway contextGateway(ContextRepository contextRepository) {
-        return new ContextGatewayAdapter(contextRepository);
+    public ContextGateway contextGateway(
+            ContextRepository contextRepository, Instrumentation instrumentation) {
+        return instrumentation.gateway(ContextGateway.class, new ContextGatewayAdapter(contextRepository));
     }
 
     @Bean
-    public CountryGateway countryGateway(CountryRepository countryRepository) {
-        return new CountryGatewayAdapter(countryRepository);
+    public CountryGateway countryGateway(
+            CountryRepository countryRepository,
+            ReferenceDataCache referenceDataCache,
+            Instrumentation instrumentation) {
+        return instrumentation.gateway(
+                CountryGateway.class,
+                new CachedCountryGatewayAdapter(
+                        referenceDataCache, new CountryGatewayAdapter(countryRepository)));
     }
 
     @Bean
-    public CustomerGateway customerGateway(CustomerRepository customerRepository) {
-        return new CustomerGatewayAdapter(customerRepository);
+    public CustomerGateway customerGateway(
+            CustomerRepository customerRepository, Instrumentation instrumentation) {
+        return instrumentation.gateway(CustomerGateway.class, new CustomerGatewayAdapter(customerRepository));
     }
 
     @Bean
@@ -51,27 +70,43 @@ public class CustomerConfig {
             CustomerGateway customerGateway,
             ContextGateway contextGateway,
             ContextTypeGateway contextTypeGateway,
-            CountryGateway countryGateway) {
-        return new CreateCustomerUseCase(customerGateway, contextGateway, contextTypeGateway, countryGateway);
+            CountryGateway countryGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                CreateCustomerInputPort.class,
+                new CreateCustomerUseCase(
+                        customerGateway, contextGateway, contextTypeGateway, countryGateway, unitOfWork));
     }
 
     @Bean
     public GetCustomerInputPort getCustomerInputPort(
             CustomerGateway customerGateway,
-            ContextGateway contextGateway) {
-        return new GetCustomerUseCase(customerGateway, contextGateway);
+            ContextGateway contextGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                GetCustomerInputPort.class,
+                new GetCustomerUseCase(customerGateway, contextGateway, unitOfWork));
     }
 
     @Bean
     public UpdateCustomerInputPort updateCustomerInputPort(
             CustomerGateway customerGateway,
             ContextGateway contextGateway,
-            CountryGateway countryGateway) {
-        return new UpdateCustomerUseCase(customerGateway, contextGateway, countryGateway);
+            CountryGateway countryGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                UpdateCustomerInputPort.class,
+                new UpdateCustomerUseCase(customerGateway, contextGateway, countryGateway, unitOfWork));
     }
 
     @Bean
-    public DeleteCustomerInputPort deleteCustomerInputPort(CustomerGateway customerGateway) {
-        return new DeleteCustomerUseCase(customerGateway);
+    public DeleteCustomerInputPort deleteCustomerInputPort(
+            CustomerGateway customerGateway, UnitOfWork unitOfWork, Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                DeleteCustomerInputPort.class,
+                new DeleteCustomerUseCase(customerGateway, unitOfWork));
     }
 }
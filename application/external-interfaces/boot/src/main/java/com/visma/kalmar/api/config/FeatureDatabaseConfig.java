@@ -1,10 +1,21 @@
 package com.visma.kalmar.api.config;
 
+import com.visma.kalmar.api.adapters.transaction.JpaUnitOfWork;
+import com.visma.kalmar.api.datasource.ReadWriteRoutingDataSource;
+import com.visma.kalmar.api.datasource.RecentWrites;
+import com.visma.kalmar.api.metrics.StatementCounter;
+import com.visma.kalmar.api.profiling.ProfilingDataSource;
+import com.visma.kalmar.api.profiling.RequestProfiler;
+import com.visma.kalmar.api.schema.SchemaMigrator;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
@@ -12,15 +23,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 @Configuration
 @EnableTransactionManagement
@@ -32,6 +47,26 @@ public class FeatureDatabaseConfig {
     @Value("${spring.jpa.database-platform}")
     private String dialect;
 
+    // This factory is built by hand, so Spring Boot does not apply ddl-auto to it; the test profile's
+    // create-drop needs it to get a schema on H2. Production keeps none.
+    @Value("${spring.jpa.hibernate.ddl-auto:none}")
+    private String ddlAuto;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    // Groups the statements of a flush by table, so that interleaved Context and subtype rows
+    // still form full batches.
+    @Value("${spring.jpa.properties.hibernate.order_inserts:true}")
+    private boolean orderInserts;
+
+    @Value("${spring.jpa.properties.hibernate.order_updates:true}")
+    private boolean orderUpdates;
+
+    // CHAR stores ids as CHAR(36) text, BINARY as BINARY(16); the schema must match the choice.
+    @Value("${spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type:CHAR}")
+    private String uuidJdbcType;
+
     @Bean
     @Primary
     @ConfigurationProperties("spring.datasource")
@@ -49,21 +84,88 @@ public class FeatureDatabaseConfig {
                 .build();
     }
 
+    /**
+     * Pool on the reader endpoint, created only when {@code spring.datasource.reader.url} is set.
+     * Credentials and driver are shared with the writer.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.datasource.reader", name = "url")
+    @ConfigurationProperties("spring.datasource.reader.hikari")
+    public HikariDataSource featureReaderDataSource(@Value("${spring.datasource.reader.url}") String readerUrl) {
+        var writerProperties = featureDataSourceProperties();
+        var reader = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(readerUrl)
+                .username(writerProperties.determineUsername())
+                .password(writerProperties.determinePassword())
+                .driverClassName(writerProperties.determineDriverClassName())
+                .build();
+        reader.setPoolName("feature-reader");
+        reader.setReadOnly(true);
+        return reader;
+    }
+
+    /**
+     * Applies the schema-migrations scripts on the writer, created only when
+     * {@code schema-migrations.enabled} is true. The scripts create {@code CHAR(36)} ids, so the
+     * application refuses to start when they are combined with {@code BINARY} ids.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "schema-migrations", name = "enabled", havingValue = "true")
+    public SchemaMigrator featureSchemaMigrator(@Value("${schema-migrations.baseline-version:0}") int baselineVersion) {
+        if (!"CHAR".equalsIgnoreCase(uuidJdbcType)) {
+            throw new IllegalStateException("schema-migrations creates CHAR(36) ids and cannot be enabled with "
+                    + "spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type=" + uuidJdbcType);
+        }
+        return new SchemaMigrator(featureDataSource(), baselineVersion);
+    }
+
     @Primary
     @Bean(name = "featureEntityManagerFactory")
     public LocalContainerEntityManagerFactoryBean featureEntityManagerFactory(
-            EntityManagerFactoryBuilder builder) {
+            EntityManagerFactoryBuilder builder,
+            ObjectProvider<SchemaMigrator> featureSchemaMigrator,
+            @Qualifier("featureReaderDataSource") ObjectProvider<DataSource> featureReaderDataSource,
+            @Value("${spring.datasource.reader.read-your-writes-window:PT5S}") Duration readYourWritesWindow,
+            @Value("${spring.datasource.reader.read-your-writes-maximum-callers:10000}") int maximumCallers,
+            StatementCounter statementCounter,
+            ObjectProvider<RequestProfiler> requestProfiler) {
+        // The schema has to be current before Hibernate validates or queries it.
+        featureSchemaMigrator.ifAvailable(SchemaMigrator::migrate);
+
         var em = new LocalContainerEntityManagerFactoryBean();
-        em.setDataSource(featureDataSource());
+        var reader = featureReaderDataSource.getIfAvailable();
+        // Profiling wraps each pool, so that the connection wait is timed apart from the statements.
+        UnaryOperator<DataSource> profiled = requestProfiler.getIfAvailable() == null
+                ? UnaryOperator.identity()
+                : ProfilingDataSource::new;
+        em.setDataSource(reader == null
+                ? profiled.apply(featureDataSource())
+                : new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                        profiled.apply(featureDataSource()),
+                        profiled.apply(reader),
+                        new RecentWrites(readYourWritesWindow, maximumCallers),
+                        FeatureDatabaseConfig::currentCaller)));
         em.setPackagesToScan("com.visma.feature.kalmar.api.**");
         var vendorAdapter = new HibernateJpaVendorAdapter();
         em.setJpaVendorAdapter(vendorAdapter);
         HashMap<String, Object> properties = new HashMap<>();
         properties.put("hibernate.dialect", dialect);
+        properties.put("hibernate.hbm2ddl.auto", ddlAuto);
+        properties.put("hibernate.jdbc.batch_size", jdbcBatchSize);
+        properties.put("hibernate.order_inserts", orderInserts);
+        properties.put("hibernate.order_updates", orderUpdates);
+        properties.put("hibernate.type.preferred_uuid_jdbc_type", uuidJdbcType);
+        properties.put("hibernate.session_factory.statement_inspector", statementCounter);
         em.setJpaPropertyMap(properties);
         return em;
     }
 
+    private static String currentCaller() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
     @Primary
     @Bean
     public PlatformTransactionManager featureTransactionManager(
@@ -74,6 +176,12 @@ public class FeatureDatabaseConfig {
                 Objects.requireNonNull(ondemandEntityManagerFactory.getObject()));
     }
 
+    @Bean
+    public UnitOfWork unitOfWork(
+            final @Qualifier("featureTransactionManager") PlatformTransactionManager featureTransactionManager) {
+        return new JpaUnitOfWork(featureTransactionManager);
+    }
+
     @Bean
     public ConfigurableServletWebServerFactory webServerFactory() {
         var factory = new TomcatServletWebServerFactory();
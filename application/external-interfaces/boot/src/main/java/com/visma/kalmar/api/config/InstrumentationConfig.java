@@ -0,0 +1,21 @@
+package com.visma.kalmar.api.config;
+
+import com.visma.kalmar.api.metrics.Instrumentation;
+import com.visma.kalmar.api.metrics.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class InstrumentationConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public Instrumentation instrumentation(MeterRegistry meterRegistry, StatementCounter statementCounter) {
+        return new Instrumentation(meterRegistry, statementCounter);
+    }
+}
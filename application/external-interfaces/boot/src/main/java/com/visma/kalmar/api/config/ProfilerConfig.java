@@ -0,0 +1,57 @@
+package com.visma.kalmar.api.config;
+
+import com.visma.kalmar.api.profiling.ProfilingJackson2HttpMessageConverter;
+import com.visma.kalmar.api.profiling.RequestProfiler;
+import com.visma.kalmar.api.profiling.RequestProfilingFilter;
+import com.visma.kalmar.api.profiling.SlowRequestsEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Request profiling, created only when {@code profiler.enabled} is true. The database and the
+ * Connect client pick up the profiler in {@link FeatureDatabaseConfig} and
+ * {@link ConnectAdapterConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "profiler", name = "enabled", havingValue = "true")
+public class ProfilerConfig implements WebMvcConfigurer {
+
+    @Bean
+    public RequestProfiler requestProfiler(
+            @Value("${profiler.sample-rate:0.01}") double sampleRate,
+            @Value("${profiler.threshold:PT0.5S}") Duration threshold,
+            @Value("${profiler.capacity:100}") int capacity) {
+        return new RequestProfiler(sampleRate, threshold, capacity);
+    }
+
+    /** Runs ahead of the security filters, so the timeline's total includes the token check. */
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(RequestProfiler requestProfiler) {
+        var registration = new FilterRegistrationBean<>(new RequestProfilingFilter(requestProfiler));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(RequestProfiler requestProfiler) {
+        return new SlowRequestsEndpoint(requestProfiler);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new ProfilingJackson2HttpMessageConverter(
+                        ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                : converter);
+    }
+}
@@ -0,0 +1,41 @@
+package com.visma.kalmar.api.config;
+
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class ReferenceDataConfig {
+
+    @Bean
+    public ReferenceDataCache referenceDataCache(
+            LanguageRepository languageRepository,
+            CountryRepository countryRepository,
+            ContextTypeRepository contextTypeRepository,
+            MeterRegistry meterRegistry) {
+        var referenceDataCache =
+                new ReferenceDataCache(languageRepository, countryRepository, contextTypeRepository);
+
+        FunctionCounter.builder("reference.data.cache.lookups", referenceDataCache, ReferenceDataCache::hitCount)
+                .tag("result", "hit")
+                .description("Language, Country and ContextType lookups served from memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("reference.data.cache.lookups", referenceDataCache, ReferenceDataCache::missCount)
+                .tag("result", "miss")
+                .description("Language, Country and ContextType lookups that fell through to the database")
+                .register(meterRegistry);
+        Gauge.builder("reference.data.cache.size", referenceDataCache, ReferenceDataCache::size)
+                .description("Reference data rows held in memory")
+                .register(meterRegistry);
+
+        return referenceDataCache;
+    }
+}
@@ -1,7 +1,9 @@
 package com.visma.kalmar.api.config;
 
 import com.visma.kalmar.api.adapters.role.RoleGatewayAdapter;
+import com.visma.kalmar.api.metrics.Instrumentation;
 import com.visma.kalmar.api.role.*;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.visma.feature.kalmar.api.role.RoleRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,27 +12,31 @@ import org.springframework.context.annotation.Configuration;
 public class RoleConfig {
 
     @Bean
-    public RoleGateway roleGateway(RoleRepository roleRepository) {
-        return new RoleGatewayAdapter(roleRepository);
+    public RoleGateway roleGateway(RoleRepository roleRepository, Instrumentation instrumentation) {
+        return instrumentation.gateway(RoleGateway.class, new RoleGatewayAdapter(roleRepository));
     }
 
     @Bean
-    public CreateRoleInputPort createRoleInputPort(RoleGateway roleGateway) {
-        return new CreateRoleUseCase(roleGateway);
+    public CreateRoleInputPort createRoleInputPort(
+            RoleGateway roleGateway, UnitOfWork unitOfWork, Instrumentation instrumentation) {
+        return instrumentation.useCase(CreateRoleInputPort.class, new CreateRoleUseCase(roleGateway, unitOfWork));
     }
 
     @Bean
-    public GetRoleInputPort getRoleInputPort(RoleGateway roleGateway) {
-        return new GetRoleUseCase(roleGateway);
+    public GetRoleInputPort getRoleInputPort(
+            RoleGateway roleGateway, UnitOfWork unitOfWork, Instrumentation instrumentation) {
+        return instrumentation.useCase(GetRoleInputPort.class, new GetRoleUseCase(roleGateway, unitOfWork));
     }
 
     @Bean
-    public UpdateRoleInputPort updateRoleInputPort(RoleGateway roleGateway) {
-        return new UpdateRoleUseCase(roleGateway);
+    public UpdateRoleInputPort updateRoleInputPort(
+            RoleGateway roleGateway, UnitOfWork unitOfWork, Instrumentation instrumentation) {
+        return instrumentation.useCase(UpdateRoleInputPort.class, new UpdateRoleUseCase(roleGateway, unitOfWork));
     }
 
     @Bean
-    public DeleteRoleInputPort deleteRoleInputPort(RoleGateway roleGateway) {
-        return new DeleteRoleUseCase(roleGateway);
+    public DeleteRoleInputPort deleteRoleInputPort(
+            RoleGateway roleGateway, UnitOfWork unitOfWork, Instrumentation instrumentation) {
+        return instrumentation.useCase(DeleteRoleInputPort.class, new DeleteRoleUseCase(roleGateway, unitOfWork));
     }
 }
@@ -1,5 +1,11 @@
 package com.visma.kalmar.api.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.visma.kalmar.api.security.CachingJwtDecoder;
+import com.visma.kalmar.api.security.ConnectJwkSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,12 +16,14 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 
@@ -65,16 +73,39 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Signing keys are fetched once at startup by {@link com.visma.kalmar.api.security.JwksPrefetcher}
+     * and then refreshed ahead of expiry, so no request waits for a JWKS download.
+     */
+    @Bean(destroyMethod = "close")
+    @Profile("stag | prod")
+    public ConnectJwkSource connectJwkSource(
+            @Value("${jwt-decoder.jwks.time-to-live:PT15M}") Duration timeToLive,
+            @Value("${jwt-decoder.jwks.refresh-ahead:PT1M}") Duration refreshAhead) {
+        return new ConnectJwkSource(resourceServer.issuer(), timeToLive, refreshAhead);
+    }
+
     @Bean
     @Profile("stag | prod")
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(
+            ConnectJwkSource connectJwkSource,
+            @Value("${jwt-decoder.cache.maximum-size:10000}") int maximumSize,
+            MeterRegistry meterRegistry) {
         NimbusJwtDecoder jwtDecoder =
-                NimbusJwtDecoder.withIssuerLocation(resourceServer.issuer()).validateType(false).build();
+                NimbusJwtDecoder.withIssuerLocation(resourceServer.issuer())
+                        .validateType(false)
+                        .jwsAlgorithm(SignatureAlgorithm.RS256)
+                        .jwtProcessorCustomizer(
+                                processor ->
+                                        processor.setJWSKeySelector(
+                                                new JWSVerificationKeySelector<>(
+                                                        JWSAlgorithm.RS256, connectJwkSource)))
+                        .build();
         jwtDecoder.setJwtValidator(
                 JwtValidators.createDefaultWithValidators(
                         new JwtIssuerValidator(resourceServer.issuer()),
                         new JwtTypeValidator(resourceServer.vismaConnectJoseType())));
-        return jwtDecoder;
+        return new CachingJwtDecoder(jwtDecoder, maximumSize, meterRegistry);
     }
 
     /**
@@ -1,65 +1,128 @@
 package com.visma.kalmar.api.config;
 
 import com.visma.kalmar.api.VismaConnectUserGatewayAdapter;
+import com.visma.kalmar.api.adapters.language.CachedLanguageGatewayAdapter;
 import com.visma.kalmar.api.adapters.language.LanguageGatewayAdapter;
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import com.visma.kalmar.api.adapters.user.AbsentUserEmails;
+import com.visma.kalmar.api.adapters.user.CachedUserGatewayAdapter;
 import com.visma.kalmar.api.adapters.user.UserGatewayAdapter;
 import com.visma.kalmar.api.language.LanguageGateway;
+import com.visma.kalmar.api.metrics.Instrumentation;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.visma.kalmar.api.user.*;
 import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
 import com.visma.feature.kalmar.api.language.LanguageRepository;
 import com.visma.feature.kalmar.api.user.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class UserConfig {
 
     private LanguageRepository languageRepository;
 
     @Bean
-    public UserGateway userGateway(UserRepository userRepository) {
-        return new UserGatewayAdapter(userRepository);
+    public AbsentUserEmails absentUserEmails(
+            @Value("${users.absent-email-cache.time-to-live:PT0S}") Duration timeToLive,
+            @Value("${users.absent-email-cache.maximum-size:100000}") int maximumSize,
+            MeterRegistry meterRegistry) {
+        var absentUserEmails = new AbsentUserEmails(timeToLive, maximumSize);
+
+        FunctionCounter.builder("user.absent.email.cache.lookups", absentUserEmails, AbsentUserEmails::hitCount)
+                .tag("result", "hit")
+                .description("User email lookups answered as absent without a database query")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.absent.email.cache.lookups", absentUserEmails, AbsentUserEmails::missCount)
+                .tag("result", "miss")
+                .description("User email lookups that queried the database")
+                .register(meterRegistry);
+        Gauge.builder("user.absent.email.cache.size", absentUserEmails, AbsentUserEmails::size)
+                .description("Emails remembered as having no user")
+                .register(meterRegistry);
+
+        return absentUserEmails;
+    }
+
+    @Bean
+    public UserGateway userGateway(
+            UserRepository userRepository, AbsentUserEmails absentUserEmails, Instrumentation instrumentation) {
+        return instrumentation.gateway(
+                UserGateway.class,
+                new CachedUserGatewayAdapter(absentUserEmails, new UserGatewayAdapter(userRepository)));
     }
 
     @Bean
     public LanguageGateway languageGateway(
-            LanguageRepository languageRepository) {
+            LanguageRepository languageRepository,
+            ReferenceDataCache referenceDataCache,
+            Instrumentation instrumentation) {
         this.languageRepository = languageRepository;
-        return new LanguageGatewayAdapter(languageRepository);
+        return instrumentation.gateway(
+                LanguageGateway.class,
+                new CachedLanguageGatewayAdapter(
+                        referenceDataCache, new LanguageGatewayAdapter(languageRepository)));
     }
 
     @Bean
     public VismaConnectUserGateway vismaConnectUserGateway(
             org.springframework.web.reactive.function.client.WebClient webClient,
-            LanguageGateway languageGateway) {
-        return new VismaConnectUserGatewayAdapter(webClient, languageGateway);
+            LanguageGateway languageGateway,
+            @Value("${connect.batch-concurrency:8}") int batchConcurrency,
+            Instrumentation instrumentation) {
+        return instrumentation.gateway(
+                VismaConnectUserGateway.class,
+                new VismaConnectUserGatewayAdapter(webClient, languageGateway, batchConcurrency));
     }
 
     @Bean
     public CreateUserInputPort createUserInputPort(
             UserGateway userGateway,
             LanguageGateway languageGateway,
-            VismaConnectUserGateway vismaConnectUserGateway) {
-        return new CreateUserUseCase(userGateway, languageGateway, vismaConnectUserGateway);
+            VismaConnectUserGateway vismaConnectUserGateway,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                CreateUserInputPort.class,
+                new CreateUserUseCase(userGateway, languageGateway, vismaConnectUserGateway));
     }
 
     @Bean
     public UpdateUserInputPort updateUserInputPort(
             UserGateway userGateway,
             LanguageGateway languageGateway,
-            VismaConnectUserGateway vismaConnectUserGateway) {
-        return new UpdateUserUseCase(userGateway, languageGateway, vismaConnectUserGateway);
+            VismaConnectUserGateway vismaConnectUserGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                UpdateUserInputPort.class,
+                new UpdateUserUseCase(userGateway, languageGateway, vismaConnectUserGateway, unitOfWork));
     }
 
     @Bean
     public DeleteUserInputPort deleteUserInputPort(
-            UserGateway userGateway, VismaConnectUserGateway vismaConnectUserGateway) {
-        return new DeleteUserUseCase(userGateway, vismaConnectUserGateway);
+            UserGateway userGateway,
+            VismaConnectUserGateway vismaConnectUserGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                DeleteUserInputPort.class,
+                new DeleteUserUseCase(userGateway, vismaConnectUserGateway, unitOfWork));
     }
 
     @Bean
     public GetUserInputPort getUserInputPort(
-            UserGateway userGateway, LanguageGateway languageGateway) {
-        return new GetUserUseCase(userGateway, languageGateway);
+            UserGateway userGateway,
+            LanguageGateway languageGateway,
+            UnitOfWork unitOfWork,
+            Instrumentation instrumentation) {
+        return instrumentation.useCase(
+                GetUserInputPort.class,
+                new GetUserUseCase(userGateway, languageGateway, unitOfWork));
     }
 }
@@ -0,0 +1,57 @@
+package com.visma.kalmar.api.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the reader endpoint and everything else to the
+ * writer. A caller whose write committed within the read-your-writes window keeps reading from the
+ * writer.
+ *
+ * <p>The transaction's read-only flag is only known once the transaction has started, so this data
+ * source must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * that fetches the connection on the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Endpoint {
+        WRITER,
+        READER
+    }
+
+    private final RecentWrites recentWrites;
+    private final Supplier<String> currentCaller;
+
+    public ReadWriteRoutingDataSource(
+            DataSource writer, DataSource reader, RecentWrites recentWrites, Supplier<String> currentCaller) {
+        this.recentWrites = recentWrites;
+        this.currentCaller = currentCaller;
+        setTargetDataSources(Map.of(Endpoint.WRITER, writer, Endpoint.READER, reader));
+        setDefaultTargetDataSource(writer);
+        initialize();
+    }
+
+    @Override
+    protected Endpoint determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Endpoint.WRITER;
+        }
+        var caller = currentCaller.get();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return recentWrites.wroteRecently(caller) ? Endpoint.WRITER : Endpoint.READER;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWrites.recordWrite(caller);
+                    }
+                });
+        return Endpoint.WRITER;
+    }
+}
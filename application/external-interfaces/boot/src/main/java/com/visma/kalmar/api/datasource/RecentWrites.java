@@ -0,0 +1,40 @@
+package com.visma.kalmar.api.datasource;
+
+import com.visma.kalmar.api.adapters.cache.BoundedCache;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which callers committed a write within the read-your-writes window, so their reads can
+ * stay on the writer until the reader has caught up. When more callers than the maximum size are
+ * tracked, the least recently used one is dropped.
+ */
+public class RecentWrites {
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final BoundedCache<String, Long> windowEnds;
+
+    public RecentWrites(Duration window, int maximumSize) {
+        this(window, maximumSize, System::nanoTime);
+    }
+
+    RecentWrites(Duration window, int maximumSize, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.windowEnds = new BoundedCache<>(maximumSize);
+        this.nanoClock = nanoClock;
+    }
+
+    public void recordWrite(String caller) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        windowEnds.put(caller, nanoClock.getAsLong() + windowNanos);
+    }
+
+    public boolean wroteRecently(String caller) {
+        var windowEnd = windowEnds.get(caller);
+        return windowEnd != null && windowEnd - nanoClock.getAsLong() > 0;
+    }
+}
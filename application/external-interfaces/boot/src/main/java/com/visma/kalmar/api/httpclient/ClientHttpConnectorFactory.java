@@ -1,20 +1,56 @@
 package com.visma.kalmar.api.httpclient;
 
+import io.netty.channel.ChannelOption;
 import io.netty.handler.logging.LogLevel;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
 
 public class ClientHttpConnectorFactory {
     private ClientHttpConnectorFactory() {}
 
-    public static ClientHttpConnector createDebuggableClientHttpConnector() {
-        return new ReactorClientHttpConnector(
-                HttpClient.create()
-                        .wiretap(
-                                "reactor.netty.http.client.HttpClient",
-                                LogLevel.DEBUG,
-                                AdvancedByteBufFormat.TEXTUAL));
+    /**
+     * Creates a named pool that publishes its gauges ({@code reactor.netty.connection.provider.*},
+     * tagged with the pool name) to the global Micrometer registry.
+     */
+    public static ConnectionProvider createConnectionProvider(
+            String name, ConnectHttpClientProperties properties, int pendingAcquireMaxCount) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.evictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Creates a connector on the given pool. HTTP/2 is offered through ALPN on TLS connections and
+     * falls back to HTTP/1.1 elsewhere. Payload logging is only added when {@code wiretap} is set.
+     */
+    public static ClientHttpConnector createClientHttpConnector(
+            ConnectionProvider connectionProvider, ConnectHttpClientProperties properties) {
+        var httpClient =
+                HttpClient.create(connectionProvider)
+                        .option(
+                                ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                                (int) properties.connectTimeout().toMillis())
+                        .responseTimeout(properties.responseTimeout());
+        if (properties.http2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        if (properties.wiretap()) {
+            httpClient =
+                    httpClient.wiretap(
+                            "reactor.netty.http.client.HttpClient",
+                            LogLevel.DEBUG,
+                            AdvancedByteBufFormat.TEXTUAL);
+        }
+        return new ReactorClientHttpConnector(httpClient);
     }
 }
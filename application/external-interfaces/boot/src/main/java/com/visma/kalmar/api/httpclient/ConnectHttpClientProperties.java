@@ -0,0 +1,26 @@
+package com.visma.kalmar.api.httpclient;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and transport settings for the Visma Connect client.
+ *
+ * <p>{@code pendingAcquireMaxCount} left unset means twice {@code maxConnections}, or unbounded
+ * when request threads are virtual; {@code -1} always means unbounded.
+ */
+@ConfigurationProperties(prefix = "connect.http-client")
+public record ConnectHttpClientProperties(
+        @DefaultValue("100") int maxConnections,
+        Integer pendingAcquireMaxCount,
+        @DefaultValue("45s") Duration pendingAcquireTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("5m") Duration maxLifeTime,
+        @DefaultValue("30s") Duration evictInBackground,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue("true") boolean http2,
+        @DefaultValue("false") boolean wiretap) {
+}
@@ -0,0 +1,189 @@
+package com.visma.kalmar.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps use cases and gateway adapters in a proxy that meters every call of their interface, so
+ * the use cases stay free of Micrometer. Each call records
+ *
+ * <ul>
+ *   <li>{@code usecase.calls} or {@code gateway.calls}, a timer tagged with the implementing
+ *       {@code class}, the {@code method}, {@code outcome=success|error} and the simple name of the
+ *       thrown {@code exception}, or {@code none};
+ *   <li>{@code usecase.errors} or {@code gateway.errors}, a counter with the same tags for every
+ *       call that threw;
+ *   <li>{@code usecase.db.statements}, for use cases only, the JDBC statements the call prepared.
+ * </ul>
+ *
+ * <p>Calls returning a {@link CompletionStage} are timed until the stage completes rather than
+ * until they return; no port returns one today, as every Visma Connect call is synchronous.
+ * Statements are counted on the calling thread, which is where every use case runs its transactions.
+ */
+public class Instrumentation {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final StatementCounter statementCounter;
+
+    public Instrumentation(MeterRegistry meterRegistry, StatementCounter statementCounter) {
+        this.meterRegistry = meterRegistry;
+        this.statementCounter = statementCounter;
+    }
+
+    public <T> T useCase(Class<T> inputPort, T useCase) {
+        return proxy(inputPort, useCase, "usecase", true);
+    }
+
+    public <T> T gateway(Class<T> gateway, T adapter) {
+        return proxy(gateway, adapter, "gateway", false);
+    }
+
+    private <T> T proxy(Class<T> type, T delegate, String layer, boolean countStatements) {
+        var meters = new HashMap<Method, MethodMeters>();
+        var className = delegate.getClass().getSimpleName();
+        for (var method : type.getMethods()) {
+            meters.put(method, new MethodMeters(layer, className, method.getName(), countStatements));
+        }
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, new MeteredInvocationHandler(delegate, meters)));
+    }
+
+    private final class MeteredInvocationHandler implements InvocationHandler {
+
+        private final Object delegate;
+        private final Map<Method, MethodMeters> meters;
+
+        private MeteredInvocationHandler(Object delegate, Map<Method, MethodMeters> meters) {
+            this.delegate = delegate;
+            this.meters = meters;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var methodMeters = meters.get(method);
+            if (methodMeters == null) {
+                // equals, hashCode and toString
+                return invokeDelegate(method, args);
+            }
+
+            var statementsBefore = methodMeters.statements == null ? 0 : statementCounter.count();
+            var started = System.nanoTime();
+            final Object result;
+            try {
+                result = invokeDelegate(method, args);
+            } catch (Throwable e) {
+                methodMeters.failed(e, System.nanoTime() - started);
+                methodMeters.recordStatements(statementsBefore);
+                throw e;
+            }
+            methodMeters.recordStatements(statementsBefore);
+
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, failure) -> {
+                    var elapsed = System.nanoTime() - started;
+                    if (failure == null) {
+                        methodMeters.succeeded(elapsed);
+                    } else {
+                        methodMeters.failed(unwrap(failure), elapsed);
+                    }
+                });
+            } else {
+                methodMeters.succeeded(System.nanoTime() - started);
+            }
+            return result;
+        }
+
+        private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return (failure instanceof CompletionException || failure instanceof ExecutionException)
+                        && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+    }
+
+    private final class MethodMeters {
+
+        private final String layer;
+        private final String className;
+        private final String methodName;
+        private final Timer successes;
+        private final DistributionSummary statements;
+        private final Map<Class<?>, ErrorMeters> errors = new ConcurrentHashMap<>();
+
+        private MethodMeters(String layer, String className, String methodName, boolean countStatements) {
+            this.layer = layer;
+            this.className = className;
+            this.methodName = methodName;
+            this.successes = timer("success", NO_EXCEPTION);
+            this.statements = countStatements
+                    ? DistributionSummary.builder(layer + ".db.statements")
+                            .tag("class", className)
+                            .tag("method", methodName)
+                            .baseUnit("statements")
+                            .description("JDBC statements prepared by one call")
+                            .register(meterRegistry)
+                    : null;
+        }
+
+        void succeeded(long nanos) {
+            successes.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        void failed(Throwable e, long nanos) {
+            var errorMeters = errors.computeIfAbsent(e.getClass(), type -> new ErrorMeters(
+                    timer("error", type.getSimpleName()),
+                    Counter.builder(layer + ".errors")
+                            .tag("class", className)
+                            .tag("method", methodName)
+                            .tag("outcome", "error")
+                            .tag("exception", type.getSimpleName())
+                            .description("Calls that threw, by exception type")
+                            .register(meterRegistry)));
+            errorMeters.timer().record(nanos, TimeUnit.NANOSECONDS);
+            errorMeters.counter().increment();
+        }
+
+        void recordStatements(long before) {
+            if (statements != null) {
+                statements.record(statementCounter.count() - before);
+            }
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(layer + ".calls")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .description("Time spent in one call, including the calls it makes")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+
+    private record ErrorMeters(Timer timer, Counter counter) {}
+}
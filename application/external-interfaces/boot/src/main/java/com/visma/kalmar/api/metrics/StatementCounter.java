@@ -0,0 +1,23 @@
+package com.visma.kalmar.api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the JDBC statements Hibernate prepares, per thread. Registered as the session factory's
+ * statement inspector; the SQL passes through unchanged.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> counts = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        counts.get()[0]++;
+        return sql;
+    }
+
+    /** The statements prepared on the calling thread so far. */
+    public long count() {
+        return counts.get()[0];
+    }
+}
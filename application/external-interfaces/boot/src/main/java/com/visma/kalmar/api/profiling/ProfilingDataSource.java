@@ -0,0 +1,101 @@
+package com.visma.kalmar.api.profiling;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Records the wait for a pooled connection and every statement run on it, for connections taken
+ * while a request is profiled. Other callers get the pool's connection unwrapped.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private static final int MAXIMUM_SQL_LENGTH = 500;
+
+    public ProfilingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var profile = RequestProfile.current();
+        if (profile == null) {
+            return super.getConnection();
+        }
+        var started = System.nanoTime();
+        var connection = super.getConnection();
+        profile.record(RequestProfile.DB_CONNECTION, null, started, System.nanoTime());
+        return proxy(Connection.class, new ConnectionHandler(connection, profile));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    // Identity is the proxy's own, so that a connection still equals itself when Spring compares them.
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection connection, RequestProfile profile) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = ProfilingDataSource.invoke(proxy, connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0], profile));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0], profile));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null, profile));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement statement, String sql, RequestProfile profile)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return ProfilingDataSource.invoke(proxy, statement, method, args);
+            }
+            var started = System.nanoTime();
+            try {
+                return ProfilingDataSource.invoke(proxy, statement, method, args);
+            } finally {
+                profile.record(RequestProfile.DB, describe(method, args), started, System.nanoTime());
+            }
+        }
+
+        private String describe(Method method, Object[] args) {
+            var text = sql != null ? sql : args != null && args.length > 0 ? String.valueOf(args[0]) : "";
+            if (method.getName().startsWith("executeBatch") || method.getName().startsWith("executeLargeBatch")) {
+                text = "batch: " + text;
+            }
+            return text.length() > MAXIMUM_SQL_LENGTH ? text.substring(0, MAXIMUM_SQL_LENGTH) + "..." : text;
+        }
+    }
+}
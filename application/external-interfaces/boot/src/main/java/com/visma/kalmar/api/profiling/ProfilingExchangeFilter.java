@@ -0,0 +1,27 @@
+package com.visma.kalmar.api.profiling;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records every Connect call, token requests included, from when it is sent until the response
+ * headers arrive. The profile is the one of the thread that subscribes, so calls a batch starts
+ * later from a Netty thread are not recorded.
+ */
+public class ProfilingExchangeFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        var profile = RequestProfile.current();
+        if (profile == null) {
+            return next.exchange(request);
+        }
+        var detail = request.method().name() + " " + request.url().getPath();
+        var started = System.nanoTime();
+        return next.exchange(request)
+                .doFinally(signal -> profile.record(RequestProfile.CONNECT, detail, started, System.nanoTime()));
+    }
+}
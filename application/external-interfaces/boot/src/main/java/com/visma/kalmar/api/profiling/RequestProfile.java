@@ -0,0 +1,98 @@
+package com.visma.kalmar.api.profiling;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The timeline of one sampled request: when it waited for a database connection, ran a
+ * statement, called Connect or read or wrote JSON. The request thread's profile is found with
+ * {@link #current()}; spans may also be recorded from the threads a call completes on.
+ */
+public final class RequestProfile {
+
+    public static final String DB_CONNECTION = "db-connection";
+    public static final String DB = "db";
+    public static final String CONNECT = "connect";
+    public static final String SERIALIZATION = "serialization";
+    static final String TOTAL = "total";
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final String path;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private volatile long durationNanos;
+    private volatile int status;
+
+    RequestProfile(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    /** The profile of the request the calling thread serves, or null when it is not sampled. */
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestProfile profile) {
+        CURRENT.set(profile);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /** Adds a span measured with {@link System#nanoTime()}. */
+    public void record(String name, String detail, long startNanos, long endNanos) {
+        spans.add(new Span(name, detail, startNanos - startedNanos, endNanos - startNanos));
+    }
+
+    void finish(int status) {
+        this.durationNanos = System.nanoTime() - startedNanos;
+        this.status = status;
+    }
+
+    long durationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * The spans summed by name, e.g. {@code db;dur=3.2;desc="3 calls", total;dur=41.0}, in
+     * milliseconds as the {@code Server-Timing} header expects them.
+     */
+    String serverTiming() {
+        var totals = new LinkedHashMap<String, long[]>();
+        for (var span : spans) {
+            var total = totals.computeIfAbsent(span.name(), name -> new long[2]);
+            total[0] += span.durationNanos();
+            total[1]++;
+        }
+        var header = new StringBuilder();
+        totals.forEach((name, total) -> header.append(String.format(
+                Locale.ROOT, "%s;dur=%.3f;desc=\"%d %s\", ",
+                name, millis(total[0]), total[1], total[1] == 1 ? "call" : "calls")));
+        return header.append(String.format(Locale.ROOT, "%s;dur=%.3f", TOTAL, millis(durationNanos))).toString();
+    }
+
+    SlowRequest toSlowRequest() {
+        var timeline = spans.stream()
+                .sorted(Comparator.comparingLong(Span::offsetNanos))
+                .map(span -> new SlowRequest.Entry(
+                        span.name(), span.detail(), millis(span.offsetNanos()), millis(span.durationNanos())))
+                .toList();
+        return new SlowRequest(startedAt, method, path, status, millis(durationNanos), List.copyOf(timeline));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Span(String name, String detail, long offsetNanos, long durationNanos) {}
+}
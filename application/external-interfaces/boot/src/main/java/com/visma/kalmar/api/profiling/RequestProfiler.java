@@ -0,0 +1,53 @@
+package com.visma.kalmar.api.profiling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decides which requests are profiled and keeps the slow ones. Only a sampled share of requests
+ * pays for a timeline; of those, the ones slower than the threshold go into a fixed-size ring
+ * that overwrites the oldest entry without taking a lock.
+ */
+public class RequestProfiler {
+
+    private final double sampleRate;
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowRequest> slowRequests;
+    private final AtomicLong written = new AtomicLong();
+
+    public RequestProfiler(double sampleRate, Duration threshold, int capacity) {
+        this.sampleRate = sampleRate;
+        this.thresholdNanos = threshold.toNanos();
+        this.slowRequests = new AtomicReferenceArray<>(capacity);
+    }
+
+    boolean sample() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    void completed(RequestProfile profile) {
+        if (profile.durationNanos() < thresholdNanos) {
+            return;
+        }
+        var slot = (int) (written.getAndIncrement() % slowRequests.length());
+        slowRequests.set(slot, profile.toSlowRequest());
+    }
+
+    /** The slow requests still held, newest first. */
+    public List<SlowRequest> slowRequests() {
+        var held = new ArrayList<SlowRequest>(slowRequests.length());
+        for (int i = 0; i < slowRequests.length(); i++) {
+            var slowRequest = slowRequests.get(i);
+            if (slowRequest != null) {
+                held.add(slowRequest);
+            }
+        }
+        held.sort(Comparator.comparing(SlowRequest::startedAt).reversed());
+        return held;
+    }
+}
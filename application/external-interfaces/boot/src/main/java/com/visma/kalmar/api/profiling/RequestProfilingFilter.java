@@ -0,0 +1,47 @@
+package com.visma.kalmar.api.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Profiles the sampled requests. Their response body is held back until the request is done, so
+ * the {@code Server-Timing} header can still be added; unsampled requests pass straight through.
+ */
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final RequestProfiler requestProfiler;
+
+    public RequestProfilingFilter(RequestProfiler requestProfiler) {
+        this.requestProfiler = requestProfiler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!requestProfiler.sample()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        var profile = new RequestProfile(request.getMethod(), request.getRequestURI());
+        var bufferedResponse = new ContentCachingResponseWrapper(response);
+        RequestProfile.bind(profile);
+        try {
+            chain.doFilter(request, bufferedResponse);
+        } finally {
+            RequestProfile.unbind();
+            profile.finish(bufferedResponse.getStatus());
+            bufferedResponse.setHeader(SERVER_TIMING, profile.serverTiming());
+            bufferedResponse.copyBodyToResponse();
+            requestProfiler.completed(profile);
+        }
+    }
+}
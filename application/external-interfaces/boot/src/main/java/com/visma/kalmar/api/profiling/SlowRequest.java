@@ -0,0 +1,12 @@
+package com.visma.kalmar.api.profiling;
+
+import java.time.Instant;
+import java.util.List;
+
+/** A request that took longer than the profiler's threshold, with its timeline in milliseconds. */
+public record SlowRequest(
+        Instant startedAt, String method, String path, int status, double durationMs, List<Entry> timeline) {
+
+    /** One span, starting {@code startMs} after the request did. */
+    public record Entry(String name, String detail, double startMs, double durationMs) {}
+}
@@ -0,0 +1,22 @@
+package com.visma.kalmar.api.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/** Lists the slow requests the profiler holds under {@code /actuator/slowrequests}, newest first. */
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final RequestProfiler requestProfiler;
+
+    public SlowRequestsEndpoint(RequestProfiler requestProfiler) {
+        this.requestProfiler = requestProfiler;
+    }
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests() {
+        return requestProfiler.slowRequests();
+    }
+}
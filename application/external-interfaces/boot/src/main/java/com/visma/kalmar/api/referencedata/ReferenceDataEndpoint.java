@@ -0,0 +1,35 @@
+package com.visma.kalmar.api.referencedata;
+
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/** Exposes cache statistics and an on-demand reload under {@code /actuator/referencedata}. */
+@Component
+@Endpoint(id = "referencedata")
+public class ReferenceDataEndpoint {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    public ReferenceDataEndpoint(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return Map.of(
+                "size", referenceDataCache.size(),
+                "hits", referenceDataCache.hitCount(),
+                "misses", referenceDataCache.missCount());
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        referenceDataCache.refresh();
+        return statistics();
+    }
+}
@@ -0,0 +1,21 @@
+package com.visma.kalmar.api.referencedata;
+
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Loads the reference data right after startup and reloads it on a fixed delay. */
+@Component
+public class ReferenceDataRefresher {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    public ReferenceDataRefresher(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval:PT10M}")
+    public void refresh() {
+        referenceDataCache.refresh();
+    }
+}
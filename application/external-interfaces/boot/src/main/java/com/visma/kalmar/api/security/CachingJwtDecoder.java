@@ -0,0 +1,101 @@
+package com.visma.kalmar.api.security;
+
+import com.visma.kalmar.api.adapters.cache.BoundedCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers tokens that the delegate decoder has already parsed, verified and validated, keyed by
+ * the SHA-256 of the token, until the token expires. Clients reuse one access token for many
+ * calls, so most requests skip the signature check.
+ *
+ * <p>Rejected tokens and tokens without an expiry are never cached. When the cache is full, the
+ * least recently used token is dropped. Decode times are recorded in
+ * the {@code jwt.decode} timer, tagged {@code result=hit|miss|rejected}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final BoundedCache<String, Jwt> jwts;
+    private final Timer hits;
+    private final Timer misses;
+    private final Timer rejections;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maximumSize, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maximumSize, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.jwts = new BoundedCache<>(maximumSize);
+        this.clock = clock;
+        this.hits = decodeTimer("hit", meterRegistry);
+        this.misses = decodeTimer("miss", meterRegistry);
+        this.rejections = decodeTimer("rejected", meterRegistry);
+        Gauge.builder("jwt.decode.cache.size", jwts, BoundedCache::size)
+                .description("Validated access tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var started = System.nanoTime();
+        var key = sha256(token);
+        var now = clock.instant();
+
+        var cached = jwts.get(key);
+        if (cached != null) {
+            if (now.isBefore(cached.getExpiresAt())) {
+                hits.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            jwts.remove(key, cached);
+        }
+
+        final Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } catch (JwtException e) {
+            rejections.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (jwt.getExpiresAt() != null && now.isBefore(jwt.getExpiresAt())) {
+            jwts.put(key, jwt);
+        }
+        misses.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return jwt;
+    }
+
+    int size() {
+        return jwts.size();
+    }
+
+    private static Timer decodeTimer(String result, MeterRegistry meterRegistry) {
+        return Timer.builder("jwt.decode")
+                .tag("result", result)
+                .description("Time to turn a bearer token into a validated Jwt")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String sha256(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.visma.kalmar.api.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Waits for an email lookup that another caller of {@link ConnectUserEmailCache} is running and
+ * rethrows its failure unwrapped, so the waiting callers see the same exception as the one that
+ * called Visma Connect.
+ */
+final class ConnectFutures {
+
+    private ConnectFutures() {
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.visma.kalmar.api.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.oauth2.sdk.GeneralException;
+import com.nimbusds.oauth2.sdk.id.Issuer;
+import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Visma Connect signing keys, looked up through the issuer's OpenID discovery document on first use.
+ *
+ * <p>The key set is cached for {@code timeToLive} and refreshed by a background task {@code
+ * refreshAhead} before it expires, so token verification does not wait for a JWKS download after
+ * the first one. {@link #prefetch()} performs that first download ahead of traffic.
+ */
+public class ConnectJwkSource implements JWKSource<SecurityContext>, Closeable {
+
+    private final String issuer;
+    private final Duration timeToLive;
+    private final Duration refreshAhead;
+    private volatile JWKSource<SecurityContext> keys;
+
+    public ConnectJwkSource(String issuer, Duration timeToLive, Duration refreshAhead) {
+        this.issuer = issuer;
+        this.timeToLive = timeToLive;
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        return keys().get(jwkSelector, context);
+    }
+
+    public void prefetch() throws KeySourceException {
+        get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (keys instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private JWKSource<SecurityContext> keys() throws KeySourceException {
+        var current = keys;
+        if (current == null) {
+            synchronized (this) {
+                current = keys;
+                if (current == null) {
+                    current = buildKeys();
+                    keys = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private JWKSource<SecurityContext> buildKeys() throws KeySourceException {
+        try {
+            var jwkSetUri = OIDCProviderMetadata.resolve(new Issuer(issuer)).getJWKSetURI();
+            return JWKSourceBuilder.<SecurityContext>create(jwkSetUri.toURL())
+                    .cache(timeToLive.toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                    .refreshAheadCache(refreshAhead.toMillis(), true)
+                    .retrying(true)
+                    .build();
+        } catch (GeneralException | IOException e) {
+            throw new KeySourceException("Could not discover the JWK set of " + issuer, e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.visma.kalmar.api.security;
+
+import com.visma.kalmar.api.adapters.cache.BoundedCache;
+import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, time-limited cache of Visma Connect user emails keyed by the token {@code sub} claim.
+ *
+ * <p>Concurrent lookups for the same user share one Connect call: the first caller loads the email
+ * and the others wait for its result. Failed loads are not cached. When the cache is over its
+ * maximum size, the least recently used entry is dropped.
+ */
+public class ConnectUserEmailCache {
+
+    private final VismaConnectUserGateway vismaConnectUserGateway;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final BoundedCache<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ConnectUserEmailCache(
+            VismaConnectUserGateway vismaConnectUserGateway, Duration timeToLive, int maximumSize) {
+        this(vismaConnectUserGateway, timeToLive, maximumSize, System::nanoTime);
+    }
+
+    ConnectUserEmailCache(
+            VismaConnectUserGateway vismaConnectUserGateway,
+            Duration timeToLive,
+            int maximumSize,
+            LongSupplier nanoClock) {
+        this.vismaConnectUserGateway = vismaConnectUserGateway;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new BoundedCache<>(maximumSize);
+        this.nanoClock = nanoClock;
+    }
+
+    public String getEmail(String connectUserId) {
+        var now = nanoClock.getAsLong();
+        var cached = entries.get(connectUserId);
+        if (cached != null && !cached.isExpired(now)) {
+            hits.increment();
+            return ConnectFutures.join(cached.email());
+        }
+
+        var loading = new Entry(new CompletableFuture<>(), now + timeToLiveNanos);
+        var current =
+                entries.compute(
+                        connectUserId,
+                        (key, existing) -> existing != null && !existing.isExpired(now) ? existing : loading);
+        if (current != loading) {
+            hits.increment();
+            return ConnectFutures.join(current.email());
+        }
+
+        misses.increment();
+        try {
+            var email = vismaConnectUserGateway.findUserById(connectUserId).email();
+            loading.email().complete(email);
+            return email;
+        } catch (RuntimeException e) {
+            entries.remove(connectUserId, loading);
+            loading.email().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(CompletableFuture<String> email, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
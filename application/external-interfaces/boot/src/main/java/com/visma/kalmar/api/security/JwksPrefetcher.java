@@ -0,0 +1,32 @@
+package com.visma.kalmar.api.security;
+
+import com.nimbusds.jose.KeySourceException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Downloads the Visma Connect signing keys once the application has started. The readiness state
+ * switches to accepting traffic after this listener returns, so the first requests do not wait for
+ * the JWKS.
+ */
+@Component
+@Profile("stag | prod")
+public class JwksPrefetcher {
+
+    private final ConnectJwkSource connectJwkSource;
+
+    public JwksPrefetcher(ConnectJwkSource connectJwkSource) {
+        this.connectJwkSource = connectJwkSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetch() {
+        try {
+            connectJwkSource.prefetch();
+        } catch (KeySourceException e) {
+            // The first token verification loads the keys instead
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.visma.kalmar.api.security;
 
-import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
@@ -11,11 +10,11 @@ import java.util.UUID;
 public class JwtTokenInspector {
     private static final String SUBJECT = "sub";
 
-    private final VismaConnectUserGateway vismaConnectUserGateway;
+    private final ConnectUserEmailCache connectUserEmailCache;
 
     @Autowired
-    public JwtTokenInspector(VismaConnectUserGateway vismaConnectUserGateway) {
-        this.vismaConnectUserGateway = vismaConnectUserGateway;
+    public JwtTokenInspector(ConnectUserEmailCache connectUserEmailCache) {
+        this.connectUserEmailCache = connectUserEmailCache;
     }
 
     public String getConnectUserId(JwtAuthenticationToken jwtAuthenticationToken) {
@@ -27,7 +26,7 @@ public class JwtTokenInspector {
         if (connectUserId == null) {
             return null;
         } else {
-            return vismaConnectUserGateway.findUserById(connectUserId).email();
+            return connectUserEmailCache.getEmail(connectUserId);
         }
     }
 
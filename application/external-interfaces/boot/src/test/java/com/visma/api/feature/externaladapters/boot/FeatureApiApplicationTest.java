@@ -1,16 +1,52 @@
 package com.visma.api.feature.externaladapters.boot;
 
 import com.visma.kalmar.api.FeatureApiApplication;
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.role.GetRoleInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.UUID;
+
 @SpringBootTest(classes = FeatureApiApplication.class)
 @ActiveProfiles("test")
 class FeatureApiApplicationTest {
 
+    @Autowired
+    private GetRoleInputPort getRoleInputPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void contextLoads() {
         // This test verifies that the Spring context loads successfully
     }
+
+    @Test
+    void useCases_AreInstrumented() {
+        Assertions.assertThrows(
+                ResourceNotFoundException.class,
+                () -> getRoleInputPort.getRole(UUID.randomUUID(), outputData -> {}));
+
+        Assertions.assertEquals(1, meterRegistry.get("usecase.errors")
+                .tag("class", "GetRoleUseCase")
+                .tag("exception", "ResourceNotFoundException")
+                .counter()
+                .count());
+        Assertions.assertEquals(1, meterRegistry.get("gateway.errors")
+                .tag("class", "RoleGatewayAdapter")
+                .tag("method", "findById")
+                .counter()
+                .count());
+        Assertions.assertEquals(1, meterRegistry.get("usecase.db.statements")
+                .tag("class", "GetRoleUseCase")
+                .tag("method", "getRole")
+                .summary()
+                .totalAmount());
+    }
 }
@@ -0,0 +1,122 @@
+package com.visma.kalmar.api;
+
+import com.visma.feature.kalmar.api.language.Language;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared setup for the opt-in benchmarks: a Visma Connect stub with fixed latency and the
+ * application started against it on an in-memory H2 database.
+ */
+final class BenchmarkSupport {
+
+    private static final String TOKEN_RESPONSE =
+            "{\"access_token\":\"benchmark\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+
+    private BenchmarkSupport() {}
+
+    static MockWebServer startConnectStub(long latencyMillis) throws IOException {
+        var connect = new MockWebServer();
+        connect.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().startsWith("/oauth/token")) {
+                            return json(TOKEN_RESPONSE);
+                        }
+                        return json("{\"id\":\"" + UUID.randomUUID() + "\"}")
+                                .setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS);
+                    }
+                });
+        connect.start();
+        return connect;
+    }
+
+    static ConfigurableApplicationContext startApplication(
+            MockWebServer connect, String database, String... extraArguments) {
+        return startApplicationOn(connect, "jdbc:h2:mem:" + database, extraArguments);
+    }
+
+    /**
+     * Starts the application on the given H2 database URL, e.g. a file database when the benchmark
+     * needs table sizes.
+     */
+    static ConfigurableApplicationContext startApplicationOn(
+            MockWebServer connect, String h2Url, String... extraArguments) {
+        var connectUrl = connect.url("/").toString();
+        var arguments =
+                new ArrayList<>(
+                        List.of(
+                                "--spring.profiles.active=test",
+                                "--server.port=0",
+                                "--spring.datasource.url=" + h2Url + ";NON_KEYWORDS=USER",
+                                "--spring.jpa.show-sql=false",
+                                "--connect.public-endpoint=" + connectUrl.substring(0, connectUrl.length() - 1),
+                                "--spring.security.oauth2.client.provider.visma-connect.token-uri="
+                                        + connect.url("/oauth/token"),
+                                "--CONNECT_CLIENT_ID=benchmark",
+                                "--CONNECT_CLIENT_SECRET=benchmark",
+                                "--logging.level.com.visma=info",
+                                "--logging.level.org.springframework.security=info",
+                                "--logging.level.reactor.netty=info"));
+        arguments.addAll(List.of(extraArguments));
+
+        var context =
+                new SpringApplicationBuilder(FeatureApiApplication.class).run(arguments.toArray(String[]::new));
+        context.getBean(LanguageRepository.class).save(new Language(null, "English", "en"));
+        return context;
+    }
+
+    static URI uri(ConfigurableApplicationContext context, String path) {
+        var port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    static HttpRequest post(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer benchmark")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    static String userJson(String prefix, int index) {
+        return "{\"email\":\"%s.%d@benchmark.test\",\"firstName\":\"Bench\",\"lastName\":\"Mark\",\"languageCode\":\"en\"}"
+                .formatted(prefix, index);
+    }
+
+    /** Writes a benchmark's results to {@code <name>.txt} in {@code benchmark.report-dir} (default {@code target/benchmarks}). */
+    static Path writeReport(String name, String report) {
+        var directory = Path.of(System.getProperty("benchmark.report-dir", "target/benchmarks"));
+        try {
+            Files.createDirectories(directory);
+            return Files.writeString(directory.resolve(name + ".txt"), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the report of " + name, e);
+        }
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
@@ -0,0 +1,118 @@
+package com.visma.kalmar.api;
+
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import com.visma.kalmar.api.company.CompanyGateway;
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
+import com.visma.kalmar.api.transaction.UnitOfWork;
+import jakarta.persistence.EntityManagerFactory;
+import okhttp3.mockwebserver.MockWebServer;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stores the same number of companies through {@code CompanyGateway.save}, one transaction each,
+ * and through one {@code CompanyGateway.saveAll}, and reports the time and the JDBC statements
+ * prepared for each, written to {@code target/benchmarks/CompanyBulkSave.txt}. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=CompanyBulkSaveBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.companies} changes the number of companies stored per path.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CompanyBulkSaveBenchmarkTest {
+
+    private static final int COMPANIES = Integer.getInteger("benchmark.companies", 10_000);
+
+    private static MockWebServer connect;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(0);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void saveCompanies_oneByOneVersusSaveAll() {
+        try (var context = BenchmarkSupport.startApplication(connect, "benchmark_company_bulk_save")) {
+            var companyGateway = context.getBean(CompanyGateway.class);
+            var unitOfWork = context.getBean(UnitOfWork.class);
+            var statistics =
+                    context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            var single = companies(context, "single");
+            statistics.clear();
+            var singleStarted = System.nanoTime();
+            single.forEach(company -> unitOfWork.execute(() -> companyGateway.save(company)));
+            var singleElapsed = System.nanoTime() - singleStarted;
+            var singleStatements = statistics.getPrepareStatementCount();
+
+            var bulk = companies(context, "bulk");
+            statistics.clear();
+            var bulkStarted = System.nanoTime();
+            unitOfWork.execute(() -> assertEquals(COMPANIES, companyGateway.saveAll(bulk).size()));
+            var bulkElapsed = System.nanoTime() - bulkStarted;
+            var bulkStatements = statistics.getPrepareStatementCount();
+
+            var report = String.format(
+                    "%d companies%n%-7s %10s %12s %12s%n%-7s %10.2f %12.1f %12d%n%-7s %10.2f %12.1f %12d%n",
+                    COMPANIES, "path", "seconds", "companies/s", "statements",
+                    "save", singleElapsed / 1e9, COMPANIES * 1e9 / singleElapsed, singleStatements,
+                    "saveAll", bulkElapsed / 1e9, COMPANIES * 1e9 / bulkElapsed, bulkStatements);
+            BenchmarkSupport.writeReport("CompanyBulkSave", report);
+
+            // saveAll skips the SELECT that save issues before each insert.
+            assertTrue(bulkStatements < singleStatements, report);
+        }
+    }
+
+    // Each path gets its own customer, so names only repeat under different parents.
+    private static List<Context> companies(ConfigurableApplicationContext context, String path) {
+        var idCountry = context.getBean(CountryRepository.class)
+                .save(new Country(null, "Country " + path, path.substring(0, 2).toUpperCase())).getIdCountry();
+        var contextTypes = context.getBean(ContextTypeRepository.class);
+        var idCustomerType = contextTypes.save(new ContextType(null, "Customer " + path)).getIdContextType();
+        var idCompanyType = contextTypes.save(new ContextType(null, "Company " + path)).getIdContextType();
+
+        var customer = new com.visma.feature.kalmar.api.customer.Customer();
+        customer.setIdContext(TimeOrderedUuid.next());
+        customer.setIdContextType(idCustomerType);
+        customer.setIdCountry(idCountry);
+        customer.setName("Benchmark customer " + path);
+        customer.setOrganizationNumber("000000000");
+        UUID idCustomer = context.getBean(CustomerRepository.class).save(customer).getIdContext();
+
+        return IntStream.range(0, COMPANIES)
+                .mapToObj(i -> new Context(
+                        TimeOrderedUuid.next(),
+                        idCompanyType,
+                        idCustomer,
+                        idCountry,
+                        "Benchmark company " + i,
+                        String.format("%09d", i)))
+                .toList();
+    }
+}
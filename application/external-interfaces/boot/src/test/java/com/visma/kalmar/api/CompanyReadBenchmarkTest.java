@@ -0,0 +1,165 @@
+package com.visma.kalmar.api;
+
+import com.visma.feature.kalmar.api.company.Company;
+import com.visma.feature.kalmar.api.company.CompanyRepository;
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.customer.Customer;
+import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import okhttp3.mockwebserver.MockWebServer;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reads companies through {@code GET /api/v1/companies/customer/{idCustomer}/company/{idCompany}}
+ * and reports JDBC statements per request next to the latency percentiles, written to
+ * {@code target/benchmarks/CompanyRead.txt}. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=CompanyReadBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.companies}, {@code benchmark.requests} and {@code benchmark.concurrency}
+ * change the load.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CompanyReadBenchmarkTest {
+
+    private static final int COMPANIES = Integer.getInteger("benchmark.companies", 1000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+
+    private static MockWebServer connect;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(0);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void getCompany_statementsAndLatency() throws Exception {
+        try (var context = BenchmarkSupport.startApplication(connect, "benchmark_company_read")) {
+            var idCustomer = UUID.randomUUID();
+            var idCompanies = seed(context, idCustomer);
+            var statistics =
+                    context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            // Warm up the JIT, the connection pool and the reference data caches.
+            read(context, idCustomer, idCompanies, Math.min(REQUESTS, 2000));
+            statistics.clear();
+
+            var started = System.nanoTime();
+            var latencies = read(context, idCustomer, idCompanies, REQUESTS);
+            var elapsed = System.nanoTime() - started;
+
+            var statements = (double) statistics.getPrepareStatementCount() / REQUESTS;
+            var report = String.format(
+                    "%d company reads, %d threads%n%-14s %10s %8s %8s%n%-14.2f %10.1f %8.2f %8.2f%n",
+                    REQUESTS, CONCURRENCY, "statements/req", "req/s", "p50 ms", "p99 ms",
+                    statements,
+                    REQUESTS * 1e9 / elapsed,
+                    percentile(latencies, 50),
+                    percentile(latencies, 99));
+            BenchmarkSupport.writeReport("CompanyRead", report);
+
+            // The company and its customer come back in one joined select.
+            assertEquals(1.0, statements, report);
+            assertEquals(REQUESTS, latencies.length, report);
+        }
+    }
+
+    private List<UUID> seed(ConfigurableApplicationContext context, UUID idCustomer) {
+        var country = context.getBean(CountryRepository.class).save(new Country(null, "Norway", "NO"));
+        var contextTypes = context.getBean(ContextTypeRepository.class);
+        var customerType = contextTypes.save(new ContextType(null, "Customer"));
+        var companyType = contextTypes.save(new ContextType(null, "Company"));
+
+        var customer = new Customer();
+        customer.setIdContext(idCustomer);
+        customer.setIdContextType(customerType.getIdContextType());
+        customer.setIdCountry(country.getIdCountry());
+        customer.setName("Benchmark customer");
+        customer.setOrganizationNumber("000000000");
+        context.getBean(CustomerRepository.class).save(customer);
+
+        var companies = new ArrayList<Company>(COMPANIES);
+        for (int i = 0; i < COMPANIES; i++) {
+            var company = new Company();
+            company.setIdContext(UUID.randomUUID());
+            company.setIdContextType(companyType.getIdContextType());
+            company.setIdContextParent(idCustomer);
+            company.setIdCountry(country.getIdCountry());
+            company.setName("Benchmark company " + i);
+            company.setOrganizationNumber(String.format("%09d", i));
+            companies.add(company);
+        }
+        return context.getBean(CompanyRepository.class).saveAll(companies).stream()
+                .map(Company::getIdContext)
+                .toList();
+    }
+
+    private long[] read(
+            ConfigurableApplicationContext context,
+            UUID idCustomer,
+            List<UUID> idCompanies,
+            int requests) {
+        var base = "/api/v1/companies/customer/" + idCustomer + "/company/";
+        try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            var calls = new ArrayList<CompletableFuture<Long>>(requests);
+            for (int i = 0; i < requests; i++) {
+                URI uri = BenchmarkSupport.uri(context, base + idCompanies.get(i % idCompanies.size()));
+                calls.add(CompletableFuture.supplyAsync(() -> timedGet(client, uri), executor));
+            }
+            return calls.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+        }
+    }
+
+    private static long timedGet(HttpClient client, URI uri) {
+        var request = HttpRequest.newBuilder(uri).header(HttpHeaders.AUTHORIZATION, "Bearer benchmark").GET().build();
+        var sent = System.nanoTime();
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            assertEquals(200, response.statusCode());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return System.nanoTime() - sent;
+    }
+
+    private static double percentile(long[] latencies, int percentile) {
+        var index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+        return latencies[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.visma.kalmar.api;
+
+import com.visma.feature.kalmar.api.context.ContextRepository;
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Grows the Company table step by step and, at every size, times reading contexts by id through
+ * the polymorphic {@code ContextRepository.findById}, which outer joins Customer and Company, and
+ * through {@code findContextById}, which reads the Context table only. The timings are written to
+ * {@code target/benchmarks/ContextRead.txt}. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=ContextReadBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.companies} lists the table sizes to measure at, e.g.
+ * {@code -Dbenchmark.companies=100000,1000000,3000000}; {@code benchmark.reads} changes the reads
+ * per size. The rows are inserted with plain JDBC so that the larger sizes seed in reasonable time.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ContextReadBenchmarkTest {
+
+    private static final List<Integer> COMPANIES = Stream.of(
+                    System.getProperty("benchmark.companies", "10000,100000,1000000").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .toList();
+    private static final int READS = Integer.getInteger("benchmark.reads", 20_000);
+    private static final int CHUNK = 5000;
+
+    private static MockWebServer connect;
+
+    @TempDir
+    static Path databases;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(0);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void findContext_polymorphicVersusContextOnly() {
+        try (var context = BenchmarkSupport.startApplicationOn(
+                connect, "jdbc:h2:file:" + databases.resolve("benchmark_context_read"))) {
+            var jdbc = context.getBean(JdbcTemplate.class);
+            var contexts = context.getBean(ContextRepository.class);
+            var idCountry = context.getBean(CountryRepository.class)
+                    .save(new Country(null, "Norway", "NO")).getIdCountry();
+            var contextTypes = context.getBean(ContextTypeRepository.class);
+            var idCustomerType = contextTypes.save(new ContextType(null, "Customer")).getIdContextType();
+            var idCompanyType = contextTypes.save(new ContextType(null, "Company")).getIdContextType();
+
+            var idCustomer = TimeOrderedUuid.next();
+            insertContexts(jdbc, "Customer", List.of(idCustomer), idCustomerType, null, idCountry, 0);
+            var idCompanies = new ArrayList<UUID>();
+
+            var report = new StringBuilder(String.format(
+                    "%d reads per size%n%12s %16s %16s%n", READS, "companies", "findById us", "Context-only us"));
+            for (var size : COMPANIES) {
+                while (idCompanies.size() < size) {
+                    var chunk = Stream.generate(TimeOrderedUuid::next)
+                            .limit(Math.min(CHUNK, size - idCompanies.size()))
+                            .toList();
+                    insertContexts(jdbc, "Company", chunk, idCompanyType, idCustomer, idCountry, idCompanies.size());
+                    idCompanies.addAll(chunk);
+                }
+
+                // Warm up both paths at this size before measuring either.
+                time(idCompanies, contexts::findById);
+                time(idCompanies, contexts::findContextById);
+
+                report.append(String.format(
+                        "%12d %16.1f %16.1f%n",
+                        size,
+                        time(idCompanies, contexts::findById),
+                        time(idCompanies, contexts::findContextById)));
+                assertEquals(
+                        size,
+                        jdbc.queryForObject("select count(*) from Company", Integer.class),
+                        report::toString);
+            }
+            BenchmarkSupport.writeReport("ContextRead", report.toString());
+        }
+    }
+
+    private static void insertContexts(
+            JdbcTemplate jdbc,
+            String subtype,
+            List<UUID> ids,
+            UUID idContextType,
+            UUID idContextParent,
+            UUID idCountry,
+            int firstIndex) {
+        var contextRows = new ArrayList<Object[]>(ids.size());
+        var subtypeRows = new ArrayList<Object[]>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            var id = ids.get(i).toString();
+            contextRows.add(new Object[] {
+                    id,
+                    idContextType.toString(),
+                    idContextParent == null ? null : idContextParent.toString(),
+                    idCountry.toString(),
+                    "Benchmark " + subtype + " " + (firstIndex + i),
+                    String.format("%09d", firstIndex + i)});
+            subtypeRows.add(new Object[] {id});
+        }
+        jdbc.batchUpdate("insert into Context (IdContext, IdContextType, IdContextParent, IdCountry, Name, "
+                + "OrganizationNumber) values (?, ?, ?, ?, ?, ?)", contextRows);
+        jdbc.batchUpdate("insert into " + subtype + " (Id" + subtype + ") values (?)", subtypeRows);
+    }
+
+    private static double time(List<UUID> ids, Function<UUID, ? extends Optional<?>> read) {
+        var random = ThreadLocalRandom.current();
+        var started = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            assertTrue(read.apply(ids.get(random.nextInt(ids.size()))).isPresent());
+        }
+        return (System.nanoTime() - started) / 1e3 / READS;
+    }
+}
@@ -0,0 +1,210 @@
+package com.visma.kalmar.api;
+
+import com.visma.feature.kalmar.api.company.Company;
+import com.visma.feature.kalmar.api.company.CompanyRepository;
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.customer.Customer;
+import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import com.visma.feature.kalmar.api.role.Role;
+import com.visma.feature.kalmar.api.role.RoleRepository;
+import com.visma.feature.kalmar.api.user.User;
+import com.visma.feature.kalmar.api.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import okhttp3.mockwebserver.MockWebServer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Deletes companies, roles and users through their {@code DELETE} endpoints and reports JDBC
+ * statements per request next to the latency percentiles, written to
+ * {@code target/benchmarks/Delete.txt}. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=DeleteBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.requests} and {@code benchmark.concurrency} change the load.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DeleteBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+
+    private static MockWebServer connect;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(0);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void delete_statementsAndLatency() {
+        try (var context = BenchmarkSupport.startApplication(connect, "benchmark_delete")) {
+            var statistics =
+                    context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            var idCustomer = UUID.randomUUID();
+            var companyPaths = seedCompanies(context, idCustomer, 2 * REQUESTS).stream()
+                    .map(id -> "/api/v1/companies/customer/" + idCustomer + "/company/" + id)
+                    .toList();
+            var rolePaths = seedRoles(context, 2 * REQUESTS).stream().map(id -> "/api/v1/roles/" + id).toList();
+            var userPaths = seedUsers(context, 2 * REQUESTS).stream().map(id -> "/api/v1/users/" + id).toList();
+
+            // Warm up the JIT and the connection pool on the first half of every set.
+            delete(context, companyPaths.subList(0, REQUESTS));
+            delete(context, rolePaths.subList(0, REQUESTS));
+            delete(context, userPaths.subList(0, REQUESTS));
+
+            var report = new StringBuilder(String.format(
+                    "%d deletes per resource, %d threads%n%-9s %14s %10s %8s %8s%n",
+                    REQUESTS, CONCURRENCY, "resource", "statements/req", "req/s", "p50 ms", "p99 ms"));
+            var companyStatements =
+                    measure("company", context, statistics, companyPaths.subList(REQUESTS, 2 * REQUESTS), report);
+            var roleStatements = measure("role", context, statistics, rolePaths.subList(REQUESTS, 2 * REQUESTS), report);
+            var userStatements = measure("user", context, statistics, userPaths.subList(REQUESTS, 2 * REQUESTS), report);
+            BenchmarkSupport.writeReport("Delete", report.toString());
+
+            // A company is its subtype row plus its Context row; roles and users are one row each.
+            assertEquals(2.0, companyStatements, report::toString);
+            assertEquals(1.0, roleStatements, report::toString);
+            assertEquals(1.0, userStatements, report::toString);
+            assertEquals(0, context.getBean(CompanyRepository.class).count());
+            assertEquals(0, context.getBean(RoleRepository.class).count());
+            assertEquals(0, context.getBean(UserRepository.class).count());
+        }
+    }
+
+    // Deletes the paths, appends a row to the report and returns the JDBC statements per request.
+    private double measure(
+            String resource,
+            ConfigurableApplicationContext context,
+            Statistics statistics,
+            List<String> paths,
+            StringBuilder report) {
+        statistics.clear();
+        var started = System.nanoTime();
+        var latencies = delete(context, paths);
+        var elapsed = System.nanoTime() - started;
+        var statements = (double) statistics.getPrepareStatementCount() / paths.size();
+        report.append(String.format(
+                "%-9s %14.2f %10.1f %8.2f %8.2f%n",
+                resource,
+                statements,
+                paths.size() * 1e9 / elapsed,
+                percentile(latencies, 50),
+                percentile(latencies, 99)));
+        return statements;
+    }
+
+    private List<UUID> seedCompanies(ConfigurableApplicationContext context, UUID idCustomer, int count) {
+        var country = context.getBean(CountryRepository.class).save(new Country(null, "Norway", "NO"));
+        var contextTypes = context.getBean(ContextTypeRepository.class);
+        var customerType = contextTypes.save(new ContextType(null, "Customer"));
+        var companyType = contextTypes.save(new ContextType(null, "Company"));
+
+        var customer = new Customer();
+        customer.setIdContext(idCustomer);
+        customer.setIdContextType(customerType.getIdContextType());
+        customer.setIdCountry(country.getIdCountry());
+        customer.setName("Benchmark customer");
+        customer.setOrganizationNumber("000000000");
+        context.getBean(CustomerRepository.class).save(customer);
+
+        var companies = new ArrayList<Company>(count);
+        for (int i = 0; i < count; i++) {
+            var company = new Company();
+            company.setIdContext(UUID.randomUUID());
+            company.setIdContextType(companyType.getIdContextType());
+            company.setIdContextParent(idCustomer);
+            company.setIdCountry(country.getIdCountry());
+            company.setName("Benchmark company " + i);
+            company.setOrganizationNumber(String.format("%09d", i));
+            companies.add(company);
+        }
+        return context.getBean(CompanyRepository.class).saveAll(companies).stream()
+                .map(Company::getIdContext)
+                .toList();
+    }
+
+    private List<UUID> seedRoles(ConfigurableApplicationContext context, int count) {
+        var roles = IntStream.range(0, count)
+                .mapToObj(i -> new Role(null, "Role " + i, "ROLE_" + i, null, null, new Date()))
+                .toList();
+        return context.getBean(RoleRepository.class).saveAll(roles).stream().map(Role::getIdRole).toList();
+    }
+
+    private List<UUID> seedUsers(ConfigurableApplicationContext context, int count) {
+        var idLanguage = context.getBean(LanguageRepository.class).findAll().getFirst().getIdLanguage();
+        var users = IntStream.range(0, count)
+                .mapToObj(i -> "delete." + i + "@benchmark.test")
+                .map(email -> new User(null, idLanguage, email, email, "Bench", "Mark", 0L, new Date()))
+                .toList();
+        return context.getBean(UserRepository.class).saveAll(users).stream().map(User::getIdUser).toList();
+    }
+
+    private long[] delete(ConfigurableApplicationContext context, List<String> paths) {
+        try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            var calls = new ArrayList<CompletableFuture<Long>>(paths.size());
+            for (var path : paths) {
+                URI uri = BenchmarkSupport.uri(context, path);
+                calls.add(CompletableFuture.supplyAsync(() -> timedDelete(client, uri), executor));
+            }
+            return calls.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+        }
+    }
+
+    private static long timedDelete(HttpClient client, URI uri) {
+        var request =
+                HttpRequest.newBuilder(uri).header(HttpHeaders.AUTHORIZATION, "Bearer benchmark").DELETE().build();
+        var sent = System.nanoTime();
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            assertEquals(204, response.statusCode(), uri::toString);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return System.nanoTime() - sent;
+    }
+
+    private static double percentile(long[] latencies, int percentile) {
+        var index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+        return latencies[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,148 @@
+package com.visma.kalmar.api;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every query method of the JPA repositories against the schema built by the migration
+ * scripts and fails when H2 plans any of their statements as a full table or index scan.
+ */
+class RepositoryQueryPlanTest {
+
+    // H2 prints the access path of every table as "/* PUBLIC.<index>: <conditions> */" and a scan
+    // without conditions as "/* PUBLIC.<table>.tableScan */" or "/* PUBLIC.<index> */"; reserved
+    // table names such as "USER" are quoted.
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[A-Z0-9_.\"]+ \\*/");
+
+    private static MockWebServer connect;
+    private static ConfigurableApplicationContext context;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startApplication() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(0);
+        context = BenchmarkSupport.startApplication(
+                connect,
+                "query_plans",
+                "--schema-migrations.enabled=true",
+                "--spring.jpa.hibernate.ddl-auto=none");
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+    }
+
+    @AfterAll
+    static void stopApplication() throws IOException {
+        context.close();
+        connect.shutdown();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueries_useAnIndex() {
+        return context.getBeansOfType(RepositoryFactoryInformation.class).values().stream()
+                .map(RepositoryFactoryInformation::getRepositoryInformation)
+                .flatMap(information -> information.getQueryMethods().stream()
+                        .filter(method -> Repository.class.isAssignableFrom(method.getDeclaringClass()))
+                        .sorted(Comparator.comparing(Method::getName))
+                        .map(method -> DynamicTest.dynamicTest(
+                                information.getRepositoryInterface().getSimpleName() + "." + method.getName(),
+                                () -> assertUsesIndexes(
+                                        context.getBean(information.getRepositoryInterface()), method))));
+    }
+
+    private static void assertUsesIndexes(Object repository, Method method) throws IllegalAccessException {
+        var statements = captureStatements(repository, method);
+
+        assertFalse(statements.isEmpty(), () -> method + " ran no statement");
+        for (var statement : statements) {
+            var plan = explain(statement);
+            assertFalse(FULL_SCAN.matcher(plan).find(), () -> method + " scans a whole table or index:\n" + plan);
+        }
+    }
+
+    private static List<String> captureStatements(Object repository, Method method) throws IllegalAccessException {
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+        try {
+            method.invoke(repository, arguments(method));
+        } catch (InvocationTargetException e) {
+            // Only the statements matter; an empty result can make a query method throw.
+        }
+
+        var statements = new ArrayList<String>();
+        for (var statement : jdbcTemplate.queryForList(
+                "SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS", String.class)) {
+            var upperCase = statement.stripLeading().toUpperCase();
+            if ((upperCase.startsWith("SELECT") || upperCase.startsWith("UPDATE") || upperCase.startsWith("DELETE"))
+                    && !upperCase.contains("INFORMATION_SCHEMA")) {
+                statements.add(statement);
+            }
+        }
+        return statements;
+    }
+
+    private static String explain(String statement) {
+        return jdbcTemplate.execute("EXPLAIN " + statement, (java.sql.PreparedStatement explain) -> {
+            var parameterCount = explain.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                explain.setObject(i, null);
+            }
+            try (var resultSet = explain.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    private static Object[] arguments(Method method) {
+        return Stream.of(method.getParameterTypes()).map(RepositoryQueryPlanTest::argument).toArray();
+    }
+
+    private static Object argument(Class<?> type) {
+        if (type == UUID.class) {
+            return UUID.randomUUID();
+        }
+        if (type == String.class) {
+            return "plan";
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of("plan");
+        }
+        if (type == Pageable.class) {
+            return PageRequest.ofSize(10);
+        }
+        if (type == Date.class) {
+            return new Date();
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.visma.kalmar.api;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Provisions the same number of users one request at a time through {@code POST /api/v1/users}
+ * and in one call to {@code POST /api/v1/users/batch}, with Visma Connect stubbed at a fixed
+ * latency, and writes the timings to {@code target/benchmarks/UserBatch.txt}. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=UserBatchBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.batch-size} and {@code benchmark.connect-latency-ms} change the load.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UserBatchBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.batch-size", 1000);
+    private static final long CONNECT_LATENCY_MS = Long.getLong("benchmark.connect-latency-ms", 50);
+
+    private static MockWebServer connect;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(CONNECT_LATENCY_MS);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void createUsers_singleRequestsVersusBatch() throws Exception {
+        try (var context = BenchmarkSupport.startApplication(connect, "benchmark_batch")) {
+            var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            var singleUri = BenchmarkSupport.uri(context, "/api/v1/users");
+            var singleStarted = System.nanoTime();
+            var singleCreated = 0;
+            for (int i = 0; i < USERS; i++) {
+                var response =
+                        client.send(
+                                BenchmarkSupport.post(singleUri, BenchmarkSupport.userJson("single", i)),
+                                HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 201) {
+                    singleCreated++;
+                }
+            }
+            var singleElapsed = System.nanoTime() - singleStarted;
+
+            var batchJson =
+                    IntStream.range(0, USERS)
+                            .mapToObj(i -> BenchmarkSupport.userJson("batch", i))
+                            .collect(Collectors.joining(",", "{\"users\":[", "]}"));
+            var batchStarted = System.nanoTime();
+            var batchResponse =
+                    client.send(
+                            BenchmarkSupport.post(BenchmarkSupport.uri(context, "/api/v1/users/batch"), batchJson),
+                            HttpResponse.BodyHandlers.ofString());
+            var batchElapsed = System.nanoTime() - batchStarted;
+            var batchCreated = batchResponse.body().split("\"status\":201", -1).length - 1;
+
+            var report = String.format(
+                    "%d users, Connect latency %d ms%n%-7s %8s %10s %10s%n"
+                            + "%-7s %8d %10.2f %10.1f%n%-7s %8d %10.2f %10.1f%n",
+                    USERS, CONNECT_LATENCY_MS, "path", "created", "seconds", "users/s",
+                    "single", singleCreated, singleElapsed / 1e9, singleCreated * 1e9 / singleElapsed,
+                    "batch", batchCreated, batchElapsed / 1e9, batchCreated * 1e9 / batchElapsed);
+            BenchmarkSupport.writeReport("UserBatch", report);
+
+            assertEquals(USERS, singleCreated, report);
+            assertEquals(USERS, batchCreated, report);
+            // The batch overlaps the Connect round trips that the single requests pay one after another.
+            assertTrue(batchElapsed < singleElapsed, report);
+        }
+    }
+}
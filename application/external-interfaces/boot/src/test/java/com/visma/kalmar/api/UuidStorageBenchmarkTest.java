@@ -0,0 +1,131 @@
+package com.visma.kalmar.api;
+
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.customer.Customer;
+import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts customers with random (v4) and time-ordered (v7) ids, stored as {@code CHAR(36)} and
+ * {@code BINARY(16)}, and reports insert throughput next to the size of the Context and Customer
+ * tables, written to {@code target/benchmarks/UuidStorage.txt}. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=UuidStorageBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.rows} changes the number of customers inserted per run. The sizes come from
+ * H2, so compare them with each other rather than with InnoDB.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidStorageBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int CHUNK = 1000;
+
+    private static MockWebServer connect;
+
+    @TempDir
+    static Path databases;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(0);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void insertCustomers_randomVersusTimeOrderedIds() {
+        // Warm up the JIT so the first measured run is not penalised.
+        run("CHAR", "warm", UUID::randomUUID, Math.min(ROWS, 20_000));
+
+        var results = List.of(
+                run("CHAR", "v4", UUID::randomUUID, ROWS),
+                run("CHAR", "v7", TimeOrderedUuid::next, ROWS),
+                run("BINARY", "v4", UUID::randomUUID, ROWS),
+                run("BINARY", "v7", TimeOrderedUuid::next, ROWS));
+
+        var report = new StringBuilder(String.format(
+                "%d customer inserts%n%-8s %-4s %10s %12s %12s%n",
+                ROWS, "storage", "ids", "rows/s", "Context KB", "Customer KB"));
+        for (var result : results) {
+            report.append(String.format(
+                    "%-8s %-4s %10.1f %12d %12d%n",
+                    result.storage(),
+                    result.ids(),
+                    result.rows() * 1e9 / result.elapsedNanos(),
+                    result.contextBytes() / 1024,
+                    result.customerBytes() / 1024));
+        }
+        BenchmarkSupport.writeReport("UuidStorage", report.toString());
+
+        // Sixteen bytes per id instead of thirty-six must show up in the table size.
+        assertTrue(results.get(3).contextBytes() < results.get(1).contextBytes(), report::toString);
+    }
+
+    private Result run(String storage, String ids, Supplier<UUID> idGenerator, int rows) {
+        var database = databases.resolve("benchmark_uuid_" + storage.toLowerCase() + "_" + ids);
+        try (var context =
+                     BenchmarkSupport.startApplicationOn(
+                             connect,
+                             "jdbc:h2:file:" + database,
+                             "--spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type=" + storage)) {
+            var country = context.getBean(CountryRepository.class).save(new Country(null, "Norway", "NO"));
+            var customerType = context.getBean(ContextTypeRepository.class).save(new ContextType(null, "Customer"));
+            var customers = context.getBean(CustomerRepository.class);
+
+            var started = System.nanoTime();
+            for (int offset = 0; offset < rows; offset += CHUNK) {
+                var chunk = new ArrayList<Customer>(CHUNK);
+                for (int i = offset; i < Math.min(offset + CHUNK, rows); i++) {
+                    var customer = new Customer();
+                    customer.setIdContext(idGenerator.get());
+                    customer.setIdContextType(customerType.getIdContextType());
+                    customer.setIdCountry(country.getIdCountry());
+                    customer.setName("Benchmark customer " + i);
+                    customer.setOrganizationNumber(String.format("%09d", i));
+                    chunk.add(customer);
+                }
+                customers.saveAll(chunk);
+            }
+            var elapsed = System.nanoTime() - started;
+
+            var jdbc = context.getBean(JdbcTemplate.class);
+            assertEquals(rows, customers.count());
+            return new Result(
+                    storage,
+                    ids,
+                    rows,
+                    elapsed,
+                    jdbc.queryForObject("select disk_space_used('Context')", Long.class),
+                    jdbc.queryForObject("select disk_space_used('Customer')", Long.class));
+        }
+    }
+
+    private record Result(
+            String storage, String ids, int rows, long elapsedNanos, long contextBytes, long customerBytes) {}
+}
@@ -0,0 +1,122 @@
+package com.visma.kalmar.api;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares platform and virtual request threads on {@code POST /api/v1/users} while Visma Connect
+ * is stubbed with a fixed latency. Run with:
+ *
+ * <pre>
+ * mvn test -pl application/external-interfaces/boot -Dtest=VirtualThreadsBenchmarkTest -Dbenchmark=true
+ * </pre>
+ *
+ * <p>{@code benchmark.requests} and {@code benchmark.connect-latency-ms} change the load. The
+ * throughput and latency of both modes are written to {@code target/benchmarks/VirtualThreads.txt}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadsBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final long CONNECT_LATENCY_MS = Long.getLong("benchmark.connect-latency-ms", 500);
+
+    private static MockWebServer connect;
+
+    @BeforeAll
+    static void startConnectStub() throws IOException {
+        connect = BenchmarkSupport.startConnectStub(CONNECT_LATENCY_MS);
+    }
+
+    @AfterAll
+    static void stopConnectStub() throws IOException {
+        connect.shutdown();
+    }
+
+    @Test
+    void createUsers_platformVersusVirtualThreads() {
+        var platform = run(false);
+        var virtual = run(true);
+
+        var report = new StringBuilder(String.format(
+                "%d user creates, Connect latency %d ms%n%-9s %8s %8s %10s %8s %8s%n",
+                REQUESTS, CONNECT_LATENCY_MS, "threads", "created", "failed", "req/s", "p50 ms", "p99 ms"));
+        for (var result : List.of(platform, virtual)) {
+            report.append(String.format(
+                    "%-9s %8d %8d %10.1f %8d %8d%n",
+                    result.mode(),
+                    result.created(),
+                    result.failed(),
+                    result.throughput(),
+                    result.percentile(50),
+                    result.percentile(99)));
+        }
+        BenchmarkSupport.writeReport("VirtualThreads", report.toString());
+
+        // Every create succeeds on virtual threads, and the median one really waited on the Connect stub
+        assertEquals(REQUESTS, virtual.created(), report::toString);
+        assertTrue(virtual.percentile(50) >= CONNECT_LATENCY_MS, report::toString);
+    }
+
+    private Result run(boolean virtualThreads) {
+        var mode = virtualThreads ? "virtual" : "platform";
+        try (var context =
+                     BenchmarkSupport.startApplication(
+                             connect, "benchmark_" + mode, "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            return createUsers(mode, BenchmarkSupport.uri(context, "/api/v1/users"));
+        }
+    }
+
+    private Result createUsers(String mode, URI uri) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var client =
+                    HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+            var started = System.nanoTime();
+            var calls = new ArrayList<CompletableFuture<long[]>>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                var request = BenchmarkSupport.post(uri, BenchmarkSupport.userJson(mode, i));
+                var sent = System.nanoTime();
+                calls.add(
+                        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                                .handle(
+                                        (response, error) ->
+                                                new long[] {
+                                                        error == null ? response.statusCode() : -1,
+                                                        System.nanoTime() - sent
+                                                }));
+            }
+            var outcomes = calls.stream().map(CompletableFuture::join).toList();
+            var elapsed = System.nanoTime() - started;
+            var created = (int) outcomes.stream().filter(outcome -> outcome[0] == 201).count();
+            var latencies = outcomes.stream().mapToLong(outcome -> outcome[1]).sorted().toArray();
+            return new Result(mode, created, REQUESTS - created, elapsed, latencies);
+        }
+    }
+
+    private record Result(String mode, int created, int failed, long elapsedNanos, long[] latencies) {
+
+        double throughput() {
+            return created * 1e9 / elapsedNanos;
+        }
+
+        long percentile(int percentile) {
+            var index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(latencies[Math.max(index, 0)]);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.visma.kalmar.api.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulates the writer and reader endpoints with two in-memory H2 databases and checks which one
+ * answers.
+ */
+class ReadWriteRoutingDataSourceTest {
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private String caller;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setup() {
+        caller = "user-a";
+        var routing = new ReadWriteRoutingDataSource(
+                h2("writer"), h2("reader"), new RecentWrites(WINDOW, 100, nanoTime::get), () -> caller);
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReader() {
+        Assertions.assertEquals("READER", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readWriteTransaction_UsesWriter() {
+        Assertions.assertEquals("WRITER", readWrite.execute(status -> database()));
+    }
+
+    @Test
+    void noTransaction_UsesWriter() {
+        Assertions.assertEquals("WRITER", database());
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOwnWriteWithinWindow_UsesWriter() {
+        readWrite.executeWithoutResult(status -> database());
+        nanoTime.addAndGet(WINDOW.toNanos() - 1);
+
+        Assertions.assertEquals("WRITER", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOtherCallersWrite_UsesReader() {
+        readWrite.executeWithoutResult(status -> database());
+        caller = "user-b";
+
+        Assertions.assertEquals("READER", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterWindowElapsed_UsesReader() {
+        readWrite.executeWithoutResult(status -> database());
+        nanoTime.addAndGet(WINDOW.toNanos());
+
+        Assertions.assertEquals("READER", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterRolledBackWrite_UsesReader() {
+        readWrite.executeWithoutResult(status -> {
+            database();
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals("READER", readOnly.execute(status -> database()));
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    private static JdbcDataSource h2(String name) {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,78 @@
+package com.visma.kalmar.api.httpclient;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ClientHttpConnectorFactoryTest {
+
+    private static final ConnectHttpClientProperties PROPERTIES =
+            new ConnectHttpClientProperties(
+                    4,
+                    null,
+                    Duration.ofSeconds(5),
+                    Duration.ofSeconds(30),
+                    Duration.ofMinutes(5),
+                    Duration.ofSeconds(30),
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(5),
+                    true,
+                    false);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockWebServer mockWebServer;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Metrics.addRegistry(meterRegistry);
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        connectionProvider =
+                ClientHttpConnectorFactory.createConnectionProvider("connector-factory-test", PROPERTIES, 8);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        mockWebServer.shutdown();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void createConnectionProvider_usesConfiguredPoolSize() {
+        assertEquals(4, connectionProvider.maxConnections());
+    }
+
+    @Test
+    void createClientHttpConnector_plainHttpWithHttp2Enabled_fallsBackToHttp11AndPublishesPoolMetrics() {
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+        var webClient =
+                WebClient.builder()
+                        .clientConnector(
+                                ClientHttpConnectorFactory.createClientHttpConnector(connectionProvider, PROPERTIES))
+                        .baseUrl(mockWebServer.url("/").toString())
+                        .build();
+
+        var body = webClient.get().uri("/ping").retrieve().bodyToMono(String.class).block();
+
+        assertEquals("ok", body);
+        assertNotNull(
+                meterRegistry
+                        .find("reactor.netty.connection.provider.total.connections")
+                        .tag("name", "connector-factory-test")
+                        .gauge());
+    }
+}
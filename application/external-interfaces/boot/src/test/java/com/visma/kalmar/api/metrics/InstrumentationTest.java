@@ -0,0 +1,115 @@
+package com.visma.kalmar.api.metrics;
+
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class InstrumentationTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCounter statementCounter;
+    private Instrumentation instrumentation;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementCounter = new StatementCounter();
+        instrumentation = new Instrumentation(meterRegistry, statementCounter);
+    }
+
+    @Test
+    void useCase_Success_RecordsTimerAndStatements() {
+        var greeter = instrumentation.useCase(Greeter.class, new QueryingGreeter(statementCounter));
+
+        Assertions.assertEquals("Hello, Jane", greeter.greet("Jane"));
+
+        var timer = meterRegistry.get("usecase.calls")
+                .tag("class", "QueryingGreeter")
+                .tag("method", "greet")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        Assertions.assertEquals(1, timer.count());
+        var statements = meterRegistry.get("usecase.db.statements").tag("method", "greet").summary();
+        Assertions.assertEquals(1, statements.count());
+        Assertions.assertEquals(2, statements.totalAmount());
+    }
+
+    @Test
+    void useCase_Throws_RethrowsAndCountsByExceptionType() {
+        var greeter = instrumentation.useCase(Greeter.class, new QueryingGreeter(statementCounter));
+
+        var thrown = Assertions.assertThrows(ResourceNotFoundException.class, () -> greeter.greet(""));
+
+        Assertions.assertEquals("Name", thrown.getResourceType());
+        Assertions.assertEquals(1, meterRegistry.get("usecase.errors")
+                .tag("exception", "ResourceNotFoundException")
+                .counter()
+                .count());
+        Assertions.assertEquals(1, meterRegistry.get("usecase.calls")
+                .tag("outcome", "error")
+                .tag("exception", "ResourceNotFoundException")
+                .timer()
+                .count());
+        Assertions.assertEquals(1, meterRegistry.get("usecase.db.statements").summary().totalAmount());
+    }
+
+    @Test
+    void gateway_FailedFuture_IsRecordedWhenItCompletes() {
+        var greeter = instrumentation.gateway(Greeter.class, new QueryingGreeter(statementCounter));
+        var pending = new CompletableFuture<String>();
+
+        var returned = greeter.greetLater(pending);
+        Assertions.assertTrue(meterRegistry.find("gateway.errors").counters().isEmpty());
+        pending.completeExceptionally(new IllegalStateException("Connect is down"));
+
+        Assertions.assertSame(pending, returned);
+        Assertions.assertEquals(1, meterRegistry.get("gateway.errors")
+                .tag("method", "greetLater")
+                .tag("exception", "IllegalStateException")
+                .counter()
+                .count());
+        Assertions.assertNull(meterRegistry.find("gateway.db.statements").summary());
+    }
+
+    @Test
+    void toString_IsNotMetered() {
+        var greeter = instrumentation.gateway(Greeter.class, new QueryingGreeter(statementCounter));
+
+        Assertions.assertEquals("QueryingGreeter", greeter.toString());
+        Assertions.assertTrue(meterRegistry.find("gateway.calls").tag("method", "toString").timers().isEmpty());
+    }
+
+    interface Greeter {
+        String greet(String name);
+
+        CompletableFuture<String> greetLater(CompletableFuture<String> greeting);
+    }
+
+    private record QueryingGreeter(StatementCounter statementCounter) implements Greeter {
+
+        @Override
+        public String greet(String name) {
+            statementCounter.inspect("select name from greeting");
+            if (name.isEmpty()) {
+                throw new ResourceNotFoundException("Name", name);
+            }
+            statementCounter.inspect("select text from greeting");
+            return "Hello, " + name;
+        }
+
+        @Override
+        public CompletableFuture<String> greetLater(CompletableFuture<String> greeting) {
+            return greeting;
+        }
+
+        @Override
+        public String toString() {
+            return "QueryingGreeter";
+        }
+    }
+}
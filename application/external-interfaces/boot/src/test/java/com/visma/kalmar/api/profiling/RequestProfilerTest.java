@@ -0,0 +1,61 @@
+package com.visma.kalmar.api.profiling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class RequestProfilerTest {
+
+    @Test
+    void completed_BelowThreshold_IsNotKept() {
+        var requestProfiler = new RequestProfiler(1.0, Duration.ofHours(1), 2);
+
+        requestProfiler.completed(finished("/api/v1/users"));
+
+        Assertions.assertTrue(requestProfiler.slowRequests().isEmpty());
+    }
+
+    @Test
+    void completed_MoreThanCapacity_KeepsTheNewest() {
+        var requestProfiler = new RequestProfiler(1.0, Duration.ZERO, 2);
+
+        requestProfiler.completed(finished("/first"));
+        requestProfiler.completed(finished("/second"));
+        requestProfiler.completed(finished("/third"));
+
+        var paths = requestProfiler.slowRequests().stream().map(SlowRequest::path).toList();
+        Assertions.assertEquals(2, paths.size());
+        Assertions.assertFalse(paths.contains("/first"));
+    }
+
+    @Test
+    void sample_RateZero_SamplesNothing() {
+        var requestProfiler = new RequestProfiler(0.0, Duration.ZERO, 2);
+
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertFalse(requestProfiler.sample());
+        }
+    }
+
+    @Test
+    void serverTiming_SumsSpansByName() {
+        var profile = new RequestProfile("PUT", "/api/v1/users/1");
+        profile.record(RequestProfile.DB, "select 1", 0, 2_000_000);
+        profile.record(RequestProfile.DB, "select 2", 0, 1_500_000);
+        profile.record(RequestProfile.CONNECT, "PUT /users/1", 0, 40_000_000);
+        profile.finish(200);
+
+        var serverTiming = profile.serverTiming();
+
+        Assertions.assertTrue(
+                serverTiming.startsWith("db;dur=3.500;desc=\"2 calls\", connect;dur=40.000;desc=\"1 call\", total;dur="),
+                serverTiming);
+    }
+
+    private static RequestProfile finished(String path) {
+        var profile = new RequestProfile("GET", path);
+        profile.finish(200);
+        return profile;
+    }
+}
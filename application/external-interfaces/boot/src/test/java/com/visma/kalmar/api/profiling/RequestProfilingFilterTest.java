@@ -0,0 +1,87 @@
+package com.visma.kalmar.api.profiling;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.Duration;
+
+class RequestProfilingFilterTest {
+
+    @Test
+    void doFilter_Sampled_AddsServerTimingAndKeepsTheTimeline() throws Exception {
+        var requestProfiler = new RequestProfiler(1.0, Duration.ZERO, 10);
+        var filter = new RequestProfilingFilter(requestProfiler);
+        var dataSource = new ProfilingDataSource(h2());
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/v1/roles"),
+                response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest request, HttpServletResponse response)
+                            throws IOException {
+                        try (var connection = dataSource.getConnection();
+                                var statement = connection.prepareStatement("select 1")) {
+                            statement.executeQuery().close();
+                        } catch (SQLException e) {
+                            throw new IOException(e);
+                        }
+                        response.getWriter().write("[]");
+                    }
+                }));
+
+        Assertions.assertEquals("[]", response.getContentAsString());
+        var serverTiming = response.getHeader(RequestProfilingFilter.SERVER_TIMING);
+        Assertions.assertNotNull(serverTiming);
+        Assertions.assertTrue(serverTiming.startsWith("db-connection;dur="), serverTiming);
+        Assertions.assertTrue(serverTiming.contains("db;dur="), serverTiming);
+
+        var slowRequest = requestProfiler.slowRequests().get(0);
+        Assertions.assertEquals("/api/v1/roles", slowRequest.path());
+        Assertions.assertEquals(200, slowRequest.status());
+        Assertions.assertEquals(
+                "select 1",
+                slowRequest.timeline().stream()
+                        .filter(entry -> entry.name().equals(RequestProfile.DB))
+                        .findFirst()
+                        .orElseThrow()
+                        .detail());
+        Assertions.assertNull(RequestProfile.current());
+    }
+
+    @Test
+    void doFilter_NotSampled_PassesThrough() throws Exception {
+        var requestProfiler = new RequestProfiler(0.0, Duration.ZERO, 10);
+        var response = new MockHttpServletResponse();
+
+        new RequestProfilingFilter(requestProfiler)
+                .doFilter(new MockHttpServletRequest("GET", "/api/v1/roles"), response, new MockFilterChain());
+
+        Assertions.assertNull(response.getHeader(RequestProfilingFilter.SERVER_TIMING));
+        Assertions.assertTrue(requestProfiler.slowRequests().isEmpty());
+    }
+
+    @Test
+    void getConnection_OutsideAProfiledRequest_IsNotWrapped() throws SQLException {
+        try (var connection = new ProfilingDataSource(h2()).getConnection()) {
+            Assertions.assertFalse(Proxy.isProxyClass(connection.getClass()));
+        }
+    }
+
+    private static JdbcDataSource h2() {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:profiling");
+        return dataSource;
+    }
+}
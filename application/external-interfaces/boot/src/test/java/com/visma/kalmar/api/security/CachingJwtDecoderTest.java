@@ -0,0 +1,124 @@
+package com.visma.kalmar.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtDecoderTest {
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 2, meterRegistry, clock);
+    }
+
+    @Test
+    void decode_SameTokenTwice_DelegatesOnce() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(TOKEN, NOW.plusSeconds(3600)));
+
+        var first = cachingJwtDecoder.decode(TOKEN);
+        var second = cachingJwtDecoder.decode(TOKEN);
+
+        Assertions.assertSame(first, second);
+        verify(delegate, times(1)).decode(TOKEN);
+        Assertions.assertEquals(1, meterRegistry.get("jwt.decode").tag("result", "hit").timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("jwt.decode").tag("result", "miss").timer().count());
+    }
+
+    @Test
+    void decode_CachedTokenExpired_DelegatesAgain() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(TOKEN, NOW.plusSeconds(60)));
+        cachingJwtDecoder.decode(TOKEN);
+        clock.advance(Duration.ofSeconds(60));
+
+        cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void decode_RejectedToken_NotCached() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Invalid signature"));
+
+        Assertions.assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode(TOKEN));
+        Assertions.assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode(TOKEN));
+
+        verify(delegate, times(2)).decode(TOKEN);
+        Assertions.assertEquals(0, cachingJwtDecoder.size());
+    }
+
+    @Test
+    void decode_MoreTokensThanMaximumSize_StaysWithinMaximumSize() {
+        when(delegate.decode(anyString()))
+                .thenAnswer(invocation -> jwt(invocation.getArgument(0), NOW.plusSeconds(3600)));
+
+        cachingJwtDecoder.decode("first");
+        cachingJwtDecoder.decode("second");
+        cachingJwtDecoder.decode("third");
+
+        Assertions.assertEquals(2, cachingJwtDecoder.size());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .claim("sub", "3512f78d-0630-4ea4-a6ed-596dd68e2b0d")
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
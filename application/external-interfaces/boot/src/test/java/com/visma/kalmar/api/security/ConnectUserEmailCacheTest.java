@@ -0,0 +1,129 @@
+package com.visma.kalmar.api.security;
+
+import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.ConnectUserException;
+import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectUserEmailCacheTest {
+    private static final String FIRST_USER_ID = "3512f78d-0630-4ea4-a6ed-596dd68e2b0d";
+    private static final String SECOND_USER_ID = "6a1c4b1e-5b0b-4c1e-9c59-0f8d1f0a9e21";
+    private static final String THIRD_USER_ID = "d7a0a0b3-2b35-4f43-8a3f-4b6f1d9c7e55";
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    @Mock
+    private VismaConnectUserGateway vismaConnectUserGateway;
+    private final AtomicLong nanoTime = new AtomicLong();
+    private ConnectUserEmailCache connectUserEmailCache;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.initMocks(this);
+        connectUserEmailCache = new ConnectUserEmailCache(vismaConnectUserGateway, TIME_TO_LIVE, 2, nanoTime::get);
+        for (var userId : new String[] {FIRST_USER_ID, SECOND_USER_ID, THIRD_USER_ID}) {
+            when(vismaConnectUserGateway.findUserById(userId)).thenReturn(user(userId));
+        }
+    }
+
+    @Test
+    void getEmail_RepeatedWithinTimeToLive_CallsConnectOnce() {
+        assertEquals(email(FIRST_USER_ID), connectUserEmailCache.getEmail(FIRST_USER_ID));
+        assertEquals(email(FIRST_USER_ID), connectUserEmailCache.getEmail(FIRST_USER_ID));
+
+        verify(vismaConnectUserGateway, times(1)).findUserById(FIRST_USER_ID);
+        assertEquals(1, connectUserEmailCache.hitCount());
+        assertEquals(1, connectUserEmailCache.missCount());
+    }
+
+    @Test
+    void getEmail_AfterTimeToLive_ReloadsFromConnect() {
+        connectUserEmailCache.getEmail(FIRST_USER_ID);
+        nanoTime.addAndGet(TIME_TO_LIVE.toNanos());
+
+        connectUserEmailCache.getEmail(FIRST_USER_ID);
+
+        verify(vismaConnectUserGateway, times(2)).findUserById(FIRST_USER_ID);
+    }
+
+    @Test
+    void getEmail_ConnectFails_FailureNotCached() {
+        when(vismaConnectUserGateway.findUserById(FIRST_USER_ID))
+                .thenThrow(new ConnectUserException("ERROR_INTERNAL", 500, "CREATE_USER"))
+                .thenReturn(user(FIRST_USER_ID));
+
+        assertThrows(ConnectUserException.class, () -> connectUserEmailCache.getEmail(FIRST_USER_ID));
+
+        assertEquals(email(FIRST_USER_ID), connectUserEmailCache.getEmail(FIRST_USER_ID));
+    }
+
+    @Test
+    void getEmail_OverMaximumSize_EvictsLeastRecentlyUsedEntry() {
+        connectUserEmailCache.getEmail(FIRST_USER_ID);
+        connectUserEmailCache.getEmail(SECOND_USER_ID);
+        connectUserEmailCache.getEmail(THIRD_USER_ID);
+
+        assertEquals(2, connectUserEmailCache.size());
+        assertEquals(1, connectUserEmailCache.evictionCount());
+        connectUserEmailCache.getEmail(SECOND_USER_ID);
+        connectUserEmailCache.getEmail(FIRST_USER_ID);
+        verify(vismaConnectUserGateway, times(1)).findUserById(SECOND_USER_ID);
+        verify(vismaConnectUserGateway, times(2)).findUserById(FIRST_USER_ID);
+    }
+
+    @Test
+    void getEmail_ConcurrentCallersForSameUser_ShareOneConnectCall() throws Exception {
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        when(vismaConnectUserGateway.findUserById(FIRST_USER_ID)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return user(FIRST_USER_ID);
+        });
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            Future<String> loader = executor.submit(() -> connectUserEmailCache.getEmail(FIRST_USER_ID));
+            loadStarted.await(5, TimeUnit.SECONDS);
+            var waiters = new ArrayList<Future<String>>();
+            for (int i = 0; i < 3; i++) {
+                waiters.add(executor.submit(() -> connectUserEmailCache.getEmail(FIRST_USER_ID)));
+            }
+            while (connectUserEmailCache.hitCount() < 3) {
+                Thread.onSpinWait();
+            }
+            releaseLoad.countDown();
+
+            assertEquals(email(FIRST_USER_ID), loader.get(5, TimeUnit.SECONDS));
+            for (var waiter : waiters) {
+                assertEquals(email(FIRST_USER_ID), waiter.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        verify(vismaConnectUserGateway, times(1)).findUserById(FIRST_USER_ID);
+    }
+
+    private static User user(String connectUserId) {
+        return new User(UUID.fromString(connectUserId), null, email(connectUserId), "First", "Last", null, null);
+    }
+
+    private static String email(String connectUserId) {
+        return connectUserId + "@test.com";
+    }
+}
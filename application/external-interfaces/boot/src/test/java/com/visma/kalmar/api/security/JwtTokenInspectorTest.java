@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,7 +35,9 @@ class JwtTokenInspectorTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.initMocks(this);
-        jwtTokenInspector = new JwtTokenInspector(vismaConnectUserGateway);
+        jwtTokenInspector =
+                new JwtTokenInspector(
+                        new ConnectUserEmailCache(vismaConnectUserGateway, Duration.ofMinutes(5), 100));
 
         tokenAttributes = new HashMap<>(); //trufflehog:ignore
         tokenAttributes.put("sub", CONNECT_USER_ID);
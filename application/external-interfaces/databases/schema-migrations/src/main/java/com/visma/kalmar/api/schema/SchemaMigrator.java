@@ -0,0 +1,126 @@
+package com.visma.kalmar.api.schema;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Brings the Feature database up to date with the scripts under {@code db/migration/<vendor>}.
+ *
+ * <p>Scripts are named {@code V<version>__<description>.sql} and run once each, in version order.
+ * Every applied version is recorded in {@code SchemaVersion}; a database that was set up by hand
+ * can be marked as already at a version with the baseline version, which is recorded instead of
+ * running the scripts up to it on a database that has no history yet. On MySQL the run holds a
+ * named lock so that instances starting together do not apply the same script twice.
+ */
+public class SchemaMigrator {
+
+    static final String HISTORY_TABLE = "SchemaVersion";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final DataSource dataSource;
+    private final int baselineVersion;
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+    public SchemaMigrator(DataSource dataSource, int baselineVersion) {
+        this.dataSource = dataSource;
+        this.baselineVersion = baselineVersion;
+    }
+
+    /**
+     * Applies the pending scripts and returns their versions.
+     */
+    public List<Integer> migrate() {
+        try (var connection = dataSource.getConnection()) {
+            var vendor = Vendor.of(connection.getMetaData().getDatabaseProductName());
+            vendor.lock(connection);
+            try {
+                return migrate(connection, vendor);
+            } finally {
+                vendor.unlock(connection);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Schema migration failed", e);
+        }
+    }
+
+    private List<Integer> migrate(Connection connection, Vendor vendor) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                    + "Version INT NOT NULL PRIMARY KEY, "
+                    + "Description VARCHAR(200) NOT NULL, "
+                    + "InstalledOn TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        }
+
+        var currentVersion = currentVersion(connection);
+        if (currentVersion == 0 && baselineVersion > 0) {
+            record(connection, baselineVersion, "baseline");
+            currentVersion = baselineVersion;
+        }
+
+        var applied = new ArrayList<Integer>();
+        for (var script : scripts(vendor)) {
+            if (script.version() > currentVersion) {
+                ScriptUtils.executeSqlScript(connection, script.resource());
+                record(connection, script.version(), script.description());
+                applied.add(script.version());
+            }
+        }
+        return applied;
+    }
+
+    private int currentVersion(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT MAX(Version) FROM " + HISTORY_TABLE)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private void record(Connection connection, int version, String description) throws SQLException {
+        try (var statement = connection.prepareStatement(
+                "INSERT INTO " + HISTORY_TABLE + " (Version, Description) VALUES (?, ?)")) {
+            statement.setInt(1, version);
+            statement.setString(2, description);
+            statement.executeUpdate();
+        }
+    }
+
+    private List<Script> scripts(Vendor vendor) {
+        try {
+            var resources = resourcePatternResolver.getResources(
+                    "classpath*:db/migration/" + vendor.directory() + "/V*__*.sql");
+            return Arrays.stream(resources)
+                    .map(SchemaMigrator::toScript)
+                    .sorted(Comparator.comparingInt(Script::version))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Script toScript(Resource resource) {
+        var matcher = SCRIPT_NAME.matcher(resource.getFilename());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Migration script name is not V<version>__<description>.sql: "
+                    + resource.getFilename());
+        }
+        return new Script(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '), resource);
+    }
+
+    private record Script(int version, String description, Resource resource) {
+    }
+}
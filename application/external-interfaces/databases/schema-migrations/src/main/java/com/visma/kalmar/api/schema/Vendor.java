@@ -0,0 +1,63 @@
+package com.visma.kalmar.api.schema;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Database products the migration scripts are written for, each with its own script directory.
+ */
+enum Vendor {
+
+    MYSQL("mysql") {
+        @Override
+        void lock(Connection connection) throws SQLException {
+            try (var statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+                statement.setString(1, SchemaMigrator.HISTORY_TABLE);
+                statement.setInt(2, LOCK_TIMEOUT_SECONDS);
+                try (var resultSet = statement.executeQuery()) {
+                    if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                        throw new SQLException("Another instance has been migrating the schema for more than "
+                                + LOCK_TIMEOUT_SECONDS + " seconds");
+                    }
+                }
+            }
+        }
+
+        @Override
+        void unlock(Connection connection) throws SQLException {
+            try (var statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                statement.setString(1, SchemaMigrator.HISTORY_TABLE);
+                statement.executeQuery().close();
+            }
+        }
+    },
+
+    // Embedded: only this process can reach the database.
+    H2("h2");
+
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    private final String directory;
+
+    Vendor(String directory) {
+        this.directory = directory;
+    }
+
+    static Vendor of(String databaseProductName) {
+        return switch (databaseProductName) {
+            case "MySQL" -> MYSQL;
+            case "H2" -> H2;
+            default -> throw new IllegalStateException("No migration scripts for " + databaseProductName);
+        };
+    }
+
+    String directory() {
+        return directory;
+    }
+
+    void lock(Connection connection) throws SQLException {
+    }
+
+    void unlock(Connection connection) throws SQLException {
+    }
+}
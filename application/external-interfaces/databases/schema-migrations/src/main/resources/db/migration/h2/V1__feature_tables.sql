@@ -0,0 +1,87 @@
+-- Tables of the Feature database as the API maps them, with the unique keys it relies on.
+-- Mirrors mysql/V1__feature_tables.sql in the SQL H2 understands, with the same CHAR(36) ids.
+
+CREATE TABLE Language (
+    IdLanguage CHAR(36) NOT NULL PRIMARY KEY,
+    Name VARCHAR(255) NOT NULL,
+    Code CHAR(2) NOT NULL
+);
+
+CREATE TABLE Country (
+    IdCountry CHAR(36) NOT NULL PRIMARY KEY,
+    Name VARCHAR(255) NOT NULL,
+    Code CHAR(2) NOT NULL
+);
+CREATE UNIQUE INDEX UX_Country_Code ON Country (Code);
+
+CREATE TABLE ContextType (
+    IdContextType CHAR(36) NOT NULL PRIMARY KEY,
+    Name VARCHAR(255) NOT NULL
+);
+CREATE UNIQUE INDEX UX_ContextType_Name ON ContextType (Name);
+
+CREATE TABLE Context (
+    IdContext CHAR(36) NOT NULL PRIMARY KEY,
+    IdContextType CHAR(36) NULL,
+    IdContextParent CHAR(36) NULL,
+    IdCountry CHAR(36) NOT NULL,
+    Name VARCHAR(255) NOT NULL,
+    OrganizationNumber VARCHAR(255) NOT NULL,
+    CONSTRAINT FK_Context_IdContextType FOREIGN KEY (IdContextType) REFERENCES ContextType (IdContextType),
+    CONSTRAINT FK_Context_IdContextParent FOREIGN KEY (IdContextParent) REFERENCES Context (IdContext),
+    CONSTRAINT FK_Context_IdCountry FOREIGN KEY (IdCountry) REFERENCES Country (IdCountry)
+);
+CREATE INDEX Context_IdContextParent_IdContext ON Context (IdContextParent, IdContext);
+CREATE UNIQUE INDEX UX_Context_IdContextParent_Name_IdContextType ON Context (IdContextParent, Name, IdContextType);
+CREATE UNIQUE INDEX UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType
+    ON Context (IdContextParent, OrganizationNumber, IdCountry, IdContextType);
+CREATE INDEX IX_Context_IdContextType ON Context (IdContextType);
+CREATE INDEX IX_Context_IdCountry ON Context (IdCountry);
+
+CREATE TABLE Customer (
+    IdCustomer CHAR(36) NOT NULL PRIMARY KEY,
+    CONSTRAINT FK_Customer_IdCustomer FOREIGN KEY (IdCustomer) REFERENCES Context (IdContext)
+);
+
+CREATE TABLE Company (
+    IdCompany CHAR(36) NOT NULL PRIMARY KEY,
+    CONSTRAINT FK_Company_IdCompany FOREIGN KEY (IdCompany) REFERENCES Context (IdContext)
+);
+
+CREATE TABLE Role (
+    IdRole CHAR(36) NOT NULL PRIMARY KEY,
+    Name VARCHAR(255) NOT NULL,
+    InvariantKey VARCHAR(50) NOT NULL,
+    Description TEXT NULL,
+    RecordVersion BIGINT NOT NULL,
+    WhenEdited TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE UNIQUE INDEX UX_Role_Name ON Role (Name);
+CREATE UNIQUE INDEX UX_Role_InvariantKey ON Role (InvariantKey);
+
+CREATE TABLE User (
+    IdUser CHAR(36) NOT NULL PRIMARY KEY,
+    IdLanguage CHAR(36) NOT NULL,
+    Email VARCHAR(255) NOT NULL,
+    EmailNormalized VARCHAR(255) NOT NULL,
+    FirstName VARCHAR(50) NOT NULL,
+    LastName VARCHAR(50) NOT NULL,
+    RecordVersion BIGINT NOT NULL,
+    WhenEdited TIMESTAMP NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_User_IdLanguage FOREIGN KEY (IdLanguage) REFERENCES Language (IdLanguage)
+);
+CREATE UNIQUE INDEX UX_User_EmailNormalized ON User (EmailNormalized);
+CREATE INDEX IX_User_IdLanguage ON User (IdLanguage);
+
+CREATE TABLE UserRoleAssignment (
+    IdUserRoleAssignment CHAR(36) NOT NULL PRIMARY KEY,
+    IdUser CHAR(36) NOT NULL,
+    IdContext CHAR(36) NOT NULL,
+    IdRole CHAR(36) NOT NULL,
+    CONSTRAINT FK_UserRoleAssignment_IdUser FOREIGN KEY (IdUser) REFERENCES User (IdUser),
+    CONSTRAINT FK_UserRoleAssignment_IdContext FOREIGN KEY (IdContext) REFERENCES Context (IdContext),
+    CONSTRAINT FK_UserRoleAssignment_IdRole FOREIGN KEY (IdRole) REFERENCES Role (IdRole)
+);
+CREATE UNIQUE INDEX UX_UserRoleAssignment_IdUser_IdContext_IdRole ON UserRoleAssignment (IdUser, IdContext, IdRole);
+CREATE INDEX IX_UserRoleAssignment_IdContext ON UserRoleAssignment (IdContext);
+CREATE INDEX IX_UserRoleAssignment_IdRole ON UserRoleAssignment (IdRole);
@@ -0,0 +1,98 @@
+-- Tables of the Feature database as the API maps them, with the unique keys it relies on.
+-- Ids are CHAR(36), so this mirrors a hand-migrated database only if it kept CHAR ids; the
+-- "Binary UUID storage" script in the data-model instructions is not part of it, and the API
+-- refuses to run the migrations with BINARY ids.
+
+CREATE TABLE Language (
+    IdLanguage CHAR(36) NOT NULL,
+    Name VARCHAR(255) NOT NULL,
+    Code CHAR(2) NOT NULL,
+    PRIMARY KEY (IdLanguage)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE Country (
+    IdCountry CHAR(36) NOT NULL,
+    Name VARCHAR(255) NOT NULL,
+    Code CHAR(2) NOT NULL,
+    PRIMARY KEY (IdCountry),
+    UNIQUE KEY UX_Country_Code (Code)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE ContextType (
+    IdContextType CHAR(36) NOT NULL,
+    Name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (IdContextType),
+    UNIQUE KEY UX_ContextType_Name (Name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE Context (
+    IdContext CHAR(36) NOT NULL,
+    IdContextType CHAR(36) NULL,
+    IdContextParent CHAR(36) NULL,
+    IdCountry CHAR(36) NOT NULL,
+    Name VARCHAR(255) NOT NULL,
+    OrganizationNumber VARCHAR(255) NOT NULL,
+    PRIMARY KEY (IdContext),
+    KEY Context_IdContextParent_IdContext (IdContextParent, IdContext),
+    UNIQUE KEY UX_Context_IdContextParent_Name_IdContextType (IdContextParent, Name, IdContextType),
+    UNIQUE KEY UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType
+        (IdContextParent, OrganizationNumber, IdCountry, IdContextType),
+    KEY IX_Context_IdContextType (IdContextType),
+    KEY IX_Context_IdCountry (IdCountry),
+    CONSTRAINT FK_Context_IdContextType FOREIGN KEY (IdContextType) REFERENCES ContextType (IdContextType),
+    CONSTRAINT FK_Context_IdContextParent FOREIGN KEY (IdContextParent) REFERENCES Context (IdContext),
+    CONSTRAINT FK_Context_IdCountry FOREIGN KEY (IdCountry) REFERENCES Country (IdCountry)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE Customer (
+    IdCustomer CHAR(36) NOT NULL,
+    PRIMARY KEY (IdCustomer),
+    CONSTRAINT FK_Customer_IdCustomer FOREIGN KEY (IdCustomer) REFERENCES Context (IdContext)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE Company (
+    IdCompany CHAR(36) NOT NULL,
+    PRIMARY KEY (IdCompany),
+    CONSTRAINT FK_Company_IdCompany FOREIGN KEY (IdCompany) REFERENCES Context (IdContext)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE Role (
+    IdRole CHAR(36) NOT NULL,
+    Name VARCHAR(255) NOT NULL,
+    InvariantKey VARCHAR(50) NOT NULL,
+    Description TEXT NULL,
+    RecordVersion BIGINT NOT NULL,
+    WhenEdited TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (IdRole),
+    UNIQUE KEY UX_Role_Name (Name),
+    UNIQUE KEY UX_Role_InvariantKey (InvariantKey)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE User (
+    IdUser CHAR(36) NOT NULL,
+    IdLanguage CHAR(36) NOT NULL,
+    Email VARCHAR(255) NOT NULL,
+    EmailNormalized VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    FirstName VARCHAR(50) NOT NULL,
+    LastName VARCHAR(50) NOT NULL,
+    RecordVersion BIGINT NOT NULL,
+    WhenEdited TIMESTAMP NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (IdUser),
+    UNIQUE KEY UX_User_EmailNormalized (EmailNormalized),
+    KEY IX_User_IdLanguage (IdLanguage),
+    CONSTRAINT FK_User_IdLanguage FOREIGN KEY (IdLanguage) REFERENCES Language (IdLanguage)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+CREATE TABLE UserRoleAssignment (
+    IdUserRoleAssignment CHAR(36) NOT NULL,
+    IdUser CHAR(36) NOT NULL,
+    IdContext CHAR(36) NOT NULL,
+    IdRole CHAR(36) NOT NULL,
+    PRIMARY KEY (IdUserRoleAssignment),
+    UNIQUE KEY UX_UserRoleAssignment_IdUser_IdContext_IdRole (IdUser, IdContext, IdRole),
+    KEY IX_UserRoleAssignment_IdContext (IdContext),
+    KEY IX_UserRoleAssignment_IdRole (IdRole),
+    CONSTRAINT FK_UserRoleAssignment_IdUser FOREIGN KEY (IdUser) REFERENCES User (IdUser),
+    CONSTRAINT FK_UserRoleAssignment_IdContext FOREIGN KEY (IdContext) REFERENCES Context (IdContext),
+    CONSTRAINT FK_UserRoleAssignment_IdRole FOREIGN KEY (IdRole) REFERENCES Role (IdRole)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,4 @@
+-- Indexes for the repository lookups that V1 does not already cover.
+
+-- LanguageRepository.findByCode and existsByCode.
+CREATE INDEX IX_Language_Code ON Language (Code);
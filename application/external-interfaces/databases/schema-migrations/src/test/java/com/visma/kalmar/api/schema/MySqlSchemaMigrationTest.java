@@ -0,0 +1,32 @@
+package com.visma.kalmar.api.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the MySQL scripts against the MySQL version behind Aurora. Skipped where Docker is not
+ * available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlSchemaMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.39");
+
+    @Test
+    void migrate_emptyDatabase_appliesEveryScriptOnce() {
+        var dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+
+        assertEquals(List.of(1, 2), new SchemaMigrator(dataSource, 0).migrate());
+        assertEquals(List.of(), new SchemaMigrator(dataSource, 0).migrate());
+        assertEquals(0, new JdbcTemplate(dataSource).queryForObject("select count(*) from User", Integer.class));
+    }
+}
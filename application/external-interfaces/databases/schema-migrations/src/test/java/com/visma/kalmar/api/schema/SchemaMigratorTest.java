@@ -0,0 +1,60 @@
+package com.visma.kalmar.api.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void migrate_emptyDatabase_appliesEveryScriptInOrder() {
+        var applied = new SchemaMigrator(dataSource, 0).migrate();
+
+        assertEquals(List.of(1, 2), applied);
+        assertEquals(List.of("feature tables", "covering indexes"),
+                jdbcTemplate.queryForList("select Description from SchemaVersion order by Version", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from User", Integer.class));
+    }
+
+    @Test
+    void migrate_upToDate_appliesNothing() {
+        new SchemaMigrator(dataSource, 0).migrate();
+
+        assertEquals(List.of(), new SchemaMigrator(dataSource, 0).migrate());
+    }
+
+    @Test
+    void migrate_withBaseline_skipsScriptsUpToIt() {
+        jdbcTemplate.execute("create table Language (IdLanguage char(36) primary key, Name varchar(255), Code char(2))");
+
+        var applied = new SchemaMigrator(dataSource, 1).migrate();
+
+        assertEquals(List.of(2), applied);
+        assertEquals(List.of("baseline", "covering indexes"),
+                jdbcTemplate.queryForList("select Description from SchemaVersion order by Version", String.class));
+    }
+
+    @Test
+    void migrate_baselineIgnoredOnceThereIsHistory() {
+        new SchemaMigrator(dataSource, 0).migrate();
+
+        assertEquals(List.of(), new SchemaMigrator(dataSource, 1).migrate());
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from SchemaVersion", Integer.class));
+    }
+}
@@ -7,29 +7,65 @@ import com.visma.kalmar.api.connect.dto.UpdateUserRequest;
 import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.exception.ConnectUserException;
 import com.visma.kalmar.api.language.LanguageGateway;
+import com.visma.kalmar.api.vismaconnect.ConnectUserCreateRequest;
+import com.visma.kalmar.api.vismaconnect.ConnectUserCreateResult;
 import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public class VismaConnectUserGatewayAdapter implements VismaConnectUserGateway {
 
+    private static final int DEFAULT_BATCH_CONCURRENCY = 8;
+
     private final WebClient webClient;
     private final LanguageGateway languageGateway;
+    private final int batchConcurrency;
 
     @Autowired
     public VismaConnectUserGatewayAdapter(WebClient webClient, LanguageGateway languageGateway) {
+        this(webClient, languageGateway, DEFAULT_BATCH_CONCURRENCY);
+    }
+
+    public VismaConnectUserGatewayAdapter(
+            WebClient webClient, LanguageGateway languageGateway, int batchConcurrency) {
         this.webClient = webClient;
         this.languageGateway = languageGateway;
+        this.batchConcurrency = batchConcurrency;
     }
 
     @Override
     public UUID createUser(User user, String languageCode) {
+        return createUserMono(user, languageCode).block();
+    }
+
+    /**
+     * Sends the create calls concurrently, at most {@code batchConcurrency} at a time, over the shared
+     * WebClient. Results come back in request order.
+     */
+    @Override
+    public List<ConnectUserCreateResult> createUsers(List<ConnectUserCreateRequest> requests) {
+        return Flux.fromIterable(requests)
+                .flatMapSequential(
+                        request ->
+                                createUserMono(request.user(), request.languageCode())
+                                        .map(ConnectUserCreateResult::created)
+                                        .onErrorResume(
+                                                RuntimeException.class,
+                                                e -> Mono.just(ConnectUserCreateResult.failed(e))),
+                        batchConcurrency)
+                .collectList()
+                .block();
+    }
+
+    private Mono<UUID> createUserMono(User user, String languageCode) {
         String countryCode = getCountryCodeFromLanguage(languageCode);
         String preferredLanguage = convertLanguageCodeToLocale(languageCode);
 
@@ -37,41 +73,42 @@ public class VismaConnectUserGatewayAdapter implements VismaConnectUserGateway {
                 new CreateUserRequest(
                         user.email(), countryCode, preferredLanguage, user.firstName(), user.lastName());
 
-        ConnectUserResponse response =
-                webClient
-                        .post()
-                        .uri("/v1.0/users")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .accept(MediaType.APPLICATION_JSON)
-                        .bodyValue(request)
-                        .retrieve()
-                        .onStatus(
-                                status -> status.is4xxClientError() || status.is5xxServerError(),
-                                clientResponse ->
-                                        clientResponse
-                                                .bodyToMono(ConnectErrorResponse.class)
-                                                .flatMap(
-                                                        errorResponse ->
-                                                                Mono.error(
-                                                                        new ConnectUserException(
-                                                                                errorResponse.errorCode(),
-                                                                                clientResponse.statusCode().value(),
-                                                                                "CREATE_USER"))))
-                        .bodyToMono(ConnectUserResponse.class)
-                        .block();
-
-        return response.id();
+        return webClient
+                .post()
+                .uri("/v1.0/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse ->
+                                clientResponse
+                                        .bodyToMono(ConnectErrorResponse.class)
+                                        .flatMap(
+                                                errorResponse ->
+                                                        Mono.error(
+                                                                new ConnectUserException(
+                                                                        errorResponse.errorCode(),
+                                                                        clientResponse.statusCode().value(),
+                                                                        "CREATE_USER"))))
+                .bodyToMono(ConnectUserResponse.class)
+                .map(ConnectUserResponse::id);
     }
 
     @Override
     public void updateUser(User user, String languageCode) {
+        updateUserMono(user, languageCode).block();
+    }
+
+    private Mono<Void> updateUserMono(User user, String languageCode) {
         String countryCode = getCountryCodeFromLanguage(languageCode);
         String preferredLanguage = convertLanguageCodeToLocale(languageCode);
 
         var request =
                 new UpdateUserRequest(user.firstName(), user.lastName(), countryCode, preferredLanguage);
 
-        webClient
+        return webClient
                 .put()
                 .uri("/v1.0/users/{user_id}", user.idUser())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -90,7 +127,7 @@ public class VismaConnectUserGatewayAdapter implements VismaConnectUserGateway {
                                                                         clientResponse.statusCode().value(),
                                                                         "UPDATE_USER"))))
                 .toBodilessEntity()
-                .block();
+                .then();
     }
 
     @Override
@@ -8,6 +8,7 @@ import com.visma.kalmar.api.entities.language.Language;
 import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.exception.ConnectUserException;
 import com.visma.kalmar.api.language.LanguageGateway;
+import com.visma.kalmar.api.vismaconnect.ConnectUserCreateRequest;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterAll;
@@ -23,6 +24,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
@@ -107,6 +109,37 @@ class VismaConnectUserGatewayAdapterTest {
                 () -> vismaConnectUserGatewayAdapter.createUser(getTestUser(), LANGUAGE_CODE));
     }
 
+    @Test
+    void createUsers_OneFailingRequest_ResultPerRequestInOrder() throws JsonProcessingException {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .setResponseCode(HttpStatus.CREATED.value())
+                        .setBody(objectMapper.writeValueAsString(getConnectUserResponse())));
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .setResponseCode(HttpStatus.BAD_REQUEST.value())
+                        .setBody(ERROR_BODY));
+        var sequentialAdapter =
+                new VismaConnectUserGatewayAdapter(
+                        WebClient.create(String.format("http://localhost:%s", mockWebServer.getPort())),
+                        languageGateway,
+                        1);
+
+        var results =
+                sequentialAdapter.createUsers(
+                        List.of(
+                                new ConnectUserCreateRequest(getTestUser(), LANGUAGE_CODE),
+                                new ConnectUserCreateRequest(getTestUser(), LANGUAGE_CODE)));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).succeeded());
+        assertEquals(USER_ID, results.get(0).connectUserId());
+        assertFalse(results.get(1).succeeded());
+        assertTrue(results.get(1).error() instanceof ConnectUserException);
+    }
+
     @Test
     void updateUser_ValidInput_Success() {
         mockWebServer.enqueue(
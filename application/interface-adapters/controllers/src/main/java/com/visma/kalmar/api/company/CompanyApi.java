@@ -26,6 +26,21 @@ public interface CompanyApi {
     })
     ResponseEntity<CompanyResponse> createCompany(@RequestBody CompanyRequest request);
 
+    @GetMapping("/customer/{idCustomer}/company")
+    @Operation(summary = "List companies of a customer", description = "Lists the companies of a customer ordered by ID, one page at a time. Pass the 'nextAfter' value of a page as 'after' to fetch the next one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Companies retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CompanyPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    ResponseEntity<CompanyPageResponse> listCompanies(
+            @PathVariable String idCustomer,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit);
+
     @GetMapping("/customer/{idCustomer}/company/{idCompany}")
     @Operation(summary = "Get company by ID", description = "Retrieves company details by ID")
     @ApiResponses(value = {
@@ -1,9 +1,13 @@
 package com.visma.kalmar.api.company;
 
+import com.visma.kalmar.api.country.CountryGateway;
+import com.visma.kalmar.api.pagination.PageQuery;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 public class CompanyApiController implements CompanyApi {
@@ -12,19 +16,29 @@ public class CompanyApiController implements CompanyApi {
     private final GetCompanyInputPort getCompanyInputPort;
     private final DeleteCompanyInputPort deleteCompanyInputPort;
     private final UpdateCompanyInputPort updateCompanyInputPort;
-    private final CompanyPresenter companyPresenter;
+    private final Supplier<CompanyPresenter> companyPresenterFactory;
 
+    @Autowired
     public CompanyApiController(
             CreateCompanyInputPort createCompanyInputPort,
             GetCompanyInputPort getCompanyInputPort,
             DeleteCompanyInputPort deleteCompanyInputPort,
             UpdateCompanyInputPort updateCompanyInputPort,
-            CompanyPresenter companyPresenter) {
+            CountryGateway countryGateway) {
+        this(createCompanyInputPort, getCompanyInputPort, deleteCompanyInputPort, updateCompanyInputPort, () -> new CompanyPresenter(countryGateway));
+    }
+
+    CompanyApiController(
+            CreateCompanyInputPort createCompanyInputPort,
+            GetCompanyInputPort getCompanyInputPort,
+            DeleteCompanyInputPort deleteCompanyInputPort,
+            UpdateCompanyInputPort updateCompanyInputPort,
+            Supplier<CompanyPresenter> companyPresenterFactory) {
         this.createCompanyInputPort = createCompanyInputPort;
         this.getCompanyInputPort = getCompanyInputPort;
         this.deleteCompanyInputPort = deleteCompanyInputPort;
         this.updateCompanyInputPort = updateCompanyInputPort;
-        this.companyPresenter = companyPresenter;
+        this.companyPresenterFactory = companyPresenterFactory;
     }
 
     @Override
@@ -37,6 +51,7 @@ public class CompanyApiController implements CompanyApi {
                 request.name()
         );
 
+        var companyPresenter = companyPresenterFactory.get();
         createCompanyInputPort.createCompany(inputData, companyPresenter);
 
         return companyPresenter.getResponse();
@@ -47,11 +62,22 @@ public class CompanyApiController implements CompanyApi {
         UUID customerId = UUID.fromString(idCustomer);
         UUID companyId = UUID.fromString(idCompany);
         
+        var companyPresenter = companyPresenterFactory.get();
         getCompanyInputPort.getCompany(customerId, companyId, companyPresenter);
         
         return companyPresenter.getResponse();
     }
 
+    @Override
+    public ResponseEntity<CompanyPageResponse> listCompanies(String idCustomer, String after, Integer limit) {
+        UUID customerId = UUID.fromString(idCustomer);
+
+        var companyPresenter = companyPresenterFactory.get();
+        getCompanyInputPort.listCompanies(customerId, PageQuery.of(after, limit), companyPresenter);
+
+        return companyPresenter.getListResponse();
+    }
+
     @Override
     public ResponseEntity<Void> deleteCompany(String idCustomer, String idCompany) {
         UUID customerId = UUID.fromString(idCustomer);
@@ -74,6 +100,7 @@ public class CompanyApiController implements CompanyApi {
                 request.countryCode()
         );
         
+        var companyPresenter = companyPresenterFactory.get();
         updateCompanyInputPort.updateCompany(customerId, inputData, companyPresenter);
         
         return companyPresenter.getResponse();
@@ -3,15 +3,15 @@ package com.visma.kalmar.api.company;
 import com.visma.kalmar.api.country.CountryGateway;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.pagination.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
 
-@Component
-public class CompanyPresenter implements CompanyOutputPort, GetCompanyOutputPort {
+public class CompanyPresenter implements CompanyOutputPort, GetCompanyOutputPort, CompanyListOutputPort {
 
     private final CountryGateway countryGateway;
     private ResponseEntity<CompanyResponse> response;
+    private ResponseEntity<CompanyPageResponse> listResponse;
 
     public CompanyPresenter(CountryGateway countryGateway) {
         this.countryGateway = countryGateway;
@@ -19,18 +19,8 @@ public class CompanyPresenter implements CompanyOutputPort, GetCompanyOutputPort
 
     @Override
     public void present(Company company, Context context, boolean created) {
-        var country = countryGateway.findById(context.idCountry());
-        
-        var companyResponse = new CompanyResponse(
-                company.idContext(),
-                context.name(),
-                context.organizationNumber(),
-                country.code(),
-                context.idContextParent()
-        );
-
         HttpStatus status = created ? HttpStatus.CREATED : HttpStatus.OK;
-        this.response = ResponseEntity.status(status).body(companyResponse);
+        this.response = ResponseEntity.status(status).body(toResponse(context));
     }
 
     @Override
@@ -38,7 +28,29 @@ public class CompanyPresenter implements CompanyOutputPort, GetCompanyOutputPort
         present(company, context, false);
     }
 
+    @Override
+    public void present(Page<Context> page) {
+        var items = page.items().stream().map(this::toResponse).toList();
+        this.listResponse = ResponseEntity.ok(new CompanyPageResponse(items, page.nextAfter()));
+    }
+
     public ResponseEntity<CompanyResponse> getResponse() {
         return response;
     }
+
+    public ResponseEntity<CompanyPageResponse> getListResponse() {
+        return listResponse;
+    }
+
+    private CompanyResponse toResponse(Context context) {
+        var country = countryGateway.findById(context.idCountry());
+
+        return new CompanyResponse(
+                context.idContext(),
+                context.name(),
+                context.organizationNumber(),
+                country.code(),
+                context.idContextParent()
+        );
+    }
 }
@@ -25,6 +25,19 @@ public interface CustomerApi {
     })
     ResponseEntity<CustomerResponse> createCustomer(@RequestBody CustomerRequest request);
 
+    @GetMapping
+    @Operation(summary = "List customers", description = "Lists customers ordered by ID, one page at a time. Pass the 'nextAfter' value of a page as 'after' to fetch the next one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customers retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    ResponseEntity<CustomerPageResponse> listCustomers(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit);
+
     @GetMapping("/{idCustomer}")
     @Operation(summary = "Get a customer by ID", description = "Retrieves a customer by their unique identifier")
     @ApiResponses(value = {
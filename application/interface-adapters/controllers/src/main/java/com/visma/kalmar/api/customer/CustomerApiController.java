@@ -1,9 +1,13 @@
 package com.visma.kalmar.api.customer;
 
+import com.visma.kalmar.api.country.CountryGateway;
+import com.visma.kalmar.api.pagination.PageQuery;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 public class CustomerApiController implements CustomerApi {
@@ -12,19 +16,29 @@ public class CustomerApiController implements CustomerApi {
     private final GetCustomerInputPort getCustomerInputPort;
     private final UpdateCustomerInputPort updateCustomerInputPort;
     private final DeleteCustomerInputPort deleteCustomerInputPort;
-    private final CustomerPresenter customerPresenter;
+    private final Supplier<CustomerPresenter> customerPresenterFactory;
 
+    @Autowired
     public CustomerApiController(
             CreateCustomerInputPort createCustomerInputPort,
             GetCustomerInputPort getCustomerInputPort,
             UpdateCustomerInputPort updateCustomerInputPort,
             DeleteCustomerInputPort deleteCustomerInputPort,
-            CustomerPresenter customerPresenter) {
+            CountryGateway countryGateway) {
+        this(createCustomerInputPort, getCustomerInputPort, updateCustomerInputPort, deleteCustomerInputPort, () -> new CustomerPresenter(countryGateway));
+    }
+
+    CustomerApiController(
+            CreateCustomerInputPort createCustomerInputPort,
+            GetCustomerInputPort getCustomerInputPort,
+            UpdateCustomerInputPort updateCustomerInputPort,
+            DeleteCustomerInputPort deleteCustomerInputPort,
+            Supplier<CustomerPresenter> customerPresenterFactory) {
         this.createCustomerInputPort = createCustomerInputPort;
         this.getCustomerInputPort = getCustomerInputPort;
         this.updateCustomerInputPort = updateCustomerInputPort;
         this.deleteCustomerInputPort = deleteCustomerInputPort;
-        this.customerPresenter = customerPresenter;
+        this.customerPresenterFactory = customerPresenterFactory;
     }
 
     @Override
@@ -37,6 +51,7 @@ public class CustomerApiController implements CustomerApi {
                 request.name()
         );
 
+        var customerPresenter = customerPresenterFactory.get();
         createCustomerInputPort.createCustomer(inputData, customerPresenter);
 
         return customerPresenter.getResponse();
@@ -46,11 +61,20 @@ public class CustomerApiController implements CustomerApi {
     public ResponseEntity<CustomerResponse> getCustomer(String idCustomer) {
         UUID customerId = UUID.fromString(idCustomer);
         
+        var customerPresenter = customerPresenterFactory.get();
         getCustomerInputPort.getCustomer(customerId, customerPresenter);
         
         return customerPresenter.getResponse();
     }
 
+    @Override
+    public ResponseEntity<CustomerPageResponse> listCustomers(String after, Integer limit) {
+        var customerPresenter = customerPresenterFactory.get();
+        getCustomerInputPort.listCustomers(PageQuery.of(after, limit), customerPresenter);
+
+        return customerPresenter.getListResponse();
+    }
+
     @Override
     public ResponseEntity<CustomerResponse> updateCustomer(String idCustomer, CustomerRequest request) {
         UUID customerId = UUID.fromString(idCustomer);
@@ -63,6 +87,7 @@ public class CustomerApiController implements CustomerApi {
                 request.name()
         );
         
+        var customerPresenter = customerPresenterFactory.get();
         updateCustomerInputPort.updateCustomer(inputData, customerPresenter);
         
         return customerPresenter.getResponse();
@@ -72,6 +97,7 @@ public class CustomerApiController implements CustomerApi {
     public ResponseEntity<Void> deleteCustomer(String idCustomer) {
         UUID customerId = UUID.fromString(idCustomer);
         
+        var customerPresenter = customerPresenterFactory.get();
         deleteCustomerInputPort.deleteCustomer(customerId, customerPresenter);
         
         return customerPresenter.getDeleteResponse();
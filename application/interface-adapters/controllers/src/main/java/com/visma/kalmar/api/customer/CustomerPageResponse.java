@@ -0,0 +1,20 @@
+package com.visma.kalmar.api.customer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Page of customers")
+public record CustomerPageResponse(
+        @Schema(description = "Customers on this page, ordered by ID")
+        @JsonProperty("items")
+        List<CustomerResponse> items,
+
+        @Schema(description = "Pass as 'after' to fetch the next page; absent on the last page", example = "123e4567-e89b-12d3-a456-426614174000")
+        @JsonProperty("nextAfter")
+        String nextAfter
+) {
+}
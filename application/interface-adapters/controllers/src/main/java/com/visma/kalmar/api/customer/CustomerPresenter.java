@@ -3,16 +3,16 @@ package com.visma.kalmar.api.customer;
 import com.visma.kalmar.api.country.CountryGateway;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.customer.Customer;
+import com.visma.kalmar.api.pagination.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
 
-@Component
-public class CustomerPresenter implements CustomerOutputPort, GetCustomerOutputPort, DeleteCustomerOutputPort {
+public class CustomerPresenter implements CustomerOutputPort, GetCustomerOutputPort, DeleteCustomerOutputPort, CustomerListOutputPort {
 
     private final CountryGateway countryGateway;
     private ResponseEntity<CustomerResponse> response;
     private ResponseEntity<Void> deleteResponse;
+    private ResponseEntity<CustomerPageResponse> listResponse;
 
     public CustomerPresenter(CountryGateway countryGateway) {
         this.countryGateway = countryGateway;
@@ -20,18 +20,8 @@ public class CustomerPresenter implements CustomerOutputPort, GetCustomerOutputP
 
     @Override
     public void present(Customer customer, Context context, boolean created) {
-        var country = countryGateway.findById(context.idCountry());
-        
-        var customerResponse = new CustomerResponse(
-                customer.idContext(),
-                context.name(),
-                context.organizationNumber(),
-                country.code(),
-                context.idContextParent()
-        );
-
         HttpStatus status = created ? HttpStatus.CREATED : HttpStatus.OK;
-        this.response = ResponseEntity.status(status).body(customerResponse);
+        this.response = ResponseEntity.status(status).body(toResponse(context));
     }
 
     @Override
@@ -39,6 +29,12 @@ public class CustomerPresenter implements CustomerOutputPort, GetCustomerOutputP
         present(customer, context, false);
     }
 
+    @Override
+    public void present(Page<Context> page) {
+        var items = page.items().stream().map(this::toResponse).toList();
+        this.listResponse = ResponseEntity.ok(new CustomerPageResponse(items, page.nextAfter()));
+    }
+
     @Override
     public void presentDeleted() {
         this.deleteResponse = ResponseEntity.noContent().build();
@@ -51,4 +47,20 @@ public class CustomerPresenter implements CustomerOutputPort, GetCustomerOutputP
     public ResponseEntity<Void> getDeleteResponse() {
         return deleteResponse;
     }
+
+    public ResponseEntity<CustomerPageResponse> getListResponse() {
+        return listResponse;
+    }
+
+    private CustomerResponse toResponse(Context context) {
+        var country = countryGateway.findById(context.idCountry());
+
+        return new CustomerResponse(
+                context.idContext(),
+                context.name(),
+                context.organizationNumber(),
+                country.code(),
+                context.idContextParent()
+        );
+    }
 }
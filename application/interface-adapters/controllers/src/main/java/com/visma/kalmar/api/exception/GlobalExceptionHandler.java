@@ -27,6 +27,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(RecordVersionConflictException.class)
+    public ResponseEntity<Error> handleRecordVersionConflict(RecordVersionConflictException ex) {
+        Error error = new Error();
+        error.setCode(ex.getResourceType());
+        error.setMessage(ex.getMessage());
+        error.setMessageParameters(ex.getMessageParameters());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(InvalidInputDataException.class)
     public ResponseEntity<Error> handleInvalidInputData(InvalidInputDataException ex) {
         Error error = new Error();
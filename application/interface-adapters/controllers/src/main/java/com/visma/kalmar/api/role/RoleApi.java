@@ -1,5 +1,6 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.role.dto.RolePageResponse;
 import com.visma.kalmar.api.role.dto.RoleRequest;
 import com.visma.kalmar.api.role.dto.RoleResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +30,19 @@ public interface RoleApi {
     })
     ResponseEntity<RoleResponse> getRoleById(@PathVariable("roleId") String roleId);
 
+    @GetMapping("/roles")
+    @Operation(
+            summary = "List roles",
+            description = "List roles ordered by invariant key, one page at a time. Pass the 'nextAfter' value of a page as 'after' to fetch the next one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Roles retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    ResponseEntity<RolePageResponse> listRoles(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit);
+
     @PostMapping("/roles")
     @Operation(
             summary = "Create a new role",
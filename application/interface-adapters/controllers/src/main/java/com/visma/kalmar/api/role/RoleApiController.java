@@ -1,5 +1,7 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.role.dto.RolePageResponse;
 import com.visma.kalmar.api.role.dto.RoleRequest;
 import com.visma.kalmar.api.role.dto.RoleResponse;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -17,7 +20,7 @@ public class RoleApiController implements RoleApi {
     private final GetRoleInputPort getRoleInputPort;
     private final UpdateRoleInputPort updateRoleInputPort;
     private final DeleteRoleInputPort deleteRoleInputPort;
-    private final RolePresenter rolePresenter;
+    private final Supplier<RolePresenter> rolePresenterFactory;
 
     @Autowired
     public RoleApiController(
@@ -25,7 +28,7 @@ public class RoleApiController implements RoleApi {
             GetRoleInputPort getRoleInputPort,
             UpdateRoleInputPort updateRoleInputPort,
             DeleteRoleInputPort deleteRoleInputPort) {
-        this(createRoleInputPort, getRoleInputPort, updateRoleInputPort, deleteRoleInputPort, new RolePresenter());
+        this(createRoleInputPort, getRoleInputPort, updateRoleInputPort, deleteRoleInputPort, RolePresenter::new);
     }
 
     RoleApiController(
@@ -33,27 +36,37 @@ public class RoleApiController implements RoleApi {
             GetRoleInputPort getRoleInputPort,
             UpdateRoleInputPort updateRoleInputPort,
             DeleteRoleInputPort deleteRoleInputPort,
-            RolePresenter rolePresenter) {
+            Supplier<RolePresenter> rolePresenterFactory) {
         this.createRoleInputPort = createRoleInputPort;
         this.getRoleInputPort = getRoleInputPort;
         this.updateRoleInputPort = updateRoleInputPort;
         this.deleteRoleInputPort = deleteRoleInputPort;
-        this.rolePresenter = rolePresenter;
+        this.rolePresenterFactory = rolePresenterFactory;
     }
 
     @Override
     public ResponseEntity<RoleResponse> getRoleById(String roleId) {
         UUID roleUuid = UUID.fromString(roleId);
 
+        var rolePresenter = rolePresenterFactory.get();
         getRoleInputPort.getRole(roleUuid, rolePresenter);
 
         return rolePresenter.getResponse();
     }
 
+    @Override
+    public ResponseEntity<RolePageResponse> listRoles(String after, Integer limit) {
+        var rolePresenter = rolePresenterFactory.get();
+        getRoleInputPort.listRoles(PageQuery.of(after, limit), rolePresenter);
+
+        return rolePresenter.getListResponse();
+    }
+
     @Override
     public ResponseEntity<RoleResponse> createRole(RoleRequest roleRequest) {
         var inputData = toRoleInputData(null, roleRequest);
 
+        var rolePresenter = rolePresenterFactory.get();
         createRoleInputPort.createRole(inputData, rolePresenter);
 
         return rolePresenter.getResponse();
@@ -63,6 +76,7 @@ public class RoleApiController implements RoleApi {
     public ResponseEntity<RoleResponse> updateRole(String roleId, RoleRequest roleRequest) {
         var inputData = toRoleInputData(roleId, roleRequest);
 
+        var rolePresenter = rolePresenterFactory.get();
         updateRoleInputPort.updateRole(inputData, rolePresenter);
 
         return rolePresenter.getResponse();
@@ -82,7 +96,8 @@ public class RoleApiController implements RoleApi {
                 roleId,
                 roleRequest.getName(),
                 roleRequest.getInvariantKey(),
-                roleRequest.getDescription()
+                roleRequest.getDescription(),
+                roleRequest.getRecordVersion()
         );
     }
 }
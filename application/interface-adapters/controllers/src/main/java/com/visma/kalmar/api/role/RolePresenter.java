@@ -1,27 +1,47 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.role.dto.RolePageResponse;
 import com.visma.kalmar.api.role.dto.RoleResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-public class RolePresenter implements RoleOutputPort {
+public class RolePresenter implements RoleOutputPort, RoleListOutputPort {
 
     private ResponseEntity<RoleResponse> responseEntity;
+    private ResponseEntity<RolePageResponse> listResponseEntity;
 
     @Override
     public void present(RoleOutputData outputData) {
-        var response = new RoleResponse();
-        response.setRoleId(outputData.roleId());
-        response.setName(outputData.name());
-        response.setInvariantKey(outputData.invariantKey());
-        response.setDescription(outputData.description());
-
         HttpStatus status = outputData.created() ? HttpStatus.CREATED : HttpStatus.OK;
 
-        responseEntity = ResponseEntity.status(status).body(response);
+        responseEntity = ResponseEntity.status(status).body(toResponse(outputData));
+    }
+
+    @Override
+    public void present(Page<RoleOutputData> page) {
+        var response = new RolePageResponse();
+        response.setItems(page.items().stream().map(this::toResponse).toList());
+        response.setNextAfter(page.nextAfter());
+
+        listResponseEntity = ResponseEntity.ok(response);
     }
 
     public ResponseEntity<RoleResponse> getResponse() {
         return responseEntity;
     }
+
+    public ResponseEntity<RolePageResponse> getListResponse() {
+        return listResponseEntity;
+    }
+
+    private RoleResponse toResponse(RoleOutputData outputData) {
+        var response = new RoleResponse();
+        response.setRoleId(outputData.roleId());
+        response.setName(outputData.name());
+        response.setInvariantKey(outputData.invariantKey());
+        response.setDescription(outputData.description());
+        response.setRecordVersion(outputData.recordVersion());
+        return response;
+    }
 }
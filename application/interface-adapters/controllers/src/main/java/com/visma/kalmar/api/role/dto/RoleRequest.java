@@ -26,4 +26,8 @@ public class RoleRequest {
     @Schema(description = "The description of the role", example = "Full system access")
     @JsonProperty("description")
     private String description;
+
+    @Schema(description = "The record version the update is based on; the update fails with 409 when the role has changed since", example = "1")
+    @JsonProperty("recordVersion")
+    private Long recordVersion;
 }
@@ -24,4 +24,8 @@ public class RoleResponse {
     @Schema(description = "The description of the role")
     @JsonProperty("description")
     private String description;
+
+    @Schema(description = "The record version of the role, to send back with an update")
+    @JsonProperty("recordVersion")
+    private Long recordVersion;
 }
@@ -1,5 +1,8 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.user.dto.UserBatchRequest;
+import com.visma.kalmar.api.user.dto.UserBatchResponse;
+import com.visma.kalmar.api.user.dto.UserPageResponse;
 import com.visma.kalmar.api.user.dto.UserRequest;
 import com.visma.kalmar.api.user.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,6 +35,19 @@ public interface UserApi {
     ResponseEntity<UserResponse> createUser(
             @Valid @RequestBody UserRequest userRequest);
 
+    @PostMapping("/users/batch")
+    @Operation(
+            summary = "Create several users",
+            description = "Create up to 1000 users in one call. Duplicate emails are detected with a single database query, the users are created in Visma Connect concurrently and saved with batched inserts. " +
+                    "The response holds one result per requested user, in request order, with the HTTP status that entry would have had as a single create.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the status of each result"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    ResponseEntity<UserBatchResponse> createUsers(
+            @Valid @RequestBody UserBatchRequest userBatchRequest);
+
     @PutMapping("/users/{userId}")
     @Operation(
             summary = "Update an existing user",
@@ -71,7 +87,7 @@ public interface UserApi {
     })
     ResponseEntity<UserResponse> getUserById(@PathVariable("userId") String userId);
 
-    @GetMapping("/users")
+    @GetMapping(value = "/users", params = "email")
     @Operation(
             summary = "Get user by email",
             description = "Retrieve a user by their email address. Returns the user's details including ID, email, first name, last name, and language code.")
@@ -81,4 +97,17 @@ public interface UserApi {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     ResponseEntity<UserResponse> getUserByEmail(@RequestParam("email") String email);
+
+    @GetMapping(value = "/users", params = "!email")
+    @Operation(
+            summary = "List users",
+            description = "List users ordered by ID, one page at a time. Pass the 'nextAfter' value of a page as 'after' to fetch the next one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    ResponseEntity<UserPageResponse> listUsers(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit);
 }
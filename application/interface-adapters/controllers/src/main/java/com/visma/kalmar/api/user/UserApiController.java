@@ -1,5 +1,9 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.user.dto.UserBatchRequest;
+import com.visma.kalmar.api.user.dto.UserBatchResponse;
+import com.visma.kalmar.api.user.dto.UserPageResponse;
 import com.visma.kalmar.api.user.dto.UserRequest;
 import com.visma.kalmar.api.user.dto.UserResponse;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,10 +12,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * REST controller for user operations.
  * Implements the UserApi interface and handles HTTP requests.
+ * A new {@link UserPresenter} is created for every request, so the controller holds no per-request state.
  */
 @RestController
 @RequestMapping("/api/v1")
@@ -21,26 +27,26 @@ public class UserApiController implements UserApi {
     private final UpdateUserInputPort updateUserInputPort;
     private final DeleteUserInputPort deleteUserInputPort;
     private final GetUserInputPort getUserInputPort;
-    private final UserPresenter userPresenter;
+    private final Supplier<UserPresenter> userPresenterFactory;
 
     @Autowired
     public UserApiController(CreateUserInputPort createUserInputPort,
                              UpdateUserInputPort updateUserInputPort,
                              DeleteUserInputPort deleteUserInputPort,
                              GetUserInputPort getUserInputPort) {
-        this(createUserInputPort, updateUserInputPort, deleteUserInputPort, getUserInputPort, new UserPresenter());
+        this(createUserInputPort, updateUserInputPort, deleteUserInputPort, getUserInputPort, UserPresenter::new);
     }
 
     UserApiController(CreateUserInputPort createUserInputPort,
                       UpdateUserInputPort updateUserInputPort,
                       DeleteUserInputPort deleteUserInputPort,
                       GetUserInputPort getUserInputPort,
-                      UserPresenter userPresenter) {
+                      Supplier<UserPresenter> userPresenterFactory) {
         this.createUserInputPort = createUserInputPort;
         this.updateUserInputPort = updateUserInputPort;
         this.deleteUserInputPort = deleteUserInputPort;
         this.getUserInputPort = getUserInputPort;
-        this.userPresenter = userPresenter;
+        this.userPresenterFactory = userPresenterFactory;
     }
 
     @Override
@@ -52,10 +58,27 @@ public class UserApiController implements UserApi {
                 userRequest.getLanguageCode()
         );
 
+        var userPresenter = userPresenterFactory.get();
         createUserInputPort.createUser(inputData, userPresenter);
         return userPresenter.getResponse();
     }
 
+    @Override
+    public ResponseEntity<UserBatchResponse> createUsers(UserBatchRequest userBatchRequest) {
+        var inputData = userBatchRequest.getUsers().stream()
+                .map(userRequest -> UserInputData.forCreate(
+                        userRequest.getEmail(),
+                        userRequest.getFirstName(),
+                        userRequest.getLastName(),
+                        userRequest.getLanguageCode()
+                ))
+                .toList();
+
+        var userBatchPresenter = new UserBatchPresenter();
+        createUserInputPort.createUsers(inputData, userBatchPresenter);
+        return userBatchPresenter.getResponse();
+    }
+
     @Override
     public ResponseEntity<UserResponse> updateUser(String userId, UserRequest userRequest) {
         var inputData = UserInputData.forUpdate(
@@ -63,9 +86,11 @@ public class UserApiController implements UserApi {
                 userRequest.getEmail(),
                 userRequest.getFirstName(),
                 userRequest.getLastName(),
-                userRequest.getLanguageCode()
+                userRequest.getLanguageCode(),
+                userRequest.getRecordVersion()
         );
 
+        var userPresenter = userPresenterFactory.get();
         updateUserInputPort.updateUser(inputData, userPresenter);
         return userPresenter.getResponse();
     }
@@ -80,13 +105,22 @@ public class UserApiController implements UserApi {
     @Override
     public ResponseEntity<UserResponse> getUserById(String userId) {
         UUID userUuid = UUID.fromString(userId);
+        var userPresenter = userPresenterFactory.get();
         getUserInputPort.getUserById(userUuid, userPresenter);
         return userPresenter.getResponse();
     }
 
     @Override
     public ResponseEntity<UserResponse> getUserByEmail(String email) {
+        var userPresenter = userPresenterFactory.get();
         getUserInputPort.getUserByEmail(email, userPresenter);
         return userPresenter.getResponse();
     }
+
+    @Override
+    public ResponseEntity<UserPageResponse> listUsers(String after, Integer limit) {
+        var userPresenter = userPresenterFactory.get();
+        getUserInputPort.listUsers(PageQuery.of(after, limit), userPresenter);
+        return userPresenter.getListResponse();
+    }
 }
@@ -0,0 +1,64 @@
+package com.visma.kalmar.api.user;
+
+import com.visma.kalmar.api.model.Error;
+import com.visma.kalmar.api.user.dto.UserBatchItemResponse;
+import com.visma.kalmar.api.user.dto.UserBatchResponse;
+import com.visma.kalmar.api.user.dto.UserResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Presenter for batch user creation.
+ * Each entry carries the HTTP status it would have had as a single create; the batch itself is 200 OK.
+ */
+public class UserBatchPresenter implements UserBatchOutputPort {
+
+    private ResponseEntity<UserBatchResponse> responseEntity;
+
+    @Override
+    public void present(List<UserBatchItemOutputData> outputData) {
+        var response = new UserBatchResponse();
+        response.setResults(outputData.stream().map(this::toItemResponse).toList());
+
+        responseEntity = ResponseEntity.ok(response);
+    }
+
+    public ResponseEntity<UserBatchResponse> getResponse() {
+        return responseEntity;
+    }
+
+    private UserBatchItemResponse toItemResponse(UserBatchItemOutputData outputData) {
+        var item = new UserBatchItemResponse();
+        item.setStatus(toHttpStatus(outputData.status()).value());
+        item.setEmail(outputData.email());
+
+        if (outputData.user() != null) {
+            var user = new UserResponse();
+            user.setUserId(outputData.user().userId());
+            user.setEmail(outputData.user().email());
+            user.setFirstName(outputData.user().firstName());
+            user.setLastName(outputData.user().lastName());
+            user.setLanguageCode(outputData.user().languageCode());
+            user.setRecordVersion(outputData.user().recordVersion());
+            item.setUser(user);
+        } else {
+            var error = new Error();
+            error.setCode(outputData.status().name());
+            error.setMessage(outputData.errorMessage());
+            item.setError(error);
+        }
+        return item;
+    }
+
+    private HttpStatus toHttpStatus(UserBatchItemStatus status) {
+        return switch (status) {
+            case CREATED -> HttpStatus.CREATED;
+            case ALREADY_EXISTS -> HttpStatus.CONFLICT;
+            case INVALID_INPUT -> HttpStatus.BAD_REQUEST;
+            case CONNECT_FAILED -> HttpStatus.BAD_GATEWAY;
+            case SAVE_FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+    }
+}
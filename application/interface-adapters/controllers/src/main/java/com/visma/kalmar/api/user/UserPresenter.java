@@ -1,5 +1,7 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.user.dto.UserPageResponse;
 import com.visma.kalmar.api.user.dto.UserResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,26 +10,44 @@ import org.springframework.http.ResponseEntity;
  * Generic presenter for user use cases.
  * Handles presentation logic for all user operations with appropriate HTTP status codes.
  */
-public class UserPresenter implements UserOutputPort {
+public class UserPresenter implements UserOutputPort, UserListOutputPort {
 
     private ResponseEntity<UserResponse> responseEntity;
+    private ResponseEntity<UserPageResponse> listResponseEntity;
 
     @Override
     public void present(UserOutputData outputData) {
-        var response = new UserResponse();
-        response.setUserId(outputData.userId());
-        response.setEmail(outputData.email());
-        response.setFirstName(outputData.firstName());
-        response.setLastName(outputData.lastName());
-        response.setLanguageCode(outputData.languageCode());
-
         // Choose HTTP status based on operation type
         HttpStatus status = outputData.created() ? HttpStatus.CREATED : HttpStatus.OK;
 
-        responseEntity = ResponseEntity.status(status).body(response);
+        responseEntity = ResponseEntity.status(status).body(toResponse(outputData));
+    }
+
+    @Override
+    public void present(Page<UserOutputData> page) {
+        var response = new UserPageResponse();
+        response.setItems(page.items().stream().map(this::toResponse).toList());
+        response.setNextAfter(page.nextAfter());
+
+        listResponseEntity = ResponseEntity.ok(response);
     }
 
     public ResponseEntity<UserResponse> getResponse() {
         return responseEntity;
     }
+
+    public ResponseEntity<UserPageResponse> getListResponse() {
+        return listResponseEntity;
+    }
+
+    private UserResponse toResponse(UserOutputData outputData) {
+        var response = new UserResponse();
+        response.setUserId(outputData.userId());
+        response.setEmail(outputData.email());
+        response.setFirstName(outputData.firstName());
+        response.setLastName(outputData.lastName());
+        response.setLanguageCode(outputData.languageCode());
+        response.setRecordVersion(outputData.recordVersion());
+        return response;
+    }
 }
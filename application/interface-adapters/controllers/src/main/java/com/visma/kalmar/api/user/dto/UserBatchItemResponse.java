@@ -0,0 +1,28 @@
+package com.visma.kalmar.api.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.visma.kalmar.api.model.Error;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserBatchItemResponse {
+
+    @Schema(description = "The HTTP status the entry would have had as a single create", required = true, example = "201")
+    @JsonProperty("status")
+    private int status;
+
+    @Schema(description = "The email address of the entry", required = true)
+    @JsonProperty("email")
+    private String email;
+
+    @Schema(description = "The created user, present when status is 201")
+    @JsonProperty("user")
+    private UserResponse user;
+
+    @Schema(description = "The reason the entry was not created")
+    @JsonProperty("error")
+    private Error error;
+}
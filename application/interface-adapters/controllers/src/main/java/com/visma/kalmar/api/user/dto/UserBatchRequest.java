@@ -0,0 +1,20 @@
+package com.visma.kalmar.api.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserBatchRequest {
+
+    @Schema(description = "The users to create, at most 1000 per request", required = true)
+    @NotEmpty
+    @Size(max = 1000)
+    @JsonProperty("users")
+    private List<@Valid UserRequest> users;
+}
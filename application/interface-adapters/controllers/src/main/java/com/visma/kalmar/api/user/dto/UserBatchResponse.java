@@ -0,0 +1,15 @@
+package com.visma.kalmar.api.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserBatchResponse {
+
+    @Schema(description = "One result per requested user, in request order", required = true)
+    @JsonProperty("results")
+    private List<UserBatchItemResponse> results;
+}
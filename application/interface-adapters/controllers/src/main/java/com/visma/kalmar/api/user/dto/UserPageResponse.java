@@ -0,0 +1,21 @@
+package com.visma.kalmar.api.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserPageResponse {
+
+    @Schema(description = "Users on this page, ordered by ID", required = true)
+    @JsonProperty("items")
+    private List<UserResponse> items;
+
+    @Schema(description = "Pass as 'after' to fetch the next page; absent on the last page")
+    @JsonProperty("nextAfter")
+    private String nextAfter;
+}
@@ -35,4 +35,8 @@ public class UserRequest {
     @Size(min = 2, max = 2)
     @JsonProperty("languageCode")
     private String languageCode;
+
+    @Schema(description = "The record version the update is based on; the update fails with 409 when the user has changed since", example = "1")
+    @JsonProperty("recordVersion")
+    private Long recordVersion;
 }
@@ -28,4 +28,8 @@ public class UserResponse {
     @Schema(description = "The language code for the user", required = true)
     @JsonProperty("languageCode")
     private String languageCode;
+
+    @Schema(description = "The record version of the user, to send back with an update")
+    @JsonProperty("recordVersion")
+    private Long recordVersion;
 }
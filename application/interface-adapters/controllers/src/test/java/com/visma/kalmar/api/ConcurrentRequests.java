@@ -0,0 +1,47 @@
+package com.visma.kalmar.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sends requests for different ids from several threads at once, to check that nothing a controller
+ * keeps per request is shared between concurrent calls.
+ */
+public final class ConcurrentRequests {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 200;
+
+    private ConcurrentRequests() {
+    }
+
+    /** Calls {@code request} with a new id per request and asserts it returns the id it was called with. */
+    public static void assertEachCallerGetsItsOwnResponse(UnaryOperator<String> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                String requestedId = UUID.randomUUID().toString();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return requestedId.equals(request.apply(requestedId));
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.visma.kalmar.api.company;
 
+import com.visma.kalmar.api.ConcurrentRequests;
+import com.visma.kalmar.api.country.CountryGateway;
+import com.visma.kalmar.api.entities.company.Company;
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.entities.country.Country;
+import com.visma.kalmar.api.pagination.PageQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -8,6 +14,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,7 +55,7 @@ class CompanyApiControllerTest {
                 getCompanyInputPort,
                 deleteCompanyInputPort,
                 updateCompanyInputPort,
-                companyPresenter
+                () -> companyPresenter
         );
     }
 
@@ -444,4 +451,42 @@ class CompanyApiControllerTest {
         assertEquals(updatedOrgNumber, capturedInputData.organizationNumber());
         assertEquals(updatedCountryCode, capturedInputData.countryCode());
     }
+
+    @Test
+    void getCompany_concurrentRequests_eachRequestReceivesItsOwnResponse() throws Exception {
+        UUID countryId = UUID.randomUUID();
+        CountryGateway countryGateway = mock(CountryGateway.class);
+        when(countryGateway.findById(countryId)).thenReturn(new Country(countryId, "Norway", COUNTRY_CODE));
+        GetCompanyInputPort echoingInputPort = new GetCompanyInputPort() {
+            @Override
+            public void getCompany(UUID idCustomer, UUID idCompany, GetCompanyOutputPort outputPort) {
+                outputPort.present(
+                        new Company(idCompany),
+                        new Context(idCompany, UUID.randomUUID(), idCustomer, countryId, COMPANY_NAME, ORG_NUMBER));
+                Thread.yield();
+            }
+
+            @Override
+            public void listCompanies(UUID idCustomer, PageQuery pageQuery, CompanyListOutputPort outputPort) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        var controller = new CompanyApiController(
+                createCompanyInputPort, echoingInputPort, deleteCompanyInputPort, updateCompanyInputPort, countryGateway);
+
+        ConcurrentRequests.assertEachCallerGetsItsOwnResponse(
+                requestedId -> controller.getCompany(CUSTOMER_ID.toString(), requestedId).getBody().idContext().toString());
+    }
+
+    @Test
+    void listCompanies_passesCustomerAndPageQuery() {
+        var expectedEntity = ResponseEntity.ok(new CompanyPageResponse(List.of(), null));
+        when(companyPresenter.getListResponse()).thenReturn(expectedEntity);
+
+        var response = companyApiController.listCompanies(CUSTOMER_ID.toString(), null, 5);
+
+        assertEquals(expectedEntity, response);
+        verify(getCompanyInputPort, times(1))
+                .listCompanies(eq(CUSTOMER_ID), eq(new PageQuery(null, 5)), eq(companyPresenter));
+    }
 }
@@ -4,11 +4,13 @@ import com.visma.kalmar.api.country.CountryGateway;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.country.Country;
+import com.visma.kalmar.api.pagination.Page;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -333,4 +335,17 @@ class CompanyPresenterTest {
         assertEquals(ORG_NUMBER, response.getBody().organizationNumber());
         assertEquals(COUNTRY_CODE, response.getBody().countryCode());
     }
+
+    @Test
+    void presentPage_returnsHttpOkWithItemsAndCursor() {
+        var context = new Context(COMPANY_ID, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, COMPANY_NAME, ORG_NUMBER);
+
+        companyPresenter.present(new Page<>(List.of(context), null));
+        ResponseEntity<CompanyPageResponse> response = companyPresenter.getListResponse();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(COMPANY_ID, response.getBody().items().get(0).idContext());
+        assertEquals(PARENT_CONTEXT_ID, response.getBody().items().get(0).idContextParent());
+        assertNull(response.getBody().nextAfter());
+    }
 }
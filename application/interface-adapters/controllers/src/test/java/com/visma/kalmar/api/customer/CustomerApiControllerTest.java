@@ -1,6 +1,12 @@
 package com.visma.kalmar.api.customer;
 
+import com.visma.kalmar.api.ConcurrentRequests;
+import com.visma.kalmar.api.country.CountryGateway;
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.entities.country.Country;
+import com.visma.kalmar.api.entities.customer.Customer;
 import com.visma.kalmar.api.exception.InvalidInputDataException;
+import com.visma.kalmar.api.pagination.PageQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -9,6 +15,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,7 +56,7 @@ class CustomerApiControllerTest {
                 getCustomerInputPort,
                 updateCustomerInputPort,
                 deleteCustomerInputPort,
-                customerPresenter
+                () -> customerPresenter
         );
     }
 
@@ -248,4 +255,42 @@ class CustomerApiControllerTest {
 
         verify(customerPresenter, times(1)).getDeleteResponse();
     }
+
+    @Test
+    void getCustomer_concurrentRequests_eachRequestReceivesItsOwnResponse() throws Exception {
+        UUID countryId = UUID.randomUUID();
+        CountryGateway countryGateway = mock(CountryGateway.class);
+        when(countryGateway.findById(countryId)).thenReturn(new Country(countryId, "Norway", COUNTRY_CODE));
+        GetCustomerInputPort echoingInputPort = new GetCustomerInputPort() {
+            @Override
+            public void getCustomer(UUID idCustomer, GetCustomerOutputPort outputPort) {
+                outputPort.present(
+                        new Customer(idCustomer),
+                        new Context(idCustomer, UUID.randomUUID(), PARENT_CONTEXT_ID, countryId, CUSTOMER_NAME, ORG_NUMBER));
+                Thread.yield();
+            }
+
+            @Override
+            public void listCustomers(PageQuery pageQuery, CustomerListOutputPort outputPort) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        var controller = new CustomerApiController(
+                createCustomerInputPort, echoingInputPort, updateCustomerInputPort, deleteCustomerInputPort, countryGateway);
+
+        ConcurrentRequests.assertEachCallerGetsItsOwnResponse(
+                requestedId -> controller.getCustomer(requestedId).getBody().idContext().toString());
+    }
+
+    @Test
+    void listCustomers_passesPageQueryAndReturnsListResponse() {
+        var expectedEntity = ResponseEntity.ok(new CustomerPageResponse(List.of(), null));
+        when(customerPresenter.getListResponse()).thenReturn(expectedEntity);
+
+        var response = customerApiController.listCustomers(CUSTOMER_ID.toString(), 25);
+
+        assertEquals(expectedEntity, response);
+        verify(getCustomerInputPort, times(1))
+                .listCustomers(eq(new PageQuery(CUSTOMER_ID.toString(), 25)), eq(customerPresenter));
+    }
 }
@@ -4,11 +4,13 @@ import com.visma.kalmar.api.country.CountryGateway;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.country.Country;
 import com.visma.kalmar.api.entities.customer.Customer;
+import com.visma.kalmar.api.pagination.Page;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -341,4 +343,17 @@ class CustomerPresenterTest {
         assertNull(response.getBody());
         assertFalse(response.hasBody());
     }
+
+    @Test
+    void presentPage_returnsHttpOkWithItemsAndCursor() {
+        var context = new Context(CUSTOMER_ID, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, CUSTOMER_NAME, ORG_NUMBER);
+
+        customerPresenter.present(new Page<>(List.of(context), CUSTOMER_ID.toString()));
+        ResponseEntity<CustomerPageResponse> response = customerPresenter.getListResponse();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(CUSTOMER_ID, response.getBody().items().get(0).idContext());
+        assertEquals(COUNTRY_CODE, response.getBody().items().get(0).countryCode());
+        assertEquals(CUSTOMER_ID.toString(), response.getBody().nextAfter());
+    }
 }
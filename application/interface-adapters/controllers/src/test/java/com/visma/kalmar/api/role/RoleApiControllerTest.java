@@ -1,5 +1,8 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.ConcurrentRequests;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.role.dto.RolePageResponse;
 import com.visma.kalmar.api.role.dto.RoleRequest;
 import com.visma.kalmar.api.role.dto.RoleResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,7 +53,7 @@ class RoleApiControllerTest {
                 getRoleInputPort,
                 updateRoleInputPort,
                 deleteRoleInputPort,
-                rolePresenter
+                () -> rolePresenter
         );
     }
 
@@ -96,6 +99,7 @@ class RoleApiControllerTest {
     @Test
     void updateRole_success() {
         RoleRequest roleRequest = createRoleRequest();
+        roleRequest.setRecordVersion(3L);
         RoleResponse expectedResponse = createRoleResponse();
         ResponseEntity<RoleResponse> expectedEntity = ResponseEntity.ok(expectedResponse);
 
@@ -115,6 +119,7 @@ class RoleApiControllerTest {
         assertEquals(NAME, capturedInputData.name());
         assertEquals(INVARIANT_KEY, capturedInputData.invariantKey());
         assertEquals(DESCRIPTION, capturedInputData.description());
+        assertEquals(3L, capturedInputData.recordVersion());
     }
 
     @Test
@@ -162,6 +167,18 @@ class RoleApiControllerTest {
         verify(rolePresenter, times(1)).getResponse();
     }
 
+
+    @Test
+    void listRoles_passesPageQueryAndReturnsListResponse() {
+        ResponseEntity<RolePageResponse> expectedEntity = ResponseEntity.ok(new RolePageResponse());
+        when(rolePresenter.getListResponse()).thenReturn(expectedEntity);
+
+        ResponseEntity<RolePageResponse> response = roleApiController.listRoles(INVARIANT_KEY, 10);
+
+        assertEquals(expectedEntity, response);
+        verify(getRoleInputPort, times(1)).listRoles(eq(new PageQuery(INVARIANT_KEY, 10)), eq(rolePresenter));
+    }
+
     private RoleRequest createRoleRequest() {
         RoleRequest request = new RoleRequest();
         request.setName(NAME);
@@ -178,4 +195,24 @@ class RoleApiControllerTest {
         response.setDescription(DESCRIPTION);
         return response;
     }
+
+    @Test
+    void getRoleById_concurrentRequests_eachRequestReceivesItsOwnResponse() throws Exception {
+        GetRoleInputPort echoingInputPort = new GetRoleInputPort() {
+            @Override
+            public void getRole(UUID roleId, RoleOutputPort outputPort) {
+                outputPort.present(new RoleOutputData(roleId.toString(), NAME, INVARIANT_KEY, DESCRIPTION, null, false));
+                Thread.yield();
+            }
+
+            @Override
+            public void listRoles(PageQuery pageQuery, RoleListOutputPort outputPort) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        var controller = new RoleApiController(createRoleInputPort, echoingInputPort, updateRoleInputPort, deleteRoleInputPort);
+
+        ConcurrentRequests.assertEachCallerGetsItsOwnResponse(
+                requestedId -> controller.getRoleById(requestedId).getBody().getRoleId());
+    }
 }
@@ -1,11 +1,14 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.pagination.Page;
 import com.visma.kalmar.api.role.dto.RoleResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -30,6 +33,7 @@ class RolePresenterTest {
                 NAME,
                 INVARIANT_KEY,
                 DESCRIPTION,
+                null,
                 true
         );
 
@@ -48,6 +52,7 @@ class RolePresenterTest {
                 NAME,
                 INVARIANT_KEY,
                 DESCRIPTION,
+                null,
                 false
         );
 
@@ -66,6 +71,7 @@ class RolePresenterTest {
                 NAME,
                 INVARIANT_KEY,
                 DESCRIPTION,
+                null,
                 false
         );
 
@@ -88,6 +94,7 @@ class RolePresenterTest {
                 NAME,
                 INVARIANT_KEY,
                 null,
+                null,
                 true
         );
 
@@ -107,6 +114,7 @@ class RolePresenterTest {
                 NAME,
                 INVARIANT_KEY,
                 DESCRIPTION,
+                null,
                 true
         );
 
@@ -125,6 +133,7 @@ class RolePresenterTest {
                 "First Role",
                 "FIRST",
                 "First Description",
+                null,
                 true
         );
 
@@ -136,6 +145,7 @@ class RolePresenterTest {
                 "Second Role",
                 "SECOND",
                 "Second Description",
+                null,
                 false
         );
 
@@ -156,6 +166,7 @@ class RolePresenterTest {
                 NAME,
                 INVARIANT_KEY,
                 DESCRIPTION,
+                null,
                 false
         );
 
@@ -167,4 +178,17 @@ class RolePresenterTest {
         assertNotNull(response.getBody());
         assertInstanceOf(RoleResponse.class, response.getBody());
     }
+
+    @Test
+    void presentPage_returnsHttpOkWithItemsAndCursor() {
+        var outputData = new RoleOutputData(ROLE_ID, NAME, INVARIANT_KEY, DESCRIPTION, null, false);
+
+        rolePresenter.present(new Page<>(List.of(outputData), INVARIANT_KEY));
+        var response = rolePresenter.getListResponse();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals(ROLE_ID, response.getBody().getItems().get(0).getRoleId());
+        assertEquals(INVARIANT_KEY, response.getBody().getNextAfter());
+    }
 }
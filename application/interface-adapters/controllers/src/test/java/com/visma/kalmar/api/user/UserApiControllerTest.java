@@ -1,5 +1,9 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.ConcurrentRequests;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.user.dto.UserBatchRequest;
+import com.visma.kalmar.api.user.dto.UserPageResponse;
 import com.visma.kalmar.api.user.dto.UserRequest;
 import com.visma.kalmar.api.user.dto.UserResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,10 +14,13 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -51,7 +58,7 @@ class UserApiControllerTest {
                 updateUserInputPort,
                 deleteUserInputPort,
                 getUserInputPort,
-                userPresenter
+                () -> userPresenter
         );
     }
 
@@ -79,6 +86,29 @@ class UserApiControllerTest {
         assertEquals(LANGUAGE_CODE, capturedInputData.languageCode());
     }
 
+    @Test
+    void createUsers_passesEveryEntryToInputPortAndReturnsBatchResponse() {
+        UserBatchRequest batchRequest = new UserBatchRequest();
+        batchRequest.setUsers(List.of(createUserRequest(), createUserRequest()));
+        doAnswer(invocation -> {
+            List<UserInputData> inputData = invocation.getArgument(0);
+            UserBatchOutputPort outputPort = invocation.getArgument(1);
+            outputPort.present(inputData.stream()
+                    .map(input -> UserBatchItemOutputData.created(new UserOutputData(
+                            USER_ID_STRING, input.email(), input.firstName(), input.lastName(), input.languageCode(), null, true)))
+                    .toList());
+            return null;
+        }).when(createUserInputPort).createUsers(anyList(), any(UserBatchOutputPort.class));
+
+        var response = userApiController.createUsers(batchRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().getResults().size());
+        assertEquals(201, response.getBody().getResults().get(0).getStatus());
+        assertEquals(EMAIL, response.getBody().getResults().get(1).getUser().getEmail());
+        verify(createUserInputPort, never()).createUser(any(), any());
+    }
+
     @Test
     void updateUser_success() {
         UserRequest userRequest = createUserRequest();
@@ -192,6 +222,19 @@ class UserApiControllerTest {
         verify(userPresenter, times(1)).getResponse();
     }
 
+
+    @Test
+    void listUsers_withoutLimit_usesDefaultPageSize() {
+        ResponseEntity<UserPageResponse> expectedEntity = ResponseEntity.ok(new UserPageResponse());
+        when(userPresenter.getListResponse()).thenReturn(expectedEntity);
+
+        ResponseEntity<UserPageResponse> response = userApiController.listUsers(null, null);
+
+        assertEquals(expectedEntity, response);
+        verify(getUserInputPort, times(1))
+                .listUsers(eq(new PageQuery(null, PageQuery.DEFAULT_LIMIT)), eq(userPresenter));
+    }
+
     private UserRequest createUserRequest() {
         UserRequest request = new UserRequest();
         request.setEmail(EMAIL);
@@ -210,4 +253,29 @@ class UserApiControllerTest {
         response.setLanguageCode(LANGUAGE_CODE);
         return response;
     }
+
+    @Test
+    void getUserById_concurrentRequests_eachRequestReceivesItsOwnResponse() throws Exception {
+        GetUserInputPort echoingInputPort = new GetUserInputPort() {
+            @Override
+            public void getUserById(UUID userId, UserOutputPort outputPort) {
+                outputPort.present(new UserOutputData(userId.toString(), EMAIL, FIRST_NAME, LAST_NAME, LANGUAGE_CODE, null, false));
+                Thread.yield();
+            }
+
+            @Override
+            public void getUserByEmail(String email, UserOutputPort outputPort) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void listUsers(PageQuery pageQuery, UserListOutputPort outputPort) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        var controller = new UserApiController(createUserInputPort, updateUserInputPort, deleteUserInputPort, echoingInputPort);
+
+        ConcurrentRequests.assertEachCallerGetsItsOwnResponse(
+                requestedId -> controller.getUserById(requestedId).getBody().getUserId());
+    }
 }
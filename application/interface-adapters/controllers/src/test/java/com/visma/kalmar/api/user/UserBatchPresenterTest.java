@@ -0,0 +1,59 @@
+package com.visma.kalmar.api.user;
+
+import com.visma.kalmar.api.user.dto.UserBatchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserBatchPresenterTest {
+
+    private static final String USER_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String EMAIL = "test@example.com";
+
+    private UserBatchPresenter userBatchPresenter;
+
+    @BeforeEach
+    void setUp() {
+        userBatchPresenter = new UserBatchPresenter();
+    }
+
+    @Test
+    void present_mapsEachEntryToItsOwnStatus() {
+        var created = UserBatchItemOutputData.created(
+                new UserOutputData(USER_ID, EMAIL, "John", "Doe", "en", null, true));
+        var conflict = UserBatchItemOutputData.failed(
+                "taken@example.com", UserBatchItemStatus.ALREADY_EXISTS, "already exists");
+        var invalid = UserBatchItemOutputData.failed(
+                "xx@example.com", UserBatchItemStatus.INVALID_INPUT, "Language not found with code: xx");
+        var connectFailed = UserBatchItemOutputData.failed(
+                "down@example.com", UserBatchItemStatus.CONNECT_FAILED, "ERROR_INTERNAL");
+
+        userBatchPresenter.present(List.of(created, conflict, invalid, connectFailed));
+        ResponseEntity<UserBatchResponse> response = userBatchPresenter.getResponse();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        var results = response.getBody().getResults();
+        assertEquals(4, results.size());
+
+        assertEquals(201, results.get(0).getStatus());
+        assertEquals(USER_ID, results.get(0).getUser().getUserId());
+        assertNull(results.get(0).getError());
+
+        assertEquals(409, results.get(1).getStatus());
+        assertNull(results.get(1).getUser());
+        assertEquals("ALREADY_EXISTS", results.get(1).getError().getCode());
+
+        assertEquals(400, results.get(2).getStatus());
+        assertEquals("Language not found with code: xx", results.get(2).getError().getMessage());
+
+        assertEquals(502, results.get(3).getStatus());
+        assertNotNull(results.get(3).getError());
+    }
+}
@@ -1,13 +1,17 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.pagination.Page;
 import com.visma.kalmar.api.user.dto.UserResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class UserPresenterTest {
 
@@ -32,6 +36,7 @@ class UserPresenterTest {
                 FIRST_NAME,
                 LAST_NAME,
                 LANGUAGE_CODE,
+                null,
                 false
         );
 
@@ -56,6 +61,7 @@ class UserPresenterTest {
                 FIRST_NAME,
                 LAST_NAME,
                 LANGUAGE_CODE,
+                null,
                 true
         );
 
@@ -80,6 +86,7 @@ class UserPresenterTest {
                 FIRST_NAME,
                 LAST_NAME,
                 LANGUAGE_CODE,
+                null,
                 false
         );
 
@@ -94,4 +101,17 @@ class UserPresenterTest {
         assertEquals(outputData.lastName(), userResponse.getLastName());
         assertEquals(outputData.languageCode(), userResponse.getLanguageCode());
     }
+
+    @Test
+    void presentPage_returnsHttpOkWithItemsAndCursor() {
+        var outputData = new UserOutputData(USER_ID, EMAIL, FIRST_NAME, LAST_NAME, LANGUAGE_CODE, null, false);
+
+        userPresenter.present(new Page<>(List.of(outputData), null));
+        var response = userPresenter.getListResponse();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(EMAIL, response.getBody().getItems().get(0).getEmail());
+        assertEquals(LANGUAGE_CODE, response.getBody().getItems().get(0).getLanguageCode());
+        assertNull(response.getBody().getNextAfter());
+    }
 }
@@ -0,0 +1,13 @@
+package com.visma.feature.kalmar.api.company;
+
+import java.util.List;
+
+public interface CompanyBatchRepository {
+
+    /**
+     * Inserts new companies with {@code persist} and flushes them, so Hibernate skips the SELECT that
+     * {@code save} issues for entities with an assigned id and sends the Context and Company rows in
+     * JDBC batches. Unique key violations surface here rather than at commit.
+     */
+    List<Company> persistAll(List<Company> companies);
+}
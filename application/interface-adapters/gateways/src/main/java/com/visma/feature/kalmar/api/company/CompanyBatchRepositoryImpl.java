@@ -0,0 +1,21 @@
+package com.visma.feature.kalmar.api.company;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class CompanyBatchRepositoryImpl implements CompanyBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<Company> persistAll(List<Company> companies) {
+        companies.forEach(entityManager::persist);
+        entityManager.flush();
+        return companies;
+    }
+}
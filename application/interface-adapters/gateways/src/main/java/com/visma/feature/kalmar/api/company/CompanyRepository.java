@@ -1,17 +1,63 @@
 package com.visma.feature.kalmar.api.company;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CompanyRepository extends JpaRepository<Company, UUID> {
+public interface CompanyRepository extends JpaRepository<Company, UUID>, CompanyBatchRepository {
 
   boolean existsByNameAndIdContextParent(String name, UUID idContextParent);
 
   boolean existsByOrganizationNumberAndIdCountryAndIdContextParent(
       String organizationNumber, UUID idCountry, UUID idContextParent);
+
+  @Query("select new com.visma.kalmar.api.entities.context.Context(c.idContext, c.idContextType, c.idContextParent, c.idCountry, c.name, c.organizationNumber) "
+      + "from Company c where c.idContext = :idCompany and c.idContextParent = :idCustomer")
+  Optional<com.visma.kalmar.api.entities.context.Context> findContextByIdAndCustomer(
+      @Param("idCompany") UUID idCompany, @Param("idCustomer") UUID idCustomer);
+
+  @Query("select new com.visma.kalmar.api.entities.context.Context(c.idContext, c.idContextType, c.idContextParent, c.idCountry, c.name, c.organizationNumber) "
+      + "from Company c where c.idContextParent = :idCustomer and c.idContext > :after order by c.idContext")
+  List<com.visma.kalmar.api.entities.context.Context> findPageByCustomer(
+      @Param("idCustomer") UUID idCustomer, @Param("after") UUID after, Pageable pageable);
+
+  @Query("select new com.visma.kalmar.api.company.CompanyCreationCheck("
+      + "case when exists (select 1 from Company c where c.idContext = :idCompany) then true else false end, "
+      + "true, p.idCountry, "
+      + "case when exists (select 1 from Company c where c.idContextParent = p.idContext and c.name = :name) "
+      + "then true else false end, "
+      + "case when exists (select 1 from Company c where c.idContextParent = p.idContext "
+      + "and c.organizationNumber = :organizationNumber and c.idCountry = coalesce("
+      + "(select co.idCountry from Country co where co.code = :countryCode), p.idCountry)) "
+      + "then true else false end) "
+      + "from Customer p where p.idContext = :idCustomer")
+  Optional<com.visma.kalmar.api.company.CompanyCreationCheck> checkCreation(
+      @Param("idCompany") UUID idCompany,
+      @Param("idCustomer") UUID idCustomer,
+      @Param("name") String name,
+      @Param("organizationNumber") String organizationNumber,
+      @Param("countryCode") String countryCode);
+
+  // Plain SQL: a JPQL bulk delete on a JOINED subtype goes through Hibernate's multi-table mutation
+  // strategy (temporary id tables), while the caller only needs these two rows gone.
+  @Transactional
+  @Modifying
+  @Query(value = "delete from Company where IdCompany = :idCompany and exists "
+      + "(select 1 from Context where IdContext = :idCompany and IdContextParent = :idCustomer)",
+      nativeQuery = true)
+  int deleteCompanyRow(@Param("idCompany") UUID idCompany, @Param("idCustomer") UUID idCustomer);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from Context where IdContext = :idContext", nativeQuery = true)
+  int deleteContextRow(@Param("idContext") UUID idContext);
 }
@@ -1,35 +1,37 @@
 package com.visma.feature.kalmar.api.context;
 
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.io.Serializable;
 import java.util.UUID;
 
 @Entity
+@Table(name = "Context", indexes = {
+        @Index(name = "Context_IdContextParent_IdContext", columnList = "IdContextParent, IdContext"),
+        @Index(name = "UX_Context_IdContextParent_Name_IdContextType",
+                columnList = "IdContextParent, Name, IdContextType", unique = true),
+        @Index(name = "UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType",
+                columnList = "IdContextParent, OrganizationNumber, IdCountry, IdContextType", unique = true)
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 @Data
 public class Context implements Serializable {
 
     @Id
-    @Column(name = "IdContext", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdContext")
     private UUID idContext;
 
-    @Column(name = "IdContextType", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdContextType")
     private UUID idContextType;
 
-    @Column(name = "IdContextParent", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdContextParent")
     private UUID idContextParent;
 
-    @Column(name = "IdCountry", nullable = false, columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdCountry", nullable = false)
     private UUID idCountry;
 
     @Column(name = "Name", nullable = false, length = 255)
@@ -41,7 +43,7 @@ public class Context implements Serializable {
     @PrePersist
     public void prePersist() {
         if (idContext == null) {
-            idContext = UUID.randomUUID();
+            idContext = TimeOrderedUuid.next();
         }
     }
 }
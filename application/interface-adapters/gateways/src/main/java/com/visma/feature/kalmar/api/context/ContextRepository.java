@@ -1,6 +1,8 @@
 package com.visma.feature.kalmar.api.context;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -9,4 +11,10 @@ public interface ContextRepository extends JpaRepository<Context, UUID> {
     Context save(Context context);
 
     Optional<Context> findById(UUID contextId);
+
+    // Only the Context columns: loading the entity would outer join Customer and Company just to
+    // find out which subtype the row is, and the callers never need that.
+    @Query("select new com.visma.kalmar.api.entities.context.Context(c.idContext, c.idContextType, c.idContextParent, c.idCountry, c.name, c.organizationNumber) "
+            + "from Context c where c.idContext = :idContext")
+    Optional<com.visma.kalmar.api.entities.context.Context> findContextById(@Param("idContext") UUID idContext);
 }
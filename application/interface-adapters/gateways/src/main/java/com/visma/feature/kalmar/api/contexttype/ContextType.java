@@ -1,11 +1,10 @@
 package com.visma.feature.kalmar.api.contexttype;
 
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
@@ -19,8 +18,7 @@ import java.util.UUID;
 public class ContextType {
 
     @Id
-    @Column(name = "IdContextType", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdContextType")
     private UUID idContextType;
 
     @Column(name = "Name", nullable = false, length = 255, unique = true)
@@ -29,7 +27,7 @@ public class ContextType {
     @PrePersist
     public void prePersist() {
         if (idContextType == null) {
-            idContextType = UUID.randomUUID();
+            idContextType = TimeOrderedUuid.next();
         }
     }
 }
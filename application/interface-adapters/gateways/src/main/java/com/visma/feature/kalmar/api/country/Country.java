@@ -1,11 +1,10 @@
 package com.visma.feature.kalmar.api.country;
 
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
@@ -17,8 +16,7 @@ import java.util.UUID;
 public class Country {
 
     @Id
-    @Column(name = "IdCountry", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdCountry")
     private UUID idCountry;
 
     @Column(name = "Name", nullable = false, length = 255)
@@ -30,7 +28,7 @@ public class Country {
     @PrePersist
     public void prePersist() {
         if (idCountry == null) {
-            idCountry = UUID.randomUUID();
+            idCountry = TimeOrderedUuid.next();
         }
     }
 }
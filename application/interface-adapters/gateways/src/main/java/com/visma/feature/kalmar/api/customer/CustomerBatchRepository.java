@@ -0,0 +1,13 @@
+package com.visma.feature.kalmar.api.customer;
+
+import java.util.List;
+
+public interface CustomerBatchRepository {
+
+    /**
+     * Inserts new customers with {@code persist} and flushes them, so Hibernate skips the SELECT that
+     * {@code save} issues for entities with an assigned id and sends the Context and Customer rows in
+     * JDBC batches. Unique key violations surface here rather than at commit.
+     */
+    List<Customer> persistAll(List<Customer> customers);
+}
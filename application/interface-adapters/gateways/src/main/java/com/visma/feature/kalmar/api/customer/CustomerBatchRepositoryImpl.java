@@ -0,0 +1,21 @@
+package com.visma.feature.kalmar.api.customer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class CustomerBatchRepositoryImpl implements CustomerBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<Customer> persistAll(List<Customer> customers) {
+        customers.forEach(entityManager::persist);
+        entityManager.flush();
+        return customers;
+    }
+}
@@ -1,10 +1,30 @@
 package com.visma.feature.kalmar.api.customer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, CustomerBatchRepository {
+
+    @Query("select new com.visma.kalmar.api.entities.context.Context(c.idContext, c.idContextType, c.idContextParent, c.idCountry, c.name, c.organizationNumber) "
+            + "from Customer c where c.idContext > :after order by c.idContext")
+    List<com.visma.kalmar.api.entities.context.Context> findPage(UUID after, Pageable pageable);
+
+    // Plain SQL for the same reason as CompanyRepository#deleteCompanyRow.
+    @Transactional
+    @Modifying
+    @Query(value = "delete from Customer where IdCustomer = :idCustomer", nativeQuery = true)
+    int deleteCustomerRow(UUID idCustomer);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from Context where IdContext = :idContext", nativeQuery = true)
+    int deleteContextRow(UUID idContext);
 }
@@ -1,24 +1,24 @@
 package com.visma.feature.kalmar.api.language;
 
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "Language")
+@Table(name = "Language", indexes = {
+        @Index(name = "IX_Language_Code", columnList = "Code")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Language {
 
     @Id
-    @Column(name = "IdLanguage", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdLanguage")
     private UUID idLanguage;
 
     @Column(name = "Name", nullable = false, length = 255)
@@ -30,7 +30,7 @@ public class Language {
     @PrePersist
     public void prePersist() {
         if (idLanguage == null) {
-            idLanguage = UUID.randomUUID();
+            idLanguage = TimeOrderedUuid.next();
         }
     }
 }
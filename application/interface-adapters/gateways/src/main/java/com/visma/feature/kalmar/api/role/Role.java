@@ -1,19 +1,18 @@
 package com.visma.feature.kalmar.api.role;
 
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.util.Date;
 import java.util.UUID;
 
 @Entity
 @Table(name = "Role", indexes = {
-        @Index(name = "Role_Name", columnList = "Name"),
-        @Index(name = "Role_InvariantKey", columnList = "InvariantKey")
+        @Index(name = "UX_Role_Name", columnList = "Name", unique = true),
+        @Index(name = "UX_Role_InvariantKey", columnList = "InvariantKey", unique = true)
 })
 @Data
 @NoArgsConstructor
@@ -21,8 +20,7 @@ import java.util.UUID;
 public class Role {
 
     @Id
-    @Column(name = "IdRole", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdRole")
     private UUID idRole;
 
     @Column(name = "Name", nullable = false, length = 255)
@@ -45,7 +43,7 @@ public class Role {
     @PrePersist
     public void prePersist() {
         if (idRole == null) {
-            idRole = UUID.randomUUID();
+            idRole = TimeOrderedUuid.next();
         }
     }
 }
@@ -1,8 +1,14 @@
 package com.visma.feature.kalmar.api.role;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +20,27 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
     boolean existsByInvariantKey(String invariantKey);
 
     boolean existsByName(String name);
+
+    @Query("select new com.visma.kalmar.api.entities.role.Role(r.idRole, r.name, r.invariantKey, r.description, r.recordVersion, r.whenEdited) "
+            + "from Role r where r.invariantKey > :after order by r.invariantKey")
+    List<com.visma.kalmar.api.entities.role.Role> findPageOrderedByInvariantKey(String after, Pageable pageable);
+
+    // Two EXISTS probes rather than one OR filter, so each is a lookup on its own unique index.
+    @Query("select new com.visma.kalmar.api.role.RoleCreationCheck("
+            + "case when exists (select 1 from Role r where r.invariantKey = :invariantKey) then true else false end, "
+            + "case when exists (select 1 from Role r where r.name = :name) then true else false end)")
+    com.visma.kalmar.api.role.RoleCreationCheck checkCreation(String invariantKey, String name);
+
+    @Transactional
+    @Modifying
+    @Query("update Role r set r.name = :name, r.invariantKey = :invariantKey, r.description = :description, "
+            + "r.whenEdited = :whenEdited, r.recordVersion = r.recordVersion + 1 "
+            + "where r.idRole = :idRole and (:recordVersion is null or r.recordVersion = :recordVersion)")
+    int updateRole(
+            UUID idRole, String name, String invariantKey, String description, Date whenEdited, Long recordVersion);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Role r where r.idRole = :idRole")
+    int deleteRole(UUID idRole);
 }
@@ -1,34 +1,37 @@
 package com.visma.feature.kalmar.api.user;
 
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.util.Date;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
-@Table(name = "User")
+@Table(name = "User", indexes = {
+        @Index(name = "UX_User_EmailNormalized", columnList = "EmailNormalized", unique = true)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
     @Id
-    @Column(name = "IdUser", columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdUser")
     private UUID idUser;
 
-    @Column(name = "IdLanguage", nullable = false, columnDefinition = "CHAR(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "IdLanguage", nullable = false)
     private UUID idLanguage;
 
     @Column(name = "Email", nullable = false, length = 255)
     private String email;
 
+    @Column(name = "EmailNormalized", nullable = false, length = 255)
+    private String normalizedEmail;
+
     @Column(name = "FirstName", nullable = false, length = 50)
     private String firstName;
 
@@ -43,7 +46,15 @@ public class User {
     @PrePersist
     public void prePersist() {
         if (idUser == null) {
-            idUser = UUID.randomUUID();
+            idUser = TimeOrderedUuid.next();
         }
     }
+
+    /**
+     * The value stored in {@code EmailNormalized}. Email lookups and the unique index use it, so two
+     * emails that differ only in case are the same user whatever the column collation is.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,12 @@
+package com.visma.feature.kalmar.api.user;
+
+import java.util.List;
+
+public interface UserBatchRepository {
+
+    /**
+     * Inserts new users with {@code persist}, so Hibernate skips the SELECT that {@code save} issues
+     * for entities with an assigned id and can group the INSERTs into JDBC batches.
+     */
+    List<User> persistAll(List<User> users);
+}
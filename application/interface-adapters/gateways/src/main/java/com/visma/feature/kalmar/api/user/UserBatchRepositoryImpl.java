@@ -0,0 +1,21 @@
+package com.visma.feature.kalmar.api.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<User> persistAll(List<User> users) {
+        users.forEach(entityManager::persist);
+        entityManager.flush();
+        return users;
+    }
+}
@@ -1,15 +1,50 @@
 package com.visma.feature.kalmar.api.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserBatchRepository {
 
-    Optional<User> findByEmail(String email);
+    Optional<User> findByNormalizedEmail(String normalizedEmail);
 
-    boolean existsByEmail(String email);
+    boolean existsByNormalizedEmail(String normalizedEmail);
+
+    @Query("select u.normalizedEmail from User u where u.normalizedEmail in :normalizedEmails")
+    List<String> findNormalizedEmailsIn(Collection<String> normalizedEmails);
+
+    @Query("select new com.visma.kalmar.api.entities.user.User(u.idUser, u.idLanguage, u.email, u.firstName, u.lastName, u.recordVersion, u.whenEdited) "
+            + "from User u where u.idUser > :after order by u.idUser")
+    List<com.visma.kalmar.api.entities.user.User> findPage(UUID after, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.idLanguage = :idLanguage, u.email = :email, "
+            + "u.normalizedEmail = :normalizedEmail, u.firstName = :firstName, "
+            + "u.lastName = :lastName, u.whenEdited = :whenEdited, u.recordVersion = u.recordVersion + 1 "
+            + "where u.idUser = :idUser and (:recordVersion is null or u.recordVersion = :recordVersion)")
+    int updateUser(
+            UUID idUser,
+            UUID idLanguage,
+            String email,
+            String normalizedEmail,
+            String firstName,
+            String lastName,
+            Date whenEdited,
+            Long recordVersion);
+
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.idUser = :idUser")
+    int deleteUser(UUID idUser);
 }
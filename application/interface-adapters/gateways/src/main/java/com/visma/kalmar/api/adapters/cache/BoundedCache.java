@@ -0,0 +1,98 @@
+package com.visma.kalmar.api.adapters.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Map that holds at most {@code maximumSize} entries and drops the least recently used one when a
+ * new entry goes over that size, so staying within bounds costs the same at any size.
+ *
+ * <p>Backed by an access-ordered {@link LinkedHashMap} behind a {@link ReentrantLock}, which does
+ * not pin virtual threads the way {@code synchronized} does. Values are not expired here; callers
+ * that keep an expiry in the value check it themselves and remove what is stale.
+ */
+public class BoundedCache<K, V> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder evictions = new LongAdder();
+    private final Map<K, V> entries;
+
+    public BoundedCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            entries.put(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Runs {@link Map#compute} under the lock; keep {@code remapping} short and free of I/O. */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        lock.lock();
+        try {
+            return entries.compute(key, remapping);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean remove(K key, V value) {
+        lock.lock();
+        try {
+            return entries.remove(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Entries dropped to stay within the maximum size. */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+}
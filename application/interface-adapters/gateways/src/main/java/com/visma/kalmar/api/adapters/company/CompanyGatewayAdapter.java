@@ -1,15 +1,26 @@
 package com.visma.kalmar.api.adapters.company;
 
+import com.visma.kalmar.api.adapters.persistence.UniqueKeyViolations;
+import com.visma.kalmar.api.company.CompanyCreationCheck;
 import com.visma.kalmar.api.company.CompanyGateway;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.feature.kalmar.api.company.CompanyRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 public class CompanyGatewayAdapter implements CompanyGateway {
 
+    private static final UUID BEFORE_FIRST_ID = new UUID(0L, 0L);
+
+    private static final String NAME_INDEX = "UX_Context_IdContextParent_Name_IdContextType";
+    private static final String ORGANIZATION_NUMBER_INDEX = "UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType";
+
     private final CompanyRepository companyRepository;
 
     public CompanyGatewayAdapter(CompanyRepository companyRepository) {
@@ -19,10 +30,33 @@ public class CompanyGatewayAdapter implements CompanyGateway {
     @Override
     public Company save(Context company) {
         var jpaEntity = toJpaEntity(company);
-        var savedEntity = companyRepository.save(jpaEntity);
+        com.visma.feature.kalmar.api.company.Company savedEntity;
+        try {
+            savedEntity = companyRepository.saveAndFlush(jpaEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, company);
+        }
         return toDomainEntity(savedEntity);
     }
 
+    @Override
+    public List<Company> saveAll(List<Context> companies) {
+        var jpaEntities = companies.stream()
+                .map(this::toJpaEntity)
+                .toList();
+        try {
+            return companyRepository.persistAll(jpaEntities).stream()
+                    .map(this::toDomainEntity)
+                    .toList();
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueKeyViolations.isUniqueKeyViolation(e)) {
+                throw new ResourceAlreadyExistsException("Company",
+                        "A company id, name or organization number in the batch already exists under its customer");
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Company findById(UUID idCompany) {
         var jpaEntity = companyRepository.findById(idCompany)
@@ -36,11 +70,27 @@ public class CompanyGatewayAdapter implements CompanyGateway {
     }
 
     @Override
-    public void deleteById(UUID idCompany) {
-        if (!companyRepository.existsById(idCompany)) {
+    public Context findByIdAndCustomer(UUID idCompany, UUID idCustomer) {
+        return companyRepository.findContextByIdAndCustomer(idCompany, idCustomer).orElse(null);
+    }
+
+    @Override
+    public void deleteByIdAndCustomer(UUID idCompany, UUID idCustomer) {
+        // The caller's transaction covers both statements; the Company row goes first because it
+        // references the Context row.
+        if (companyRepository.deleteCompanyRow(idCompany, idCustomer) == 0) {
             throw new ResourceNotFoundException("Company", "Company not found with id: " + idCompany);
         }
-        companyRepository.deleteById(idCompany);
+        companyRepository.deleteContextRow(idCompany);
+    }
+
+    @Override
+    public CompanyCreationCheck checkCreation(
+            UUID idCompany, UUID idCustomer, String name, String organizationNumber, String countryCode) {
+        // No row means the parent is not a customer; the id check then needs its own query.
+        return companyRepository.checkCreation(idCompany, idCustomer, name, organizationNumber, countryCode)
+                .orElseGet(() -> new CompanyCreationCheck(
+                        companyRepository.existsById(idCompany), false, null, false, false));
     }
 
     @Override
@@ -53,6 +103,30 @@ public class CompanyGatewayAdapter implements CompanyGateway {
         return companyRepository.existsByOrganizationNumberAndIdCountryAndIdContextParent(organizationNumber, idCountry, idContextParent);
     }
 
+    @Override
+    public List<Context> findPageByCustomer(UUID idCustomer, UUID afterIdCompany, int limit) {
+        return companyRepository.findPageByCustomer(
+                idCustomer, afterIdCompany == null ? BEFORE_FIRST_ID : afterIdCompany, PageRequest.ofSize(limit));
+    }
+
+    private static RuntimeException translate(DataIntegrityViolationException exception, Context company) {
+        if (UniqueKeyViolations.isViolationOf(exception, NAME_INDEX)) {
+            return new ResourceAlreadyExistsException("Company",
+                    "Company with name '" + company.name() + "' already exists under this customer");
+        }
+        if (UniqueKeyViolations.isViolationOf(exception, ORGANIZATION_NUMBER_INDEX)) {
+            return new ResourceAlreadyExistsException("Company",
+                    "Company with organization number '" + company.organizationNumber()
+                            + "' and the same country already exists under this customer");
+        }
+        // Left is the primary key, broken when two requests insert the same id
+        if (UniqueKeyViolations.isUniqueKeyViolation(exception)) {
+            return new ResourceAlreadyExistsException("Company",
+                    "Company already exists with id: " + company.idContext());
+        }
+        return exception;
+    }
+
     private com.visma.feature.kalmar.api.company.Company toJpaEntity(Context domain) {
         var jpaEntity = new com.visma.feature.kalmar.api.company.Company();
         jpaEntity.setIdContext(domain.idContext());
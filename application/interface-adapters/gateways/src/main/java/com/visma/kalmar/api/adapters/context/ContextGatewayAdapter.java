@@ -17,25 +17,12 @@ public class ContextGatewayAdapter implements ContextGateway {
 
     @Override
     public Context findById(UUID idContext) {
-        var jpaEntity = contextRepository.findById(idContext)
+        return contextRepository.findContextById(idContext)
                 .orElseThrow(() -> new ResourceNotFoundException("Context", "Context not found with id: " + idContext));
-        
-        return toDomainEntity(jpaEntity);
     }
 
     @Override
     public boolean existsById(UUID idContext) {
         return contextRepository.existsById(idContext);
     }
-
-    private Context toDomainEntity(com.visma.feature.kalmar.api.context.Context jpaEntity) {
-        return new Context(
-                jpaEntity.getIdContext(),
-                jpaEntity.getIdContextType(),
-                jpaEntity.getIdContextParent(),
-                jpaEntity.getIdCountry(),
-                jpaEntity.getName(),
-                jpaEntity.getOrganizationNumber()
-        );
-    }
 }
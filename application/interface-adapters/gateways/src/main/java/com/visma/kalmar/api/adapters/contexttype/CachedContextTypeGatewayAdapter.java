@@ -0,0 +1,24 @@
+package com.visma.kalmar.api.adapters.contexttype;
+
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import com.visma.kalmar.api.contexttype.ContextTypeGateway;
+import com.visma.kalmar.api.entities.contexttype.ContextType;
+
+public class CachedContextTypeGatewayAdapter implements ContextTypeGateway {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final ContextTypeGateway contextTypeGateway;
+
+    public CachedContextTypeGatewayAdapter(
+            ReferenceDataCache referenceDataCache, ContextTypeGateway contextTypeGateway) {
+        this.referenceDataCache = referenceDataCache;
+        this.contextTypeGateway = contextTypeGateway;
+    }
+
+    @Override
+    public ContextType findByName(String name) {
+        return referenceDataCache
+                .findContextTypeByName(name)
+                .orElseGet(() -> contextTypeGateway.findByName(name));
+    }
+}
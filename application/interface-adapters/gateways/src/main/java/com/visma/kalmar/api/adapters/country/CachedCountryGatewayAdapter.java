@@ -0,0 +1,33 @@
+package com.visma.kalmar.api.adapters.country;
+
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import com.visma.kalmar.api.country.CountryGateway;
+import com.visma.kalmar.api.entities.country.Country;
+
+import java.util.UUID;
+
+public class CachedCountryGatewayAdapter implements CountryGateway {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final CountryGateway countryGateway;
+
+    public CachedCountryGatewayAdapter(
+            ReferenceDataCache referenceDataCache, CountryGateway countryGateway) {
+        this.referenceDataCache = referenceDataCache;
+        this.countryGateway = countryGateway;
+    }
+
+    @Override
+    public Country findByCode(String code) {
+        return referenceDataCache
+                .findCountryByCode(code)
+                .orElseGet(() -> countryGateway.findByCode(code));
+    }
+
+    @Override
+    public Country findById(UUID idCountry) {
+        return referenceDataCache
+                .findCountryById(idCountry)
+                .orElseGet(() -> countryGateway.findById(idCountry));
+    }
+}
@@ -1,15 +1,26 @@
 package com.visma.kalmar.api.adapters.customer;
 
+import com.visma.kalmar.api.adapters.persistence.UniqueKeyViolations;
 import com.visma.kalmar.api.customer.CustomerGateway;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.customer.Customer;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 public class CustomerGatewayAdapter implements CustomerGateway {
 
+    // Sorts before every id, so the first page is the same index range scan as the following ones.
+    private static final UUID BEFORE_FIRST_ID = new UUID(0L, 0L);
+
+    private static final String NAME_INDEX = "UX_Context_IdContextParent_Name_IdContextType";
+    private static final String ORGANIZATION_NUMBER_INDEX = "UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType";
+
     private final CustomerRepository customerRepository;
 
     public CustomerGatewayAdapter(CustomerRepository customerRepository) {
@@ -19,10 +30,33 @@ public class CustomerGatewayAdapter implements CustomerGateway {
     @Override
     public Customer save(Context customer) {
         var jpaEntity = toJpaEntity(customer);
-        var savedEntity = customerRepository.save(jpaEntity);
+        com.visma.feature.kalmar.api.customer.Customer savedEntity;
+        try {
+            savedEntity = customerRepository.saveAndFlush(jpaEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, customer);
+        }
         return toDomainEntity(savedEntity);
     }
 
+    @Override
+    public List<Customer> saveAll(List<Context> customers) {
+        var jpaEntities = customers.stream()
+                .map(this::toJpaEntity)
+                .toList();
+        try {
+            return customerRepository.persistAll(jpaEntities).stream()
+                    .map(this::toDomainEntity)
+                    .toList();
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueKeyViolations.isUniqueKeyViolation(e)) {
+                throw new ResourceAlreadyExistsException("Customer",
+                        "A customer id, name or organization number in the batch already exists under its parent");
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Customer findById(UUID idCustomer) {
         var jpaEntity = customerRepository.findById(idCustomer)
@@ -35,12 +69,44 @@ public class CustomerGatewayAdapter implements CustomerGateway {
         return toDomainEntity(jpaEntity);
     }
 
+    @Override
+    public boolean existsById(UUID idCustomer) {
+        return customerRepository.existsById(idCustomer);
+    }
+
     @Override
     public void deleteById(UUID idCustomer) {
-        if (!customerRepository.existsById(idCustomer)) {
+        // The caller's transaction covers both statements; the Customer row goes first because it
+        // references the Context row.
+        if (customerRepository.deleteCustomerRow(idCustomer) == 0) {
             throw new ResourceNotFoundException("Customer", "Customer not found with id: " + idCustomer);
         }
-        customerRepository.deleteById(idCustomer);
+        customerRepository.deleteContextRow(idCustomer);
+    }
+
+    @Override
+    public List<Context> findPage(UUID afterIdCustomer, int limit) {
+        return customerRepository.findPage(
+                afterIdCustomer == null ? BEFORE_FIRST_ID : afterIdCustomer, PageRequest.ofSize(limit));
+    }
+
+    // Customers with a parent share the Context unique keys with their sibling customers.
+    private static RuntimeException translate(DataIntegrityViolationException exception, Context customer) {
+        if (UniqueKeyViolations.isViolationOf(exception, NAME_INDEX)) {
+            return new ResourceAlreadyExistsException("Customer",
+                    "Customer with name '" + customer.name() + "' already exists under this parent context");
+        }
+        if (UniqueKeyViolations.isViolationOf(exception, ORGANIZATION_NUMBER_INDEX)) {
+            return new ResourceAlreadyExistsException("Customer",
+                    "Customer with organization number '" + customer.organizationNumber()
+                            + "' and the same country already exists under this parent context");
+        }
+        // Left is the primary key, broken when two requests insert the same id
+        if (UniqueKeyViolations.isUniqueKeyViolation(exception)) {
+            return new ResourceAlreadyExistsException("Customer",
+                    "Customer already exists with id: " + customer.idContext());
+        }
+        return exception;
     }
 
     private com.visma.feature.kalmar.api.customer.Customer toJpaEntity(Context domain) {
@@ -0,0 +1,33 @@
+package com.visma.kalmar.api.adapters.language;
+
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import com.visma.kalmar.api.entities.language.Language;
+import com.visma.kalmar.api.language.LanguageGateway;
+
+import java.util.UUID;
+
+public class CachedLanguageGatewayAdapter implements LanguageGateway {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final LanguageGateway languageGateway;
+
+    public CachedLanguageGatewayAdapter(
+            ReferenceDataCache referenceDataCache, LanguageGateway languageGateway) {
+        this.referenceDataCache = referenceDataCache;
+        this.languageGateway = languageGateway;
+    }
+
+    @Override
+    public Language findByCode(String code) {
+        return referenceDataCache
+                .findLanguageByCode(code)
+                .orElseGet(() -> languageGateway.findByCode(code));
+    }
+
+    @Override
+    public Language findById(UUID idLanguage) {
+        return referenceDataCache
+                .findLanguageById(idLanguage)
+                .orElseGet(() -> languageGateway.findById(idLanguage));
+    }
+}
@@ -0,0 +1,31 @@
+package com.visma.kalmar.api.adapters.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Recognises a write rejected by a unique index, which is the last word on uniqueness once two
+ * requests have both passed the existence checks.
+ */
+public final class UniqueKeyViolations {
+
+    private UniqueKeyViolations() {
+    }
+
+    public static boolean isUniqueKeyViolation(DataIntegrityViolationException exception) {
+        return exception.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
+
+    /**
+     * Tells whether the write broke the unique index of this name. Databases report the name in
+     * their own case, and H2 prefixes it with the schema, so the reported name only has to contain it.
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String indexName) {
+        return isUniqueKeyViolation(exception)
+                && ((ConstraintViolationException) exception.getCause()).getConstraintName() instanceof String name
+                && name.toLowerCase(Locale.ROOT).contains(indexName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,125 @@
+package com.visma.kalmar.api.adapters.referencedata;
+
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import com.visma.kalmar.api.entities.contexttype.ContextType;
+import com.visma.kalmar.api.entities.country.Country;
+import com.visma.kalmar.api.entities.language.Language;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the Language, Country and ContextType tables. Lookups read the
+ * current snapshot without locking; {@link #refresh()} builds a new snapshot and swaps it in.
+ *
+ * <p>Until the first refresh the snapshot is empty and every lookup is a miss.
+ */
+public class ReferenceDataCache {
+
+    private final LanguageRepository languageRepository;
+    private final CountryRepository countryRepository;
+    private final ContextTypeRepository contextTypeRepository;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ReferenceDataCache(
+            LanguageRepository languageRepository,
+            CountryRepository countryRepository,
+            ContextTypeRepository contextTypeRepository) {
+        this.languageRepository = languageRepository;
+        this.countryRepository = countryRepository;
+        this.contextTypeRepository = contextTypeRepository;
+    }
+
+    public void refresh() {
+        var languages =
+                languageRepository.findAll().stream()
+                        .map(lang -> new Language(lang.getIdLanguage(), lang.getName(), lang.getCode()))
+                        .toList();
+        var countries =
+                countryRepository.findAll().stream()
+                        .map(country -> new Country(country.getIdCountry(), country.getName(), country.getCode()))
+                        .toList();
+        var contextTypes =
+                contextTypeRepository.findAll().stream()
+                        .map(type -> new ContextType(type.getIdContextType(), type.getName()))
+                        .toList();
+
+        snapshot =
+                new Snapshot(
+                        index(languages, Language::code),
+                        index(languages, Language::idLanguage),
+                        index(countries, Country::code),
+                        index(countries, Country::idCountry),
+                        index(contextTypes, ContextType::name));
+    }
+
+    public Optional<Language> findLanguageByCode(String code) {
+        return lookup(snapshot.languagesByCode(), code);
+    }
+
+    public Optional<Language> findLanguageById(UUID idLanguage) {
+        return lookup(snapshot.languagesById(), idLanguage);
+    }
+
+    public Optional<Country> findCountryByCode(String code) {
+        return lookup(snapshot.countriesByCode(), code);
+    }
+
+    public Optional<Country> findCountryById(UUID idCountry) {
+        return lookup(snapshot.countriesById(), idCountry);
+    }
+
+    public Optional<ContextType> findContextTypeByName(String name) {
+        return lookup(snapshot.contextTypesByName(), name);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        var current = snapshot;
+        return current.languagesById().size()
+                + current.countriesById().size()
+                + current.contextTypesByName().size();
+    }
+
+    private <K, V> Optional<V> lookup(Map<K, V> index, K key) {
+        var value = key == null ? null : index.get(key);
+        if (value == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(value);
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+        return values.stream()
+                .filter(value -> key.apply(value) != null)
+                .collect(Collectors.toUnmodifiableMap(key, Function.identity(), (first, second) -> first));
+    }
+
+    private record Snapshot(
+            Map<String, Language> languagesByCode,
+            Map<UUID, Language> languagesById,
+            Map<String, Country> countriesByCode,
+            Map<UUID, Country> countriesById,
+            Map<String, ContextType> contextTypesByName) {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+}
@@ -1,10 +1,17 @@
 package com.visma.kalmar.api.adapters.role;
 
+import com.visma.kalmar.api.adapters.persistence.UniqueKeyViolations;
 import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.role.RoleCreationCheck;
 import com.visma.kalmar.api.role.RoleGateway;
 import com.visma.feature.kalmar.api.role.RoleRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 public class RoleGatewayAdapter implements RoleGateway {
@@ -26,7 +33,12 @@ public class RoleGatewayAdapter implements RoleGateway {
                 role.whenEdited()
         );
 
-        var savedRole = roleRepository.save(roleEntity);
+        com.visma.feature.kalmar.api.role.Role savedRole;
+        try {
+            savedRole = roleRepository.saveAndFlush(roleEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, role);
+        }
 
         return new Role(
                 savedRole.getIdRole(),
@@ -54,28 +66,40 @@ public class RoleGatewayAdapter implements RoleGateway {
 
     @Override
     public Role update(Role role) {
-        roleRepository.findById(role.idRole())
-                .orElseThrow(() -> new ResourceNotFoundException("Role", "Role not found with id: " + role.idRole()));
+        int updated;
+        try {
+            updated = roleRepository.updateRole(
+                    role.idRole(),
+                    role.name(),
+                    role.invariantKey(),
+                    role.description(),
+                    role.whenEdited(),
+                    role.recordVersion()
+            );
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, role);
+        }
+        if (updated == 0) {
+            if (role.recordVersion() != null && roleRepository.existsById(role.idRole())) {
+                throw new RecordVersionConflictException("Role",
+                        "Role was modified concurrently with id: " + role.idRole());
+            }
+            throw new ResourceNotFoundException("Role", "Role not found with id: " + role.idRole());
+        }
 
-        var roleEntity = new com.visma.feature.kalmar.api.role.Role(
+        return new Role(
                 role.idRole(),
                 role.name(),
                 role.invariantKey(),
                 role.description(),
-                role.recordVersion(),
+                role.recordVersion() == null ? null : role.recordVersion() + 1,
                 role.whenEdited()
         );
+    }
 
-        var updatedRole = roleRepository.save(roleEntity);
-
-        return new Role(
-                updatedRole.getIdRole(),
-                updatedRole.getName(),
-                updatedRole.getInvariantKey(),
-                updatedRole.getDescription(),
-                updatedRole.getRecordVersion(),
-                updatedRole.getWhenEdited()
-        );
+    @Override
+    public RoleCreationCheck checkCreation(String invariantKey, String name) {
+        return roleRepository.checkCreation(invariantKey, name);
     }
 
     @Override
@@ -93,12 +117,25 @@ public class RoleGatewayAdapter implements RoleGateway {
         return roleRepository.existsById(roleId);
     }
 
+    @Override
+    public List<Role> findPageOrderedByInvariantKey(String afterInvariantKey, int limit) {
+        return roleRepository.findPageOrderedByInvariantKey(
+                afterInvariantKey == null ? "" : afterInvariantKey, PageRequest.ofSize(limit));
+    }
+
     @Override
     public void deleteById(UUID roleId) {
-        var role = roleRepository.findById(roleId)
-                .orElseThrow(() -> new ResourceNotFoundException("Role", "Role not found with id: " + roleId));
+        if (roleRepository.deleteRole(roleId) == 0) {
+            throw new ResourceNotFoundException("Role", "Role not found with id: " + roleId);
+        }
+    }
 
-        roleRepository.delete(role);
+    private static RuntimeException translate(DataIntegrityViolationException exception, Role role) {
+        if (UniqueKeyViolations.isUniqueKeyViolation(exception)) {
+            return new ResourceAlreadyExistsException("Role", "Role with invariantKey: " + role.invariantKey()
+                    + " or name: " + role.name() + " already exists.");
+        }
+        return exception;
     }
 
     private Role toDomainRole(com.visma.feature.kalmar.api.role.Role roleEntity) {
@@ -0,0 +1,32 @@
+package com.visma.kalmar.api.adapters.transaction;
+
+import com.visma.kalmar.api.transaction.UnitOfWork;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs each unit of work in one JPA transaction, so the repository calls made by a use case share
+ * one connection and one persistence context. Read-only work runs with Hibernate flushing and
+ * dirty checking turned off.
+ */
+public class JpaUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+
+    public JpaUnitOfWork(PlatformTransactionManager transactionManager) {
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public void execute(Runnable work) {
+        readWrite.executeWithoutResult(status -> work.run());
+    }
+
+    @Override
+    public void executeReadOnly(Runnable work) {
+        readOnly.executeWithoutResult(status -> work.run());
+    }
+}
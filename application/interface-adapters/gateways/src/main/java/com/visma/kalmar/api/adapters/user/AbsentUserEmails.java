@@ -0,0 +1,69 @@
+package com.visma.kalmar.api.adapters.user;
+
+import com.visma.kalmar.api.adapters.cache.BoundedCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, time-limited set of normalized emails that no user had when they were last looked up.
+ *
+ * <p>Writes on this instance remove an email straight away; a user created on another instance
+ * stays hidden from lookups here for at most the time to live. When the set is over its maximum
+ * size, the least recently used email is dropped. A non-positive time to live disables it.
+ */
+public class AbsentUserEmails {
+
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final BoundedCache<String, Long> expiries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AbsentUserEmails(Duration timeToLive, int maximumSize) {
+        this(timeToLive, maximumSize, System::nanoTime);
+    }
+
+    AbsentUserEmails(Duration timeToLive, int maximumSize, LongSupplier nanoClock) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.expiries = new BoundedCache<>(maximumSize);
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean contains(String normalizedEmail) {
+        var expiresAt = expiries.get(normalizedEmail);
+        if (expiresAt != null) {
+            if (expiresAt - nanoClock.getAsLong() > 0) {
+                hits.increment();
+                return true;
+            }
+            expiries.remove(normalizedEmail, expiresAt);
+        }
+        misses.increment();
+        return false;
+    }
+
+    public void add(String normalizedEmail) {
+        if (timeToLiveNanos <= 0) {
+            return;
+        }
+        expiries.put(normalizedEmail, nanoClock.getAsLong() + timeToLiveNanos);
+    }
+
+    public void remove(String normalizedEmail) {
+        expiries.remove(normalizedEmail);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+}
@@ -0,0 +1,102 @@
+package com.visma.kalmar.api.adapters.user;
+
+import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.user.UserGateway;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Answers {@link #findByEmail} for emails that recently had no user without going to the database.
+ * Everything else is passed to the wrapped gateway. The existence checks used to keep emails unique
+ * always query the database, since another instance may have created the user in the meantime;
+ * writes forget the emails they store.
+ */
+public class CachedUserGatewayAdapter implements UserGateway {
+
+    private final AbsentUserEmails absentUserEmails;
+    private final UserGateway userGateway;
+
+    public CachedUserGatewayAdapter(AbsentUserEmails absentUserEmails, UserGateway userGateway) {
+        this.absentUserEmails = absentUserEmails;
+        this.userGateway = userGateway;
+    }
+
+    @Override
+    public User save(User user) {
+        try {
+            return userGateway.save(user);
+        } finally {
+            absentUserEmails.remove(normalizeEmail(user.email()));
+        }
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        try {
+            return userGateway.saveAll(users);
+        } finally {
+            users.forEach(user -> absentUserEmails.remove(normalizeEmail(user.email())));
+        }
+    }
+
+    @Override
+    public User findById(UUID userId) {
+        return userGateway.findById(userId);
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        var normalizedEmail = normalizeEmail(email);
+        if (absentUserEmails.contains(normalizedEmail)) {
+            throw new ResourceNotFoundException("User", "User not found with email: " + email);
+        }
+        try {
+            return userGateway.findByEmail(email);
+        } catch (ResourceNotFoundException e) {
+            absentUserEmails.add(normalizedEmail);
+            throw e;
+        }
+    }
+
+    @Override
+    public User update(User user) {
+        try {
+            return userGateway.update(user);
+        } finally {
+            absentUserEmails.remove(normalizeEmail(user.email()));
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userGateway.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return userGateway.findExistingEmails(emails);
+    }
+
+    @Override
+    public boolean existsById(UUID userId) {
+        return userGateway.existsById(userId);
+    }
+
+    @Override
+    public List<User> findPage(UUID afterIdUser, int limit) {
+        return userGateway.findPage(afterIdUser, limit);
+    }
+
+    @Override
+    public void deleteById(UUID userId) {
+        userGateway.deleteById(userId);
+    }
+
+    private static String normalizeEmail(String email) {
+        return com.visma.feature.kalmar.api.user.User.normalizeEmail(email);
+    }
+}
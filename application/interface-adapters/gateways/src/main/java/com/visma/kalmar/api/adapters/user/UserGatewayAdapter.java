@@ -1,14 +1,26 @@
 package com.visma.kalmar.api.adapters.user;
 
+import com.visma.kalmar.api.adapters.persistence.UniqueKeyViolations;
 import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.kalmar.api.user.UserGateway;
 import com.visma.feature.kalmar.api.user.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public class UserGatewayAdapter implements UserGateway {
 
+    // Sorts before every id, so the first page is the same index range scan as the following ones.
+    private static final UUID BEFORE_FIRST_ID = new UUID(0L, 0L);
+
     private final UserRepository userRepository;
 
     public UserGatewayAdapter(UserRepository userRepository) {
@@ -17,17 +29,14 @@ public class UserGatewayAdapter implements UserGateway {
 
     @Override
     public User save(User user) {
-        var userEntity = new com.visma.feature.kalmar.api.user.User(
-                user.idUser(),
-                user.idLanguage(),
-                user.email(),
-                user.firstName(),
-                user.lastName(),
-                user.recordVersion(),
-                user.whenEdited()
-        );
+        var userEntity = toUserEntity(user);
 
-        var savedUser = userRepository.save(userEntity);
+        com.visma.feature.kalmar.api.user.User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, user);
+        }
 
         return new User(
                 savedUser.getIdUser(),
@@ -41,6 +50,17 @@ public class UserGatewayAdapter implements UserGateway {
         );
     }
 
+    @Override
+    public List<User> saveAll(List<User> users) {
+        var userEntities = users.stream()
+                .map(UserGatewayAdapter::toUserEntity)
+                .toList();
+
+        return userRepository.persistAll(userEntities).stream()
+                .map(this::toDomainUser)
+                .toList();
+    }
+
     @Override
     public User findById(UUID userId) {
         return userRepository.findById(userId)
@@ -50,43 +70,59 @@ public class UserGatewayAdapter implements UserGateway {
 
     @Override
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByNormalizedEmail(normalizeEmail(email))
                 .map(this::toDomainUser)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "User not found with email: " + email));
     }
 
     @Override
     public User update(User user) {
-        // Verify user exists first
-        userRepository.findById(user.idUser())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "User not found with id: " + user.idUser()));
+        int updated;
+        try {
+            updated = userRepository.updateUser(
+                    user.idUser(),
+                    user.idLanguage(),
+                    user.email(),
+                    normalizeEmail(user.email()),
+                    user.firstName(),
+                    user.lastName(),
+                    user.whenEdited(),
+                    user.recordVersion()
+            );
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, user);
+        }
+        if (updated == 0) {
+            if (user.recordVersion() != null && userRepository.existsById(user.idUser())) {
+                throw new RecordVersionConflictException("User",
+                        "User was modified concurrently with id: " + user.idUser());
+            }
+            throw new ResourceNotFoundException("User", "User not found with id: " + user.idUser());
+        }
 
-        var userEntity = new com.visma.feature.kalmar.api.user.User(
+        return new User(
                 user.idUser(),
                 user.idLanguage(),
                 user.email(),
                 user.firstName(),
                 user.lastName(),
-                user.recordVersion(),
+                user.recordVersion() == null ? null : user.recordVersion() + 1,
                 user.whenEdited()
         );
-
-        var updatedUser = userRepository.save(userEntity);
-
-        return new User(
-                updatedUser.getIdUser(),
-                updatedUser.getIdLanguage(),
-                updatedUser.getEmail(),
-                updatedUser.getFirstName(),
-                updatedUser.getLastName(),
-                updatedUser.getRecordVersion(),
-                updatedUser.getWhenEdited()
-        );
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userRepository.existsByNormalizedEmail(normalizeEmail(email));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userRepository.findNormalizedEmailsIn(
+                emails.stream().map(UserGatewayAdapter::normalizeEmail).distinct().toList()));
     }
 
     @Override
@@ -94,15 +130,40 @@ public class UserGatewayAdapter implements UserGateway {
         return userRepository.existsById(userId);
     }
 
+    @Override
+    public List<User> findPage(UUID afterIdUser, int limit) {
+        return userRepository.findPage(afterIdUser == null ? BEFORE_FIRST_ID : afterIdUser, PageRequest.ofSize(limit));
+    }
+
     @Override
     public void deleteById(UUID userId) {
-        // Find the user to verify it exists before deleting
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User",
-                        "User not found with id: " + userId));
+        if (userRepository.deleteUser(userId) == 0) {
+            throw new ResourceNotFoundException("User", "User not found with id: " + userId);
+        }
+    }
+
+    private static com.visma.feature.kalmar.api.user.User toUserEntity(User user) {
+        return new com.visma.feature.kalmar.api.user.User(
+                user.idUser(),
+                user.idLanguage(),
+                user.email(),
+                normalizeEmail(user.email()),
+                user.firstName(),
+                user.lastName(),
+                user.recordVersion(),
+                user.whenEdited()
+        );
+    }
+
+    private static String normalizeEmail(String email) {
+        return com.visma.feature.kalmar.api.user.User.normalizeEmail(email);
+    }
 
-        // Delete the user entity
-        userRepository.delete(user);
+    private static RuntimeException translate(DataIntegrityViolationException exception, User user) {
+        if (UniqueKeyViolations.isUniqueKeyViolation(exception)) {
+            return new ResourceAlreadyExistsException("User", "User with email: " + user.email() + " already exists.");
+        }
+        return exception;
     }
 
     private User toDomainUser(com.visma.feature.kalmar.api.user.User userEntity) {
@@ -0,0 +1,51 @@
+package com.visma.kalmar.api.adapters.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    void put_overMaximumSize_dropsTheLeastRecentlyUsedEntry() {
+        var cache = new BoundedCache<String, Integer>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void compute_newKeyOverMaximumSize_dropsOneEntry() {
+        var cache = new BoundedCache<String, Integer>(1);
+        cache.put("a", 1);
+
+        cache.compute("b", (key, existing) -> existing == null ? 2 : existing);
+
+        assertEquals(1, cache.size());
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("b"));
+    }
+
+    @Test
+    void remove_withOtherValue_keepsTheEntry() {
+        var cache = new BoundedCache<String, Integer>(2);
+        cache.put("a", 1);
+
+        assertFalse(cache.remove("a", 2));
+        assertTrue(cache.remove("a", 1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void new_nonPositiveMaximumSize_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, Integer>(0));
+    }
+}
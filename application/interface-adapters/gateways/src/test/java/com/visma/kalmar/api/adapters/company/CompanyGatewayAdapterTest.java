@@ -1,15 +1,22 @@
 package com.visma.kalmar.api.adapters.company;
 
+import com.visma.kalmar.api.company.CompanyCreationCheck;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.feature.kalmar.api.company.CompanyRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,7 +49,7 @@ class CompanyGatewayAdapterTest {
         Context domainContext = createDomainContext();
         com.visma.feature.kalmar.api.company.Company jpaCompany = createJpaCompany();
 
-        when(companyRepository.save(any(com.visma.feature.kalmar.api.company.Company.class)))
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
                 .thenReturn(jpaCompany);
 
         Company result = companyGatewayAdapter.save(domainContext);
@@ -52,7 +59,7 @@ class CompanyGatewayAdapterTest {
 
         ArgumentCaptor<com.visma.feature.kalmar.api.company.Company> captor =
                 ArgumentCaptor.forClass(com.visma.feature.kalmar.api.company.Company.class);
-        verify(companyRepository, times(1)).save(captor.capture());
+        verify(companyRepository, times(1)).saveAndFlush(captor.capture());
 
         com.visma.feature.kalmar.api.company.Company savedEntity = captor.getValue();
         assertEquals(COMPANY_ID, savedEntity.getIdContext());
@@ -63,12 +70,104 @@ class CompanyGatewayAdapterTest {
         assertEquals(PARENT_CONTEXT_ID, savedEntity.getIdContextParent());
     }
 
+    @Test
+    void save_uniqueKeyViolation_throwsResourceAlreadyExistsException() {
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
+                .thenThrow(uniqueKeyViolation("PUBLIC.UX_CONTEXT_IDCONTEXTPARENT_NAME_IDCONTEXTTYPE"));
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> companyGatewayAdapter.save(createDomainContext()));
+
+        assertEquals("Company with name '" + COMPANY_NAME + "' already exists under this customer",
+                exception.getMessage());
+    }
+
+    @Test
+    void save_organizationNumberIndexViolation_namesTheOrganizationNumber() {
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
+                .thenThrow(uniqueKeyViolation("Context.UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType"));
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> companyGatewayAdapter.save(createDomainContext()));
+
+        assertTrue(exception.getMessage().contains(ORG_NUMBER));
+        assertFalse(exception.getMessage().contains(COMPANY_NAME));
+    }
+
+    @Test
+    void save_primaryKeyViolation_reportsTheExistingId() {
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
+                .thenThrow(uniqueKeyViolation("PUBLIC.PRIMARY_KEY_6"));
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> companyGatewayAdapter.save(createDomainContext()));
+
+        assertEquals("Company already exists with id: " + COMPANY_ID, exception.getMessage());
+    }
+
+    @Test
+    void save_otherIntegrityViolation_isRethrown() {
+        var violation = new DataIntegrityViolationException("fk", new ConstraintViolationException(
+                "fk", new SQLException(), ConstraintViolationException.ConstraintKind.OTHER, "Context_ibfk_1"));
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
+                .thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> companyGatewayAdapter.save(createDomainContext())));
+    }
+
+    @Test
+    void saveAll_persistsEveryCompanyInOneCall() {
+        var other = new Context(UUID.randomUUID(), CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, "Other", "111111111");
+        when(companyRepository.persistAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = companyGatewayAdapter.saveAll(List.of(createDomainContext(), other));
+
+        assertEquals(List.of(COMPANY_ID, other.idContext()), result.stream().map(Company::idContext).toList());
+        verify(companyRepository, times(1)).persistAll(anyList());
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void saveAll_uniqueKeyViolation_throwsResourceAlreadyExistsException() {
+        when(companyRepository.persistAll(anyList()))
+                .thenThrow(uniqueKeyViolation("PUBLIC.UX_CONTEXT_IDCONTEXTPARENT_NAME_IDCONTEXTTYPE"));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> companyGatewayAdapter.saveAll(List.of(createDomainContext())));
+    }
+
+    @Test
+    void checkCreation_parentIsCustomer_returnsQueryResult() {
+        var check = new CompanyCreationCheck(false, true, COUNTRY_ID, true, false);
+        when(companyRepository.checkCreation(COMPANY_ID, PARENT_CONTEXT_ID, COMPANY_NAME, ORG_NUMBER, null))
+                .thenReturn(Optional.of(check));
+
+        assertSame(check,
+                companyGatewayAdapter.checkCreation(COMPANY_ID, PARENT_CONTEXT_ID, COMPANY_NAME, ORG_NUMBER, null));
+        verify(companyRepository, never()).existsById(any());
+    }
+
+    @Test
+    void checkCreation_parentIsNotCustomer_checksCompanyIdSeparately() {
+        when(companyRepository.checkCreation(COMPANY_ID, PARENT_CONTEXT_ID, COMPANY_NAME, ORG_NUMBER, "NO"))
+                .thenReturn(Optional.empty());
+        when(companyRepository.existsById(COMPANY_ID)).thenReturn(true);
+
+        var check = companyGatewayAdapter.checkCreation(
+                COMPANY_ID, PARENT_CONTEXT_ID, COMPANY_NAME, ORG_NUMBER, "NO");
+
+        assertTrue(check.companyExists());
+        assertFalse(check.parentIsCustomer());
+        assertNull(check.parentIdCountry());
+    }
+
     @Test
     void save_withNullParentContext_success() {
         Context domainContext = createDomainContextWithoutParent();
         com.visma.feature.kalmar.api.company.Company jpaCompany = createJpaCompanyWithoutParent();
 
-        when(companyRepository.save(any(com.visma.feature.kalmar.api.company.Company.class)))
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
                 .thenReturn(jpaCompany);
 
         Company result = companyGatewayAdapter.save(domainContext);
@@ -78,7 +177,7 @@ class CompanyGatewayAdapterTest {
 
         ArgumentCaptor<com.visma.feature.kalmar.api.company.Company> captor =
                 ArgumentCaptor.forClass(com.visma.feature.kalmar.api.company.Company.class);
-        verify(companyRepository, times(1)).save(captor.capture());
+        verify(companyRepository, times(1)).saveAndFlush(captor.capture());
 
         com.visma.feature.kalmar.api.company.Company savedEntity = captor.getValue();
         assertNull(savedEntity.getIdContextParent());
@@ -107,26 +206,46 @@ class CompanyGatewayAdapterTest {
     }
 
     @Test
-    void deleteById_companyExists_success() {
-        when(companyRepository.existsById(COMPANY_ID)).thenReturn(true);
+    void findByIdAndCustomer_companyOfCustomer_returnsContext() {
+        Context context = createDomainContext();
+        when(companyRepository.findContextByIdAndCustomer(COMPANY_ID, PARENT_CONTEXT_ID)).thenReturn(Optional.of(context));
+
+        Context result = companyGatewayAdapter.findByIdAndCustomer(COMPANY_ID, PARENT_CONTEXT_ID);
+
+        assertEquals(context, result);
+        verify(companyRepository, never()).findById(any());
+    }
+
+    @Test
+    void findByIdAndCustomer_noSuchCompany_returnsNull() {
+        when(companyRepository.findContextByIdAndCustomer(COMPANY_ID, PARENT_CONTEXT_ID)).thenReturn(Optional.empty());
 
-        companyGatewayAdapter.deleteById(COMPANY_ID);
+        assertNull(companyGatewayAdapter.findByIdAndCustomer(COMPANY_ID, PARENT_CONTEXT_ID));
+    }
+
+    @Test
+    void deleteByIdAndCustomer_companyExists_deletesCompanyThenContextRow() {
+        when(companyRepository.deleteCompanyRow(COMPANY_ID, PARENT_CONTEXT_ID)).thenReturn(1);
+
+        companyGatewayAdapter.deleteByIdAndCustomer(COMPANY_ID, PARENT_CONTEXT_ID);
 
-        verify(companyRepository, times(1)).existsById(COMPANY_ID);
-        verify(companyRepository, times(1)).deleteById(COMPANY_ID);
+        var inOrder = inOrder(companyRepository);
+        inOrder.verify(companyRepository).deleteCompanyRow(COMPANY_ID, PARENT_CONTEXT_ID);
+        inOrder.verify(companyRepository).deleteContextRow(COMPANY_ID);
+        verify(companyRepository, never()).existsById(any());
+        verify(companyRepository, never()).deleteById(any());
     }
 
     @Test
-    void deleteById_companyNotFound_throwsResourceNotFoundException() {
-        when(companyRepository.existsById(COMPANY_ID)).thenReturn(false);
+    void deleteByIdAndCustomer_companyNotFound_throwsResourceNotFoundException() {
+        when(companyRepository.deleteCompanyRow(COMPANY_ID, PARENT_CONTEXT_ID)).thenReturn(0);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> companyGatewayAdapter.deleteById(COMPANY_ID));
+                () -> companyGatewayAdapter.deleteByIdAndCustomer(COMPANY_ID, PARENT_CONTEXT_ID));
 
         assertTrue(exception.getMessage().contains("Company not found"));
         assertTrue(exception.getMessage().contains(COMPANY_ID.toString()));
-        verify(companyRepository, times(1)).existsById(COMPANY_ID);
-        verify(companyRepository, never()).deleteById(any());
+        verify(companyRepository, never()).deleteContextRow(any());
     }
 
     @Test
@@ -179,14 +298,14 @@ class CompanyGatewayAdapterTest {
     void toJpaEntity_mapsAllFieldsCorrectly() {
         Context domainContext = createDomainContext();
 
-        when(companyRepository.save(any(com.visma.feature.kalmar.api.company.Company.class)))
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         companyGatewayAdapter.save(domainContext);
 
         ArgumentCaptor<com.visma.feature.kalmar.api.company.Company> captor =
                 ArgumentCaptor.forClass(com.visma.feature.kalmar.api.company.Company.class);
-        verify(companyRepository).save(captor.capture());
+        verify(companyRepository).saveAndFlush(captor.capture());
 
         com.visma.feature.kalmar.api.company.Company jpaEntity = captor.getValue();
         assertEquals(COMPANY_ID, jpaEntity.getIdContext());
@@ -216,7 +335,7 @@ class CompanyGatewayAdapterTest {
         com.visma.feature.kalmar.api.company.Company jpaCompany1 = createJpaCompany();
         com.visma.feature.kalmar.api.company.Company jpaCompany2 = createJpaCompanyWithDifferentId();
 
-        when(companyRepository.save(any(com.visma.feature.kalmar.api.company.Company.class)))
+        when(companyRepository.saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class)))
                 .thenReturn(jpaCompany1, jpaCompany2);
 
         Company result1 = companyGatewayAdapter.save(domainContext1);
@@ -226,7 +345,25 @@ class CompanyGatewayAdapterTest {
         assertNotNull(result2);
         assertEquals(COMPANY_ID, result1.idContext());
         assertNotEquals(result1.idContext(), result2.idContext());
-        verify(companyRepository, times(2)).save(any(com.visma.feature.kalmar.api.company.Company.class));
+        verify(companyRepository, times(2)).saveAndFlush(any(com.visma.feature.kalmar.api.company.Company.class));
+    }
+
+
+    @Test
+    void findPageByCustomer_passesCustomerCursorAndLimit() {
+        var after = UUID.randomUUID();
+        var context = createDomainContext();
+        when(companyRepository.findPageByCustomer(PARENT_CONTEXT_ID, after, PageRequest.ofSize(5))).thenReturn(List.of(context));
+
+        var result = companyGatewayAdapter.findPageByCustomer(PARENT_CONTEXT_ID, after, 5);
+
+        assertEquals(List.of(context), result);
+    }
+
+    private static DataIntegrityViolationException uniqueKeyViolation(String constraintName) {
+        return new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+                "duplicate", new SQLException(), ConstraintViolationException.ConstraintKind.UNIQUE,
+                constraintName));
     }
 
     private Context createDomainContext() {
@@ -0,0 +1,58 @@
+package com.visma.kalmar.api.adapters.context;
+
+import com.visma.feature.kalmar.api.context.ContextRepository;
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ContextGatewayAdapterTest {
+
+    private static final UUID CONTEXT_ID = UUID.randomUUID();
+
+    @Mock
+    private ContextRepository contextRepository;
+
+    private ContextGatewayAdapter contextGatewayAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        contextGatewayAdapter = new ContextGatewayAdapter(contextRepository);
+    }
+
+    @Test
+    void findById_existing_readsContextColumnsOnly() {
+        var context = new Context(CONTEXT_ID, UUID.randomUUID(), null, UUID.randomUUID(), "Acme", "123456789");
+        when(contextRepository.findContextById(CONTEXT_ID)).thenReturn(Optional.of(context));
+
+        assertEquals(context, contextGatewayAdapter.findById(CONTEXT_ID));
+
+        verify(contextRepository, never()).findById(any());
+    }
+
+    @Test
+    void findById_missing_throwsResourceNotFound() {
+        when(contextRepository.findContextById(CONTEXT_ID)).thenReturn(Optional.empty());
+
+        var exception = assertThrows(ResourceNotFoundException.class, () -> contextGatewayAdapter.findById(CONTEXT_ID));
+
+        assertTrue(exception.getMessage().contains(CONTEXT_ID.toString()));
+    }
+
+    @Test
+    void existsById_delegatesToRepository() {
+        when(contextRepository.existsById(CONTEXT_ID)).thenReturn(true);
+
+        assertTrue(contextGatewayAdapter.existsById(CONTEXT_ID));
+    }
+}
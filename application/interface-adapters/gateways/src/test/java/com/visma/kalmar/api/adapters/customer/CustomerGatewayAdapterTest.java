@@ -2,14 +2,20 @@ package com.visma.kalmar.api.adapters.customer;
 
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.customer.Customer;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,7 +48,7 @@ class CustomerGatewayAdapterTest {
         Context domainContext = createDomainContext();
         com.visma.feature.kalmar.api.customer.Customer jpaCustomer = createJpaCustomer();
 
-        when(customerRepository.save(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
                 .thenReturn(jpaCustomer);
 
         Customer result = customerGatewayAdapter.save(domainContext);
@@ -52,7 +58,7 @@ class CustomerGatewayAdapterTest {
 
         ArgumentCaptor<com.visma.feature.kalmar.api.customer.Customer> captor =
                 ArgumentCaptor.forClass(com.visma.feature.kalmar.api.customer.Customer.class);
-        verify(customerRepository, times(1)).save(captor.capture());
+        verify(customerRepository, times(1)).saveAndFlush(captor.capture());
 
         com.visma.feature.kalmar.api.customer.Customer savedEntity = captor.getValue();
         assertEquals(CUSTOMER_ID, savedEntity.getIdContext());
@@ -68,7 +74,7 @@ class CustomerGatewayAdapterTest {
         Context domainContext = createDomainContextWithoutParent();
         com.visma.feature.kalmar.api.customer.Customer jpaCustomer = createJpaCustomerWithoutParent();
 
-        when(customerRepository.save(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
                 .thenReturn(jpaCustomer);
 
         Customer result = customerGatewayAdapter.save(domainContext);
@@ -78,12 +84,68 @@ class CustomerGatewayAdapterTest {
 
         ArgumentCaptor<com.visma.feature.kalmar.api.customer.Customer> captor =
                 ArgumentCaptor.forClass(com.visma.feature.kalmar.api.customer.Customer.class);
-        verify(customerRepository, times(1)).save(captor.capture());
+        verify(customerRepository, times(1)).saveAndFlush(captor.capture());
 
         com.visma.feature.kalmar.api.customer.Customer savedEntity = captor.getValue();
         assertNull(savedEntity.getIdContextParent());
     }
 
+    @Test
+    void save_nameIndexViolation_namesTheCustomer() {
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+                .thenThrow(uniqueKeyViolation("PUBLIC.UX_CONTEXT_IDCONTEXTPARENT_NAME_IDCONTEXTTYPE"));
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> customerGatewayAdapter.save(createDomainContext()));
+
+        assertEquals("Customer with name '" + CUSTOMER_NAME + "' already exists under this parent context",
+                exception.getMessage());
+    }
+
+    @Test
+    void save_organizationNumberIndexViolation_namesTheOrganizationNumber() {
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+                .thenThrow(uniqueKeyViolation("Context.UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType"));
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> customerGatewayAdapter.save(createDomainContext()));
+
+        assertTrue(exception.getMessage().contains(ORG_NUMBER));
+        assertFalse(exception.getMessage().contains(CUSTOMER_NAME));
+    }
+
+    @Test
+    void save_primaryKeyViolation_reportsTheExistingId() {
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+                .thenThrow(uniqueKeyViolation("PUBLIC.PRIMARY_KEY_6"));
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> customerGatewayAdapter.save(createDomainContext()));
+
+        assertEquals("Customer already exists with id: " + CUSTOMER_ID, exception.getMessage());
+    }
+
+    @Test
+    void saveAll_persistsEveryCustomerInOneCall() {
+        var other = new Context(UUID.randomUUID(), CONTEXT_TYPE_ID, null, COUNTRY_ID, "Other", "111111111");
+        when(customerRepository.persistAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = customerGatewayAdapter.saveAll(List.of(createDomainContext(), other));
+
+        assertEquals(List.of(CUSTOMER_ID, other.idContext()), result.stream().map(Customer::idContext).toList());
+        verify(customerRepository, times(1)).persistAll(anyList());
+        verify(customerRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void saveAll_uniqueKeyViolation_throwsResourceAlreadyExistsException() {
+        when(customerRepository.persistAll(anyList()))
+                .thenThrow(uniqueKeyViolation("Context.UX_Context_IdContextParent_OrgNumber_IdCountry_IdContextType"));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> customerGatewayAdapter.saveAll(List.of(createDomainContext())));
+    }
+
     @Test
     void findById_customerExists_success() {
         com.visma.feature.kalmar.api.customer.Customer jpaCustomer = createJpaCustomer();
@@ -107,40 +169,49 @@ class CustomerGatewayAdapterTest {
     }
 
     @Test
-    void deleteById_customerExists_success() {
+    void existsById_asksTheCustomerTable() {
         when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(true);
 
+        assertTrue(customerGatewayAdapter.existsById(CUSTOMER_ID));
+        verify(customerRepository).existsById(CUSTOMER_ID);
+    }
+
+    @Test
+    void deleteById_customerExists_deletesCustomerThenContextRow() {
+        when(customerRepository.deleteCustomerRow(CUSTOMER_ID)).thenReturn(1);
+
         customerGatewayAdapter.deleteById(CUSTOMER_ID);
 
-        verify(customerRepository, times(1)).existsById(CUSTOMER_ID);
-        verify(customerRepository, times(1)).deleteById(CUSTOMER_ID);
+        var inOrder = inOrder(customerRepository);
+        inOrder.verify(customerRepository).deleteCustomerRow(CUSTOMER_ID);
+        inOrder.verify(customerRepository).deleteContextRow(CUSTOMER_ID);
+        verify(customerRepository, never()).existsById(any());
     }
 
     @Test
     void deleteById_customerNotFound_throwsResourceNotFoundException() {
-        when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(false);
+        when(customerRepository.deleteCustomerRow(CUSTOMER_ID)).thenReturn(0);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> customerGatewayAdapter.deleteById(CUSTOMER_ID));
 
         assertTrue(exception.getMessage().contains("Customer not found"));
         assertTrue(exception.getMessage().contains(CUSTOMER_ID.toString()));
-        verify(customerRepository, times(1)).existsById(CUSTOMER_ID);
-        verify(customerRepository, never()).deleteById(any());
+        verify(customerRepository, never()).deleteContextRow(any());
     }
 
     @Test
     void toJpaEntity_mapsAllFieldsCorrectly() {
         Context domainContext = createDomainContext();
 
-        when(customerRepository.save(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         customerGatewayAdapter.save(domainContext);
 
         ArgumentCaptor<com.visma.feature.kalmar.api.customer.Customer> captor =
                 ArgumentCaptor.forClass(com.visma.feature.kalmar.api.customer.Customer.class);
-        verify(customerRepository).save(captor.capture());
+        verify(customerRepository).saveAndFlush(captor.capture());
 
         com.visma.feature.kalmar.api.customer.Customer jpaEntity = captor.getValue();
         assertEquals(CUSTOMER_ID, jpaEntity.getIdContext());
@@ -170,7 +241,7 @@ class CustomerGatewayAdapterTest {
         com.visma.feature.kalmar.api.customer.Customer jpaCustomer1 = createJpaCustomer();
         com.visma.feature.kalmar.api.customer.Customer jpaCustomer2 = createJpaCustomerWithDifferentId();
 
-        when(customerRepository.save(any(com.visma.feature.kalmar.api.customer.Customer.class)))
+        when(customerRepository.saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class)))
                 .thenReturn(jpaCustomer1, jpaCustomer2);
 
         Customer result1 = customerGatewayAdapter.save(domainContext1);
@@ -180,7 +251,23 @@ class CustomerGatewayAdapterTest {
         assertNotNull(result2);
         assertEquals(CUSTOMER_ID, result1.idContext());
         assertNotEquals(result1.idContext(), result2.idContext());
-        verify(customerRepository, times(2)).save(any(com.visma.feature.kalmar.api.customer.Customer.class));
+        verify(customerRepository, times(2)).saveAndFlush(any(com.visma.feature.kalmar.api.customer.Customer.class));
+    }
+
+    @Test
+    void findPage_firstPage_startsAfterLowestId() {
+        var context = new Context(CUSTOMER_ID, CONTEXT_TYPE_ID, null, COUNTRY_ID, CUSTOMER_NAME, ORG_NUMBER);
+        when(customerRepository.findPage(new UUID(0L, 0L), PageRequest.ofSize(51))).thenReturn(List.of(context));
+
+        var result = customerGatewayAdapter.findPage(null, 51);
+
+        assertEquals(List.of(context), result);
+    }
+
+    private static DataIntegrityViolationException uniqueKeyViolation(String constraintName) {
+        return new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+                "duplicate", new SQLException(), ConstraintViolationException.ConstraintKind.UNIQUE,
+                constraintName));
     }
 
     private Context createDomainContext() {
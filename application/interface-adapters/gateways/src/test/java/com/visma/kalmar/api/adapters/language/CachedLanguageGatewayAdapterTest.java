@@ -0,0 +1,64 @@
+package com.visma.kalmar.api.adapters.language;
+
+import com.visma.kalmar.api.adapters.referencedata.ReferenceDataCache;
+import com.visma.kalmar.api.entities.language.Language;
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.language.LanguageGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachedLanguageGatewayAdapterTest {
+
+    private static final Language LANGUAGE = new Language(UUID.randomUUID(), "English", "en");
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private LanguageGateway languageGateway;
+
+    private CachedLanguageGatewayAdapter cachedLanguageGatewayAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        cachedLanguageGatewayAdapter = new CachedLanguageGatewayAdapter(referenceDataCache, languageGateway);
+    }
+
+    @Test
+    void findByCode_cached_doesNotCallDelegate() {
+        when(referenceDataCache.findLanguageByCode("en")).thenReturn(Optional.of(LANGUAGE));
+
+        assertEquals(LANGUAGE, cachedLanguageGatewayAdapter.findByCode("en"));
+
+        verifyNoInteractions(languageGateway);
+    }
+
+    @Test
+    void findByCode_notCached_fallsBackToDelegate() {
+        when(referenceDataCache.findLanguageByCode("en")).thenReturn(Optional.empty());
+        when(languageGateway.findByCode("en")).thenReturn(LANGUAGE);
+
+        assertEquals(LANGUAGE, cachedLanguageGatewayAdapter.findByCode("en"));
+
+        verify(languageGateway, times(1)).findByCode("en");
+    }
+
+    @Test
+    void findById_unknownLanguage_propagatesNotFound() {
+        var idLanguage = UUID.randomUUID();
+        when(referenceDataCache.findLanguageById(idLanguage)).thenReturn(Optional.empty());
+        when(languageGateway.findById(idLanguage))
+                .thenThrow(new ResourceNotFoundException("Language", "Language not found with id: " + idLanguage));
+
+        assertThrows(ResourceNotFoundException.class, () -> cachedLanguageGatewayAdapter.findById(idLanguage));
+    }
+}
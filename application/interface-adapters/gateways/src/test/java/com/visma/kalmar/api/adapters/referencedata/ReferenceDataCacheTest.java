@@ -0,0 +1,95 @@
+package com.visma.kalmar.api.adapters.referencedata;
+
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.language.Language;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataCacheTest {
+
+    private static final UUID LANGUAGE_ID = UUID.randomUUID();
+    private static final UUID COUNTRY_ID = UUID.randomUUID();
+    private static final UUID CONTEXT_TYPE_ID = UUID.randomUUID();
+
+    @Mock
+    private LanguageRepository languageRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ContextTypeRepository contextTypeRepository;
+
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(languageRepository.findAll()).thenReturn(List.of(new Language(LANGUAGE_ID, "English", "en")));
+        when(countryRepository.findAll()).thenReturn(List.of(new Country(COUNTRY_ID, "Norway", "NO")));
+        when(contextTypeRepository.findAll()).thenReturn(List.of(new ContextType(CONTEXT_TYPE_ID, "Company")));
+        referenceDataCache = new ReferenceDataCache(languageRepository, countryRepository, contextTypeRepository);
+    }
+
+    @Test
+    void lookups_beforeRefresh_miss() {
+        assertTrue(referenceDataCache.findLanguageByCode("en").isEmpty());
+        assertTrue(referenceDataCache.findCountryById(COUNTRY_ID).isEmpty());
+
+        assertEquals(0, referenceDataCache.hitCount());
+        assertEquals(2, referenceDataCache.missCount());
+        assertEquals(0, referenceDataCache.size());
+    }
+
+    @Test
+    void lookups_afterRefresh_hitWithoutQueryingRepositories() {
+        referenceDataCache.refresh();
+
+        assertEquals(LANGUAGE_ID, referenceDataCache.findLanguageByCode("en").orElseThrow().idLanguage());
+        assertEquals("en", referenceDataCache.findLanguageById(LANGUAGE_ID).orElseThrow().code());
+        assertEquals(COUNTRY_ID, referenceDataCache.findCountryByCode("NO").orElseThrow().idCountry());
+        assertEquals("NO", referenceDataCache.findCountryById(COUNTRY_ID).orElseThrow().code());
+        assertEquals(CONTEXT_TYPE_ID, referenceDataCache.findContextTypeByName("Company").orElseThrow().idContextType());
+
+        assertEquals(5, referenceDataCache.hitCount());
+        assertEquals(0, referenceDataCache.missCount());
+        assertEquals(3, referenceDataCache.size());
+        verify(languageRepository, never()).findByCode(any());
+        verify(countryRepository, never()).findByCode(any());
+        verify(contextTypeRepository, never()).findByName(any());
+    }
+
+    @Test
+    void lookup_unknownOrNullKey_countedAsMiss() {
+        referenceDataCache.refresh();
+
+        assertTrue(referenceDataCache.findLanguageByCode("xx").isEmpty());
+        assertTrue(referenceDataCache.findContextTypeByName(null).isEmpty());
+
+        assertEquals(2, referenceDataCache.missCount());
+    }
+
+    @Test
+    void refresh_replacesSnapshot() {
+        referenceDataCache.refresh();
+        var swedishId = UUID.randomUUID();
+        when(languageRepository.findAll()).thenReturn(List.of(new Language(swedishId, "Swedish", "sv")));
+
+        referenceDataCache.refresh();
+
+        assertTrue(referenceDataCache.findLanguageByCode("en").isEmpty());
+        assertEquals(swedishId, referenceDataCache.findLanguageByCode("sv").orElseThrow().idLanguage());
+    }
+}
@@ -1,14 +1,22 @@
 package com.visma.kalmar.api.adapters.role;
 
 import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.role.RoleCreationCheck;
 import com.visma.feature.kalmar.api.role.RoleRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,7 +48,7 @@ class RoleGatewayAdapterTest {
         Role domainRole = createDomainRole();
         com.visma.feature.kalmar.api.role.Role repositoryRole = createRepositoryRole();
 
-        when(roleRepository.save(any(com.visma.feature.kalmar.api.role.Role.class)))
+        when(roleRepository.saveAndFlush(any(com.visma.feature.kalmar.api.role.Role.class)))
                 .thenReturn(repositoryRole);
 
         Role result = roleGatewayAdapter.save(domainRole);
@@ -51,7 +59,7 @@ class RoleGatewayAdapterTest {
         assertEquals(INVARIANT_KEY, result.invariantKey());
         assertEquals(DESCRIPTION, result.description());
         assertEquals(RECORD_VERSION, result.recordVersion());
-        verify(roleRepository, times(1)).save(any(com.visma.feature.kalmar.api.role.Role.class));
+        verify(roleRepository, times(1)).saveAndFlush(any(com.visma.feature.kalmar.api.role.Role.class));
     }
 
     @Test
@@ -105,11 +113,9 @@ class RoleGatewayAdapterTest {
     @Test
     void update_success() {
         Role domainRole = createDomainRole();
-        com.visma.feature.kalmar.api.role.Role repositoryRole = createRepositoryRole();
 
-        when(roleRepository.findById(ROLE_ID)).thenReturn(Optional.of(repositoryRole));
-        when(roleRepository.save(any(com.visma.feature.kalmar.api.role.Role.class)))
-                .thenReturn(repositoryRole);
+        when(roleRepository.updateRole(ROLE_ID, NAME, INVARIANT_KEY, DESCRIPTION, domainRole.whenEdited(),
+                RECORD_VERSION)).thenReturn(1);
 
         Role result = roleGatewayAdapter.update(domainRole);
 
@@ -118,20 +124,59 @@ class RoleGatewayAdapterTest {
         assertEquals(NAME, result.name());
         assertEquals(INVARIANT_KEY, result.invariantKey());
         assertEquals(DESCRIPTION, result.description());
-        verify(roleRepository, times(1)).findById(ROLE_ID);
-        verify(roleRepository, times(1)).save(any(com.visma.feature.kalmar.api.role.Role.class));
+        assertEquals(RECORD_VERSION + 1, result.recordVersion());
+        verify(roleRepository, never()).findById(ROLE_ID);
+        verify(roleRepository, never()).saveAndFlush(any(com.visma.feature.kalmar.api.role.Role.class));
     }
 
     @Test
     void update_roleNotFound() {
         Role domainRole = createDomainRole();
 
-        when(roleRepository.findById(ROLE_ID)).thenReturn(Optional.empty());
+        when(roleRepository.updateRole(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(roleRepository.existsById(ROLE_ID)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> roleGatewayAdapter.update(domainRole));
-        verify(roleRepository, times(1)).findById(ROLE_ID);
-        verify(roleRepository, never()).save(any(com.visma.feature.kalmar.api.role.Role.class));
+        verify(roleRepository, never()).saveAndFlush(any(com.visma.feature.kalmar.api.role.Role.class));
+    }
+
+    @Test
+    void update_staleRecordVersion_throwsRecordVersionConflictException() {
+        Role domainRole = createDomainRole();
+
+        when(roleRepository.updateRole(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(roleRepository.existsById(ROLE_ID)).thenReturn(true);
+
+        assertThrows(RecordVersionConflictException.class,
+                () -> roleGatewayAdapter.update(domainRole));
+    }
+
+    @Test
+    void save_uniqueKeyViolation_throwsResourceAlreadyExistsException() {
+        when(roleRepository.saveAndFlush(any(com.visma.feature.kalmar.api.role.Role.class)))
+                .thenThrow(uniqueKeyViolation());
+
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
+                () -> roleGatewayAdapter.save(createDomainRole()));
+
+        assertTrue(exception.getMessage().contains(INVARIANT_KEY));
+    }
+
+    @Test
+    void update_uniqueKeyViolation_throwsResourceAlreadyExistsException() {
+        when(roleRepository.updateRole(any(), any(), any(), any(), any(), any())).thenThrow(uniqueKeyViolation());
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> roleGatewayAdapter.update(createDomainRole()));
+    }
+
+    @Test
+    void checkCreation_returnsQueryResult() {
+        var check = new RoleCreationCheck(false, true);
+        when(roleRepository.checkCreation(INVARIANT_KEY, NAME)).thenReturn(check);
+
+        assertSame(check, roleGatewayAdapter.checkCreation(INVARIANT_KEY, NAME));
     }
 
     @Test
@@ -196,24 +241,38 @@ class RoleGatewayAdapterTest {
 
     @Test
     void deleteById_success() {
-        com.visma.feature.kalmar.api.role.Role repositoryRole = createRepositoryRole();
-
-        when(roleRepository.findById(ROLE_ID)).thenReturn(Optional.of(repositoryRole));
+        when(roleRepository.deleteRole(ROLE_ID)).thenReturn(1);
 
         roleGatewayAdapter.deleteById(ROLE_ID);
 
-        verify(roleRepository, times(1)).findById(ROLE_ID);
-        verify(roleRepository, times(1)).delete(repositoryRole);
+        verify(roleRepository, times(1)).deleteRole(ROLE_ID);
+        verify(roleRepository, never()).findById(ROLE_ID);
     }
 
     @Test
     void deleteById_roleNotFound() {
-        when(roleRepository.findById(ROLE_ID)).thenReturn(Optional.empty());
+        when(roleRepository.deleteRole(ROLE_ID)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> roleGatewayAdapter.deleteById(ROLE_ID));
-        verify(roleRepository, times(1)).findById(ROLE_ID);
-        verify(roleRepository, never()).delete(any(com.visma.feature.kalmar.api.role.Role.class));
+        verify(roleRepository, times(1)).deleteRole(ROLE_ID);
+    }
+
+
+    @Test
+    void findPageOrderedByInvariantKey_passesCursorAndLimit() {
+        var role = new Role(ROLE_ID, NAME, INVARIANT_KEY, DESCRIPTION, RECORD_VERSION, new Date());
+        when(roleRepository.findPageOrderedByInvariantKey("ACCOUNTANT", PageRequest.ofSize(3))).thenReturn(List.of(role));
+
+        var result = roleGatewayAdapter.findPageOrderedByInvariantKey("ACCOUNTANT", 3);
+
+        assertEquals(List.of(role), result);
+    }
+
+    private static DataIntegrityViolationException uniqueKeyViolation() {
+        return new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+                "duplicate", new SQLException(), ConstraintViolationException.ConstraintKind.UNIQUE,
+                "UX_Role_InvariantKey"));
     }
 
     private Role createDomainRole() {
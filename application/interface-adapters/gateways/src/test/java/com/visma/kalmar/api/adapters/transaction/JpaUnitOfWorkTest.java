@@ -0,0 +1,70 @@
+package com.visma.kalmar.api.adapters.transaction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JpaUnitOfWorkTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private JpaUnitOfWork jpaUnitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        jpaUnitOfWork = new JpaUnitOfWork(transactionManager);
+    }
+
+    @Test
+    void execute_RunsWorkInReadWriteTransactionAndCommits() {
+        var ran = new boolean[1];
+
+        jpaUnitOfWork.execute(() -> ran[0] = true);
+
+        assertTrue(ran[0]);
+        assertFalse(capturedDefinition().isReadOnly());
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void executeReadOnly_RunsWorkInReadOnlyTransaction() {
+        jpaUnitOfWork.executeReadOnly(() -> {});
+
+        assertTrue(capturedDefinition().isReadOnly());
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void execute_WhenWorkThrows_RollsBackAndRethrows() {
+        var failure = new IllegalStateException("boom");
+
+        var thrown = assertThrows(IllegalStateException.class, () -> jpaUnitOfWork.execute(() -> {
+            throw failure;
+        }));
+
+        assertSame(failure, thrown);
+        verify(transactionManager).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private TransactionDefinition capturedDefinition() {
+        var definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        return definition.getValue();
+    }
+}
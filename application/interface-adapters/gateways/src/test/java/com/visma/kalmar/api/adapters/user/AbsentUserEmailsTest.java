@@ -0,0 +1,73 @@
+package com.visma.kalmar.api.adapters.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbsentUserEmailsTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private AbsentUserEmails absentUserEmails;
+
+    @BeforeEach
+    void setUp() {
+        absentUserEmails = new AbsentUserEmails(TIME_TO_LIVE, 2, nanoTime::get);
+    }
+
+    @Test
+    void contains_withinTimeToLive_returnsTrue() {
+        absentUserEmails.add("a@example.com");
+
+        assertTrue(absentUserEmails.contains("a@example.com"));
+        assertFalse(absentUserEmails.contains("b@example.com"));
+        assertEquals(1, absentUserEmails.hitCount());
+        assertEquals(1, absentUserEmails.missCount());
+    }
+
+    @Test
+    void contains_afterTimeToLive_returnsFalse() {
+        absentUserEmails.add("a@example.com");
+        nanoTime.addAndGet(TIME_TO_LIVE.toNanos());
+
+        assertFalse(absentUserEmails.contains("a@example.com"));
+    }
+
+    @Test
+    void remove_forgetsEmail() {
+        absentUserEmails.add("a@example.com");
+
+        absentUserEmails.remove("a@example.com");
+
+        assertFalse(absentUserEmails.contains("a@example.com"));
+    }
+
+    @Test
+    void add_overMaximumSize_dropsTheLeastRecentlyUsedEmail() {
+        absentUserEmails.add("a@example.com");
+        absentUserEmails.add("b@example.com");
+        absentUserEmails.contains("a@example.com");
+
+        absentUserEmails.add("c@example.com");
+
+        assertEquals(2, absentUserEmails.size());
+        assertTrue(absentUserEmails.contains("a@example.com"));
+        assertFalse(absentUserEmails.contains("b@example.com"));
+        assertTrue(absentUserEmails.contains("c@example.com"));
+    }
+
+    @Test
+    void add_zeroTimeToLive_remembersNothing() {
+        var disabled = new AbsentUserEmails(Duration.ZERO, 2, nanoTime::get);
+
+        disabled.add("a@example.com");
+
+        assertFalse(disabled.contains("a@example.com"));
+        assertEquals(0, disabled.size());
+    }
+}
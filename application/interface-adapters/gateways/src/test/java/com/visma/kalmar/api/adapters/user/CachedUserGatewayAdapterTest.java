@@ -0,0 +1,121 @@
+package com.visma.kalmar.api.adapters.user;
+
+import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.user.UserGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachedUserGatewayAdapterTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final User USER =
+            new User(UUID.randomUUID(), UUID.randomUUID(), EMAIL, "John", "Doe", 1L, new Date());
+
+    @Mock
+    private UserGateway userGateway;
+
+    private AbsentUserEmails absentUserEmails;
+    private CachedUserGatewayAdapter cachedUserGatewayAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        absentUserEmails = new AbsentUserEmails(Duration.ofMinutes(1), 100);
+        cachedUserGatewayAdapter = new CachedUserGatewayAdapter(absentUserEmails, userGateway);
+    }
+
+    @Test
+    void findByEmail_knownAbsent_doesNotCallDelegate() {
+        when(userGateway.findByEmail(EMAIL))
+                .thenThrow(new ResourceNotFoundException("User", "User not found with email: " + EMAIL));
+
+        assertThrows(ResourceNotFoundException.class, () -> cachedUserGatewayAdapter.findByEmail(EMAIL));
+        assertThrows(ResourceNotFoundException.class, () -> cachedUserGatewayAdapter.findByEmail("Test@Example.com"));
+
+        verify(userGateway, times(1)).findByEmail(any());
+    }
+
+    @Test
+    void findByEmail_found_isNotRememberedAsAbsent() {
+        when(userGateway.findByEmail(EMAIL)).thenReturn(USER);
+
+        assertEquals(USER, cachedUserGatewayAdapter.findByEmail(EMAIL));
+        assertEquals(USER, cachedUserGatewayAdapter.findByEmail(EMAIL));
+
+        verify(userGateway, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void existsByEmail_knownAbsent_queriesDelegate() {
+        absentUserEmails.add(EMAIL);
+        when(userGateway.existsByEmail(EMAIL)).thenReturn(true);
+
+        assertTrue(cachedUserGatewayAdapter.existsByEmail(EMAIL));
+
+        verify(userGateway, times(1)).existsByEmail(EMAIL);
+    }
+
+    @Test
+    void existsByEmail_absent_isNotRemembered() {
+        when(userGateway.existsByEmail(EMAIL)).thenReturn(false);
+
+        assertFalse(cachedUserGatewayAdapter.existsByEmail(EMAIL));
+
+        assertEquals(0, absentUserEmails.size());
+    }
+
+    @Test
+    void save_forgetsAbsentEmail() {
+        absentUserEmails.add(EMAIL);
+        when(userGateway.save(USER)).thenReturn(USER);
+        when(userGateway.findByEmail(EMAIL)).thenReturn(USER);
+
+        cachedUserGatewayAdapter.save(USER);
+
+        assertEquals(USER, cachedUserGatewayAdapter.findByEmail(EMAIL));
+    }
+
+    @Test
+    void save_duplicateEmail_forgetsAbsentEmail() {
+        absentUserEmails.add(EMAIL);
+        when(userGateway.save(USER)).thenThrow(new ResourceAlreadyExistsException("User", "exists"));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> cachedUserGatewayAdapter.save(USER));
+
+        assertFalse(absentUserEmails.contains(EMAIL));
+    }
+
+    @Test
+    void update_forgetsAbsentEmail() {
+        absentUserEmails.add(EMAIL);
+        when(userGateway.update(USER)).thenReturn(USER);
+
+        cachedUserGatewayAdapter.update(USER);
+
+        assertFalse(absentUserEmails.contains(EMAIL));
+    }
+
+    @Test
+    void findExistingEmails_knownAbsent_queriesDelegate() {
+        absentUserEmails.add(EMAIL);
+        var emails = List.of(EMAIL, "new@example.com");
+        when(userGateway.findExistingEmails(emails)).thenReturn(Set.of(EMAIL));
+
+        assertEquals(Set.of(EMAIL), cachedUserGatewayAdapter.findExistingEmails(emails));
+
+        assertFalse(absentUserEmails.contains("new@example.com"));
+    }
+}
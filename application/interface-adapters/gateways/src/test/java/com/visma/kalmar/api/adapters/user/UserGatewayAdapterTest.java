@@ -1,19 +1,28 @@
 package com.visma.kalmar.api.adapters.user;
 
 import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
+import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.feature.kalmar.api.user.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 class UserGatewayAdapterTest {
@@ -41,7 +50,7 @@ class UserGatewayAdapterTest {
         User domainUser = createDomainUser();
         com.visma.feature.kalmar.api.user.User repositoryUser = createRepositoryUser();
 
-        when(userRepository.save(any(com.visma.feature.kalmar.api.user.User.class)))
+        when(userRepository.saveAndFlush(any(com.visma.feature.kalmar.api.user.User.class)))
                 .thenReturn(repositoryUser);
 
         User result = userGatewayAdapter.save(domainUser);
@@ -53,7 +62,27 @@ class UserGatewayAdapterTest {
         assertEquals(FIRST_NAME, result.firstName());
         assertEquals(LAST_NAME, result.lastName());
         assertEquals(RECORD_VERSION, result.recordVersion());
-        verify(userRepository, times(1)).save(any(com.visma.feature.kalmar.api.user.User.class));
+        verify(userRepository, times(1)).saveAndFlush(argThat(user -> EMAIL.equals(user.getNormalizedEmail())));
+    }
+
+    @Test
+    void save_normalizesEmailForTheUniqueIndex() {
+        when(userRepository.saveAndFlush(any(com.visma.feature.kalmar.api.user.User.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        userGatewayAdapter.save(new User(USER_ID, LANGUAGE_ID, "Test@Example.COM", FIRST_NAME, LAST_NAME,
+                RECORD_VERSION, new Date()));
+
+        verify(userRepository).saveAndFlush(argThat(user ->
+                "Test@Example.COM".equals(user.getEmail()) && EMAIL.equals(user.getNormalizedEmail())));
+    }
+
+    @Test
+    void save_duplicateEmail_throwsResourceAlreadyExistsException() {
+        when(userRepository.saveAndFlush(any(com.visma.feature.kalmar.api.user.User.class)))
+                .thenThrow(uniqueKeyViolation());
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> userGatewayAdapter.save(createDomainUser()));
     }
 
     @Test
@@ -84,7 +113,7 @@ class UserGatewayAdapterTest {
     @Test
     void findByEmail_success() {
         com.visma.feature.kalmar.api.user.User repositoryUser = createRepositoryUser();
-        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(repositoryUser));
+        when(userRepository.findByNormalizedEmail(EMAIL)).thenReturn(Optional.of(repositoryUser));
 
         User result = userGatewayAdapter.findByEmail(EMAIL);
 
@@ -94,26 +123,33 @@ class UserGatewayAdapterTest {
         assertEquals(EMAIL, result.email());
         assertEquals(FIRST_NAME, result.firstName());
         assertEquals(LAST_NAME, result.lastName());
-        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository, times(1)).findByNormalizedEmail(EMAIL);
+    }
+
+    @Test
+    void findByEmail_differentCase_looksUpNormalizedEmail() {
+        when(userRepository.findByNormalizedEmail(EMAIL)).thenReturn(Optional.of(createRepositoryUser()));
+
+        User result = userGatewayAdapter.findByEmail("TEST@example.com");
+
+        assertEquals(USER_ID, result.idUser());
     }
 
     @Test
     void findByEmail_notFound() {
-        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        when(userRepository.findByNormalizedEmail(EMAIL)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
                 () -> userGatewayAdapter.findByEmail(EMAIL));
-        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository, times(1)).findByNormalizedEmail(EMAIL);
     }
 
     @Test
     void update_success() {
         User domainUser = createDomainUser();
-        com.visma.feature.kalmar.api.user.User repositoryUser = createRepositoryUser();
 
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(repositoryUser));
-        when(userRepository.save(any(com.visma.feature.kalmar.api.user.User.class)))
-                .thenReturn(repositoryUser);
+        when(userRepository.updateUser(USER_ID, LANGUAGE_ID, EMAIL, EMAIL, FIRST_NAME, LAST_NAME,
+                domainUser.whenEdited(), RECORD_VERSION)).thenReturn(1);
 
         User result = userGatewayAdapter.update(domainUser);
 
@@ -123,40 +159,60 @@ class UserGatewayAdapterTest {
         assertEquals(EMAIL, result.email());
         assertEquals(FIRST_NAME, result.firstName());
         assertEquals(LAST_NAME, result.lastName());
-        verify(userRepository, times(1)).findById(USER_ID);
-        verify(userRepository, times(1)).save(any(com.visma.feature.kalmar.api.user.User.class));
+        assertEquals(RECORD_VERSION + 1, result.recordVersion());
+        verify(userRepository, never()).findById(USER_ID);
+        verify(userRepository, never()).save(any(com.visma.feature.kalmar.api.user.User.class));
     }
 
     @Test
     void update_userNotFound() {
         User domainUser = createDomainUser();
 
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.updateUser(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(userRepository.existsById(USER_ID)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> userGatewayAdapter.update(domainUser));
-        verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, never()).save(any(com.visma.feature.kalmar.api.user.User.class));
     }
 
+    @Test
+    void update_staleRecordVersion_throwsRecordVersionConflictException() {
+        User domainUser = createDomainUser();
+
+        when(userRepository.updateUser(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        assertThrows(RecordVersionConflictException.class,
+                () -> userGatewayAdapter.update(domainUser));
+    }
+
+    @Test
+    void update_emailTakenByAnotherUser_throwsResourceAlreadyExistsException() {
+        when(userRepository.updateUser(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(uniqueKeyViolation());
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> userGatewayAdapter.update(createDomainUser()));
+    }
+
     @Test
     void existsByEmail_returnsTrue() {
-        when(userRepository.existsByEmail(EMAIL)).thenReturn(true);
+        when(userRepository.existsByNormalizedEmail(EMAIL)).thenReturn(true);
 
         boolean result = userGatewayAdapter.existsByEmail(EMAIL);
 
         assertTrue(result);
-        verify(userRepository, times(1)).existsByEmail(EMAIL);
+        verify(userRepository, times(1)).existsByNormalizedEmail(EMAIL);
     }
 
     @Test
     void existsByEmail_returnsFalse() {
-        when(userRepository.existsByEmail(EMAIL)).thenReturn(false);
+        when(userRepository.existsByNormalizedEmail(EMAIL)).thenReturn(false);
 
         boolean result = userGatewayAdapter.existsByEmail(EMAIL);
 
         assertFalse(result);
-        verify(userRepository, times(1)).existsByEmail(EMAIL);
+        verify(userRepository, times(1)).existsByNormalizedEmail(EMAIL);
     }
 
     @Test
@@ -181,24 +237,65 @@ class UserGatewayAdapterTest {
 
     @Test
     void deleteById_success() {
-        com.visma.feature.kalmar.api.user.User repositoryUser = createRepositoryUser();
-
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(repositoryUser));
+        when(userRepository.deleteUser(USER_ID)).thenReturn(1);
 
         userGatewayAdapter.deleteById(USER_ID);
 
-        verify(userRepository, times(1)).findById(USER_ID);
-        verify(userRepository, times(1)).delete(repositoryUser);
+        verify(userRepository, times(1)).deleteUser(USER_ID);
+        verify(userRepository, never()).findById(USER_ID);
     }
 
     @Test
     void deleteById_userNotFound() {
-        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.deleteUser(USER_ID)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> userGatewayAdapter.deleteById(USER_ID));
-        verify(userRepository, times(1)).findById(USER_ID);
-        verify(userRepository, never()).delete(any(com.visma.feature.kalmar.api.user.User.class));
+        verify(userRepository, times(1)).deleteUser(USER_ID);
+    }
+
+    @Test
+    void saveAll_persistsEveryUser() {
+        when(userRepository.persistAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<User> result = userGatewayAdapter.saveAll(List.of(createDomainUser()));
+
+        assertEquals(1, result.size());
+        assertEquals(USER_ID, result.get(0).idUser());
+        assertEquals(EMAIL, result.get(0).email());
+        verify(userRepository, times(1)).persistAll(anyList());
+        verify(userRepository, never()).save(any(com.visma.feature.kalmar.api.user.User.class));
+    }
+
+    @Test
+    void findExistingEmails_returnsEmailsFoundInOneQuery() {
+        when(userRepository.findNormalizedEmailsIn(List.of(EMAIL, "other@example.com"))).thenReturn(List.of(EMAIL));
+
+        Set<String> result = userGatewayAdapter.findExistingEmails(List.of("Test@Example.com", "other@example.com"));
+
+        assertEquals(Set.of(EMAIL), result);
+    }
+
+    @Test
+    void findExistingEmails_emptyInput_skipsQuery() {
+        assertTrue(userGatewayAdapter.findExistingEmails(List.of()).isEmpty());
+        verify(userRepository, never()).findNormalizedEmailsIn(any());
+    }
+
+    @Test
+    void findPage_firstPage_startsAfterLowestId() {
+        var user = new User(USER_ID, LANGUAGE_ID, EMAIL, FIRST_NAME, LAST_NAME, RECORD_VERSION, new Date());
+        when(userRepository.findPage(new UUID(0L, 0L), PageRequest.ofSize(11))).thenReturn(List.of(user));
+
+        var result = userGatewayAdapter.findPage(null, 11);
+
+        assertEquals(List.of(user), result);
+    }
+
+    private static DataIntegrityViolationException uniqueKeyViolation() {
+        return new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+                "duplicate", new SQLException(), ConstraintViolationException.ConstraintKind.UNIQUE,
+                "UX_User_EmailNormalized"));
     }
 
     private User createDomainUser() {
@@ -218,6 +315,7 @@ class UserGatewayAdapterTest {
                 USER_ID,
                 LANGUAGE_ID,
                 EMAIL,
+                EMAIL,
                 FIRST_NAME,
                 LAST_NAME,
                 RECORD_VERSION,
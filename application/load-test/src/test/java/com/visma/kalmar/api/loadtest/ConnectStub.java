@@ -0,0 +1,84 @@
+package com.visma.kalmar.api.loadtest;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for Visma Connect. Token requests are answered at once; every other call is
+ * counted, waits the configured latency and then fails with {@code 503} at the configured error
+ * rate, or answers with a new Connect id.
+ */
+final class ConnectStub implements AutoCloseable {
+
+    private static final String TOKEN_RESPONSE =
+            "{\"access_token\":\"load-test\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+
+    private final MockWebServer server = new MockWebServer();
+    private final AtomicLong calls = new AtomicLong();
+    private volatile double errorRate;
+
+    private ConnectStub(long latencyMillis, double errorRate) {
+        this.errorRate = errorRate;
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().startsWith("/oauth/token")) {
+                            return json(200, TOKEN_RESPONSE);
+                        }
+                        calls.incrementAndGet();
+                        var response = ThreadLocalRandom.current().nextDouble() < ConnectStub.this.errorRate
+                                ? json(503, "{\"error\":\"service_unavailable\"}")
+                                : json(200, "{\"id\":\"" + UUID.randomUUID() + "\"}");
+                        return response.setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS);
+                    }
+                });
+    }
+
+    static ConnectStub start(long latencyMillis, double errorRate) throws IOException {
+        var stub = new ConnectStub(latencyMillis, errorRate);
+        stub.server.start();
+        return stub;
+    }
+
+    /** Base URL without the trailing slash, as {@code connect.public-endpoint} expects it. */
+    String publicEndpoint() {
+        var url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    String tokenUri() {
+        return server.url("/oauth/token").toString();
+    }
+
+    /** The Connect calls answered so far, not counting token requests. */
+    long calls() {
+        return calls.get();
+    }
+
+    void errorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private static MockResponse json(int status, String body) {
+        return new MockResponse()
+                .setResponseCode(status)
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
@@ -0,0 +1,73 @@
+package com.visma.kalmar.api.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the workload at a fixed arrival rate (an open model): request {@code n} is due at
+ * {@code start + n / rate} whether or not the earlier ones have answered, and runs on its own
+ * virtual thread. Latency is measured from the due time rather than from the send, so a slow
+ * server or a generator that falls behind shows up in the percentiles instead of lowering the
+ * rate.
+ */
+final class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Workload workload;
+    private final double ratePerSecond;
+
+    LoadGenerator(Workload workload, double ratePerSecond) {
+        this.workload = workload;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    /** The number of requests a run of {@code duration} sends at {@code ratePerSecond}. */
+    static long requests(Duration duration, double ratePerSecond) {
+        return Math.round(duration.toNanos() * ratePerSecond / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Sends the requests due within {@code duration}, waits for the ones still in flight and returns
+     * the report, timed from the first due time to the last response.
+     */
+    LoadReport run(Duration duration) {
+        var report = new LoadReport(workload.operationNames());
+        var intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        var requests = requests(duration, ratePerSecond);
+        var start = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; n < requests; n++) {
+                var due = start + (long) (n * intervalNanos);
+                var wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                var operation = workload.next();
+                executor.execute(() -> send(operation, due, report));
+            }
+        }
+        report.elapsed(System.nanoTime() - start);
+        return report;
+    }
+
+    private void send(Workload.Operation operation, long due, LoadReport report) {
+        try {
+            var call = operation.call().get();
+            var response = client.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            var latency = System.nanoTime() - due;
+            if (response.statusCode() / 100 == 2) {
+                call.onSuccess().accept(response.body());
+            }
+            report.record(operation.name(), latency, response.statusCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.recordFailure(operation.name(), System.nanoTime() - due, e);
+        } catch (Exception e) {
+            report.recordFailure(operation.name(), System.nanoTime() - due, e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.visma.kalmar.api.loadtest;
+
+import com.visma.kalmar.api.performance.Metric;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies and outcomes per operation: throughput, p50/p99/p999 and maximum latency, and the
+ * failures broken down by HTTP status or exception. A response outside 2xx counts as an error.
+ */
+final class LoadReport {
+
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private long elapsedNanos;
+
+    LoadReport(List<String> operations) {
+        operations.forEach(operation -> recorders.put(operation, new Recorder()));
+    }
+
+    void record(String operation, long latencyNanos, int status) {
+        recorders.get(operation).record(latencyNanos, status >= 200 && status < 300 ? null : "HTTP " + status);
+    }
+
+    void recordFailure(String operation, long latencyNanos, Throwable failure) {
+        recorders.get(operation).record(latencyNanos, failure.getClass().getSimpleName());
+    }
+
+    void elapsed(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    long count() {
+        return recorders.values().stream().mapToLong(Recorder::count).sum();
+    }
+
+    /**
+     * The figures for the gate: p50 and p99 of all requests under {@code all}, and the p50 and p99 of
+     * each operation, with its p50 also divided by the p50 of all requests. Throughput is left out: at
+     * a fixed arrival rate it equals the rate whenever the service keeps up.
+     */
+    Map<String, Map<Metric, Double>> metrics() {
+        var metrics = new LinkedHashMap<String, Map<Metric, Double>>();
+        var all = new Recorder();
+        recorders.values().forEach(all::addAll);
+        var allLatencies = all.sortedLatencies();
+        var median = percentile(allLatencies, 50);
+        var overall = new EnumMap<Metric, Double>(Metric.class);
+        overall.put(Metric.P50_LATENCY, median);
+        overall.put(Metric.P99_LATENCY, percentile(allLatencies, 99));
+        metrics.put("all", overall);
+        recorders.forEach((operation, recorder) -> {
+            var latencies = recorder.sortedLatencies();
+            var p50 = percentile(latencies, 50);
+            metrics.put(operation, new EnumMap<>(Map.of(
+                    Metric.P50_LATENCY, p50,
+                    Metric.P99_LATENCY, percentile(latencies, 99),
+                    Metric.RELATIVE_P50_LATENCY, p50 / median)));
+        });
+        return metrics;
+    }
+
+    /** Formats the report; throughput is over the time from the first due request to the last response. */
+    String format(double targetRate) {
+        var seconds = elapsedNanos / 1e9;
+        var table = new StringBuilder(String.format(
+                "%nTarget %.1f req/s, achieved %.1f req/s over %.1f s%n%-14s %8s %8s %9s %9s %9s %9s %9s%n",
+                targetRate, count() / seconds, seconds,
+                "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        var all = new Recorder();
+        recorders.forEach((operation, recorder) -> {
+            table.append(row(operation, recorder, seconds));
+            all.addAll(recorder);
+        });
+        table.append(row("all", all, seconds));
+
+        if (all.errorCount() > 0) {
+            table.append(String.format("%nErrors%n"));
+            recorders.forEach((operation, recorder) -> recorder.errors.forEach((error, count) ->
+                    table.append(String.format("%-14s %-32s %8d%n", operation, error, count))));
+        }
+        return table.toString();
+    }
+
+    private static String row(String operation, Recorder recorder, double seconds) {
+        var latencies = recorder.sortedLatencies();
+        return String.format(
+                "%-14s %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, latencies.length, recorder.errorCount(), latencies.length / seconds,
+                percentile(latencies, 50), percentile(latencies, 99), percentile(latencies, 99.9),
+                latencies.length == 0 ? 0 : millis(latencies[latencies.length - 1]));
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        var index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return millis(sortedLatencies[Math.max(index, 0)]);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<String, Long> errors = new TreeMap<>();
+
+        synchronized void record(long latencyNanos, String error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error != null) {
+                errors.merge(error, 1L, Long::sum);
+            }
+        }
+
+        synchronized void addAll(Recorder other) {
+            var otherLatencies = other.sortedLatencies();
+            for (var latency : otherLatencies) {
+                record(latency, null);
+            }
+            other.errors.forEach((error, errorCount) -> errors.merge(error, errorCount, Long::sum));
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        synchronized long[] sortedLatencies() {
+            var sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.visma.kalmar.api.loadtest;
+
+import com.visma.feature.kalmar.api.contexttype.ContextType;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.country.Country;
+import com.visma.feature.kalmar.api.country.CountryRepository;
+import com.visma.feature.kalmar.api.customer.Customer;
+import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import com.visma.feature.kalmar.api.language.Language;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import com.visma.kalmar.api.FeatureApiApplication;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
+import com.visma.kalmar.api.referencedata.ReferenceDataRefresher;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application with the {@code test} profile on an in-memory H2 database, pointed at the
+ * Connect stub, and stores the reference data and the customer the workload needs.
+ */
+final class LoadTestApplication {
+
+    private LoadTestApplication() {}
+
+    static ConfigurableApplicationContext start(ConnectStub connect, String... extraArguments) {
+        var arguments =
+                new ArrayList<>(
+                        List.of(
+                                "--spring.profiles.active=test",
+                                "--server.port=0",
+                                "--spring.datasource.url=jdbc:h2:mem:load_test;NON_KEYWORDS=USER",
+                                "--spring.jpa.show-sql=false",
+                                "--connect.public-endpoint=" + connect.publicEndpoint(),
+                                "--spring.security.oauth2.client.provider.visma-connect.token-uri="
+                                        + connect.tokenUri(),
+                                "--CONNECT_CLIENT_ID=load-test",
+                                "--CONNECT_CLIENT_SECRET=load-test",
+                                "--logging.level.com.visma=warn",
+                                "--logging.level.com.visma.kalmar.api=warn",
+                                "--logging.level.org.springframework.security=warn",
+                                "--logging.level.reactor.netty=warn"));
+        arguments.addAll(List.of(extraArguments));
+        return new SpringApplicationBuilder(FeatureApiApplication.class).run(arguments.toArray(String[]::new));
+    }
+
+    /**
+     * Stores English, Norway, the Customer and Company context types and one customer, reloads the
+     * reference data cache and returns the customer's id.
+     */
+    static UUID seedReferenceData(ConfigurableApplicationContext context) {
+        context.getBean(LanguageRepository.class).save(new Language(null, "English", "en"));
+        var country = context.getBean(CountryRepository.class).save(new Country(null, "Norway", "NO"));
+        var contextTypes = context.getBean(ContextTypeRepository.class);
+        var customerType = contextTypes.save(new ContextType(null, "Customer"));
+        contextTypes.save(new ContextType(null, "Company"));
+
+        var customer = new Customer();
+        customer.setIdContext(TimeOrderedUuid.next());
+        customer.setIdContextType(customerType.getIdContextType());
+        customer.setIdCountry(country.getIdCountry());
+        customer.setName("Load test customer");
+        customer.setOrganizationNumber("000000000");
+        var idCustomer = context.getBean(CustomerRepository.class).save(customer).getIdContext();
+
+        context.getBean(ReferenceDataRefresher.class).refresh();
+        return idCustomer;
+    }
+
+    static URI baseUri(ConfigurableApplicationContext context) {
+        var port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+        return URI.create("http://localhost:" + port);
+    }
+}
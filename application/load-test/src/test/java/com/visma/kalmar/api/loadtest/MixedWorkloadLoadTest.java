@@ -0,0 +1,95 @@
+package com.visma.kalmar.api.loadtest;
+
+import com.visma.kalmar.api.performance.Metric;
+import com.visma.kalmar.api.performance.PerformanceGate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on H2 against a local Connect stub and drives the mixed workload at a
+ * fixed arrival rate: a warm-up run whose results are dropped, then the measured run, reported per
+ * operation with throughput, p50/p99/p999 latency and the errors by status, followed by the JDBC
+ * statements and Connect calls per request. Run with:
+ *
+ * <pre>
+ * mvn -o test -pl application/load-test -am -Dbenchmark=true -Dtest='*LoadTest' -Dsurefire.failIfNoSpecifiedTests=false
+ * </pre>
+ *
+ * <p>{@code benchmark.rate} (requests per second), {@code benchmark.duration-s},
+ * {@code benchmark.warmup-s}, {@code benchmark.mix}, {@code benchmark.seed} (ids per pool),
+ * {@code benchmark.connect-latency-ms} and {@code benchmark.connect-error-rate} (0 to 1) change the
+ * load. With {@code benchmark.gate=true} the results are checked against the baseline and a
+ * regression fails the test.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MixedWorkloadLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("benchmark.rate", "200"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration-s", 60));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-s", 15));
+    private static final String MIX = System.getProperty("benchmark.mix", Workload.DEFAULT_MIX);
+    private static final int SEED = Integer.getInteger("benchmark.seed", 1000);
+    private static final long CONNECT_LATENCY_MS = Long.getLong("benchmark.connect-latency-ms", 50);
+    private static final double CONNECT_ERROR_RATE =
+            Double.parseDouble(System.getProperty("benchmark.connect-error-rate", "0.01"));
+    private static final int COST_REQUESTS = 20;
+
+    @Test
+    void mixedWorkload_atFixedArrivalRate() throws Exception {
+        try (var connect = ConnectStub.start(CONNECT_LATENCY_MS, CONNECT_ERROR_RATE);
+                var context = LoadTestApplication.start(connect)) {
+            var idCustomer = LoadTestApplication.seedReferenceData(context);
+            var workload = new Workload(LoadTestApplication.baseUri(context), idCustomer, MIX);
+            workload.seed(context, SEED);
+
+            new LoadGenerator(workload, RATE).run(WARMUP);
+            var report = new LoadGenerator(workload, RATE).run(DURATION);
+            var costs = RequestCosts.measure(context, connect, workload, COST_REQUESTS);
+
+            System.out.printf(
+                    "%nConnect stub: %d ms latency, %.1f%% errors; mix %s%s%s",
+                    CONNECT_LATENCY_MS, CONNECT_ERROR_RATE * 100, MIX, report.format(RATE), RequestCosts.format(costs));
+            assertEquals(LoadGenerator.requests(DURATION, RATE), report.count());
+
+            if (PerformanceGate.enabled()) {
+                var gateReport = PerformanceGate.fromSystemProperties()
+                        .check("MixedWorkload", environment(), gated(report, costs));
+                System.out.print(gateReport.format());
+                assertTrue(gateReport.passed(), () -> "MixedWorkload regressed: " + gateReport.regressions());
+            }
+        }
+    }
+
+    private static Map<String, Map<Metric, Double>> gated(
+            LoadReport report, Map<String, Map<Metric, Double>> costs) {
+        var gated = new LinkedHashMap<String, Map<Metric, Double>>();
+        report.metrics().forEach((operation, metrics) -> {
+            var values = new EnumMap<>(metrics);
+            values.putAll(costs.getOrDefault(operation, Map.of()));
+            gated.put("MixedWorkload." + operation, values);
+        });
+        return gated;
+    }
+
+    // Relative latencies are only comparable under the same load; the machine and the Java build number do not matter.
+    private static Map<String, String> environment() {
+        var environment = new LinkedHashMap<String, String>();
+        environment.put("java", String.valueOf(Runtime.version().feature()));
+        environment.put("rate", String.valueOf(RATE));
+        environment.put("duration-s", String.valueOf(DURATION.toSeconds()));
+        environment.put("warmup-s", String.valueOf(WARMUP.toSeconds()));
+        environment.put("mix", MIX);
+        environment.put("seed", String.valueOf(SEED));
+        environment.put("connect-latency-ms", String.valueOf(CONNECT_LATENCY_MS));
+        environment.put("connect-error-rate", String.valueOf(CONNECT_ERROR_RATE));
+        return environment;
+    }
+}
@@ -0,0 +1,66 @@
+package com.visma.kalmar.api.loadtest;
+
+import com.visma.kalmar.api.performance.Metric;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JDBC statements and Connect calls per request of each operation, measured by sending the
+ * operation's requests one at a time with Connect answering every call. Unlike latencies these do
+ * not depend on the machine, so an extra query or an extra Connect call shows up exactly.
+ */
+final class RequestCosts {
+
+    private RequestCosts() {}
+
+    static Map<String, Map<Metric, Double>> measure(
+            ConfigurableApplicationContext context, ConnectStub connect, Workload workload, int requestsPerOperation)
+            throws IOException, InterruptedException {
+        var statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        var costs = new LinkedHashMap<String, Map<Metric, Double>>();
+        connect.errorRate(0);
+        statistics.setStatisticsEnabled(true);
+        try {
+            for (var operation : workload.operations()) {
+                statistics.clear();
+                var connectCallsBefore = connect.calls();
+                for (int i = 0; i < requestsPerOperation; i++) {
+                    var call = operation.call().get();
+                    var response = client.send(call.request(), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() / 100 != 2) {
+                        throw new IllegalStateException(
+                                operation.name() + " answered " + response.statusCode() + ": " + response.body());
+                    }
+                    call.onSuccess().accept(response.body());
+                }
+                var cost = new EnumMap<Metric, Double>(Metric.class);
+                cost.put(Metric.STATEMENTS_PER_REQUEST,
+                        (double) statistics.getPrepareStatementCount() / requestsPerOperation);
+                cost.put(Metric.CONNECT_CALLS_PER_REQUEST,
+                        (double) (connect.calls() - connectCallsBefore) / requestsPerOperation);
+                costs.put(operation.name(), cost);
+            }
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        return costs;
+    }
+
+    static String format(Map<String, Map<Metric, Double>> costs) {
+        var table = new StringBuilder(String.format(
+                "%n%-14s %15s %18s%n", "operation", "statements/req", "connect calls/req"));
+        costs.forEach((operation, cost) -> table.append(String.format(
+                "%-14s %15.2f %18.2f%n",
+                operation, cost.get(Metric.STATEMENTS_PER_REQUEST), cost.get(Metric.CONNECT_CALLS_PER_REQUEST))));
+        return table.toString();
+    }
+}
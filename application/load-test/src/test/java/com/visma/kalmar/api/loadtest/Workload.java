@@ -0,0 +1,214 @@
+package com.visma.kalmar.api.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.visma.feature.kalmar.api.company.Company;
+import com.visma.feature.kalmar.api.company.CompanyRepository;
+import com.visma.feature.kalmar.api.contexttype.ContextTypeRepository;
+import com.visma.feature.kalmar.api.customer.CustomerRepository;
+import com.visma.feature.kalmar.api.language.LanguageRepository;
+import com.visma.feature.kalmar.api.role.Role;
+import com.visma.feature.kalmar.api.role.RoleRepository;
+import com.visma.feature.kalmar.api.user.User;
+import com.visma.feature.kalmar.api.user.UserRepository;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The mixed workload: user create and get, company create, get and update, and role create, get,
+ * update and delete, drawn at random in proportion to their weights. Ids returned by the creates
+ * join the pools the reads, updates and deletes draw from; the pools are seeded through the
+ * repositories so that the first requests have something to read.
+ *
+ * <p>The mix is written as {@code name:weight} pairs, e.g. {@code userGet:3,roleCreate:1};
+ * operations left out are not run.
+ */
+final class Workload {
+
+    static final String DEFAULT_MIX = "userCreate:10,userGet:25,companyCreate:10,companyGet:25,companyUpdate:10,"
+            + "roleCreate:5,roleGet:10,roleUpdate:3,roleDelete:2";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final URI base;
+    private final UUID idCustomer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final IdPool users = new IdPool();
+    private final IdPool companies = new IdPool();
+    private final IdPool roles = new IdPool();
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+
+    Workload(URI base, UUID idCustomer, String mix) {
+        this.base = base;
+        this.idCustomer = idCustomer;
+        var available = available();
+        for (var entry : mix.split(",")) {
+            var nameAndWeight = entry.trim().split(":");
+            var call = available.get(nameAndWeight[0]);
+            if (call == null || nameAndWeight.length != 2) {
+                throw new IllegalArgumentException(
+                        "Unknown operation '" + entry + "', expected name:weight with a name in " + available.keySet());
+            }
+            operations.add(new Operation(nameAndWeight[0], Integer.parseInt(nameAndWeight[1]), call));
+        }
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    /** A request ready to send, and what to do with the body of a successful response. */
+    record Call(HttpRequest request, Consumer<String> onSuccess) {}
+
+    record Operation(String name, int weight, Supplier<Call> call) {}
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    List<String> operationNames() {
+        return operations.stream().map(Operation::name).toList();
+    }
+
+    Operation next() {
+        var pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (var operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed while picking");
+    }
+
+    /** Stores {@code perPool} users, companies and roles directly and adds their ids to the pools. */
+    void seed(ConfigurableApplicationContext context, int perPool) {
+        var idLanguage = context.getBean(LanguageRepository.class).findByCode("en").orElseThrow().getIdLanguage();
+        var idCompanyType = context.getBean(ContextTypeRepository.class).findAll().stream()
+                .filter(contextType -> contextType.getName().equals("Company"))
+                .findFirst()
+                .orElseThrow()
+                .getIdContextType();
+        var idCountry = context.getBean(CustomerRepository.class).findById(idCustomer).orElseThrow().getIdCountry();
+
+        var seededUsers = new ArrayList<User>(perPool);
+        var seededCompanies = new ArrayList<Company>(perPool);
+        var seededRoles = new ArrayList<Role>(perPool);
+        for (int i = 0; i < perPool; i++) {
+            var email = "seed." + i + "@load.test";
+            seededUsers.add(new User(TimeOrderedUuid.next(), idLanguage, email, email, "Seed", "User", 0L, new Date()));
+
+            var company = new Company();
+            company.setIdContext(TimeOrderedUuid.next());
+            company.setIdContextType(idCompanyType);
+            company.setIdContextParent(idCustomer);
+            company.setIdCountry(idCountry);
+            company.setName("Seed company " + i);
+            company.setOrganizationNumber("S" + String.format("%08d", i));
+            seededCompanies.add(company);
+
+            seededRoles.add(new Role(null, "Seed role " + i, "SEED_ROLE_" + i, "Seeded by the load test", null, new Date()));
+        }
+        context.getBean(UserRepository.class).saveAll(seededUsers).forEach(user -> users.add(user.getIdUser()));
+        context.getBean(CompanyRepository.class).saveAll(seededCompanies)
+                .forEach(company -> companies.add(company.getIdContext()));
+        context.getBean(RoleRepository.class).saveAll(seededRoles).forEach(role -> roles.add(role.getIdRole()));
+    }
+
+    private Map<String, Supplier<Call>> available() {
+        var calls = new LinkedHashMap<String, Supplier<Call>>();
+        calls.put("userCreate", () -> new Call(
+                httpRequest("POST", "/api/v1/users", userJson(sequence.incrementAndGet())),
+                body -> users.add(id(body, "userId"))));
+        calls.put("userGet", () -> new Call(httpRequest("GET", "/api/v1/users/" + users.any(), null), body -> {}));
+        calls.put("companyCreate", () -> new Call(
+                httpRequest("POST", "/api/v1/companies", companyJson(sequence.incrementAndGet())),
+                body -> companies.add(id(body, "idContext"))));
+        calls.put("companyGet", () -> new Call(httpRequest("GET", companyPath(companies.any()), null), body -> {}));
+        calls.put("companyUpdate", () -> new Call(
+                httpRequest("PUT", companyPath(companies.any()), companyJson(sequence.incrementAndGet())), body -> {}));
+        calls.put("roleCreate", () -> new Call(
+                httpRequest("POST", "/api/v1/roles", roleJson(sequence.incrementAndGet())),
+                body -> roles.add(id(body, "roleId"))));
+        calls.put("roleGet", () -> new Call(httpRequest("GET", "/api/v1/roles/" + roles.any(), null), body -> {}));
+        calls.put("roleUpdate", () -> new Call(
+                httpRequest("PUT", "/api/v1/roles/" + roles.any(), roleJson(sequence.incrementAndGet())), body -> {}));
+        // Taken out of the pool before the request is sent, so later requests do not read a deleted role.
+        calls.put("roleDelete", () -> new Call(httpRequest("DELETE", "/api/v1/roles/" + roles.take(), null), body -> {}));
+        return calls;
+    }
+
+    private String companyPath(UUID idCompany) {
+        return "/api/v1/companies/customer/" + idCustomer + "/company/" + idCompany;
+    }
+
+    private HttpRequest httpRequest(String method, String path, String json) {
+        var request = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer load-test");
+        if (json == null) {
+            return request.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return request.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static String userJson(long n) {
+        return "{\"email\":\"load.%d@load.test\",\"firstName\":\"Load\",\"lastName\":\"Test\",\"languageCode\":\"en\"}"
+                .formatted(n);
+    }
+
+    private String companyJson(long n) {
+        return ("{\"countryCode\":\"NO\",\"idContextParent\":\"%s\",\"organizationNumber\":\"%09d\","
+                + "\"name\":\"Load company %d\"}").formatted(idCustomer, n, n);
+    }
+
+    private static String roleJson(long n) {
+        return "{\"name\":\"Load role %d\",\"invariantKey\":\"LOAD_ROLE_%d\",\"description\":\"Created by the load test\"}"
+                .formatted(n, n);
+    }
+
+    private static UUID id(String body, String field) {
+        try {
+            return UUID.fromString(OBJECT_MAPPER.readTree(body).get(field).asText());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unexpected response body: " + body, e);
+        }
+    }
+
+    /** Ids of the resources the workload may read, update or delete. */
+    private static final class IdPool {
+
+        private final List<UUID> ids = new ArrayList<>();
+
+        synchronized void add(UUID id) {
+            ids.add(id);
+        }
+
+        synchronized UUID any() {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        synchronized UUID take() {
+            var index = ThreadLocalRandom.current().nextInt(ids.size());
+            var last = ids.removeLast();
+            return index == ids.size() ? last : ids.set(index, last);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fixed workload of hashing and allocation that the performance gate divides every other score
+ * by, so a slower or busier machine does not read as a regression. Its result is the reference
+ * {@code Calibration.calibration} and is not gated itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalibrationBenchmark {
+
+    private int seed;
+
+    @Benchmark
+    public Object calibration() {
+        var seed = this.seed++;
+        var map = new HashMap<String, Integer>();
+        for (int i = 0; i < 8; i++) {
+            map.put("key-" + (seed + i), i);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,129 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import com.visma.kalmar.api.company.CompanyApiController;
+import com.visma.kalmar.api.company.CreateCompanyInputPort;
+import com.visma.kalmar.api.company.DeleteCompanyInputPort;
+import com.visma.kalmar.api.company.GetCompanyUseCase;
+import com.visma.kalmar.api.company.InMemoryCompanyGatewayAdapter;
+import com.visma.kalmar.api.company.UpdateCompanyInputPort;
+import com.visma.kalmar.api.country.InMemoryCountryGatewayAdapter;
+import com.visma.kalmar.api.customer.InMemoryCustomerGatewayAdapter;
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.entities.country.Country;
+import com.visma.kalmar.api.entities.language.Language;
+import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.language.InMemoryLanguageGatewayAdapter;
+import com.visma.kalmar.api.role.CreateRoleInputPort;
+import com.visma.kalmar.api.role.DeleteRoleInputPort;
+import com.visma.kalmar.api.role.GetRoleUseCase;
+import com.visma.kalmar.api.role.InMemoryRoleGatewayAdapter;
+import com.visma.kalmar.api.role.RoleApiController;
+import com.visma.kalmar.api.role.UpdateRoleInputPort;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
+import com.visma.kalmar.api.user.CreateUserInputPort;
+import com.visma.kalmar.api.user.DeleteUserInputPort;
+import com.visma.kalmar.api.user.GetUserUseCase;
+import com.visma.kalmar.api.user.InMemoryUserGatewayAdapter;
+import com.visma.kalmar.api.user.UpdateUserInputPort;
+import com.visma.kalmar.api.user.UserApiController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures a read through the whole in-process chain: controller, use case, in-memory gateways and
+ * presenter, for a user, a company and a role. The input ports of the other operations are mocks
+ * and are never called. Run through {@link MicrobenchmarksTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallChainBenchmark {
+
+    private UserApiController userController;
+    private CompanyApiController companyController;
+    private RoleApiController roleController;
+    private String userId;
+    private String customerId;
+    private String companyId;
+    private String roleId;
+
+    @Setup
+    public void setUp() {
+        var unitOfWork = new InMemoryUnitOfWork();
+
+        var languageGateway = new InMemoryLanguageGatewayAdapter();
+        var language = new Language(UUID.randomUUID(), "English", "en");
+        languageGateway.save(language);
+        var userGateway = new InMemoryUserGatewayAdapter();
+        var user = new User(UUID.randomUUID(), language.idLanguage(), "jane.doe@example.com", "Jane", "Doe", 1L,
+                new Date());
+        userGateway.save(user);
+        userController = new UserApiController(
+                mock(CreateUserInputPort.class),
+                mock(UpdateUserInputPort.class),
+                mock(DeleteUserInputPort.class),
+                new GetUserUseCase(userGateway, languageGateway, unitOfWork));
+
+        var countryGateway = new InMemoryCountryGatewayAdapter();
+        var country = new Country(UUID.randomUUID(), "Norway", "NO");
+        countryGateway.save(country);
+        var companyGateway = new InMemoryCompanyGatewayAdapter();
+        var idCustomer = UUID.randomUUID();
+        var company = new Context(UUID.randomUUID(), UUID.randomUUID(), idCustomer, country.idCountry(),
+                "Acme Subsidiary AS", "987654321");
+        companyGateway.save(company);
+        companyController = new CompanyApiController(
+                mock(CreateCompanyInputPort.class),
+                new GetCompanyUseCase(companyGateway, new InMemoryCustomerGatewayAdapter(), unitOfWork),
+                mock(DeleteCompanyInputPort.class),
+                mock(UpdateCompanyInputPort.class),
+                countryGateway);
+
+        var roleGateway = new InMemoryRoleGatewayAdapter();
+        var role = new Role(UUID.randomUUID(), "Administrator", "ADMINISTRATOR", "Manages the tenant", 1L, new Date());
+        roleGateway.save(role);
+        roleController = new RoleApiController(
+                mock(CreateRoleInputPort.class),
+                new GetRoleUseCase(roleGateway, unitOfWork),
+                mock(UpdateRoleInputPort.class),
+                mock(DeleteRoleInputPort.class));
+
+        userId = user.idUser().toString();
+        customerId = idCustomer.toString();
+        companyId = company.idContext().toString();
+        roleId = role.idRole().toString();
+    }
+
+    @Benchmark
+    public Object getUserById() {
+        return userController.getUserById(userId);
+    }
+
+    @Benchmark
+    public Object getCompany() {
+        return companyController.getCompany(customerId, companyId);
+    }
+
+    @Benchmark
+    public Object getRoleById() {
+        return roleController.getRoleById(roleId);
+    }
+}
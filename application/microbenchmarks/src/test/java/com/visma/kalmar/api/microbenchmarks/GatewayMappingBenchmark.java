@@ -0,0 +1,81 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import com.visma.feature.kalmar.api.company.CompanyRepository;
+import com.visma.feature.kalmar.api.role.Role;
+import com.visma.feature.kalmar.api.role.RoleRepository;
+import com.visma.feature.kalmar.api.user.User;
+import com.visma.feature.kalmar.api.user.UserRepository;
+import com.visma.kalmar.api.adapters.company.CompanyGatewayAdapter;
+import com.visma.kalmar.api.adapters.role.RoleGatewayAdapter;
+import com.visma.kalmar.api.adapters.user.UserGatewayAdapter;
+import com.visma.kalmar.api.entities.context.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the gateway adapters converting between JPA entities and domain entities: users and
+ * roles read by id, and a company mapped to its JPA entity and back on save. The repositories are
+ * in-memory stubs, so only the adapter's own work is timed. Run through {@link MicrobenchmarksTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayMappingBenchmark {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID ROLE_ID = UUID.randomUUID();
+
+    private UserGatewayAdapter userGateway;
+    private RoleGatewayAdapter roleGateway;
+    private CompanyGatewayAdapter companyGateway;
+    private Context company;
+
+    @Setup
+    public void setUp() {
+        var userEntity = new User(USER_ID, UUID.randomUUID(), "Jane.Doe@example.com", "jane.doe@example.com",
+                "Jane", "Doe", 3L, new Date());
+        userGateway = new UserGatewayAdapter(StubRepository.answering(UserRepository.class, Map.of(
+                "findById", arguments -> Optional.of(userEntity))));
+
+        var roleEntity = new Role(ROLE_ID, "Administrator", "ADMINISTRATOR", "Manages the tenant", 2L, new Date());
+        roleGateway = new RoleGatewayAdapter(StubRepository.answering(RoleRepository.class, Map.of(
+                "findById", arguments -> Optional.of(roleEntity))));
+
+        company = new Context(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Acme Subsidiary AS", "987654321");
+        companyGateway = new CompanyGatewayAdapter(StubRepository.answering(CompanyRepository.class, Map.of(
+                "saveAndFlush", arguments -> arguments[0])));
+    }
+
+    @Benchmark
+    public Object userFindById() {
+        return userGateway.findById(USER_ID);
+    }
+
+    @Benchmark
+    public Object roleFindById() {
+        return roleGateway.findById(ROLE_ID);
+    }
+
+    @Benchmark
+    public Object companySave() {
+        return companyGateway.save(company);
+    }
+}
@@ -0,0 +1,60 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import com.visma.kalmar.api.InputDataValidator;
+import com.visma.kalmar.api.exception.InvalidInputDataException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link InputDataValidator} checks every use case runs on its input, both passing and
+ * rejecting, since a rejection builds its message with {@code String.format}. Run through
+ * {@link MicrobenchmarksTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputDataValidatorBenchmark {
+
+    // A field rather than a constant, so the JIT cannot fold the checks away.
+    private String email = "jane.doe@example.com";
+
+    @Benchmark
+    public Object requireNonNull() {
+        InputDataValidator.requireNonNull(email, "email");
+        return email;
+    }
+
+    @Benchmark
+    public Object requireNonNullAndNonEmptyString() {
+        InputDataValidator.requireNonNullAndNonEmptyString(email, "email");
+        return email;
+    }
+
+    @Benchmark
+    public Object validateMaxStringLength() {
+        InputDataValidator.validateMaxStringLength(email, "email", 255);
+        return email;
+    }
+
+    @Benchmark
+    public Object validateMaxStringLengthRejected() {
+        try {
+            InputDataValidator.validateMaxStringLength(email, "email", 10);
+            return email;
+        } catch (InvalidInputDataException e) {
+            return e;
+        }
+    }
+}
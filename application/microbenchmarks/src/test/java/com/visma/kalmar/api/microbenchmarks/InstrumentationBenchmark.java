@@ -0,0 +1,84 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.metrics.Instrumentation;
+import com.visma.kalmar.api.metrics.StatementCounter;
+import com.visma.kalmar.api.role.CreateRoleInputPort;
+import com.visma.kalmar.api.role.DeleteRoleInputPort;
+import com.visma.kalmar.api.role.GetRoleInputPort;
+import com.visma.kalmar.api.role.GetRoleUseCase;
+import com.visma.kalmar.api.role.InMemoryRoleGatewayAdapter;
+import com.visma.kalmar.api.role.RoleApiController;
+import com.visma.kalmar.api.role.RoleGateway;
+import com.visma.kalmar.api.role.UpdateRoleInputPort;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures what the metering proxies add to a call: a role read through the controller, the use
+ * case and the in-memory gateway, once as is and once with the use case and the gateway wrapped
+ * the way the application wires them. The meters keep their percentile histograms. The overhead is
+ * the difference between the two scores. Run through {@link MicrobenchmarksTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    private RoleApiController plainController;
+    private RoleApiController meteredController;
+    private String roleId;
+
+    @Setup
+    public void setUp() {
+        var unitOfWork = new InMemoryUnitOfWork();
+        var roleGateway = new InMemoryRoleGatewayAdapter();
+        var role = new Role(UUID.randomUUID(), "Administrator", "ADMINISTRATOR", "Manages the tenant", 1L, new Date());
+        roleGateway.save(role);
+        plainController = controller(new GetRoleUseCase(roleGateway, unitOfWork));
+
+        var instrumentation = new Instrumentation(new SimpleMeterRegistry(), new StatementCounter());
+        var meteredGateway = instrumentation.gateway(RoleGateway.class, roleGateway);
+        meteredController = controller(instrumentation.useCase(
+                GetRoleInputPort.class, new GetRoleUseCase(meteredGateway, unitOfWork)));
+
+        roleId = role.idRole().toString();
+    }
+
+    @Benchmark
+    public Object getRoleById() {
+        return plainController.getRoleById(roleId);
+    }
+
+    @Benchmark
+    public Object getRoleByIdMetered() {
+        return meteredController.getRoleById(roleId);
+    }
+
+    private static RoleApiController controller(GetRoleInputPort getRoleInputPort) {
+        return new RoleApiController(
+                mock(CreateRoleInputPort.class),
+                getRoleInputPort,
+                mock(UpdateRoleInputPort.class),
+                mock(DeleteRoleInputPort.class));
+    }
+}
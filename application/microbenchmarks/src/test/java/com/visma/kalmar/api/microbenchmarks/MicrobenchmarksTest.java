@@ -0,0 +1,103 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import com.visma.kalmar.api.performance.JmhResults;
+import com.visma.kalmar.api.performance.PerformanceGate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the JMH benchmarks of this package in forked JVMs with the GC profiler, so every result
+ * carries its allocation per operation. Run with:
+ *
+ * <pre>
+ * mvn test -Pjmh -pl application/microbenchmarks -am -Dbenchmark=true -Dtest=MicrobenchmarksTest -Dsurefire.failIfNoSpecifiedTests=false
+ * </pre>
+ *
+ * <p>JMH writes its human-readable output to {@code jmh.txt} and its results to
+ * {@code jmh-result.json}, both under {@code benchmark.report-dir} (default
+ * {@code target/microbenchmarks}). {@code benchmark.include} narrows the run to the classes
+ * matching a regular expression, e.g. {@code CallChain}; {@link CalibrationBenchmark} always runs.
+ * {@code benchmark.forks}, {@code benchmark.warmup-iterations}, {@code benchmark.iterations} and
+ * {@code benchmark.iteration-ms} override the settings on the benchmark classes. With
+ * {@code benchmark.gate=true} the results are checked against the baselines of the performance gate.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MicrobenchmarksTest {
+
+    private static final String CALIBRATION = "Calibration.calibration";
+
+    @Test
+    void microbenchmarks() throws RunnerException {
+        var reportDirectory = Path.of(System.getProperty("benchmark.report-dir", "target/microbenchmarks"));
+        var resultFile = reportDirectory.resolve("jmh-result.json");
+        createDirectories(reportDirectory);
+
+        var packagePrefix = Pattern.quote(MicrobenchmarksTest.class.getPackageName() + ".");
+        var options = new OptionsBuilder()
+                .include(packagePrefix + "(" + System.getProperty("benchmark.include", "\\w+Benchmark\\.") + ")")
+                .include(Pattern.quote(CalibrationBenchmark.class.getName() + "."))
+                .addProfiler(GCProfiler.class)
+                // Explicit, so the forks do not inherit the agents surefire starts the test JVM with.
+                .jvmArgs("-Xms1g", "-Xmx1g")
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .output(reportDirectory.resolve("jmh.txt").toString());
+        var forks = Integer.getInteger("benchmark.forks");
+        if (forks != null) {
+            options.forks(forks);
+        }
+        var warmupIterations = Integer.getInteger("benchmark.warmup-iterations");
+        if (warmupIterations != null) {
+            options.warmupIterations(warmupIterations);
+        }
+        var iterations = Integer.getInteger("benchmark.iterations");
+        if (iterations != null) {
+            options.measurementIterations(iterations);
+        }
+        var iterationMillis = Long.getLong("benchmark.iteration-ms");
+        if (iterationMillis != null) {
+            options.warmupTime(TimeValue.milliseconds(iterationMillis))
+                    .measurementTime(TimeValue.milliseconds(iterationMillis));
+        }
+
+        var results = new Runner(options.build()).run();
+        assertFalse(results.isEmpty(), "No benchmark matched");
+
+        if (PerformanceGate.enabled()) {
+            var jmhResults = JmhResults.read(resultFile, CALIBRATION);
+            var gate = PerformanceGate.fromSystemProperties();
+            var failures = new ArrayList<String>();
+            for (var suite : jmhResults.suites()) {
+                var report = gate.check(suite, jmhResults.environment(suite), jmhResults.results(suite));
+                if (!report.passed()) {
+                    failures.add(report.format());
+                }
+            }
+            assertTrue(failures.isEmpty(), () -> String.join(System.lineSeparator(), failures));
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.visma.kalmar.api.company.CompanyPresenter;
+import com.visma.kalmar.api.country.InMemoryCountryGatewayAdapter;
+import com.visma.kalmar.api.entities.company.Company;
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.entities.country.Country;
+import com.visma.kalmar.api.role.RoleOutputData;
+import com.visma.kalmar.api.role.RolePresenter;
+import com.visma.kalmar.api.user.UserOutputData;
+import com.visma.kalmar.api.user.UserPresenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the presenters building response DTOs from use case output, and Jackson writing the
+ * user, company and role responses with an object mapper configured like Spring MVC's. Run through
+ * {@link MicrobenchmarksTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresentationBenchmark {
+
+    private InMemoryCountryGatewayAdapter countryGateway;
+    private UserOutputData userOutput;
+    private RoleOutputData roleOutput;
+    private Context companyContext;
+    private Company company;
+    private ObjectMapper objectMapper;
+    private Object userResponse;
+    private Object roleResponse;
+    private Object companyResponse;
+
+    @Setup
+    public void setUp() {
+        countryGateway = new InMemoryCountryGatewayAdapter();
+        var country = new Country(UUID.randomUUID(), "Norway", "NO");
+        countryGateway.save(country);
+
+        userOutput = new UserOutputData(
+                UUID.randomUUID().toString(), "jane.doe@example.com", "Jane", "Doe", "en", null, false);
+        roleOutput = new RoleOutputData(
+                UUID.randomUUID().toString(), "Administrator", "ADMINISTRATOR", "Manages the tenant", null, false);
+        companyContext = new Context(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                country.idCountry(), "Acme Subsidiary AS", "987654321");
+        company = new Company(companyContext.idContext());
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        userResponse = userPresenter();
+        roleResponse = rolePresenter();
+        companyResponse = companyPresenter();
+    }
+
+    @Benchmark
+    public Object userPresenter() {
+        var presenter = new UserPresenter();
+        presenter.present(userOutput);
+        return presenter.getResponse().getBody();
+    }
+
+    @Benchmark
+    public Object rolePresenter() {
+        var presenter = new RolePresenter();
+        presenter.present(roleOutput);
+        return presenter.getResponse().getBody();
+    }
+
+    @Benchmark
+    public Object companyPresenter() {
+        var presenter = new CompanyPresenter(countryGateway);
+        presenter.present(company, companyContext);
+        return presenter.getResponse().getBody();
+    }
+
+    @Benchmark
+    public byte[] userResponseJson() {
+        return write(userResponse);
+    }
+
+    @Benchmark
+    public byte[] roleResponseJson() {
+        return write(roleResponse);
+    }
+
+    @Benchmark
+    public byte[] companyResponseJson() {
+        return write(companyResponse);
+    }
+
+    private byte[] write(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.visma.kalmar.api.microbenchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Spring Data repository stand-ins that answer a few methods from memory, so that a gateway
+ * adapter's mapping can be measured without a database or a mocking framework on the hot path.
+ */
+final class StubRepository {
+
+    private StubRepository() {
+    }
+
+    /**
+     * Returns a repository answering each named method with the function of its arguments; any other
+     * method throws {@code UnsupportedOperationException}.
+     */
+    static <R> R answering(Class<R> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[] {repositoryType},
+                (proxy, method, arguments) -> {
+                    var answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return answer.apply(arguments);
+                }));
+    }
+}
@@ -0,0 +1,12 @@
+package com.visma.kalmar.api.performance;
+
+import java.util.Map;
+
+/**
+ * The stored results of one suite: the format version, the environment they were measured in, and
+ * the value of every metric by benchmark name and metric label.
+ */
+record Baseline(int version, Map<String, String> environment, Map<String, Map<String, Double>> benchmarks) {
+
+    static final int CURRENT_VERSION = 1;
+}
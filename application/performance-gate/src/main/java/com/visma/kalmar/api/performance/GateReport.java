@@ -0,0 +1,115 @@
+package com.visma.kalmar.api.performance;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The comparison of one suite with its baseline, benchmark by benchmark: the baseline and current
+ * value of each metric, the change, the allowed change and the verdict.
+ */
+public final class GateReport {
+
+    enum Status {
+        OK("ok"),
+        IMPROVED("improved"),
+        REGRESSION("REGRESSION"),
+        NOT_GATED("not gated"),
+        NEW("new");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+    }
+
+    record Row(String benchmark, Metric metric, Double baseline, double current, double threshold, Status status) {}
+
+    private final String suite;
+    private final Path baselineFile;
+    private final List<String> notes = new ArrayList<>();
+    private final List<Row> rows = new ArrayList<>();
+    private boolean baselineMissing;
+
+    GateReport(String suite, Path baselineFile) {
+        this.suite = suite;
+        this.baselineFile = baselineFile;
+    }
+
+    void note(String note) {
+        notes.add(note);
+    }
+
+    void add(Row row) {
+        rows.add(row);
+    }
+
+    void baselineMissing() {
+        baselineMissing = true;
+        note("No baseline at " + baselineFile + "; record one with -Dbenchmark.gate.update=true");
+    }
+
+    /** True when there is a baseline and no metric regressed. */
+    public boolean passed() {
+        return !baselineMissing && regressions().isEmpty();
+    }
+
+    /** The regressed metrics, as {@code benchmark metric}. */
+    public List<String> regressions() {
+        return rows.stream()
+                .filter(row -> row.status() == Status.REGRESSION)
+                .map(row -> row.benchmark() + " " + row.metric().label())
+                .toList();
+    }
+
+    List<Row> rows() {
+        return rows;
+    }
+
+    public String format() {
+        var text = new StringBuilder(String.format("%nPerformance gate for %s (baseline %s)%n", suite, baselineFile));
+        notes.forEach(note -> text.append(note).append(System.lineSeparator()));
+        if (!rows.isEmpty()) {
+            text.append(String.format(
+                    "%-48s %14s %14s %9s %8s  %s%n", "", "baseline", "current", "change", "limit", "status"));
+        }
+        String benchmark = null;
+        for (var row : rows) {
+            if (!row.benchmark().equals(benchmark)) {
+                benchmark = row.benchmark();
+                text.append(benchmark).append(System.lineSeparator());
+            }
+            text.append(String.format(
+                    "  %-46s %14s %14.3f %9s %8s  %s%n",
+                    row.metric().label(),
+                    row.baseline() == null ? "-" : String.format("%.3f", row.baseline()),
+                    row.current(),
+                    change(row),
+                    limit(row),
+                    row.status().label));
+        }
+        var regressions = regressions().size();
+        text.append(baselineMissing ? "FAILED: no baseline" : regressions == 0
+                ? "PASSED"
+                : "FAILED: " + regressions + (regressions == 1 ? " regression" : " regressions"));
+        return text.append(System.lineSeparator()).toString();
+    }
+
+    private static String change(Row row) {
+        if (row.baseline() == null) {
+            return "";
+        }
+        if (row.baseline() == 0) {
+            return row.current() == 0 ? "+0.0%" : "n/a";
+        }
+        return String.format("%+.1f%%", (row.current() - row.baseline()) / row.baseline() * 100);
+    }
+
+    private static String limit(Row row) {
+        if (row.baseline() == null || !row.metric().gated()) {
+            return "";
+        }
+        return String.format("+%.0f%%", row.threshold() * 100);
+    }
+}
@@ -0,0 +1,126 @@
+package com.visma.kalmar.api.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The results JMH writes with {@code -rf json}, grouped into gate suites: one suite per benchmark
+ * class, named after the class without its {@code Benchmark} suffix, with a benchmark
+ * {@code <suite>.<method>} per measured method.
+ *
+ * <p>Every benchmark gets its average time ({@code ns/op}), its time over the time of the
+ * calibration benchmark of the same run ({@code x calibration}) and, when JMH ran with the GC
+ * profiler, its allocation per operation ({@code B/op}). The calibration benchmark itself is not
+ * part of any suite.
+ */
+public final class JmhResults {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String CLASS_SUFFIX = "Benchmark";
+    private static final String AVERAGE_TIME = "avgt";
+    private static final String NANOS_PER_OPERATION = "ns/op";
+    // Older JMH releases prefix the profiler results with a middle dot.
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final String LEGACY_ALLOCATION = "·" + ALLOCATION;
+
+    private final Map<String, Map<String, String>> environments;
+    private final Map<String, Map<String, Map<Metric, Double>>> suites;
+
+    private JmhResults(
+            Map<String, Map<String, String>> environments, Map<String, Map<String, Map<Metric, Double>>> suites) {
+        this.environments = environments;
+        this.suites = suites;
+    }
+
+    /**
+     * Reads the JSON file of a JMH run in average time mode, in nanoseconds. {@code calibration}
+     * names the reference benchmark as {@code <suite>.<method>}, e.g. {@code Calibration.calibration}.
+     */
+    public static JmhResults read(Path file, String calibration) {
+        JsonNode runs;
+        try {
+            runs = OBJECT_MAPPER.readTree(file.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the JMH results in " + file, e);
+        }
+        var scores = new LinkedHashMap<String, JsonNode>();
+        for (var run : runs) {
+            var primary = run.path("primaryMetric");
+            if (!AVERAGE_TIME.equals(run.path("mode").asText())
+                    || !NANOS_PER_OPERATION.equals(primary.path("scoreUnit").asText())) {
+                throw new IllegalArgumentException("Expected average times in ns/op, got " + run.path("mode").asText()
+                        + " in " + primary.path("scoreUnit").asText() + " for " + run.path("benchmark").asText());
+            }
+            scores.put(name(run.path("benchmark").asText()), run);
+        }
+        var reference = scores.remove(calibration);
+        if (reference == null) {
+            throw new IllegalArgumentException("No calibration benchmark " + calibration + " in " + file);
+        }
+        var calibrationNanos = reference.path("primaryMetric").path("score").asDouble();
+
+        var environments = new LinkedHashMap<String, Map<String, String>>();
+        var suites = new LinkedHashMap<String, Map<String, Map<Metric, Double>>>();
+        scores.forEach((name, run) -> {
+            var suite = name.substring(0, name.indexOf('.'));
+            environments.putIfAbsent(suite, environment(run));
+            var nanos = run.path("primaryMetric").path("score").asDouble();
+            var metrics = new EnumMap<Metric, Double>(Metric.class);
+            metrics.put(Metric.NANOS_PER_OPERATION, nanos);
+            metrics.put(Metric.RELATIVE_TIME, nanos / calibrationNanos);
+            var secondary = run.path("secondaryMetrics");
+            var allocation = secondary.has(ALLOCATION) ? secondary.get(ALLOCATION) : secondary.get(LEGACY_ALLOCATION);
+            if (allocation != null) {
+                metrics.put(Metric.BYTES_PER_OPERATION, allocation.path("score").asDouble());
+            }
+            suites.computeIfAbsent(suite, key -> new LinkedHashMap<>()).put(name, metrics);
+        });
+        return new JmhResults(environments, suites);
+    }
+
+    public Set<String> suites() {
+        return suites.keySet();
+    }
+
+    /** The run parameters of the suite, for {@link PerformanceGate#check}. */
+    public Map<String, String> environment(String suite) {
+        return environments.get(suite);
+    }
+
+    /** The metrics of every benchmark of the suite, for {@link PerformanceGate#check}. */
+    public Map<String, Map<Metric, Double>> results(String suite) {
+        return suites.get(suite);
+    }
+
+    // com.example.CallChainBenchmark.getUserById -> CallChain.getUserById
+    private static String name(String benchmark) {
+        var method = benchmark.lastIndexOf('.');
+        var type = benchmark.substring(benchmark.lastIndexOf('.', method - 1) + 1, method);
+        if (type.endsWith(CLASS_SUFFIX)) {
+            type = type.substring(0, type.length() - CLASS_SUFFIX.length());
+        }
+        return type + benchmark.substring(method);
+    }
+
+    // The JMH release and the run parameters; the JVM build and the machine do not make timings incomparable.
+    private static Map<String, String> environment(JsonNode run) {
+        var environment = new LinkedHashMap<String, String>();
+        environment.put("java", run.path("jdkVersion").asText().split("[.+-]")[0]);
+        environment.put("jmh", run.path("jmhVersion").asText());
+        environment.put("forks", run.path("forks").asText());
+        environment.put("warmup-iterations", run.path("warmupIterations").asText());
+        environment.put("warmup-time", run.path("warmupTime").asText());
+        environment.put("iterations", run.path("measurementIterations").asText());
+        environment.put("iteration-time", run.path("measurementTime").asText());
+        return environment;
+    }
+}
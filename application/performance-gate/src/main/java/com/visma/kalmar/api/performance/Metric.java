@@ -0,0 +1,76 @@
+package com.visma.kalmar.api.performance;
+
+import java.util.Arrays;
+
+/**
+ * A measured quantity the gate compares, and how much it may rise. A rise is a regression when it
+ * exceeds both the relative threshold and the minimum delta, so that values near zero do not fail
+ * on noise.
+ *
+ * <p>Absolute timings depend on the machine, so they are reported but not gated. The gate compares
+ * timings relative to a reference measured in the same run instead, and only against a baseline
+ * recorded with the same run parameters; allocations and counts are gated everywhere.
+ */
+public enum Metric {
+
+    NANOS_PER_OPERATION("ns/op", null, 0.0, 0.0, true),
+    // Time per operation over the time of the calibration loop run in the same JVM.
+    RELATIVE_TIME("x calibration", "benchmark.gate.time-rise", 0.5, 0.05, true),
+    // Escape analysis varies between JVM runs by an object or two.
+    BYTES_PER_OPERATION("B/op", "benchmark.gate.allocation-rise", 0.10, 32.0, false),
+    P50_LATENCY("p50 ms", null, 0.0, 0.0, true),
+    P99_LATENCY("p99 ms", null, 0.0, 0.0, true),
+    // Median of an operation over the median of all requests in the same run; a p99 has too few samples.
+    RELATIVE_P50_LATENCY("p50 x median", "benchmark.gate.latency-rise", 0.5, 0.0, true),
+    STATEMENTS_PER_REQUEST("statements/req", "benchmark.gate.count-rise", 0.0, 0.01, false),
+    CONNECT_CALLS_PER_REQUEST("connect calls/req", "benchmark.gate.count-rise", 0.0, 0.01, false);
+
+    private final String label;
+    private final String thresholdProperty;
+    private final double defaultThreshold;
+    private final double minimumDelta;
+    private final boolean timing;
+
+    Metric(String label, String thresholdProperty, double defaultThreshold, double minimumDelta, boolean timing) {
+        this.label = label;
+        this.thresholdProperty = thresholdProperty;
+        this.defaultThreshold = defaultThreshold;
+        this.minimumDelta = minimumDelta;
+        this.timing = timing;
+    }
+
+    /** The name used in the baseline files and the reports. */
+    public String label() {
+        return label;
+    }
+
+    /** Whether a rise of this metric can fail the gate; the others are reported for reading only. */
+    public boolean gated() {
+        return thresholdProperty != null;
+    }
+
+    /** The system property holding the allowed relative rise, e.g. {@code 0.1} for 10%. */
+    public String thresholdProperty() {
+        return thresholdProperty;
+    }
+
+    public double defaultThreshold() {
+        return defaultThreshold;
+    }
+
+    public double minimumDelta() {
+        return minimumDelta;
+    }
+
+    /** Whether the value depends on the run parameters, so that it is only gated when they match. */
+    public boolean timing() {
+        return timing;
+    }
+
+    public static Metric ofLabel(String label) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.label.equals(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown metric: " + label));
+    }
+}
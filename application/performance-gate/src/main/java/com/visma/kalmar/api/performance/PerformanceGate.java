@@ -0,0 +1,170 @@
+package com.visma.kalmar.api.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compares a suite's results with the baseline stored as {@code <suite>.json} in the baseline
+ * directory, writes the report to {@code <suite>.txt} in the report directory and returns it; with
+ * {@code benchmark.gate.update=true} the results replace the baseline instead.
+ *
+ * <p>A timing is only gated when the environment, i.e. the Java feature release and the run
+ * parameters, matches the one the baseline was recorded in; otherwise it is reported as not gated. A benchmark missing from the baseline is reported as new,
+ * and a baseline benchmark missing from the run is noted; neither fails the gate.
+ */
+public final class PerformanceGate {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path baselineDirectory;
+    private final Path reportDirectory;
+    private final boolean update;
+    private final Map<Metric, Double> thresholds;
+
+    public PerformanceGate(Path baselineDirectory, Path reportDirectory, boolean update, Map<Metric, Double> thresholds) {
+        this.baselineDirectory = baselineDirectory;
+        this.reportDirectory = reportDirectory;
+        this.update = update;
+        this.thresholds = thresholds;
+    }
+
+    /** Whether the benchmarks should be checked, i.e. {@code benchmark.gate=true}. */
+    public static boolean enabled() {
+        return Boolean.getBoolean("benchmark.gate");
+    }
+
+    /**
+     * The gate configured by {@code benchmark.gate.baseline-dir} (default {@code baselines}),
+     * {@code benchmark.gate.report-dir} (default {@code target/performance-gate}),
+     * {@code benchmark.gate.update} and the threshold property of each metric.
+     */
+    public static PerformanceGate fromSystemProperties() {
+        var thresholds = new EnumMap<Metric, Double>(Metric.class);
+        for (var metric : Metric.values()) {
+            if (!metric.gated()) {
+                continue;
+            }
+            thresholds.put(metric, Double.parseDouble(
+                    System.getProperty(metric.thresholdProperty(), String.valueOf(metric.defaultThreshold()))));
+        }
+        return new PerformanceGate(
+                Path.of(System.getProperty("benchmark.gate.baseline-dir", "baselines")),
+                Path.of(System.getProperty("benchmark.gate.report-dir", "target/performance-gate")),
+                Boolean.getBoolean("benchmark.gate.update"),
+                thresholds);
+    }
+
+    /**
+     * Checks the results, given by benchmark name and then by metric, measured in the given
+     * environment. Keep the environment to what makes timings incomparable wherever they run, e.g.
+     * the Java feature release and the run parameters, not the build number or the processor count.
+     */
+    public GateReport check(
+            String suite, Map<String, String> environment, Map<String, Map<Metric, Double>> results) {
+        var baselineFile = baselineDirectory.resolve(suite + ".json");
+        var report = new GateReport(suite, baselineFile);
+        try {
+            if (update) {
+                write(baselineFile, environment, results);
+                report.note("Baseline updated");
+            } else if (!Files.exists(baselineFile)) {
+                report.baselineMissing();
+            } else {
+                compare(OBJECT_MAPPER.readValue(baselineFile.toFile(), Baseline.class), environment, results, report);
+            }
+            Files.createDirectories(reportDirectory);
+            Files.writeString(reportDirectory.resolve(suite + ".txt"), report.format());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Performance gate failed for " + suite, e);
+        }
+        return report;
+    }
+
+    private void compare(
+            Baseline baseline,
+            Map<String, String> environment,
+            Map<String, Map<Metric, Double>> results,
+            GateReport report) {
+        if (baseline.version() != Baseline.CURRENT_VERSION) {
+            throw new IllegalStateException("Unsupported baseline version " + baseline.version());
+        }
+        var sameEnvironment = baseline.environment().equals(environment);
+        if (!sameEnvironment) {
+            report.note("Environment differs from the baseline, timings are not gated: "
+                    + differences(baseline.environment(), environment));
+        }
+        for (var benchmark : results.entrySet()) {
+            var stored = baseline.benchmarks().getOrDefault(benchmark.getKey(), Map.of());
+            for (var measured : benchmark.getValue().entrySet()) {
+                var metric = measured.getKey();
+                var threshold = thresholds.getOrDefault(metric, 0.0);
+                var baselineValue = stored.get(metric.label());
+                report.add(new GateReport.Row(
+                        benchmark.getKey(),
+                        metric,
+                        baselineValue,
+                        measured.getValue(),
+                        threshold,
+                        status(metric, threshold, baselineValue, measured.getValue(), sameEnvironment)));
+            }
+        }
+        baseline.benchmarks().keySet().stream()
+                .filter(benchmark -> !results.containsKey(benchmark))
+                .forEach(benchmark -> report.note("Not measured in this run: " + benchmark));
+    }
+
+    static GateReport.Status status(
+            Metric metric, double threshold, Double baseline, double current, boolean sameEnvironment) {
+        if (baseline == null) {
+            return GateReport.Status.NEW;
+        }
+        if (!metric.gated() || metric.timing() && !sameEnvironment) {
+            return GateReport.Status.NOT_GATED;
+        }
+        var rise = current - baseline;
+        var allowed = Math.max(metric.minimumDelta(), threshold * Math.abs(baseline));
+        if (rise > allowed) {
+            return GateReport.Status.REGRESSION;
+        }
+        if (-rise > allowed) {
+            return GateReport.Status.IMPROVED;
+        }
+        return GateReport.Status.OK;
+    }
+
+    private static String differences(Map<String, String> baseline, Map<String, String> current) {
+        var keys = new LinkedHashSet<>(baseline.keySet());
+        keys.addAll(current.keySet());
+        var differences = new LinkedHashMap<String, String>();
+        for (var key : keys) {
+            if (!Objects.equals(baseline.get(key), current.get(key))) {
+                differences.put(key, baseline.get(key) + " -> " + current.get(key));
+            }
+        }
+        return differences.toString();
+    }
+
+    private static void write(
+            Path baselineFile, Map<String, String> environment, Map<String, Map<Metric, Double>> results)
+            throws IOException {
+        var benchmarks = new LinkedHashMap<String, Map<String, Double>>();
+        results.forEach((benchmark, metrics) -> {
+            var values = new LinkedHashMap<String, Double>();
+            metrics.forEach((metric, value) -> values.put(metric.label(), value));
+            benchmarks.put(benchmark, values);
+        });
+        Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(
+                baselineFile.toFile(), new Baseline(Baseline.CURRENT_VERSION, environment, benchmarks));
+    }
+}
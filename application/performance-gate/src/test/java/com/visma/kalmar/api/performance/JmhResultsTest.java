@@ -0,0 +1,92 @@
+package com.visma.kalmar.api.performance;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JmhResultsTest {
+
+    private static final String PACKAGE = "com.visma.kalmar.api.microbenchmarks.";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void read_groupsBenchmarksByClassAndRelatesThemToTheCalibration() throws IOException {
+        var results = JmhResults.read(write(
+                run("CalibrationBenchmark.calibration", "avgt", 200.0, "ns/op", "gc.alloc.rate.norm", 640.0),
+                run("CallChainBenchmark.getUserById", "avgt", 300.0, "ns/op", "gc.alloc.rate.norm", 512.0),
+                run("InstrumentationBenchmark.getRoleById", "avgt", 100.0, "ns/op", "·gc.alloc.rate.norm", 384.0)),
+                "Calibration.calibration");
+
+        assertEquals(Set.of("CallChain", "Instrumentation"), results.suites());
+        assertEquals(
+                Map.of("CallChain.getUserById", Map.of(
+                        Metric.NANOS_PER_OPERATION, 300.0,
+                        Metric.RELATIVE_TIME, 1.5,
+                        Metric.BYTES_PER_OPERATION, 512.0)),
+                results.results("CallChain"));
+        assertEquals(384.0, results.results("Instrumentation")
+                .get("Instrumentation.getRoleById").get(Metric.BYTES_PER_OPERATION));
+        assertEquals(
+                Map.of("java", "21", "jmh", "1.37", "forks", "1", "warmup-iterations", "5", "warmup-time", "1 s",
+                        "iterations", "5", "iteration-time", "1 s"),
+                results.environment("CallChain"));
+    }
+
+    @Test
+    void read_withoutTheGcProfiler_leavesOutTheAllocation() throws IOException {
+        var results = JmhResults.read(write(
+                run("CalibrationBenchmark.calibration", "avgt", 200.0, "ns/op", null, 0.0),
+                run("CallChainBenchmark.getUserById", "avgt", 300.0, "ns/op", null, 0.0)),
+                "Calibration.calibration");
+
+        assertEquals(
+                Set.of(Metric.NANOS_PER_OPERATION, Metric.RELATIVE_TIME),
+                results.results("CallChain").get("CallChain.getUserById").keySet());
+    }
+
+    @Test
+    void read_withoutCalibration_isRejected() throws IOException {
+        var file = write(run("CallChainBenchmark.getUserById", "avgt", 300.0, "ns/op", null, 0.0));
+
+        assertThrows(IllegalArgumentException.class, () -> JmhResults.read(file, "Calibration.calibration"));
+    }
+
+    @Test
+    void read_throughputMode_isRejected() throws IOException {
+        var file = write(
+                run("CalibrationBenchmark.calibration", "avgt", 200.0, "ns/op", null, 0.0),
+                run("CallChainBenchmark.getUserById", "thrpt", 3.3, "ops/us", null, 0.0));
+
+        assertThrows(IllegalArgumentException.class, () -> JmhResults.read(file, "Calibration.calibration"));
+    }
+
+    private Path write(String... runs) throws IOException {
+        return Files.writeString(directory.resolve("jmh-result.json"), "[" + String.join(",", runs) + "]");
+    }
+
+    // The fields the gate reads, in the layout JMH writes them.
+    private static String run(
+            String benchmark, String mode, double score, String unit, String allocationMetric, double allocation) {
+        var secondary = allocationMetric == null
+                ? "{}"
+                : String.format("{\"%s\":{\"score\":%s,\"scoreError\":0.0,\"scoreUnit\":\"B/op\"}}",
+                        allocationMetric, allocation);
+        return String.format("""
+                {"jmhVersion":"1.37","benchmark":"%s%s","mode":"%s","threads":1,"forks":1,
+                 "jvm":"/usr/lib/jvm/java-21/bin/java","jdkVersion":"21.0.1","vmVersion":"21.0.1+12-LTS",
+                 "warmupIterations":5,"warmupTime":"1 s","warmupBatchSize":1,
+                 "measurementIterations":5,"measurementTime":"1 s","measurementBatchSize":1,
+                 "primaryMetric":{"score":%s,"scoreError":1.0,"scoreUnit":"%s"},
+                 "secondaryMetrics":%s}""", PACKAGE, benchmark, mode, score, unit, secondary);
+    }
+}
@@ -0,0 +1,120 @@
+package com.visma.kalmar.api.performance;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerformanceGateTest {
+
+    private static final Map<String, String> ENVIRONMENT = Map.of("java", "21", "iterations", "5");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void check_withoutBaseline_fails() {
+        var report = gate(false).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+
+        assertFalse(report.passed());
+        assertTrue(report.format().contains("No baseline"));
+    }
+
+    @Test
+    void check_afterUpdate_passesWithTheSameResults() {
+        gate(true).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+
+        var report = gate(false).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+
+        assertTrue(report.passed(), report.format());
+        assertTrue(Files.exists(directory.resolve("baselines/suite.json")));
+        assertTrue(Files.exists(directory.resolve("reports/suite.txt")));
+    }
+
+    @Test
+    void check_beyondThresholds_reportsEachRegression() {
+        gate(true).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+
+        var report = gate(false).check("suite", ENVIRONMENT, results(1.6, 640.0, 4.0));
+
+        assertFalse(report.passed());
+        assertEquals(
+                List.of("Group.operation x calibration", "Group.operation B/op", "Group.operation statements/req"),
+                report.regressions());
+    }
+
+    @Test
+    void check_withinThresholds_passes() {
+        gate(true).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+
+        var report = gate(false).check("suite", ENVIRONMENT, results(1.2, 540.0, 3.0));
+
+        assertTrue(report.passed(), report.format());
+    }
+
+    @Test
+    void check_withOtherRunParameters_gatesOnlyAllocationsAndCounts() {
+        gate(true).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+
+        var report = gate(false).check(
+                "suite", Map.of("java", "21", "iterations", "10"), results(3.0, 512.0, 4.0));
+
+        assertEquals(List.of("Group.operation statements/req"), report.regressions());
+        assertEquals(GateReport.Status.NOT_GATED, report.rows().get(1).status());
+    }
+
+    @Test
+    void check_newBenchmark_doesNotFail() {
+        gate(true).check("suite", ENVIRONMENT, results(1.0, 512.0, 3.0));
+        var results = new LinkedHashMap<>(results(1.0, 512.0, 3.0));
+        results.put("Group.added", Map.of(Metric.NANOS_PER_OPERATION, 50.0));
+
+        var report = gate(false).check("suite", ENVIRONMENT, results);
+
+        assertTrue(report.passed(), report.format());
+        assertEquals(GateReport.Status.NEW, report.rows().get(4).status());
+    }
+
+    @Test
+    void status_absoluteTiming_isNeverGated() {
+        assertEquals(GateReport.Status.NOT_GATED,
+                PerformanceGate.status(Metric.NANOS_PER_OPERATION, 0.0, 100.0, 400.0, true));
+        assertEquals(GateReport.Status.REGRESSION,
+                PerformanceGate.status(Metric.RELATIVE_TIME, 0.25, 1.0, 1.3, true));
+        assertEquals(GateReport.Status.IMPROVED,
+                PerformanceGate.status(Metric.RELATIVE_TIME, 0.25, 1.0, 0.7, true));
+    }
+
+    @Test
+    void status_smallAbsoluteChange_isWithinTheMinimumDelta() {
+        assertEquals(GateReport.Status.OK, PerformanceGate.status(Metric.BYTES_PER_OPERATION, 0.1, 0.0, 32.0, true));
+    }
+
+    private PerformanceGate gate(boolean update) {
+        var thresholds = new EnumMap<Metric, Double>(Metric.class);
+        for (var metric : Metric.values()) {
+            if (metric.gated()) {
+                thresholds.put(metric, metric.defaultThreshold());
+            }
+        }
+        return new PerformanceGate(directory.resolve("baselines"), directory.resolve("reports"), update, thresholds);
+    }
+
+    private static Map<String, Map<Metric, Double>> results(double relativeTime, double bytes, double statements) {
+        var metrics = new EnumMap<Metric, Double>(Metric.class);
+        metrics.put(Metric.NANOS_PER_OPERATION, relativeTime * 100);
+        metrics.put(Metric.RELATIVE_TIME, relativeTime);
+        metrics.put(Metric.BYTES_PER_OPERATION, bytes);
+        metrics.put(Metric.STATEMENTS_PER_REQUEST, statements);
+        return Map.of("Group.operation", metrics);
+    }
+}
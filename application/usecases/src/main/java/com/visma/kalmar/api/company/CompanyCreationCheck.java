@@ -0,0 +1,16 @@
+package com.visma.kalmar.api.company;
+
+import java.util.UUID;
+
+/**
+ * What the stored contexts say about a company about to be created.
+ *
+ * @param parentIdCountry the country of the parent customer, {@code null} when the parent is not a customer
+ */
+public record CompanyCreationCheck(
+        boolean companyExists,
+        boolean parentIsCustomer,
+        UUID parentIdCountry,
+        boolean nameTaken,
+        boolean organizationNumberTaken) {
+}
@@ -3,17 +3,52 @@ package com.visma.kalmar.api.company;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CompanyGateway {
     
+    /**
+     * Stores the company. A name, or organization number and country, already taken under the same
+     * customer gives {@code ResourceAlreadyExistsException}.
+     */
     Company save(Context company);
+
+    /**
+     * Stores the companies together, sending their inserts to the database in batches. Fails like
+     * {@link #save} when one of them takes a name, or organization number and country, already used.
+     */
+    List<Company> saveAll(List<Context> companies);
     
     Company findById(UUID idCompany);
+
+    /**
+     * Returns the context of a company owned by the given customer, or {@code null} when there is no such
+     * company, reading company and context in one query.
+     */
+    Context findByIdAndCustomer(UUID idCompany, UUID idCustomer);
     
-    void deleteById(UUID idCompany);
+    /**
+     * Deletes a company owned by the given customer together with its context, without loading it first.
+     * Throws {@code ResourceNotFoundException} when there is no such company.
+     */
+    void deleteByIdAndCustomer(UUID idCompany, UUID idCustomer);
+
+    /**
+     * Checks a company about to be created against the stored contexts in one query. The organization
+     * number is checked within the country of {@code countryCode}, or within the country of the parent
+     * customer when the code is {@code null} or unknown; callers reject an unknown code themselves.
+     */
+    CompanyCreationCheck checkCreation(
+            UUID idCompany, UUID idCustomer, String name, String organizationNumber, String countryCode);
     
     boolean existsByNameAndParent(String name, UUID idContextParent);
     
     boolean existsByOrganizationNumberAndCountryAndParent(String organizationNumber, UUID idCountry, UUID idContextParent);
+
+    /**
+     * Returns the contexts of at most {@code limit} companies of a customer whose id sorts after
+     * {@code afterIdCompany}, ordered by id.
+     */
+    List<Context> findPageByCustomer(UUID idCustomer, UUID afterIdCompany, int limit);
 }
@@ -0,0 +1,9 @@
+package com.visma.kalmar.api.company;
+
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.pagination.Page;
+
+public interface CompanyListOutputPort {
+
+    void present(Page<Context> page);
+}
@@ -2,6 +2,7 @@ package com.visma.kalmar.api.company;
 
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 
 import java.util.UUID;
 
@@ -19,7 +20,7 @@ public interface CreateCompanyInputPort {
     ) {
         public CreateCompanyInputData {
             if (idCompany == null) {
-                idCompany = UUID.randomUUID();
+                idCompany = TimeOrderedUuid.next();
             }
             if (idContextParent == null) {
                 throw new InvalidInputDataException("Company", "idContextParent is mandatory");
@@ -1,8 +1,12 @@
 package com.visma.kalmar.api.company;
 
+import com.visma.kalmar.api.pagination.PageQuery;
+
 import java.util.UUID;
 
 public interface GetCompanyInputPort {
 
     void getCompany(UUID idCustomer, UUID idCompany, GetCompanyOutputPort outputPort);
+
+    void listCompanies(UUID idCustomer, PageQuery pageQuery, CompanyListOutputPort outputPort);
 }
@@ -1,38 +1,50 @@
 package com.visma.kalmar.api.company;
 
-import com.visma.kalmar.api.context.ContextGateway;
+import com.visma.kalmar.api.customer.CustomerGateway;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
 import java.util.UUID;
 
 public class GetCompanyUseCase implements GetCompanyInputPort {
 
     private final CompanyGateway companyGateway;
-    private final ContextGateway contextGateway;
+    private final CustomerGateway customerGateway;
+    private final UnitOfWork unitOfWork;
 
-    public GetCompanyUseCase(CompanyGateway companyGateway, ContextGateway contextGateway) {
+    public GetCompanyUseCase(CompanyGateway companyGateway, CustomerGateway customerGateway, UnitOfWork unitOfWork) {
         this.companyGateway = companyGateway;
-        this.contextGateway = contextGateway;
+        this.customerGateway = customerGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void getCompany(UUID idCustomer, UUID idCompany, GetCompanyOutputPort outputPort) {
-        Company company = companyGateway.findById(idCompany);
-        if (company == null) {
-            throw new ResourceNotFoundException("Company", "Company not found with id: " + idCompany);
-        }
+        unitOfWork.executeReadOnly(() -> {
+            Context context = companyGateway.findByIdAndCustomer(idCompany, idCustomer);
+            if (context == null) {
+                throw new ResourceNotFoundException("Company", "Company not found with id: " + idCompany);
+            }
+
+            outputPort.present(new Company(context.idContext()), context);
+        });
+    }
 
-        Context context = contextGateway.findById(idCompany);
-        if (context == null) {
-            throw new ResourceNotFoundException("Context", "Context not found with id: " + idCompany);
-        }
+    @Override
+    public void listCompanies(UUID idCustomer, PageQuery pageQuery, CompanyListOutputPort outputPort) {
+        unitOfWork.executeReadOnly(() -> {
+            var afterIdCompany = pageQuery.afterId();
+            if (!customerGateway.existsById(idCustomer)) {
+                throw new ResourceNotFoundException("Customer", "Customer not found with id: " + idCustomer);
+            }
 
-        if (context.idContextParent() == null || !context.idContextParent().equals(idCustomer)) {
-            throw new ResourceNotFoundException("Company", "Company not found with id: " + idCompany);
-        }
+            var contexts = companyGateway.findPageByCustomer(idCustomer, afterIdCompany, pageQuery.lookahead());
 
-        outputPort.present(company, context);
+            outputPort.present(Page.fromLookahead(contexts, pageQuery.limit(), context -> context.idContext().toString()));
+        });
     }
 }
@@ -1,58 +1,51 @@
 package com.visma.kalmar.api.company;
 
-import com.visma.kalmar.api.context.ContextGateway;
 import com.visma.kalmar.api.country.CountryGateway;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
 import java.util.UUID;
 
 public class UpdateCompanyUseCase implements UpdateCompanyInputPort {
 
     private final CompanyGateway companyGateway;
-    private final ContextGateway contextGateway;
     private final CountryGateway countryGateway;
+    private final UnitOfWork unitOfWork;
 
     public UpdateCompanyUseCase(
             CompanyGateway companyGateway,
-            ContextGateway contextGateway,
-            CountryGateway countryGateway) {
+            CountryGateway countryGateway,
+            UnitOfWork unitOfWork) {
         this.companyGateway = companyGateway;
-        this.contextGateway = contextGateway;
         this.countryGateway = countryGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void updateCompany(UUID idCustomer, UpdateCompanyInputData inputData, CompanyOutputPort outputPort) {
-        Company existingCompany = companyGateway.findById(inputData.idCompany());
-        if (existingCompany == null) {
-            throw new ResourceNotFoundException("Company", "Company not found with id: " + inputData.idCompany());
-        }
-
-        Context existingContext = contextGateway.findById(inputData.idCompany());
-        if (existingContext == null) {
-            throw new ResourceNotFoundException("Context", "Context not found with id: " + inputData.idCompany());
-        }
-
-        if (existingContext.idContextParent() == null || !existingContext.idContextParent().equals(idCustomer)) {
-            throw new ResourceNotFoundException("Company", "Company not found with id: " + inputData.idCompany());
-        }
-
-        UUID idCountry = resolveCountryId(inputData.countryCode(), existingContext);
-
-        Context updatedContext = new Context(
-                inputData.idCompany(),
-                existingContext.idContextType(),
-                existingContext.idContextParent(),
-                idCountry,
-                inputData.name(),
-                inputData.organizationNumber()
-        );
-
-        companyGateway.save(updatedContext);
-
-        outputPort.present(existingCompany, updatedContext, false);
+        unitOfWork.execute(() -> {
+            Context existingContext = companyGateway.findByIdAndCustomer(inputData.idCompany(), idCustomer);
+            if (existingContext == null) {
+                throw new ResourceNotFoundException("Company", "Company not found with id: " + inputData.idCompany());
+            }
+
+            UUID idCountry = resolveCountryId(inputData.countryCode(), existingContext);
+
+            Context updatedContext = new Context(
+                    inputData.idCompany(),
+                    existingContext.idContextType(),
+                    existingContext.idContextParent(),
+                    idCountry,
+                    inputData.name(),
+                    inputData.organizationNumber()
+            );
+
+            Company company = companyGateway.save(updatedContext);
+
+            outputPort.present(company, updatedContext, false);
+        });
     }
 
     private UUID resolveCountryId(String countryCode, Context existingContext) {
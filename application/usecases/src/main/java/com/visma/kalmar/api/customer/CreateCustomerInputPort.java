@@ -2,6 +2,7 @@ package com.visma.kalmar.api.customer;
 
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.identity.TimeOrderedUuid;
 
 import java.util.UUID;
 
@@ -19,7 +20,7 @@ public interface CreateCustomerInputPort {
     ) {
         public CreateCustomerInputData {
             if (idCustomer == null) {
-                idCustomer = UUID.randomUUID();
+                idCustomer = TimeOrderedUuid.next();
             }
             if (organizationNumber == null || organizationNumber.isBlank()) {
                 throw new InvalidInputDataException("Customer", "organizationNumber is mandatory");
@@ -9,6 +9,7 @@ import com.visma.kalmar.api.entities.customer.Customer;
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
 import java.util.UUID;
 
@@ -18,49 +19,53 @@ public class CreateCustomerUseCase implements CreateCustomerInputPort {
     private final ContextGateway contextGateway;
     private final ContextTypeGateway contextTypeGateway;
     private final CountryGateway countryGateway;
+    private final UnitOfWork unitOfWork;
 
     public CreateCustomerUseCase(
             CustomerGateway customerGateway,
             ContextGateway contextGateway,
             ContextTypeGateway contextTypeGateway,
-            CountryGateway countryGateway) {
+            CountryGateway countryGateway,
+            UnitOfWork unitOfWork) {
         this.customerGateway = customerGateway;
         this.contextGateway = contextGateway;
         this.contextTypeGateway = contextTypeGateway;
         this.countryGateway = countryGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void createCustomer(CreateCustomerInputData inputData, CustomerOutputPort outputPort)
             throws InvalidInputDataException, ResourceNotFoundException {
+        unitOfWork.execute(() -> {
+            Customer existingCustomer = customerGateway.findById(inputData.idCustomer());
+            if (existingCustomer != null) {
+                throw new ResourceAlreadyExistsException("Customer", 
+                    "Customer already exists with id: " + inputData.idCustomer());
+            }
 
-        Customer existingCustomer = customerGateway.findById(inputData.idCustomer());
-        if (existingCustomer != null) {
-            throw new ResourceAlreadyExistsException("Customer", 
-                "Customer already exists with id: " + inputData.idCustomer());
-        }
-
-        validateParentContextExists(inputData.idContextParent());
+            validateParentContextExists(inputData.idContextParent());
 
-        var contextType = contextTypeGateway.findByName(ContextTypeName.CUSTOMER.getValue());
-        if (contextType == null) {
-            throw new ResourceNotFoundException("ContextType", 
-                "ContextType not found with name: " + ContextTypeName.CUSTOMER.getValue());
-        }
+            var contextType = contextTypeGateway.findByName(ContextTypeName.CUSTOMER.getValue());
+            if (contextType == null) {
+                throw new ResourceNotFoundException("ContextType", 
+                    "ContextType not found with name: " + ContextTypeName.CUSTOMER.getValue());
+            }
 
-        UUID idCountry = resolveCountryId(inputData.countryCode(), inputData.idContextParent());
+            UUID idCountry = resolveCountryId(inputData.countryCode(), inputData.idContextParent());
 
-        var context = new Context(
-                inputData.idCustomer(),
-                contextType.idContextType(),
-                inputData.idContextParent(),
-                idCountry,
-                inputData.name(),
-                inputData.organizationNumber()
-        );
-        var savedCustomer = customerGateway.save(context);
+            var context = new Context(
+                    inputData.idCustomer(),
+                    contextType.idContextType(),
+                    inputData.idContextParent(),
+                    idCountry,
+                    inputData.name(),
+                    inputData.organizationNumber()
+            );
+            var savedCustomer = customerGateway.save(context);
 
-        outputPort.present(savedCustomer, context, true);
+            outputPort.present(savedCustomer, context, true);
+        });
     }
 
     private UUID resolveCountryId(String countryCode, UUID idContextParent) {
@@ -3,13 +3,39 @@ package com.visma.kalmar.api.customer;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.customer.Customer;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CustomerGateway {
     
+    /**
+     * Stores the customer. A name, or organization number and country, already taken by another
+     * customer under the same parent gives {@code ResourceAlreadyExistsException}.
+     */
     Customer save(Context customer);
+
+    /**
+     * Stores the customers together, sending their inserts to the database in batches. Fails like
+     * {@link #save} when one of them takes a name, or organization number and country, already used.
+     */
+    List<Customer> saveAll(List<Context> customers);
     
     Customer findById(UUID idCustomer);
-    
+
+    /**
+     * Whether {@code idCustomer} is a customer; other contexts, such as companies, do not count.
+     */
+    boolean existsById(UUID idCustomer);
+
+    /**
+     * Deletes a customer together with its context, without loading it first. Throws
+     * {@code ResourceNotFoundException} when there is no such customer.
+     */
     void deleteById(UUID idCustomer);
+
+    /**
+     * Returns the contexts of at most {@code limit} customers whose id sorts after {@code afterIdCustomer},
+     * ordered by id.
+     */
+    List<Context> findPage(UUID afterIdCustomer, int limit);
 }
@@ -0,0 +1,9 @@
+package com.visma.kalmar.api.customer;
+
+import com.visma.kalmar.api.entities.context.Context;
+import com.visma.kalmar.api.pagination.Page;
+
+public interface CustomerListOutputPort {
+
+    void present(Page<Context> page);
+}
@@ -1,23 +1,27 @@
 package com.visma.kalmar.api.customer;
 
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
 import java.util.UUID;
 
 public class DeleteCustomerUseCase implements DeleteCustomerInputPort {
 
     private final CustomerGateway customerGateway;
+    private final UnitOfWork unitOfWork;
 
-    public DeleteCustomerUseCase(CustomerGateway customerGateway) {
+    public DeleteCustomerUseCase(CustomerGateway customerGateway, UnitOfWork unitOfWork) {
         this.customerGateway = customerGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void deleteCustomer(UUID idCustomer, DeleteCustomerOutputPort outputPort)
             throws ResourceNotFoundException {
-        
-        customerGateway.deleteById(idCustomer);
-        
-        outputPort.presentDeleted();
+        unitOfWork.execute(() -> {
+            customerGateway.deleteById(idCustomer);
+
+            outputPort.presentDeleted();
+        });
     }
 }
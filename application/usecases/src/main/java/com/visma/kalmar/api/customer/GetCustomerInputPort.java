@@ -1,8 +1,12 @@
 package com.visma.kalmar.api.customer;
 
+import com.visma.kalmar.api.pagination.PageQuery;
+
 import java.util.UUID;
 
 public interface GetCustomerInputPort {
 
     void getCustomer(UUID idCustomer, GetCustomerOutputPort outputPort);
+
+    void listCustomers(PageQuery pageQuery, CustomerListOutputPort outputPort);
 }
@@ -4,6 +4,9 @@ import com.visma.kalmar.api.context.ContextGateway;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.customer.Customer;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
 import java.util.UUID;
 
@@ -11,24 +14,37 @@ public class GetCustomerUseCase implements GetCustomerInputPort {
 
     private final CustomerGateway customerGateway;
     private final ContextGateway contextGateway;
+    private final UnitOfWork unitOfWork;
 
-    public GetCustomerUseCase(CustomerGateway customerGateway, ContextGateway contextGateway) {
+    public GetCustomerUseCase(CustomerGateway customerGateway, ContextGateway contextGateway, UnitOfWork unitOfWork) {
         this.customerGateway = customerGateway;
         this.contextGateway = contextGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void getCustomer(UUID idCustomer, GetCustomerOutputPort outputPort) {
-        Customer customer = customerGateway.findById(idCustomer);
-        if (customer == null) {
-            throw new ResourceNotFoundException("Customer", "Customer not found with id: " + idCustomer);
-        }
+        unitOfWork.executeReadOnly(() -> {
+            Customer customer = customerGateway.findById(idCustomer);
+            if (customer == null) {
+                throw new ResourceNotFoundException("Customer", "Customer not found with id: " + idCustomer);
+            }
+
+            Context context = contextGateway.findById(idCustomer);
+            if (context == null) {
+                throw new ResourceNotFoundException("Context", "Context not found with id: " + idCustomer);
+            }
+
+            outputPort.present(customer, context);
+        });
+    }
 
-        Context context = contextGateway.findById(idCustomer);
-        if (context == null) {
-            throw new ResourceNotFoundException("Context", "Context not found with id: " + idCustomer);
-        }
+    @Override
+    public void listCustomers(PageQuery pageQuery, CustomerListOutputPort outputPort) {
+        unitOfWork.executeReadOnly(() -> {
+            var contexts = customerGateway.findPage(pageQuery.afterId(), pageQuery.lookahead());
 
-        outputPort.present(customer, context);
+            outputPort.present(Page.fromLookahead(contexts, pageQuery.limit(), context -> context.idContext().toString()));
+        });
     }
 }
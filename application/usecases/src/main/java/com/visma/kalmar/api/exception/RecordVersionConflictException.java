@@ -0,0 +1,20 @@
+package com.visma.kalmar.api.exception;
+
+public class RecordVersionConflictException extends CustomRuntimeException {
+
+    private final String resourceType;
+
+    public RecordVersionConflictException(String resourceType, String message) {
+        super(message);
+        this.resourceType = resourceType;
+    }
+
+    public RecordVersionConflictException(String resourceType, String message, Object... arguments) {
+        super(message, arguments);
+        this.resourceType = resourceType;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+}
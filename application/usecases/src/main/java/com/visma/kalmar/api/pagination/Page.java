@@ -0,0 +1,30 @@
+package com.visma.kalmar.api.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One keyset page. {@code nextAfter} is the sort key to pass as {@code after} for the following
+ * page, or {@code null} on the last page.
+ */
+public record Page<T>(
+        List<T> items,
+        String nextAfter
+) {
+
+    /**
+     * Builds a page from a query that fetched {@code limit + 1} rows; the extra row only signals that
+     * another page exists and is dropped.
+     */
+    public static <T> Page<T> fromLookahead(List<T> rows, int limit, Function<T, String> sortKey) {
+        if (rows.size() <= limit) {
+            return new Page<>(rows, null);
+        }
+        var items = rows.subList(0, limit);
+        return new Page<>(items, sortKey.apply(items.get(limit - 1)));
+    }
+
+    public <R> Page<R> map(Function<T, R> mapper) {
+        return new Page<>(items.stream().map(mapper).toList(), nextAfter);
+    }
+}
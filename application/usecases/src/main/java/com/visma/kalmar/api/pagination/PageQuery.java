@@ -0,0 +1,49 @@
+package com.visma.kalmar.api.pagination;
+
+import com.visma.kalmar.api.exception.InvalidInputDataException;
+
+import java.util.UUID;
+
+/**
+ * Keyset page request: up to {@code limit} items whose sort key comes strictly after {@code after}.
+ * A {@code null} {@code after} starts at the beginning.
+ */
+public record PageQuery(
+        String after,
+        int limit
+) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAXIMUM_LIMIT = 200;
+
+    public static PageQuery of(String after, Integer limit) {
+        if (limit == null) {
+            return new PageQuery(after, DEFAULT_LIMIT);
+        }
+        if (limit < 1 || limit > MAXIMUM_LIMIT) {
+            throw new InvalidInputDataException("Page", "limit must be between 1 and " + MAXIMUM_LIMIT);
+        }
+        return new PageQuery(after, limit);
+    }
+
+    /**
+     * Reads {@code after} as an id cursor for lists ordered by id.
+     */
+    public UUID afterId() {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(after);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputDataException("Page", "after must be a valid id: " + after);
+        }
+    }
+
+    /**
+     * Number of rows to fetch so that {@link Page#fromLookahead} can tell whether another page exists.
+     */
+    public int lookahead() {
+        return limit + 1;
+    }
+}
@@ -1,19 +1,23 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.transaction.UnitOfWork;
+
 import java.util.UUID;
 
 public class DeleteRoleUseCase implements DeleteRoleInputPort {
 
     private final RoleGateway roleGateway;
+    private final UnitOfWork unitOfWork;
 
-    public DeleteRoleUseCase(RoleGateway roleGateway) {
+    public DeleteRoleUseCase(RoleGateway roleGateway, UnitOfWork unitOfWork) {
         this.roleGateway = roleGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void deleteRole(UUID roleId) {
-        roleGateway.findById(roleId);
-
-        roleGateway.deleteById(roleId);
+        unitOfWork.execute(() -> {
+            roleGateway.deleteById(roleId);
+        });
     }
 }
@@ -1,7 +1,11 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.pagination.PageQuery;
+
 import java.util.UUID;
 
 public interface GetRoleInputPort {
     void getRole(UUID roleId, RoleOutputPort outputPort);
+
+    void listRoles(PageQuery pageQuery, RoleListOutputPort outputPort);
 }
@@ -1,27 +1,48 @@
 package com.visma.kalmar.api.role;
 
+import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.UnitOfWork;
+
 import java.util.UUID;
 
 public class GetRoleUseCase implements GetRoleInputPort {
 
     private final RoleGateway roleGateway;
+    private final UnitOfWork unitOfWork;
 
-    public GetRoleUseCase(RoleGateway roleGateway) {
+    public GetRoleUseCase(RoleGateway roleGateway, UnitOfWork unitOfWork) {
         this.roleGateway = roleGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void getRole(UUID roleId, RoleOutputPort outputPort) {
-        var role = roleGateway.findById(roleId);
+        unitOfWork.executeReadOnly(() -> {
+            var role = roleGateway.findById(roleId);
+
+            outputPort.present(toOutputData(role));
+        });
+    }
+
+    @Override
+    public void listRoles(PageQuery pageQuery, RoleListOutputPort outputPort) {
+        unitOfWork.executeReadOnly(() -> {
+            var roles = roleGateway.findPageOrderedByInvariantKey(pageQuery.after(), pageQuery.lookahead());
+
+            outputPort.present(Page.fromLookahead(roles, pageQuery.limit(), Role::invariantKey).map(this::toOutputData));
+        });
+    }
 
-        var outputData = new RoleOutputData(
+    private RoleOutputData toOutputData(Role role) {
+        return new RoleOutputData(
                 role.idRole().toString(),
                 role.name(),
                 role.invariantKey(),
                 role.description(),
+                role.recordVersion(),
                 false
         );
-
-        outputPort.present(outputData);
     }
 }
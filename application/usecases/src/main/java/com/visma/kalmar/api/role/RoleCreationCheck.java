@@ -0,0 +1,7 @@
+package com.visma.kalmar.api.role;
+
+/**
+ * Which of the unique fields of a role about to be created are already taken.
+ */
+public record RoleCreationCheck(boolean invariantKeyTaken, boolean nameTaken) {
+}
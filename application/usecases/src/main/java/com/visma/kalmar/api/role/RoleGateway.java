@@ -2,23 +2,49 @@ package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.entities.role.Role;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface RoleGateway {
 
+    /**
+     * Stores the role. A name or invariant key already taken by another role gives
+     * {@code ResourceAlreadyExistsException}.
+     */
     Role save(Role role);
 
     Role findById(UUID roleId);
 
     Role findByInvariantKey(String invariantKey);
 
+    /**
+     * Overwrites the role in one statement and increments its record version. A non-null record
+     * version must match the stored one, otherwise {@code RecordVersionConflictException} is thrown;
+     * a missing role gives {@code ResourceNotFoundException}.
+     */
     Role update(Role role);
 
+    /**
+     * Checks the invariant key and name of a role about to be created against the stored roles in one
+     * query.
+     */
+    RoleCreationCheck checkCreation(String invariantKey, String name);
+
     boolean existsByInvariantKey(String invariantKey);
 
     boolean existsByName(String name);
 
     boolean existsById(UUID roleId);
 
+    /**
+     * Returns at most {@code limit} roles whose invariant key sorts after {@code afterInvariantKey},
+     * ordered by invariant key.
+     */
+    List<Role> findPageOrderedByInvariantKey(String afterInvariantKey, int limit);
+
+    /**
+     * Deletes a role without loading it first. Throws {@code ResourceNotFoundException} when there is no
+     * such role.
+     */
     void deleteById(UUID roleId);
 }
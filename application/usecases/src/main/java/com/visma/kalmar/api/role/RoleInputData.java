@@ -4,6 +4,7 @@ public record RoleInputData(
         String roleId,
         String name,
         String invariantKey,
-        String description
+        String description,
+        Long recordVersion
 ) {
 }
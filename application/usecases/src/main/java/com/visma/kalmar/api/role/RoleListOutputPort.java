@@ -0,0 +1,7 @@
+package com.visma.kalmar.api.role;
+
+import com.visma.kalmar.api.pagination.Page;
+
+public interface RoleListOutputPort {
+    void present(Page<RoleOutputData> page);
+}
@@ -5,6 +5,7 @@ public record RoleOutputData(
         String name,
         String invariantKey,
         String description,
+        Long recordVersion,
         boolean created
 ) {
 }
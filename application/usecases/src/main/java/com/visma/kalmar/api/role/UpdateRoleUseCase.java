@@ -1,6 +1,7 @@
 package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
 import java.util.Date;
 import java.util.UUID;
@@ -8,40 +9,43 @@ import java.util.UUID;
 public class UpdateRoleUseCase implements UpdateRoleInputPort {
 
     private final RoleGateway roleGateway;
+    private final UnitOfWork unitOfWork;
 
-    public UpdateRoleUseCase(RoleGateway roleGateway) {
+    public UpdateRoleUseCase(RoleGateway roleGateway, UnitOfWork unitOfWork) {
         this.roleGateway = roleGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void updateRole(RoleInputData inputData, RoleOutputPort outputPort) {
-        if (inputData.roleId() == null || inputData.roleId().isEmpty()) {
-            throw new IllegalArgumentException("Role ID is required for update operation");
-        }
-
-        UUID roleId = UUID.fromString(inputData.roleId());
-
-        var existingRole = roleGateway.findById(roleId);
-
-        var roleToUpdate = new Role(
-                roleId,
-                inputData.name(),
-                inputData.invariantKey(),
-                inputData.description(),
-                existingRole.recordVersion(),
-                new Date()
-        );
-
-        var updatedRole = roleGateway.update(roleToUpdate);
-
-        var outputData = new RoleOutputData(
-                updatedRole.idRole().toString(),
-                updatedRole.name(),
-                updatedRole.invariantKey(),
-                updatedRole.description(),
-                false
-        );
-
-        outputPort.present(outputData);
+        unitOfWork.execute(() -> {
+            if (inputData.roleId() == null || inputData.roleId().isEmpty()) {
+                throw new IllegalArgumentException("Role ID is required for update operation");
+            }
+
+            UUID roleId = UUID.fromString(inputData.roleId());
+
+            var roleToUpdate = new Role(
+                    roleId,
+                    inputData.name(),
+                    inputData.invariantKey(),
+                    inputData.description(),
+                    inputData.recordVersion(),
+                    new Date()
+            );
+
+            var updatedRole = roleGateway.update(roleToUpdate);
+
+            var outputData = new RoleOutputData(
+                    updatedRole.idRole().toString(),
+                    updatedRole.name(),
+                    updatedRole.invariantKey(),
+                    updatedRole.description(),
+                    updatedRole.recordVersion(),
+                    false
+            );
+
+            outputPort.present(outputData);
+        });
     }
 }
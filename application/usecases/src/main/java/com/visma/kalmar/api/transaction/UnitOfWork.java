@@ -0,0 +1,17 @@
+package com.visma.kalmar.api.transaction;
+
+/**
+ * Runs a use case's gateway calls as one transaction: everything commits when the work returns and
+ * rolls back when it throws. Work must not wait on remote services, since it holds a database
+ * connection for its whole duration.
+ */
+public interface UnitOfWork {
+
+    void execute(Runnable work);
+
+    /**
+     * Runs work that only reads. Implementations may skip change tracking and send it to a read
+     * replica, so the work must not write.
+     */
+    void executeReadOnly(Runnable work);
+}
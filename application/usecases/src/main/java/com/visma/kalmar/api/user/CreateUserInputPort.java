@@ -1,6 +1,10 @@
 package com.visma.kalmar.api.user;
 
+import java.util.List;
+
 public interface CreateUserInputPort {
 
     void createUser(UserInputData inputData, UserOutputPort outputPort);
+
+    void createUsers(List<UserInputData> inputData, UserBatchOutputPort outputPort);
 }
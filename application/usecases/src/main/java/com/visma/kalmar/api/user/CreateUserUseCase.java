@@ -1,12 +1,24 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.entities.language.Language;
 import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
+import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.kalmar.api.language.LanguageGateway;
+import com.visma.kalmar.api.vismaconnect.ConnectUserCreateRequest;
+import com.visma.kalmar.api.vismaconnect.ConnectUserCreateResult;
 import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class CreateUserUseCase implements CreateUserInputPort {
 
@@ -25,14 +37,14 @@ public class CreateUserUseCase implements CreateUserInputPort {
 
     @Override
     public void createUser(UserInputData inputData, UserOutputPort outputPort) {
-        // Check if user already exists
+        // Get language by code (served from memory, and must be valid before anything goes to Connect)
+        var language = languageGateway.findByCode(inputData.languageCode());
+
+        // Check if user already exists before anything goes to Connect
         if (userGateway.existsByEmail(inputData.email())) {
             throw new ResourceAlreadyExistsException("User", "User with email: " + inputData.email() + " already exists.");
         }
 
-        // Get language by code
-        var language = languageGateway.findByCode(inputData.languageCode());
-
         // Create temporary user entity for Visma Connect (without connectUserId)
         var tempUser = new User(
                 null, // No ID yet
@@ -70,10 +82,135 @@ public class CreateUserUseCase implements CreateUserInputPort {
                 savedUser.firstName(),
                 savedUser.lastName(),
                 inputData.languageCode(), // Return original language code, not the language ID
+                savedUser.recordVersion(),
                 true // created = true for create operations
         );
 
         // Present the result
         outputPort.present(outputData);
     }
+
+    /**
+     * Creates a batch of users with one email-existence query, concurrent Visma Connect calls and a
+     * single batched insert. Every entry gets its own result; a failing entry does not fail the batch.
+     * When the batched insert fails, the users are saved one at a time instead.
+     */
+    @Override
+    public void createUsers(List<UserInputData> inputData, UserBatchOutputPort outputPort) {
+        var results = new UserBatchItemOutputData[inputData.size()];
+        var existingEmails = userGateway.findExistingEmails(
+                inputData.stream().map(UserInputData::email).toList())
+                .stream()
+                .map(CreateUserUseCase::normalizeEmail)
+                .collect(Collectors.toSet());
+        var batchEmails = new HashSet<String>();
+        var languages = new HashMap<String, Optional<Language>>();
+
+        var pendingIndexes = new ArrayList<Integer>();
+        var pendingLanguages = new ArrayList<Language>();
+        var connectRequests = new ArrayList<ConnectUserCreateRequest>();
+
+        for (int i = 0; i < inputData.size(); i++) {
+            var item = inputData.get(i);
+            var email = normalizeEmail(item.email());
+            if (existingEmails.contains(email) || !batchEmails.add(email)) {
+                results[i] = UserBatchItemOutputData.failed(item.email(), UserBatchItemStatus.ALREADY_EXISTS,
+                        "User with email: " + item.email() + " already exists.");
+                continue;
+            }
+
+            var language = languages.computeIfAbsent(item.languageCode(), this::findLanguage);
+            if (language.isEmpty()) {
+                results[i] = UserBatchItemOutputData.failed(item.email(), UserBatchItemStatus.INVALID_INPUT,
+                        "Language not found with code: " + item.languageCode());
+                continue;
+            }
+
+            pendingIndexes.add(i);
+            pendingLanguages.add(language.get());
+            connectRequests.add(new ConnectUserCreateRequest(
+                    new User(null, language.get().idLanguage(), item.email(), item.firstName(), item.lastName(),
+                            RECORD_VERSION, new Date()),
+                    item.languageCode()));
+        }
+
+        var connectResults = connectRequests.isEmpty()
+                ? List.<ConnectUserCreateResult>of()
+                : vismaConnectUserGateway.createUsers(connectRequests);
+
+        var savedIndexes = new ArrayList<Integer>();
+        var usersToSave = new ArrayList<User>();
+        for (int j = 0; j < connectResults.size(); j++) {
+            var index = pendingIndexes.get(j);
+            var connectResult = connectResults.get(j);
+            var item = inputData.get(index);
+            if (!connectResult.succeeded()) {
+                results[index] = UserBatchItemOutputData.failed(item.email(), UserBatchItemStatus.CONNECT_FAILED,
+                        connectResult.error().getMessage());
+                continue;
+            }
+            savedIndexes.add(index);
+            usersToSave.add(new User(
+                    connectResult.connectUserId(),
+                    pendingLanguages.get(j).idLanguage(),
+                    item.email(),
+                    item.firstName(),
+                    item.lastName(),
+                    RECORD_VERSION, new Date()
+            ));
+        }
+
+        if (!usersToSave.isEmpty()) {
+            try {
+                var savedUsers = userGateway.saveAll(usersToSave);
+                for (int k = 0; k < savedUsers.size(); k++) {
+                    var index = savedIndexes.get(k);
+                    results[index] = created(savedUsers.get(k), inputData.get(index));
+                }
+            } catch (RuntimeException e) {
+                // The batch insert rolled back as a whole. Every user in it already exists in Connect,
+                // so save them one at a time and report what happened to each.
+                for (int k = 0; k < usersToSave.size(); k++) {
+                    var index = savedIndexes.get(k);
+                    results[index] = saveOne(usersToSave.get(k), inputData.get(index));
+                }
+            }
+        }
+
+        outputPort.present(Arrays.asList(results));
+    }
+
+    private UserBatchItemOutputData saveOne(User user, UserInputData item) {
+        try {
+            return created(userGateway.save(user), item);
+        } catch (ResourceAlreadyExistsException e) {
+            return UserBatchItemOutputData.failed(item.email(), UserBatchItemStatus.ALREADY_EXISTS, e.getMessage());
+        } catch (RuntimeException e) {
+            return UserBatchItemOutputData.failed(item.email(), UserBatchItemStatus.SAVE_FAILED, e.getMessage());
+        }
+    }
+
+    private static UserBatchItemOutputData created(User savedUser, UserInputData item) {
+        return UserBatchItemOutputData.created(new UserOutputData(
+                savedUser.idUser().toString(),
+                savedUser.email(),
+                savedUser.firstName(),
+                savedUser.lastName(),
+                item.languageCode(),
+                savedUser.recordVersion(),
+                true
+        ));
+    }
+
+    private Optional<Language> findLanguage(String languageCode) {
+        try {
+            return Optional.of(languageGateway.findByCode(languageCode));
+        } catch (ResourceNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
 }
@@ -1,6 +1,7 @@
 package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.exception.ConnectUserException;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
 
 import java.util.UUID;
@@ -14,21 +15,23 @@ public class DeleteUserUseCase implements DeleteUserInputPort {
 
     private final UserGateway userGateway;
     private final VismaConnectUserGateway vismaConnectUserGateway;
+    private final UnitOfWork unitOfWork;
 
     public DeleteUserUseCase(UserGateway userGateway,
-                             VismaConnectUserGateway vismaConnectUserGateway) {
+                             VismaConnectUserGateway vismaConnectUserGateway,
+                             UnitOfWork unitOfWork) {
         this.userGateway = userGateway;
         this.vismaConnectUserGateway = vismaConnectUserGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void deleteUser(UUID userId) {
-        // Check if user exists (this will throw ResourceNotFoundException if not found)
-        userGateway.findById(userId);
+        unitOfWork.execute(() -> {
+            // Delete user from database; throws ResourceNotFoundException when no row was deleted
+            userGateway.deleteById(userId);
 
-        // Delete user from database (we know Connect unlink succeeded or was already unlinked)
-        userGateway.deleteById(userId);
-
-        // No need to present result for delete operations that return 204 No Content
+            // No need to present result for delete operations that return 204 No Content
+        });
     }
 }
@@ -1,5 +1,7 @@
 package com.visma.kalmar.api.user;
 
+import com.visma.kalmar.api.pagination.PageQuery;
+
 import java.util.UUID;
 
 public interface GetUserInputPort {
@@ -7,4 +9,6 @@ public interface GetUserInputPort {
     void getUserById(UUID userId, UserOutputPort outputPort);
 
     void getUserByEmail(String email, UserOutputPort outputPort);
+
+    void listUsers(PageQuery pageQuery, UserListOutputPort outputPort);
 }
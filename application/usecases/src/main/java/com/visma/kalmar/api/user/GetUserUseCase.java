@@ -2,40 +2,66 @@ package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.language.LanguageGateway;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 
+import java.util.HashMap;
 import java.util.UUID;
 
 public class GetUserUseCase implements GetUserInputPort {
 
     private final UserGateway userGateway;
     private final LanguageGateway languageGateway;
+    private final UnitOfWork unitOfWork;
 
-    public GetUserUseCase(UserGateway userGateway, LanguageGateway languageGateway) {
+    public GetUserUseCase(UserGateway userGateway, LanguageGateway languageGateway, UnitOfWork unitOfWork) {
         this.userGateway = userGateway;
         this.languageGateway = languageGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public void getUserById(UUID userId, UserOutputPort outputPort) {
-        User user = userGateway.findById(userId);
-        outputPort.present(buildOutputData(user));
+        unitOfWork.executeReadOnly(() -> {
+            User user = userGateway.findById(userId);
+            outputPort.present(buildOutputData(user));
+        });
     }
 
     @Override
     public void getUserByEmail(String email, UserOutputPort outputPort) {
-        User user = userGateway.findByEmail(email);
-        outputPort.present(buildOutputData(user));
+        unitOfWork.executeReadOnly(() -> {
+            User user = userGateway.findByEmail(email);
+            outputPort.present(buildOutputData(user));
+        });
+    }
+
+    @Override
+    public void listUsers(PageQuery pageQuery, UserListOutputPort outputPort) {
+        unitOfWork.executeReadOnly(() -> {
+            var users = userGateway.findPage(pageQuery.afterId(), pageQuery.lookahead());
+            var page = Page.fromLookahead(users, pageQuery.limit(), user -> user.idUser().toString());
+
+            var languageCodes = new HashMap<UUID, String>();
+            outputPort.present(page.map(user -> buildOutputData(
+                    user,
+                    languageCodes.computeIfAbsent(user.idLanguage(), id -> languageGateway.findById(id).code()))));
+        });
     }
 
     private UserOutputData buildOutputData(User user) {
-        String languageCode = languageGateway.findById(user.idLanguage()).code();
+        return buildOutputData(user, languageGateway.findById(user.idLanguage()).code());
+    }
 
+    private UserOutputData buildOutputData(User user, String languageCode) {
         return new UserOutputData(
                 user.idUser().toString(),
                 user.email(),
                 user.firstName(),
                 user.lastName(),
                 languageCode,
+                user.recordVersion(),
                 false
         );
     }
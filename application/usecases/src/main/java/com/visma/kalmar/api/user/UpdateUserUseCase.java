@@ -1,7 +1,9 @@
 package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
 import com.visma.kalmar.api.language.LanguageGateway;
+import com.visma.kalmar.api.transaction.UnitOfWork;
 import com.visma.kalmar.api.vismaconnect.VismaConnectUserGateway;
 
 import java.util.Date;
@@ -16,13 +18,16 @@ public class UpdateUserUseCase implements UpdateUserInputPort {
     private final UserGateway userGateway;
     private final LanguageGateway languageGateway;
     private final VismaConnectUserGateway vismaConnectUserGateway;
+    private final UnitOfWork unitOfWork;
 
     public UpdateUserUseCase(UserGateway userGateway,
                              LanguageGateway languageGateway,
-                             VismaConnectUserGateway vismaConnectUserGateway) {
+                             VismaConnectUserGateway vismaConnectUserGateway,
+                             UnitOfWork unitOfWork) {
         this.userGateway = userGateway;
         this.languageGateway = languageGateway;
         this.vismaConnectUserGateway = vismaConnectUserGateway;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
@@ -34,12 +39,17 @@ public class UpdateUserUseCase implements UpdateUserInputPort {
 
         UUID userId = UUID.fromString(inputData.userId());
 
-        // Check if user exists (this will throw ResourceNotFoundException if not found)
-        var existingUser = userGateway.findById(userId);
-
-        // Get language by code
+        // Get language by code (served from memory, and must be valid before anything goes to Connect)
         var language = languageGateway.findByCode(inputData.languageCode());
 
+        // Check if user exists (this will throw ResourceNotFoundException if not found) and is still at the
+        // version the client read. Users are deleted locally only, so Connect must not be touched unless
+        // both hold.
+        var existingUser = userGateway.findById(userId);
+        if (inputData.recordVersion() != null && !inputData.recordVersion().equals(existingUser.recordVersion())) {
+            throw new RecordVersionConflictException("User", "User was modified concurrently with id: " + userId);
+        }
+
         // Create user entity with updated information
         var userToUpdate =
                 new User(
@@ -51,26 +61,26 @@ public class UpdateUserUseCase implements UpdateUserInputPort {
                         existingUser.recordVersion(),
                         new Date());
 
-        // Update user in Visma Connect first
-        vismaConnectUserGateway.updateUser(
-                userToUpdate,
-                inputData.languageCode()
-        );
+        // Update user in Visma Connect first; only update the database when it succeeded
+        vismaConnectUserGateway.updateUser(userToUpdate, inputData.languageCode());
 
-        // Update user in database (we know Connect update succeeded)
-        var updatedUser = userGateway.update(userToUpdate);
+        unitOfWork.execute(() -> {
+            // Update user in database (we know Connect update succeeded)
+            var updatedUser = userGateway.update(userToUpdate);
 
-        // Prepare output data for update operation
-        var outputData = new UserOutputData(
-                updatedUser.idUser().toString(),
-                updatedUser.email(),
-                updatedUser.firstName(),
-                updatedUser.lastName(),
-                inputData.languageCode(), // Return original language code, not the language ID
-                false // created = false for update operations
-        );
+            // Prepare output data for update operation
+            var outputData = new UserOutputData(
+                    updatedUser.idUser().toString(),
+                    updatedUser.email(),
+                    updatedUser.firstName(),
+                    updatedUser.lastName(),
+                    inputData.languageCode(), // Return original language code, not the language ID
+                    updatedUser.recordVersion(),
+                    false // created = false for update operations
+            );
 
-        // Present the result
-        outputPort.present(outputData);
+            // Present the result
+            outputPort.present(outputData);
+        });
     }
 }
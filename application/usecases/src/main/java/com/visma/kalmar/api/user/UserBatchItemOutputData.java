@@ -0,0 +1,21 @@
+package com.visma.kalmar.api.user;
+
+/**
+ * Output data for one entry of a batch user create.
+ * {@code user} is set when the user was created, {@code errorMessage} otherwise.
+ */
+public record UserBatchItemOutputData(
+        String email,
+        UserBatchItemStatus status,
+        UserOutputData user,
+        String errorMessage
+) {
+
+    public static UserBatchItemOutputData created(UserOutputData user) {
+        return new UserBatchItemOutputData(user.email(), UserBatchItemStatus.CREATED, user, null);
+    }
+
+    public static UserBatchItemOutputData failed(String email, UserBatchItemStatus status, String errorMessage) {
+        return new UserBatchItemOutputData(email, status, null, errorMessage);
+    }
+}
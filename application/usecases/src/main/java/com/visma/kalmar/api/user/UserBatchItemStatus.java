@@ -0,0 +1,9 @@
+package com.visma.kalmar.api.user;
+
+public enum UserBatchItemStatus {
+    CREATED,
+    ALREADY_EXISTS,
+    INVALID_INPUT,
+    CONNECT_FAILED,
+    SAVE_FAILED
+}
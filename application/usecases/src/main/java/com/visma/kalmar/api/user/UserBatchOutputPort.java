@@ -0,0 +1,8 @@
+package com.visma.kalmar.api.user;
+
+import java.util.List;
+
+public interface UserBatchOutputPort {
+
+    void present(List<UserBatchItemOutputData> outputData);
+}
@@ -2,21 +2,51 @@ package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.entities.user.User;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserGateway {
 
     User save(User user);
 
+    List<User> saveAll(List<User> users);
+
     User findById(UUID userId);
 
+    /**
+     * Finds a user by email, ignoring case.
+     */
     User findByEmail(String email);
 
+    /**
+     * Overwrites the user in one statement and increments its record version. A non-null record
+     * version must match the stored one, otherwise {@code RecordVersionConflictException} is thrown;
+     * a missing user gives {@code ResourceNotFoundException}.
+     */
     User update(User user);
 
+    /**
+     * Tells whether a user has this email, ignoring case.
+     */
     boolean existsByEmail(String email);
 
+    /**
+     * Returns the given emails that belong to a user, lower-cased.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
     boolean existsById(UUID userId);
 
+    /**
+     * Returns at most {@code limit} users whose id sorts after {@code afterIdUser}, ordered by id.
+     */
+    List<User> findPage(UUID afterIdUser, int limit);
+
+    /**
+     * Deletes a user without loading it first. Throws {@code ResourceNotFoundException} when there is no
+     * such user.
+     */
     void deleteById(UUID userId);
 }
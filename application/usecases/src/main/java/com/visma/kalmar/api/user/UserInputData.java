@@ -5,16 +5,18 @@ public record UserInputData(
         String email,
         String firstName,
         String lastName,
-        String languageCode
+        String languageCode,
+        Long recordVersion
 ) {
 
     // Factory method for create operations (no userId)
     public static UserInputData forCreate(String email, String firstName, String lastName, String languageCode) {
-        return new UserInputData(null, email, firstName, lastName, languageCode);
+        return new UserInputData(null, email, firstName, lastName, languageCode, null);
     }
 
-    // Factory method for update operations (with userId)
-    public static UserInputData forUpdate(String userId, String email, String firstName, String lastName, String languageCode) {
-        return new UserInputData(userId, email, firstName, lastName, languageCode);
+    // Factory method for update operations (with userId; a null recordVersion skips the version check)
+    public static UserInputData forUpdate(String userId, String email, String firstName, String lastName,
+                                          String languageCode, Long recordVersion) {
+        return new UserInputData(userId, email, firstName, lastName, languageCode, recordVersion);
     }
 }
@@ -0,0 +1,8 @@
+package com.visma.kalmar.api.user;
+
+import com.visma.kalmar.api.pagination.Page;
+
+public interface UserListOutputPort {
+
+    void present(Page<UserOutputData> page);
+}
@@ -10,6 +10,7 @@ public record UserOutputData(
         String firstName,
         String lastName,
         String languageCode,
+        Long recordVersion,
         boolean created
 ) {
 }
@@ -0,0 +1,9 @@
+package com.visma.kalmar.api.vismaconnect;
+
+import com.visma.kalmar.api.entities.user.User;
+
+public record ConnectUserCreateRequest(
+        User user,
+        String languageCode
+) {
+}
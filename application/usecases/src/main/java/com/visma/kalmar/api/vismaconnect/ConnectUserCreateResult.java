@@ -0,0 +1,25 @@
+package com.visma.kalmar.api.vismaconnect;
+
+import java.util.UUID;
+
+/**
+ * Outcome of creating one user in Visma Connect as part of a batch.
+ * Holds either the Connect user id or the error that the call failed with.
+ */
+public record ConnectUserCreateResult(
+        UUID connectUserId,
+        RuntimeException error
+) {
+
+    public static ConnectUserCreateResult created(UUID connectUserId) {
+        return new ConnectUserCreateResult(connectUserId, null);
+    }
+
+    public static ConnectUserCreateResult failed(RuntimeException error) {
+        return new ConnectUserCreateResult(null, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -2,12 +2,30 @@ package com.visma.kalmar.api.vismaconnect;
 
 import com.visma.kalmar.api.entities.user.User;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface VismaConnectUserGateway {
     UUID createUser(User user, String languageCode);
 
+    /**
+     * Creates several users in Visma Connect. Returns one result per request, in request order;
+     * a failure for one user does not stop the others.
+     */
+    default List<ConnectUserCreateResult> createUsers(List<ConnectUserCreateRequest> requests) {
+        var results = new ArrayList<ConnectUserCreateResult>(requests.size());
+        for (var request : requests) {
+            try {
+                results.add(ConnectUserCreateResult.created(createUser(request.user(), request.languageCode())));
+            } catch (RuntimeException e) {
+                results.add(ConnectUserCreateResult.failed(e));
+            }
+        }
+        return results;
+    }
+
     void updateUser(User user, String languageCode);
 
     User findUserById(String userId);
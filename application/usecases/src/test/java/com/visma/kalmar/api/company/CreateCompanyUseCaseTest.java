@@ -1,7 +1,6 @@
 package com.visma.kalmar.api.company;
 
 import com.visma.kalmar.api.constants.ContextTypeName;
-import com.visma.kalmar.api.context.InMemoryContextGatewayAdapter;
 import com.visma.kalmar.api.contexttype.InMemoryContextTypeGatewayAdapter;
 import com.visma.kalmar.api.country.InMemoryCountryGatewayAdapter;
 import com.visma.kalmar.api.customer.InMemoryCustomerGatewayAdapter;
@@ -12,6 +11,7 @@ import com.visma.kalmar.api.entities.country.Country;
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -31,19 +31,20 @@ class CreateCompanyUseCaseTest {
 
     private InMemoryCompanyGatewayAdapter companyGateway;
     private InMemoryCustomerGatewayAdapter customerGateway;
-    private InMemoryContextGatewayAdapter contextGateway;
     private InMemoryContextTypeGatewayAdapter contextTypeGateway;
     private InMemoryCountryGatewayAdapter countryGateway;
+    private InMemoryUnitOfWork unitOfWork;
     private CreateCompanyUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        companyGateway = new InMemoryCompanyGatewayAdapter();
         customerGateway = new InMemoryCustomerGatewayAdapter();
-        contextGateway = new InMemoryContextGatewayAdapter();
         contextTypeGateway = new InMemoryContextTypeGatewayAdapter();
         countryGateway = new InMemoryCountryGatewayAdapter();
-        useCase = new CreateCompanyUseCase(companyGateway, customerGateway, contextGateway, contextTypeGateway, countryGateway);
+        companyGateway = new InMemoryCompanyGatewayAdapter(customerGateway, countryGateway);
+        unitOfWork = new InMemoryUnitOfWork();
+        useCase = new CreateCompanyUseCase(
+                companyGateway, contextTypeGateway, countryGateway, unitOfWork);
 
         ContextType companyContextType = new ContextType(COMPANY_CONTEXT_TYPE_ID, ContextTypeName.COMPANY.getValue());
         contextTypeGateway.save(companyContextType);
@@ -87,6 +88,19 @@ class CreateCompanyUseCaseTest {
         assertTrue(companyGateway.exists(companyId));
     }
 
+    @Test
+    void createCompany_runsInOneReadWriteUnitOfWork() {
+        UUID customerId = createCustomer("Customer Corp", "111111111");
+        var inputData = new CreateCompanyInputPort.CreateCompanyInputData(
+                UUID.randomUUID(), COUNTRY_CODE, customerId, ORG_NUMBER, COMPANY_NAME
+        );
+
+        useCase.createCompany(inputData, (company, context, created) -> {});
+
+        assertEquals(1, unitOfWork.getReadWriteCount());
+        assertEquals(0, unitOfWork.getReadOnlyCount());
+    }
+
     @Test
     void createCompany_withNullCountryCode_usesCustomerCountry() {
         UUID customerId = createCustomer("Customer Corp", "111111111");
@@ -282,38 +296,36 @@ class CreateCompanyUseCaseTest {
     }
 
     @Test
-    void createCompany_withNonExistentContextType_throwsResourceNotFoundException() {
-        contextTypeGateway.clear();
-        UUID customerId = createCustomerWithoutContextType("Customer Corp", "111111111");
+    void createCompany_withExistingCompanyIdAndInvalidCountryCode_reportsTheExistingCompany() {
+        UUID customerId = createCustomer("Customer Corp", "111111111");
         UUID companyId = UUID.randomUUID();
-        
+        useCase.createCompany(new CreateCompanyInputPort.CreateCompanyInputData(
+                companyId, COUNTRY_CODE, customerId, ORG_NUMBER, COMPANY_NAME), (company, context, created) -> {});
+
         var inputData = new CreateCompanyInputPort.CreateCompanyInputData(
-                companyId, COUNTRY_CODE, customerId, ORG_NUMBER, COMPANY_NAME
+                companyId, "XX", customerId, "333333333", "Another Name"
         );
 
-        var exception = assertThrows(ResourceNotFoundException.class,
+        var exception = assertThrows(ResourceAlreadyExistsException.class,
                 () -> useCase.createCompany(inputData, (company, context, created) -> {}));
 
-        assertTrue(exception.getMessage().contains("ContextType not found"));
-        assertFalse(companyGateway.exists(companyId));
+        assertTrue(exception.getMessage().contains("Company already exists with id: " + companyId));
     }
 
     @Test
-    void createCompany_withNullCountryCodeAndNonExistentParentContext_throwsResourceNotFoundException() {
-        UUID customerId = UUID.randomUUID();
-        Context customerContext = new Context(customerId, CUSTOMER_CONTEXT_TYPE_ID, null, COUNTRY_ID, "Customer Corp", "111111111");
-        customerGateway.save(customerContext);
-        
+    void createCompany_withNonExistentContextType_throwsResourceNotFoundException() {
+        contextTypeGateway.clear();
+        UUID customerId = createCustomerWithoutContextType("Customer Corp", "111111111");
         UUID companyId = UUID.randomUUID();
+        
         var inputData = new CreateCompanyInputPort.CreateCompanyInputData(
-                companyId, null, customerId, ORG_NUMBER, COMPANY_NAME
+                companyId, COUNTRY_CODE, customerId, ORG_NUMBER, COMPANY_NAME
         );
 
         var exception = assertThrows(ResourceNotFoundException.class,
                 () -> useCase.createCompany(inputData, (company, context, created) -> {}));
 
-        assertTrue(exception.getMessage().contains("Parent context not found with id"));
-        assertTrue(exception.getMessage().contains(customerId.toString()));
+        assertTrue(exception.getMessage().contains("ContextType not found"));
         assertFalse(companyGateway.exists(companyId));
     }
 
@@ -321,7 +333,6 @@ class CreateCompanyUseCaseTest {
         UUID customerId = UUID.randomUUID();
         Context customerContext = new Context(customerId, CUSTOMER_CONTEXT_TYPE_ID, null, COUNTRY_ID, name, orgNumber);
         customerGateway.save(customerContext);
-        contextGateway.save(customerContext);
         return customerId;
     }
 
@@ -329,7 +340,6 @@ class CreateCompanyUseCaseTest {
         UUID customerId = UUID.randomUUID();
         Context customerContext = new Context(customerId, CUSTOMER_CONTEXT_TYPE_ID, null, COUNTRY_ID, name, orgNumber);
         customerGateway.save(customerContext);
-        contextGateway.save(customerContext);
         return customerId;
     }
 }
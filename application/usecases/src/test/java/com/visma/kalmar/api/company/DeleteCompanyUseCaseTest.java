@@ -9,6 +9,7 @@ import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.contexttype.ContextType;
 import com.visma.kalmar.api.entities.country.Country;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -33,16 +34,17 @@ class DeleteCompanyUseCaseTest {
 
   @BeforeEach
   void setUp() {
-    companyGateway = new InMemoryCompanyGatewayAdapter();
     customerGateway = new InMemoryCustomerGatewayAdapter();
+    companyGateway = new InMemoryCompanyGatewayAdapter(customerGateway);
     contextGateway = new InMemoryContextGatewayAdapter();
     contextTypeGateway = new InMemoryContextTypeGatewayAdapter();
     countryGateway = new InMemoryCountryGatewayAdapter();
 
-    deleteUseCase = new DeleteCompanyUseCase(companyGateway, contextGateway);
+    deleteUseCase = new DeleteCompanyUseCase(companyGateway, new InMemoryUnitOfWork());
     createUseCase =
         new CreateCompanyUseCase(
-            companyGateway, customerGateway, contextGateway, contextTypeGateway, countryGateway);
+            companyGateway, contextTypeGateway, countryGateway,
+            new InMemoryUnitOfWork());
 
     ContextType companyContextType =
         new ContextType(COMPANY_CONTEXT_TYPE_ID, ContextTypeName.COMPANY.getValue());
@@ -197,34 +199,6 @@ class DeleteCompanyUseCaseTest {
     assertTrue(companyGateway.exists(companyId));
   }
 
-  @Test
-  void deleteCompany_contextNotFound_throwsResourceNotFoundException() {
-    UUID customerId = UUID.randomUUID();
-    UUID companyId = UUID.randomUUID();
-    Context companyContext =
-        new Context(
-            companyId,
-            COMPANY_CONTEXT_TYPE_ID,
-            customerId,
-            COUNTRY_ID,
-            "Company Without Context",
-            "777777777");
-
-    companyGateway.save(companyContext);
-
-    assertTrue(companyGateway.exists(companyId));
-    assertNull(contextGateway.findById(companyId));
-
-    var exception =
-        assertThrows(
-            ResourceNotFoundException.class,
-            () -> deleteUseCase.deleteCompany(customerId, companyId));
-
-    assertTrue(exception.getMessage().contains("Context not found with id"));
-    assertTrue(exception.getMessage().contains(companyId.toString()));
-    assertTrue(companyGateway.exists(companyId));
-  }
-
   private UUID createCustomer(String name, String orgNumber) {
     UUID customerId = UUID.randomUUID();
     Context customerContext =
@@ -1,13 +1,18 @@
 package com.visma.kalmar.api.company;
 
-import com.visma.kalmar.api.context.ContextGateway;
+import com.visma.kalmar.api.customer.InMemoryCustomerGatewayAdapter;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,22 +26,23 @@ class GetCompanyUseCaseTest {
     private static final String ORG_NUMBER = "123456789";
 
     private InMemoryCompanyGatewayAdapter companyGateway;
-    private InMemoryContextGatewayAdapter contextGateway;
+    private InMemoryCustomerGatewayAdapter customerGateway;
     private TestGetCompanyOutputPort outputPort;
+    private InMemoryUnitOfWork unitOfWork;
     private GetCompanyUseCase getCompanyUseCase;
 
     @BeforeEach
     void setUp() {
         companyGateway = new InMemoryCompanyGatewayAdapter();
-        contextGateway = new InMemoryContextGatewayAdapter();
+        customerGateway = new InMemoryCustomerGatewayAdapter();
         outputPort = new TestGetCompanyOutputPort();
-        getCompanyUseCase = new GetCompanyUseCase(companyGateway, contextGateway);
+        unitOfWork = new InMemoryUnitOfWork();
+        getCompanyUseCase = new GetCompanyUseCase(companyGateway, customerGateway, unitOfWork);
     }
 
     @Test
     void getCompany_success() {
         Context context = createContext();
-        contextGateway.addContext(context);
         companyGateway.save(context);
 
         getCompanyUseCase.getCompany(PARENT_CONTEXT_ID, COMPANY_ID, outputPort);
@@ -50,27 +56,24 @@ class GetCompanyUseCaseTest {
     }
 
     @Test
-    void getCompany_companyNotFound_throwsResourceNotFoundException() {
-        ResourceNotFoundException exception = assertThrows(
-                ResourceNotFoundException.class,
-                () -> getCompanyUseCase.getCompany(PARENT_CONTEXT_ID, COMPANY_ID, outputPort)
-        );
+    void getCompany_runsInReadOnlyUnitOfWork() {
+        Context context = createContext();
+        companyGateway.save(context);
 
-        assertTrue(exception.getMessage().contains("Company not found"));
-        assertTrue(exception.getMessage().contains(COMPANY_ID.toString()));
+        getCompanyUseCase.getCompany(PARENT_CONTEXT_ID, COMPANY_ID, outputPort);
+
+        assertEquals(1, unitOfWork.getReadOnlyCount());
+        assertEquals(0, unitOfWork.getReadWriteCount());
     }
 
     @Test
-    void getCompany_contextNotFound_throwsResourceNotFoundException() {
-        Context context = createContext();
-        companyGateway.save(context);
-
+    void getCompany_companyNotFound_throwsResourceNotFoundException() {
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
                 () -> getCompanyUseCase.getCompany(PARENT_CONTEXT_ID, COMPANY_ID, outputPort)
         );
 
-        assertTrue(exception.getMessage().contains("Context not found"));
+        assertTrue(exception.getMessage().contains("Company not found"));
         assertTrue(exception.getMessage().contains(COMPANY_ID.toString()));
     }
 
@@ -82,8 +85,6 @@ class GetCompanyUseCaseTest {
         Context context1 = new Context(company1Id, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, "Company 1", "111111111");
         Context context2 = new Context(company2Id, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, "Company 2", "222222222");
 
-        contextGateway.addContext(context1);
-        contextGateway.addContext(context2);
         companyGateway.save(context1);
         companyGateway.save(context2);
 
@@ -99,7 +100,6 @@ class GetCompanyUseCaseTest {
         UUID norwayId = UUID.randomUUID();
         Context context = new Context(COMPANY_ID, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, norwayId, COMPANY_NAME, ORG_NUMBER);
 
-        contextGateway.addContext(context);
         companyGateway.save(context);
 
         getCompanyUseCase.getCompany(PARENT_CONTEXT_ID, COMPANY_ID, outputPort);
@@ -111,7 +111,6 @@ class GetCompanyUseCaseTest {
     void getCompany_parentContextMismatch_throwsResourceNotFoundException() {
         UUID wrongCustomerId = UUID.randomUUID();
         Context context = createContext();
-        contextGateway.addContext(context);
         companyGateway.save(context);
 
         ResourceNotFoundException exception = assertThrows(
@@ -126,7 +125,6 @@ class GetCompanyUseCaseTest {
     @Test
     void getCompany_nullParentContext_throwsResourceNotFoundException() {
         Context context = new Context(COMPANY_ID, CONTEXT_TYPE_ID, null, COUNTRY_ID, COMPANY_NAME, ORG_NUMBER);
-        contextGateway.addContext(context);
         companyGateway.save(context);
 
         ResourceNotFoundException exception = assertThrows(
@@ -138,6 +136,45 @@ class GetCompanyUseCaseTest {
         assertTrue(exception.getMessage().contains(COMPANY_ID.toString()));
     }
 
+    @Test
+    void listCompanies_returnsOnlyCustomerCompaniesOrderedByIdWithCursor() {
+        customerGateway.save(new Context(PARENT_CONTEXT_ID, CONTEXT_TYPE_ID, null, COUNTRY_ID, "Customer", ORG_NUMBER));
+        var ids = Stream.generate(UUID::randomUUID).limit(3).sorted().toList();
+        ids.forEach(id -> companyGateway.save(new Context(id, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, COMPANY_NAME, ORG_NUMBER)));
+        companyGateway.save(new Context(UUID.randomUUID(), CONTEXT_TYPE_ID, UUID.randomUUID(), COUNTRY_ID, COMPANY_NAME, ORG_NUMBER));
+        final AtomicReference<Page<Context>> result = new AtomicReference<>();
+
+        getCompanyUseCase.listCompanies(PARENT_CONTEXT_ID, PageQuery.of(null, 2), result::set);
+
+        assertEquals(ids.subList(0, 2), result.get().items().stream().map(Context::idContext).toList());
+        assertEquals(ids.get(1).toString(), result.get().nextAfter());
+
+        getCompanyUseCase.listCompanies(PARENT_CONTEXT_ID, PageQuery.of(result.get().nextAfter(), 2), result::set);
+
+        assertEquals(ids.subList(2, 3), result.get().items().stream().map(Context::idContext).toList());
+        assertNull(result.get().nextAfter());
+    }
+
+    @Test
+    void listCompanies_customerNotFound_throwsResourceNotFoundException() {
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> getCompanyUseCase.listCompanies(PARENT_CONTEXT_ID, PageQuery.of(null, null), page -> {})
+        );
+
+        assertTrue(exception.getMessage().contains("Customer not found"));
+    }
+
+    @Test
+    void listCompanies_parentIsACompany_throwsResourceNotFoundException() {
+        companyGateway.save(createContext());
+
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> getCompanyUseCase.listCompanies(COMPANY_ID, PageQuery.of(null, null), page -> {})
+        );
+    }
+
     private Context createContext() {
         return new Context(COMPANY_ID, CONTEXT_TYPE_ID, PARENT_CONTEXT_ID, COUNTRY_ID, COMPANY_NAME, ORG_NUMBER);
     }
@@ -152,22 +189,4 @@ class GetCompanyUseCaseTest {
             this.context = context;
         }
     }
-
-    private static class InMemoryContextGatewayAdapter implements ContextGateway {
-        private final java.util.Map<UUID, Context> store = new java.util.HashMap<>();
-
-        public void addContext(Context context) {
-            store.put(context.idContext(), context);
-        }
-
-        @Override
-        public Context findById(UUID idContext) {
-            return store.get(idContext);
-        }
-
-        @Override
-        public boolean existsById(UUID idContext) {
-            return store.containsKey(idContext);
-        }
-    }
 }
@@ -1,5 +1,7 @@
 package com.visma.kalmar.api.company;
 
+import com.visma.kalmar.api.country.InMemoryCountryGatewayAdapter;
+import com.visma.kalmar.api.customer.InMemoryCustomerGatewayAdapter;
 import com.visma.kalmar.api.entities.company.Company;
 import com.visma.kalmar.api.entities.context.Context;
 
@@ -9,6 +11,22 @@ import java.util.concurrent.ConcurrentHashMap;
 public class InMemoryCompanyGatewayAdapter implements CompanyGateway {
 
     private final Map<UUID, Context> companies = new ConcurrentHashMap<>();
+    private final InMemoryCustomerGatewayAdapter customers;
+    private final InMemoryCountryGatewayAdapter countries;
+
+    public InMemoryCompanyGatewayAdapter() {
+        this(new InMemoryCustomerGatewayAdapter());
+    }
+
+    public InMemoryCompanyGatewayAdapter(InMemoryCustomerGatewayAdapter customers) {
+        this(customers, new InMemoryCountryGatewayAdapter());
+    }
+
+    public InMemoryCompanyGatewayAdapter(
+            InMemoryCustomerGatewayAdapter customers, InMemoryCountryGatewayAdapter countries) {
+        this.customers = customers;
+        this.countries = countries;
+    }
 
     @Override
     public Company save(Context context) {
@@ -16,6 +34,11 @@ public class InMemoryCompanyGatewayAdapter implements CompanyGateway {
         return new Company(context.idContext());
     }
 
+    @Override
+    public List<Company> saveAll(List<Context> contexts) {
+        return contexts.stream().map(this::save).toList();
+    }
+
     @Override
     public Company findById(UUID idCompany) {
         Context context = companies.get(idCompany);
@@ -26,13 +49,39 @@ public class InMemoryCompanyGatewayAdapter implements CompanyGateway {
     }
 
     @Override
-    public void deleteById(UUID idCompany) {
-        if (!companies.containsKey(idCompany)) {
+    public Context findByIdAndCustomer(UUID idCompany, UUID idCustomer) {
+        Context context = companies.get(idCompany);
+        if (context == null || !idCustomer.equals(context.idContextParent())) {
+            return null;
+        }
+        return context;
+    }
+
+    @Override
+    public void deleteByIdAndCustomer(UUID idCompany, UUID idCustomer) {
+        if (findByIdAndCustomer(idCompany, idCustomer) == null) {
             throw new com.visma.kalmar.api.exception.ResourceNotFoundException("Company", "Company not found with id: " + idCompany);
         }
         companies.remove(idCompany);
     }
 
+    @Override
+    public CompanyCreationCheck checkCreation(
+            UUID idCompany, UUID idCustomer, String name, String organizationNumber, String countryCode) {
+        var customer = customers.getContextById(idCustomer);
+        if (customer == null) {
+            return new CompanyCreationCheck(companies.containsKey(idCompany), false, null, false, false);
+        }
+        var country = countries.getByCode(countryCode);
+        return new CompanyCreationCheck(
+                companies.containsKey(idCompany),
+                true,
+                customer.idCountry(),
+                existsByNameAndParent(name, idCustomer),
+                existsByOrganizationNumberAndCountryAndParent(
+                        organizationNumber, country != null ? country.idCountry() : customer.idCountry(), idCustomer));
+    }
+
     @Override
     public boolean existsByNameAndParent(String name, UUID idContextParent) {
         return companies.values().stream()
@@ -48,6 +97,16 @@ public class InMemoryCompanyGatewayAdapter implements CompanyGateway {
                         && context.idContextParent().equals(idContextParent));
     }
 
+    @Override
+    public List<Context> findPageByCustomer(UUID idCustomer, UUID afterIdCompany, int limit) {
+        return companies.values().stream()
+                .filter(context -> idCustomer.equals(context.idContextParent()))
+                .filter(context -> afterIdCompany == null || context.idContext().compareTo(afterIdCompany) > 0)
+                .sorted(Comparator.comparing(Context::idContext))
+                .limit(limit)
+                .toList();
+    }
+
     public Context getContextById(UUID idCompany) {
         return companies.get(idCompany);
     }
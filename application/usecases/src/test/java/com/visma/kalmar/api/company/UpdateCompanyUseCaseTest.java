@@ -11,6 +11,7 @@ import com.visma.kalmar.api.entities.contexttype.ContextType;
 import com.visma.kalmar.api.entities.country.Country;
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,15 +41,17 @@ class UpdateCompanyUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        companyGateway = new InMemoryCompanyGatewayAdapter();
         customerGateway = new InMemoryCustomerGatewayAdapter();
+        companyGateway = new InMemoryCompanyGatewayAdapter(customerGateway);
         contextGateway = new InMemoryContextGatewayAdapter();
         contextTypeGateway = new InMemoryContextTypeGatewayAdapter();
         countryGateway = new InMemoryCountryGatewayAdapter();
         outputPort = new TestCompanyOutputPort();
 
-        updateUseCase = new UpdateCompanyUseCase(companyGateway, contextGateway, countryGateway);
-        createUseCase = new CreateCompanyUseCase(companyGateway, customerGateway, contextGateway, contextTypeGateway, countryGateway);
+        updateUseCase = new UpdateCompanyUseCase(companyGateway, countryGateway, new InMemoryUnitOfWork());
+        createUseCase = new CreateCompanyUseCase(
+                companyGateway, contextTypeGateway, countryGateway,
+                new InMemoryUnitOfWork());
 
         ContextType companyContextType = new ContextType(COMPANY_CONTEXT_TYPE_ID, ContextTypeName.COMPANY.getValue());
         contextTypeGateway.save(companyContextType);
@@ -106,27 +109,6 @@ class UpdateCompanyUseCaseTest {
         assertTrue(exception.getMessage().contains(nonExistentCompanyId.toString()));
     }
 
-    @Test
-    void updateCompany_contextNotFound_throwsResourceNotFoundException() {
-        UUID customerId = createCustomer("Customer Corp", "999999999");
-        UUID companyId = UUID.randomUUID();
-
-        Company company = new Company(companyId);
-        companyGateway.save(new Context(companyId, COMPANY_CONTEXT_TYPE_ID, customerId, COUNTRY_ID_NO, "Test", "123"));
-
-        var inputData = new UpdateCompanyInputPort.UpdateCompanyInputData(
-                companyId,
-                UPDATED_NAME,
-                UPDATED_ORG_NUMBER,
-                COUNTRY_CODE_NO
-        );
-
-        var exception = assertThrows(ResourceNotFoundException.class,
-                () -> updateUseCase.updateCompany(customerId, inputData, outputPort));
-
-        assertTrue(exception.getMessage().contains("Context not found"));
-    }
-
     @Test
     void updateCompany_parentContextMismatch_throwsResourceNotFoundException() {
         UUID customerId = createCustomer("Customer Corp", "999999999");
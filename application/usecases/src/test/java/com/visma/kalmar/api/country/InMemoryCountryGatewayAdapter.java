@@ -29,6 +29,10 @@ public class InMemoryCountryGatewayAdapter implements CountryGateway {
         return country;
     }
 
+    public Country getByCode(String code) {
+        return code == null ? null : countryStoreByCode.get(code);
+    }
+
     public void save(Country country) {
         countryStoreByCode.put(country.code(), country);
         countryStoreById.put(country.idCountry(), country);
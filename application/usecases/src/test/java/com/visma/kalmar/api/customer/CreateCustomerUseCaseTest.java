@@ -11,6 +11,7 @@ import com.visma.kalmar.api.entities.customer.Customer;
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -39,7 +40,8 @@ class CreateCustomerUseCaseTest {
         contextGateway = new InMemoryContextGatewayAdapter();
         contextTypeGateway = new InMemoryContextTypeGatewayAdapter();
         countryGateway = new InMemoryCountryGatewayAdapter();
-        useCase = new CreateCustomerUseCase(customerGateway, contextGateway, contextTypeGateway, countryGateway);
+        useCase = new CreateCustomerUseCase(
+                customerGateway, contextGateway, contextTypeGateway, countryGateway, new InMemoryUnitOfWork());
 
         ContextType customerContextType = new ContextType(CONTEXT_TYPE_ID, ContextTypeName.CUSTOMER.getValue());
         contextTypeGateway.save(customerContextType);
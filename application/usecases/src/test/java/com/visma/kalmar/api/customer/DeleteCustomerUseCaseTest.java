@@ -2,6 +2,7 @@ package com.visma.kalmar.api.customer;
 
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,7 +19,7 @@ class DeleteCustomerUseCaseTest {
     @BeforeEach
     void setUp() {
         customerGateway = new InMemoryCustomerGatewayAdapter();
-        useCase = new DeleteCustomerUseCase(customerGateway);
+        useCase = new DeleteCustomerUseCase(customerGateway, new InMemoryUnitOfWork());
     }
 
     @Test
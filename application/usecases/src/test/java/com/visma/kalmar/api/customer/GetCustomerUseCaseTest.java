@@ -3,12 +3,17 @@ package com.visma.kalmar.api.customer;
 import com.visma.kalmar.api.context.InMemoryContextGatewayAdapter;
 import com.visma.kalmar.api.entities.context.Context;
 import com.visma.kalmar.api.entities.customer.Customer;
+import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,7 +34,7 @@ class GetCustomerUseCaseTest {
     void setUp() {
         customerGateway = new InMemoryCustomerGatewayAdapter();
         contextGateway = new InMemoryContextGatewayAdapter();
-        useCase = new GetCustomerUseCase(customerGateway, contextGateway);
+        useCase = new GetCustomerUseCase(customerGateway, contextGateway, new InMemoryUnitOfWork());
     }
 
     @Test
@@ -106,4 +111,27 @@ class GetCustomerUseCaseTest {
         assertNotNull(resultContext.get());
         assertNull(resultContext.get().idContextParent());
     }
+
+    @Test
+    void listCustomers_returnsCustomersOrderedByIdWithCursor() {
+        var ids = Stream.generate(UUID::randomUUID).limit(3).sorted().toList();
+        ids.forEach(id -> customerGateway.save(new Context(id, CONTEXT_TYPE_ID, null, COUNTRY_ID, CUSTOMER_NAME, ORG_NUMBER)));
+        final AtomicReference<Page<Context>> result = new AtomicReference<>();
+
+        useCase.listCustomers(PageQuery.of(null, 2), result::set);
+
+        assertEquals(ids.subList(0, 2), result.get().items().stream().map(Context::idContext).toList());
+        assertEquals(ids.get(1).toString(), result.get().nextAfter());
+
+        useCase.listCustomers(PageQuery.of(result.get().nextAfter(), 2), result::set);
+
+        assertEquals(ids.subList(2, 3), result.get().items().stream().map(Context::idContext).toList());
+        assertNull(result.get().nextAfter());
+    }
+
+    @Test
+    void listCustomers_withMalformedCursor_throwsInvalidInputDataException() {
+        assertThrows(InvalidInputDataException.class,
+                () -> useCase.listCustomers(PageQuery.of("not-an-id", 2), page -> {}));
+    }
 }
@@ -16,6 +16,11 @@ public class InMemoryCustomerGatewayAdapter implements CustomerGateway {
         return new Customer(context.idContext());
     }
 
+    @Override
+    public List<Customer> saveAll(List<Context> contexts) {
+        return contexts.stream().map(this::save).toList();
+    }
+
     @Override
     public Customer findById(UUID idCustomer) {
         Context context = customers.get(idCustomer);
@@ -25,6 +30,11 @@ public class InMemoryCustomerGatewayAdapter implements CustomerGateway {
         return new Customer(context.idContext());
     }
 
+    @Override
+    public boolean existsById(UUID idCustomer) {
+        return customers.containsKey(idCustomer);
+    }
+
     @Override
     public void deleteById(UUID idCustomer) {
         if (!customers.containsKey(idCustomer)) {
@@ -33,6 +43,15 @@ public class InMemoryCustomerGatewayAdapter implements CustomerGateway {
         customers.remove(idCustomer);
     }
 
+    @Override
+    public List<Context> findPage(UUID afterIdCustomer, int limit) {
+        return customers.values().stream()
+                .filter(context -> afterIdCustomer == null || context.idContext().compareTo(afterIdCustomer) > 0)
+                .sorted(Comparator.comparing(Context::idContext))
+                .limit(limit)
+                .toList();
+    }
+
     public Context getContextById(UUID idCustomer) {
         return customers.get(idCustomer);
     }
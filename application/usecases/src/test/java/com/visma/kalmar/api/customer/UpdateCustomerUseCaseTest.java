@@ -8,6 +8,7 @@ import com.visma.kalmar.api.entities.country.Country;
 import com.visma.kalmar.api.entities.customer.Customer;
 import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,7 +42,7 @@ class UpdateCustomerUseCaseTest {
         customerGateway = new InMemoryCustomerGatewayAdapter();
         contextGateway = new InMemoryContextGatewayAdapter();
         countryGateway = new InMemoryCountryGatewayAdapter();
-        useCase = new UpdateCustomerUseCase(customerGateway, contextGateway, countryGateway);
+        useCase = new UpdateCustomerUseCase(customerGateway, contextGateway, countryGateway, new InMemoryUnitOfWork());
         
         Country norway = new Country(ORIGINAL_COUNTRY_ID, "Norway", ORIGINAL_COUNTRY_CODE);
         Country sweden = new Country(NEW_COUNTRY_ID, "Sweden", NEW_COUNTRY_CODE);
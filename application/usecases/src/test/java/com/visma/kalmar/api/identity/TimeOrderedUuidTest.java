@@ -0,0 +1,43 @@
+package com.visma.kalmar.api.identity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    void next_setsVersionSevenAndRfcVariant() {
+        var id = TimeOrderedUuid.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void generate_encodesTimestampInLeadingBits() {
+        var epochMillis = 1_700_000_000_000L;
+
+        var id = new TimeOrderedUuid(() -> epochMillis).generate();
+
+        assertEquals(epochMillis, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void generate_withinSameMillisecond_sortsInCreationOrder() {
+        var generator = new TimeOrderedUuid(() -> 1_700_000_000_000L);
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.visma.kalmar.api.pagination;
+
+import com.visma.kalmar.api.exception.InvalidInputDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageQueryTest {
+
+    @Test
+    void of_withoutLimit_usesDefaultLimit() {
+        var pageQuery = PageQuery.of(null, null);
+
+        assertNull(pageQuery.after());
+        assertEquals(PageQuery.DEFAULT_LIMIT, pageQuery.limit());
+    }
+
+    @Test
+    void of_withLimitOutOfRange_throwsInvalidInputDataException() {
+        assertThrows(InvalidInputDataException.class, () -> PageQuery.of(null, 0));
+        assertThrows(InvalidInputDataException.class, () -> PageQuery.of(null, PageQuery.MAXIMUM_LIMIT + 1));
+    }
+
+    @Test
+    void afterId_parsesIdCursor() {
+        var id = UUID.randomUUID();
+
+        assertEquals(id, PageQuery.of(id.toString(), 10).afterId());
+        assertNull(PageQuery.of(null, 10).afterId());
+        assertThrows(InvalidInputDataException.class, () -> PageQuery.of("abc", 10).afterId());
+    }
+
+    @Test
+    void fromLookahead_withExtraRow_setsNextAfterToLastItem() {
+        var page = Page.fromLookahead(List.of("a", "b", "c"), 2, value -> value);
+
+        assertEquals(List.of("a", "b"), page.items());
+        assertEquals("b", page.nextAfter());
+    }
+
+    @Test
+    void fromLookahead_withoutExtraRow_isLastPage() {
+        var page = Page.fromLookahead(List.of("a", "b"), 2, value -> value);
+
+        assertEquals(List.of("a", "b"), page.items());
+        assertNull(page.nextAfter());
+    }
+}
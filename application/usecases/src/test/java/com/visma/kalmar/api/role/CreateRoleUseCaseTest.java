@@ -1,6 +1,7 @@
 package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,12 +21,12 @@ class CreateRoleUseCaseTest {
     @BeforeEach
     void setUp() {
         roleGateway = new InMemoryRoleGatewayAdapter();
-        useCase = new CreateRoleUseCase(roleGateway);
+        useCase = new CreateRoleUseCase(roleGateway, new InMemoryUnitOfWork());
     }
 
     @Test
     void createRole_withValidData_createsRoleSuccessfully() {
-        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION);
+        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION, null);
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
         useCase.createRole(inputData, output -> result.set(output));
@@ -45,12 +46,12 @@ class CreateRoleUseCaseTest {
 
     @Test
     void createRole_withExistingInvariantKey_throwsResourceAlreadyExistsException() {
-        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION);
+        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION, null);
 
         useCase.createRole(inputData, output -> {
         });
 
-        var duplicateInputData = new RoleInputData(null, "Another Name", INVARIANT_KEY, "Different description");
+        var duplicateInputData = new RoleInputData(null, "Another Name", INVARIANT_KEY, "Different description", null);
 
         var exception = assertThrows(ResourceAlreadyExistsException.class,
                 () -> useCase.createRole(duplicateInputData, output -> {
@@ -61,12 +62,12 @@ class CreateRoleUseCaseTest {
 
     @Test
     void createRole_withExistingName_throwsResourceAlreadyExistsException() {
-        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION);
+        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION, null);
 
         useCase.createRole(inputData, output -> {
         });
 
-        var duplicateInputData = new RoleInputData(null, NAME, "DIFFERENT_KEY", "Different description");
+        var duplicateInputData = new RoleInputData(null, NAME, "DIFFERENT_KEY", "Different description", null);
 
         var exception = assertThrows(ResourceAlreadyExistsException.class,
                 () -> useCase.createRole(duplicateInputData, output -> {
@@ -77,7 +78,7 @@ class CreateRoleUseCaseTest {
 
     @Test
     void createRole_setsRecordVersionToOne() {
-        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION);
+        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION, null);
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
         useCase.createRole(inputData, output -> result.set(output));
@@ -88,7 +89,7 @@ class CreateRoleUseCaseTest {
 
     @Test
     void createRole_setsWhenEditedDate() {
-        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION);
+        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, DESCRIPTION, null);
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
         useCase.createRole(inputData, output -> result.set(output));
@@ -99,7 +100,7 @@ class CreateRoleUseCaseTest {
 
     @Test
     void createRole_withNullDescription_createsRoleSuccessfully() {
-        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, null);
+        var inputData = new RoleInputData(null, NAME, INVARIANT_KEY, null, null);
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
         useCase.createRole(inputData, output -> result.set(output));
@@ -2,6 +2,7 @@ package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.entities.role.Role;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -23,7 +24,7 @@ class DeleteRoleUseCaseTest {
     @BeforeEach
     void setUp() {
         roleGateway = new InMemoryRoleGatewayAdapter();
-        useCase = new DeleteRoleUseCase(roleGateway);
+        useCase = new DeleteRoleUseCase(roleGateway, new InMemoryUnitOfWork());
 
         var existingRole = new Role(
                 ROLE_ID,
@@ -2,10 +2,14 @@ package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.entities.role.Role;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -24,7 +28,7 @@ class GetRoleUseCaseTest {
     @BeforeEach
     void setUp() {
         roleGateway = new InMemoryRoleGatewayAdapter();
-        useCase = new GetRoleUseCase(roleGateway);
+        useCase = new GetRoleUseCase(roleGateway, new InMemoryUnitOfWork());
 
         var existingRole = new Role(
                 ROLE_ID,
@@ -103,4 +107,21 @@ class GetRoleUseCaseTest {
 
         assertNotNull(result.get());
     }
+
+    @Test
+    void listRoles_returnsRolesOrderedByInvariantKeyWithCursor() {
+        roleGateway.save(new Role(UUID.randomUUID(), "Auditor", "AUDITOR", null, 1L, new Date()));
+        roleGateway.save(new Role(UUID.randomUUID(), "Viewer", "VIEWER", null, 1L, new Date()));
+        final AtomicReference<Page<RoleOutputData>> result = new AtomicReference<>();
+
+        useCase.listRoles(PageQuery.of(null, 2), result::set);
+
+        assertEquals(List.of("ADMIN", "AUDITOR"), result.get().items().stream().map(RoleOutputData::invariantKey).toList());
+        assertEquals("AUDITOR", result.get().nextAfter());
+
+        useCase.listRoles(PageQuery.of(result.get().nextAfter(), 2), result::set);
+
+        assertEquals(List.of("VIEWER"), result.get().items().stream().map(RoleOutputData::invariantKey).toList());
+        assertNull(result.get().nextAfter());
+    }
 }
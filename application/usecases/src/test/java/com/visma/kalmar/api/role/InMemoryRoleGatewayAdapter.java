@@ -1,8 +1,11 @@
 package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,11 +51,29 @@ public class InMemoryRoleGatewayAdapter implements RoleGateway {
 
     @Override
     public Role update(Role role) {
-        if (!database.containsKey(role.idRole())) {
+        var stored = database.get(role.idRole());
+        if (stored == null) {
             throw new ResourceNotFoundException("Role", "Role not found with id: " + role.idRole());
         }
-        database.put(role.idRole(), role);
-        return role;
+        if (role.recordVersion() != null && !role.recordVersion().equals(stored.recordVersion())) {
+            throw new RecordVersionConflictException("Role",
+                    "Role was modified concurrently with id: " + role.idRole());
+        }
+        var updated = new Role(
+                role.idRole(),
+                role.name(),
+                role.invariantKey(),
+                role.description(),
+                stored.recordVersion() == null ? null : stored.recordVersion() + 1,
+                role.whenEdited()
+        );
+        database.put(role.idRole(), updated);
+        return updated;
+    }
+
+    @Override
+    public RoleCreationCheck checkCreation(String invariantKey, String name) {
+        return new RoleCreationCheck(existsByInvariantKey(invariantKey), existsByName(name));
     }
 
     @Override
@@ -72,6 +93,15 @@ public class InMemoryRoleGatewayAdapter implements RoleGateway {
         return database.containsKey(roleId);
     }
 
+    @Override
+    public List<Role> findPageOrderedByInvariantKey(String afterInvariantKey, int limit) {
+        return database.values().stream()
+                .filter(role -> afterInvariantKey == null || role.invariantKey().compareTo(afterInvariantKey) > 0)
+                .sorted(Comparator.comparing(Role::invariantKey))
+                .limit(limit)
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID roleId) {
         if (!database.containsKey(roleId)) {
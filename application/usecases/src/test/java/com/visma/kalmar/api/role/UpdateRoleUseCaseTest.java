@@ -1,7 +1,9 @@
 package com.visma.kalmar.api.role;
 
 import com.visma.kalmar.api.entities.role.Role;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,7 +29,7 @@ class UpdateRoleUseCaseTest {
     @BeforeEach
     void setUp() {
         roleGateway = new InMemoryRoleGatewayAdapter();
-        useCase = new UpdateRoleUseCase(roleGateway);
+        useCase = new UpdateRoleUseCase(roleGateway, new InMemoryUnitOfWork());
 
         var existingRole = new Role(
                 ROLE_ID,
@@ -46,7 +48,8 @@ class UpdateRoleUseCaseTest {
                 ROLE_ID.toString(),
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
-                UPDATED_DESCRIPTION
+                UPDATED_DESCRIPTION,
+                null
         );
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
@@ -72,7 +75,8 @@ class UpdateRoleUseCaseTest {
                 nonExistentId.toString(),
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
-                UPDATED_DESCRIPTION
+                UPDATED_DESCRIPTION,
+                null
         );
 
         var exception = assertThrows(ResourceNotFoundException.class,
@@ -88,7 +92,8 @@ class UpdateRoleUseCaseTest {
                 null,
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
-                UPDATED_DESCRIPTION
+                UPDATED_DESCRIPTION,
+                null
         );
 
         assertThrows(IllegalArgumentException.class,
@@ -102,7 +107,8 @@ class UpdateRoleUseCaseTest {
                 "",
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
-                UPDATED_DESCRIPTION
+                UPDATED_DESCRIPTION,
+                null
         );
 
         assertThrows(IllegalArgumentException.class,
@@ -111,19 +117,20 @@ class UpdateRoleUseCaseTest {
     }
 
     @Test
-    void updateRole_preservesRecordVersion() {
+    void updateRole_incrementsRecordVersion() {
         var inputData = new RoleInputData(
                 ROLE_ID.toString(),
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
-                UPDATED_DESCRIPTION
+                UPDATED_DESCRIPTION,
+                null
         );
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
         useCase.updateRole(inputData, output -> result.set(output));
 
         var updatedRole = roleGateway.findById(ROLE_ID);
-        assertEquals(1L, updatedRole.recordVersion());
+        assertEquals(2L, updatedRole.recordVersion());
     }
 
     @Test
@@ -132,7 +139,8 @@ class UpdateRoleUseCaseTest {
                 ROLE_ID.toString(),
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
-                UPDATED_DESCRIPTION
+                UPDATED_DESCRIPTION,
+                null
         );
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
 
@@ -148,6 +156,7 @@ class UpdateRoleUseCaseTest {
                 ROLE_ID.toString(),
                 UPDATED_NAME,
                 UPDATED_INVARIANT_KEY,
+                null,
                 null
         );
         final AtomicReference<RoleOutputData> result = new AtomicReference<>();
@@ -160,4 +169,38 @@ class UpdateRoleUseCaseTest {
         var updatedRole = roleGateway.findById(ROLE_ID);
         assertNull(updatedRole.description());
     }
+
+    @Test
+    void updateRole_withCurrentRecordVersion_returnsTheNextVersion() {
+        var inputData = new RoleInputData(
+                ROLE_ID.toString(),
+                UPDATED_NAME,
+                UPDATED_INVARIANT_KEY,
+                UPDATED_DESCRIPTION,
+                1L
+        );
+        final AtomicReference<RoleOutputData> result = new AtomicReference<>();
+
+        useCase.updateRole(inputData, output -> result.set(output));
+
+        assertEquals(2L, result.get().recordVersion());
+        assertEquals(2L, roleGateway.findById(ROLE_ID).recordVersion());
+    }
+
+    @Test
+    void updateRole_withStaleRecordVersion_throwsRecordVersionConflictException() {
+        var inputData = new RoleInputData(
+                ROLE_ID.toString(),
+                UPDATED_NAME,
+                UPDATED_INVARIANT_KEY,
+                UPDATED_DESCRIPTION,
+                0L
+        );
+
+        assertThrows(RecordVersionConflictException.class,
+                () -> useCase.updateRole(inputData, output -> {
+                }));
+
+        assertEquals(ORIGINAL_NAME, roleGateway.findById(ROLE_ID).name());
+    }
 }
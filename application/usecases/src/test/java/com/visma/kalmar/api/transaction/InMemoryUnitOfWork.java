@@ -0,0 +1,27 @@
+package com.visma.kalmar.api.transaction;
+
+public class InMemoryUnitOfWork implements UnitOfWork {
+
+    private int readWriteCount;
+    private int readOnlyCount;
+
+    @Override
+    public void execute(Runnable work) {
+        readWriteCount++;
+        work.run();
+    }
+
+    @Override
+    public void executeReadOnly(Runnable work) {
+        readOnlyCount++;
+        work.run();
+    }
+
+    public int getReadWriteCount() {
+        return readWriteCount;
+    }
+
+    public int getReadOnlyCount() {
+        return readOnlyCount;
+    }
+}
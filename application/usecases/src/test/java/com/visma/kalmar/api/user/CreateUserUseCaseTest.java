@@ -1,6 +1,7 @@
 package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.entities.language.Language;
+import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.exception.ConnectUserException;
 import com.visma.kalmar.api.exception.ResourceAlreadyExistsException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
@@ -9,7 +10,10 @@ import com.visma.kalmar.api.vismaconnect.InMemoryVismaConnectUserGatewayAdapter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,6 +103,26 @@ class CreateUserUseCaseTest {
         assertFalse(userGateway.existsByEmail(EMAIL));
     }
 
+    @Test
+    void createUser_withExistingEmail_doesNotCallVismaConnect() {
+        userGateway.save(new User(UUID.randomUUID(), LANGUAGE_ID, EMAIL, FIRST_NAME, LAST_NAME, 1L, new Date()));
+        var connectCalls = new AtomicInteger();
+        var connectGateway = new InMemoryVismaConnectUserGatewayAdapter() {
+            @Override
+            public UUID createUser(User user, String languageCode) {
+                connectCalls.incrementAndGet();
+                return super.createUser(user, languageCode);
+            }
+        };
+        var inputData = UserInputData.forCreate(EMAIL, FIRST_NAME, LAST_NAME, LANGUAGE_CODE);
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> new CreateUserUseCase(userGateway, languageGateway, connectGateway).createUser(inputData, output -> {
+                }));
+
+        assertEquals(0, connectCalls.get());
+    }
+
     @Test
     void createUser_savesUserWithCorrectLanguageId() {
         UUID anotherLanguageId = UUID.randomUUID();
@@ -139,4 +163,102 @@ class CreateUserUseCaseTest {
         var savedUser = userGateway.findById(userId);
         assertNotNull(savedUser.whenEdited());
     }
+
+    @Test
+    void createUsers_withValidData_createsAllUsers() {
+        var inputData = List.of(
+                UserInputData.forCreate("first@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE),
+                UserInputData.forCreate("second@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE));
+        final AtomicReference<List<UserBatchItemOutputData>> result = new AtomicReference<>();
+
+        useCase.createUsers(inputData, result::set);
+
+        assertEquals(2, result.get().size());
+        for (int i = 0; i < inputData.size(); i++) {
+            var item = result.get().get(i);
+            assertEquals(UserBatchItemStatus.CREATED, item.status());
+            assertEquals(inputData.get(i).email(), item.email());
+            assertTrue(item.user().created());
+            assertEquals(LANGUAGE_ID, userGateway.findById(UUID.fromString(item.user().userId())).idLanguage());
+        }
+    }
+
+    @Test
+    void createUsers_withExistingAndRepeatedEmails_reportsAlreadyExists() {
+        useCase.createUser(UserInputData.forCreate(EMAIL, FIRST_NAME, LAST_NAME, LANGUAGE_CODE), output -> {
+        });
+        var inputData = List.of(
+                UserInputData.forCreate(EMAIL, "Jane", "Smith", LANGUAGE_CODE),
+                UserInputData.forCreate("new@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE),
+                UserInputData.forCreate("NEW@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE));
+        final AtomicReference<List<UserBatchItemOutputData>> result = new AtomicReference<>();
+
+        useCase.createUsers(inputData, result::set);
+
+        assertEquals(UserBatchItemStatus.ALREADY_EXISTS, result.get().get(0).status());
+        assertEquals(UserBatchItemStatus.CREATED, result.get().get(1).status());
+        assertEquals(UserBatchItemStatus.ALREADY_EXISTS, result.get().get(2).status());
+        assertNull(result.get().get(2).user());
+        assertEquals("new@example.com", userGateway.findByEmail("NEW@example.com").email());
+    }
+
+    @Test
+    void createUsers_withNonExistentLanguageCode_reportsInvalidInputForThatEntryOnly() {
+        var inputData = List.of(
+                UserInputData.forCreate("first@example.com", FIRST_NAME, LAST_NAME, "xx"),
+                UserInputData.forCreate("second@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE));
+        final AtomicReference<List<UserBatchItemOutputData>> result = new AtomicReference<>();
+
+        useCase.createUsers(inputData, result::set);
+
+        assertEquals(UserBatchItemStatus.INVALID_INPUT, result.get().get(0).status());
+        assertTrue(result.get().get(0).errorMessage().contains("xx"));
+        assertEquals(UserBatchItemStatus.CREATED, result.get().get(1).status());
+    }
+
+    @Test
+    void createUsers_whenVismaConnectFails_reportsConnectFailedAndSavesNothing() {
+        vismaConnectUserGateway.setShouldFailOnCreate(true);
+        var inputData = List.of(UserInputData.forCreate(EMAIL, FIRST_NAME, LAST_NAME, LANGUAGE_CODE));
+        final AtomicReference<List<UserBatchItemOutputData>> result = new AtomicReference<>();
+
+        useCase.createUsers(inputData, result::set);
+
+        assertEquals(UserBatchItemStatus.CONNECT_FAILED, result.get().get(0).status());
+        assertFalse(userGateway.existsByEmail(EMAIL));
+    }
+
+    @Test
+    void createUsers_whenBatchSaveFails_savesEachUserAndReportsItsOutcome() {
+        var saveGateway = new InMemoryUserGatewayAdapter() {
+            @Override
+            public List<User> saveAll(List<User> users) {
+                throw new IllegalStateException("Batch insert failed");
+            }
+
+            @Override
+            public User save(User user) {
+                if (user.email().equals("taken@example.com")) {
+                    throw new ResourceAlreadyExistsException("User", "User with email: " + user.email() + " already exists.");
+                }
+                if (user.email().equals("broken@example.com")) {
+                    throw new IllegalStateException("Insert failed");
+                }
+                return super.save(user);
+            }
+        };
+        var inputData = List.of(
+                UserInputData.forCreate("first@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE),
+                UserInputData.forCreate("taken@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE),
+                UserInputData.forCreate("broken@example.com", FIRST_NAME, LAST_NAME, LANGUAGE_CODE));
+        final AtomicReference<List<UserBatchItemOutputData>> result = new AtomicReference<>();
+
+        new CreateUserUseCase(saveGateway, languageGateway, vismaConnectUserGateway).createUsers(inputData, result::set);
+
+        assertEquals(UserBatchItemStatus.CREATED, result.get().get(0).status());
+        assertEquals(UserBatchItemStatus.ALREADY_EXISTS, result.get().get(1).status());
+        assertEquals(UserBatchItemStatus.SAVE_FAILED, result.get().get(2).status());
+        assertEquals("Insert failed", result.get().get(2).errorMessage());
+        assertTrue(saveGateway.existsByEmail("first@example.com"));
+    }
 }
@@ -3,6 +3,7 @@ package com.visma.kalmar.api.user;
 import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.exception.ConnectUserException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import com.visma.kalmar.api.vismaconnect.InMemoryVismaConnectUserGatewayAdapter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,7 +29,7 @@ class DeleteUserUseCaseTest {
     void setUp() {
         userGateway = new InMemoryUserGatewayAdapter();
         vismaConnectUserGateway = new InMemoryVismaConnectUserGatewayAdapter();
-        useCase = new DeleteUserUseCase(userGateway, vismaConnectUserGateway);
+        useCase = new DeleteUserUseCase(userGateway, vismaConnectUserGateway, new InMemoryUnitOfWork());
 
         User existingUser = new User(USER_ID, LANGUAGE_ID, EMAIL, FIRST_NAME, LAST_NAME, 1L, new Date());
         userGateway.save(existingUser);
@@ -2,14 +2,19 @@ package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.entities.language.Language;
 import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.InvalidInputDataException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.kalmar.api.language.InMemoryLanguageGatewayAdapter;
+import com.visma.kalmar.api.pagination.Page;
+import com.visma.kalmar.api.pagination.PageQuery;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Date;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,7 +35,7 @@ class GetUserUseCaseTest {
     void setUp() {
         userGateway = new InMemoryUserGatewayAdapter();
         languageGateway = new InMemoryLanguageGatewayAdapter();
-        useCase = new GetUserUseCase(userGateway, languageGateway);
+        useCase = new GetUserUseCase(userGateway, languageGateway, new InMemoryUnitOfWork());
 
         languageGateway.save(new Language(LANGUAGE_ID, "English", LANGUAGE_CODE));
 
@@ -98,4 +103,32 @@ class GetUserUseCaseTest {
                 () -> useCase.getUserById(userWithInvalidLanguage, output -> {
                 }));
     }
+
+    @Test
+    void listUsers_returnsUsersOrderedByIdWithIdCursor() {
+        var aliceId = UUID.randomUUID();
+        var zoeId = UUID.randomUUID();
+        userGateway.save(new User(aliceId, LANGUAGE_ID, "alice@example.com", "Alice", "A", 1L, new Date()));
+        userGateway.save(new User(zoeId, LANGUAGE_ID, "zoe@example.com", "Zoe", "Z", 1L, new Date()));
+        var ids = Stream.of(USER_ID, aliceId, zoeId).sorted().map(UUID::toString).toList();
+        final AtomicReference<Page<UserOutputData>> result = new AtomicReference<>();
+
+        useCase.listUsers(PageQuery.of(null, 2), result::set);
+
+        assertEquals(ids.subList(0, 2), result.get().items().stream().map(UserOutputData::userId).toList());
+        assertEquals(ids.get(1), result.get().nextAfter());
+        assertEquals(LANGUAGE_CODE, result.get().items().get(0).languageCode());
+
+        useCase.listUsers(PageQuery.of(result.get().nextAfter(), 2), result::set);
+
+        assertEquals(ids.subList(2, 3), result.get().items().stream().map(UserOutputData::userId).toList());
+        assertNull(result.get().nextAfter());
+    }
+
+    @Test
+    void listUsers_emailAsCursor_throwsInvalidInputDataException() {
+        assertThrows(InvalidInputDataException.class,
+                () -> useCase.listUsers(PageQuery.of(EMAIL, 2), page -> {
+                }));
+    }
 }
@@ -1,10 +1,17 @@
 package com.visma.kalmar.api.user;
 
 import com.visma.kalmar.api.entities.user.User;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class InMemoryUserGatewayAdapter implements UserGateway {
@@ -15,10 +22,15 @@ public class InMemoryUserGatewayAdapter implements UserGateway {
     @Override
     public User save(User user) {
         database.put(user.idUser(), user);
-        emailIndex.put(user.email(), user);
+        emailIndex.put(emailKey(user.email()), user);
         return user;
     }
 
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return users.stream().map(this::save).toList();
+    }
+
     @Override
     public User findById(UUID userId) {
         User user = database.get(userId);
@@ -30,7 +42,7 @@ public class InMemoryUserGatewayAdapter implements UserGateway {
 
     @Override
     public User findByEmail(String email) {
-        User user = emailIndex.get(email);
+        User user = emailIndex.get(emailKey(email));
         if (user == null) {
             throw new ResourceNotFoundException("User", "User not found with email: " + email);
         }
@@ -39,17 +51,40 @@ public class InMemoryUserGatewayAdapter implements UserGateway {
 
     @Override
     public User update(User user) {
-        if (!database.containsKey(user.idUser())) {
+        var stored = database.get(user.idUser());
+        if (stored == null) {
             throw new ResourceNotFoundException("User", "User not found with id: " + user.idUser());
         }
-        database.put(user.idUser(), user);
-        emailIndex.put(user.email(), user);
-        return user;
+        if (user.recordVersion() != null && !user.recordVersion().equals(stored.recordVersion())) {
+            throw new RecordVersionConflictException("User",
+                    "User was modified concurrently with id: " + user.idUser());
+        }
+        var updated = new User(
+                user.idUser(),
+                user.idLanguage(),
+                user.email(),
+                user.firstName(),
+                user.lastName(),
+                stored.recordVersion() == null ? null : stored.recordVersion() + 1,
+                user.whenEdited()
+        );
+        database.put(user.idUser(), updated);
+        emailIndex.remove(emailKey(stored.email()));
+        emailIndex.put(emailKey(user.email()), updated);
+        return updated;
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return emailIndex.containsKey(email);
+        return emailIndex.containsKey(emailKey(email));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return emails.stream()
+                .map(InMemoryUserGatewayAdapter::emailKey)
+                .filter(emailIndex::containsKey)
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -57,6 +92,15 @@ public class InMemoryUserGatewayAdapter implements UserGateway {
         return database.containsKey(userId);
     }
 
+    @Override
+    public List<User> findPage(UUID afterIdUser, int limit) {
+        return database.values().stream()
+                .filter(user -> afterIdUser == null || user.idUser().compareTo(afterIdUser) > 0)
+                .sorted(Comparator.comparing(User::idUser))
+                .limit(limit)
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID userId) {
         User user = database.get(userId);
@@ -64,7 +108,11 @@ public class InMemoryUserGatewayAdapter implements UserGateway {
             throw new ResourceNotFoundException("User", "User not found with id: " + userId);
         }
         database.remove(userId);
-        emailIndex.remove(user.email());
+        emailIndex.remove(emailKey(user.email()));
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
     }
 
     public void clear() {
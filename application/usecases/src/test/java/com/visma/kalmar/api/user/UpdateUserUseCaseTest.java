@@ -3,13 +3,17 @@ package com.visma.kalmar.api.user;
 import com.visma.kalmar.api.entities.language.Language;
 import com.visma.kalmar.api.entities.user.User;
 import com.visma.kalmar.api.exception.ConnectUserException;
+import com.visma.kalmar.api.exception.RecordVersionConflictException;
 import com.visma.kalmar.api.exception.ResourceNotFoundException;
 import com.visma.kalmar.api.language.InMemoryLanguageGatewayAdapter;
+import com.visma.kalmar.api.transaction.InMemoryUnitOfWork;
 import com.visma.kalmar.api.vismaconnect.InMemoryVismaConnectUserGatewayAdapter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -39,7 +43,7 @@ class UpdateUserUseCaseTest {
         userGateway = new InMemoryUserGatewayAdapter();
         languageGateway = new InMemoryLanguageGatewayAdapter();
         vismaConnectUserGateway = new InMemoryVismaConnectUserGatewayAdapter();
-        useCase = new UpdateUserUseCase(userGateway, languageGateway, vismaConnectUserGateway);
+        useCase = new UpdateUserUseCase(userGateway, languageGateway, vismaConnectUserGateway, new InMemoryUnitOfWork());
 
         Language englishLanguage = new Language(LANGUAGE_ID, "English", LANGUAGE_CODE);
         Language norwegianLanguage = new Language(UPDATED_LANGUAGE_ID, "Norwegian", UPDATED_LANGUAGE_CODE);
@@ -58,7 +62,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                UPDATED_LANGUAGE_CODE
+                UPDATED_LANGUAGE_CODE,
+                null
         );
         final AtomicReference<UserOutputData> result = new AtomicReference<>();
 
@@ -87,7 +92,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
 
         assertThrows(ResourceNotFoundException.class,
@@ -102,7 +108,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
 
         var exception = assertThrows(IllegalArgumentException.class,
@@ -119,7 +126,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
 
         var exception = assertThrows(IllegalArgumentException.class,
@@ -137,7 +145,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                invalidLanguageCode
+                invalidLanguageCode,
+                null
         );
 
         assertThrows(ResourceNotFoundException.class,
@@ -153,7 +162,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
 
         assertThrows(ConnectUserException.class,
@@ -167,20 +177,78 @@ class UpdateUserUseCaseTest {
     }
 
     @Test
-    void updateUser_preservesRecordVersion() {
+    void updateUser_withNonExistentUserId_doesNotCallVismaConnect() {
+        List<String> calls = new ArrayList<>();
+        var connectGateway = new InMemoryVismaConnectUserGatewayAdapter() {
+            @Override
+            public void updateUser(User user, String languageCode) {
+                calls.add("connect update");
+            }
+        };
+        var inputData = UserInputData.forUpdate(
+                UUID.randomUUID().toString(), EMAIL, UPDATED_FIRST_NAME, LAST_NAME, LANGUAGE_CODE,
+                null);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> new UpdateUserUseCase(userGateway, languageGateway, connectGateway, new InMemoryUnitOfWork())
+                        .updateUser(inputData, output -> {
+                        }));
+
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void updateUser_withStaleRecordVersion_throwsRecordVersionConflictExceptionBeforeVismaConnect() {
+        vismaConnectUserGateway.setShouldFailOnUpdate(true);
+        var inputData = UserInputData.forUpdate(
+                USER_ID.toString(),
+                UPDATED_EMAIL,
+                UPDATED_FIRST_NAME,
+                UPDATED_LAST_NAME,
+                LANGUAGE_CODE,
+                0L
+        );
+
+        assertThrows(RecordVersionConflictException.class,
+                () -> useCase.updateUser(inputData, output -> {
+                }));
+
+        assertEquals(EMAIL, userGateway.findById(USER_ID).email());
+    }
+
+    @Test
+    void updateUser_withCurrentRecordVersion_returnsTheNextVersion() {
+        var inputData = UserInputData.forUpdate(
+                USER_ID.toString(),
+                UPDATED_EMAIL,
+                UPDATED_FIRST_NAME,
+                UPDATED_LAST_NAME,
+                LANGUAGE_CODE,
+                1L
+        );
+        final AtomicReference<UserOutputData> result = new AtomicReference<>();
+
+        useCase.updateUser(inputData, output -> result.set(output));
+
+        assertEquals(2L, result.get().recordVersion());
+    }
+
+    @Test
+    void updateUser_incrementsRecordVersion() {
         var inputData = UserInputData.forUpdate(
                 USER_ID.toString(),
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
         final AtomicReference<UserOutputData> result = new AtomicReference<>();
 
         useCase.updateUser(inputData, output -> result.set(output));
 
         var updatedUser = userGateway.findById(USER_ID);
-        assertEquals(1L, updatedUser.recordVersion());
+        assertEquals(2L, updatedUser.recordVersion());
     }
 
     @Test
@@ -193,7 +261,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 UPDATED_FIRST_NAME,
                 UPDATED_LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
 
         useCase.updateUser(inputData, output -> {
@@ -211,7 +280,8 @@ class UpdateUserUseCaseTest {
                 UPDATED_EMAIL,
                 FIRST_NAME,
                 LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
         final AtomicReference<UserOutputData> result = new AtomicReference<>();
 
@@ -231,7 +301,8 @@ class UpdateUserUseCaseTest {
                 EMAIL,
                 UPDATED_FIRST_NAME,
                 LAST_NAME,
-                LANGUAGE_CODE
+                LANGUAGE_CODE,
+                null
         );
         final AtomicReference<UserOutputData> result = new AtomicReference<>();
 
@@ -250,7 +321,8 @@ class UpdateUserUseCaseTest {
                 EMAIL,
                 FIRST_NAME,
                 LAST_NAME,
-                UPDATED_LANGUAGE_CODE
+                UPDATED_LANGUAGE_CODE,
+                null
         );
         final AtomicReference<UserOutputData> result = new AtomicReference<>();
 